@@ -0,0 +1,134 @@
+package com.franchisehub.api.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Cached total counts for list endpoints that return a Slice instead of a Page.
+ *
+ * Each (query, key) pair is counted once on first use and then refreshed in the
+ * background, so list requests never wait on the count query. Totals older than
+ * the freshness window are reported as approximate.
+ *
+ * Writes that change a total invalidate it on this node; other nodes see the change
+ * within the freshness window plus one refresh interval.
+ */
+@Component
+@Slf4j
+public class ApproximateCountCache {
+
+    public static final String APPLICATIONS_FOR_BUSINESS_OWNER = "countApplicationsForBusinessOwner";
+    public static final String TRANSACTIONS_FOR_BUSINESS_OWNER = "countTransactionsForBusinessOwner";
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Duration freshFor;
+    private final Duration evictAfterIdle;
+
+    public ApproximateCountCache(
+            @Value("${count-cache.fresh-for-ms:30000}") long freshForMs,
+            @Value("${count-cache.evict-after-idle-ms:1800000}") long evictAfterIdleMs) {
+        this.freshFor = Duration.ofMillis(freshForMs);
+        this.evictAfterIdle = Duration.ofMillis(evictAfterIdleMs);
+    }
+
+    /**
+     * Get the cached total for a query and key, counting synchronously only on first use.
+     */
+    public Estimate get(String query, String key, LongSupplier counter) {
+        Entry entry = entries.computeIfAbsent(query + ":" + key, k -> new Entry(counter));
+        entry.lastAccessedAt = Instant.now();
+        if (entry.computedAt == null) {
+            entry.refresh();
+        }
+        Instant computedAt = entry.computedAt;
+        boolean approximate = Duration.between(computedAt, Instant.now()).compareTo(freshFor) > 0;
+        return new Estimate(entry.value, approximate, computedAt);
+    }
+
+    /**
+     * Drop a cached total once the current transaction commits, so the next request recounts it.
+     */
+    public void invalidate(String query, String key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entries.remove(query + ":" + key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entries.remove(query + ":" + key);
+            }
+        });
+    }
+
+    /**
+     * Recount stale totals that are still being read and drop idle ones.
+     */
+    @Scheduled(fixedDelayString = "${count-cache.refresh-interval-ms:15000}")
+    public void refreshStaleEntries() {
+        Instant now = Instant.now();
+        entries.entrySet().removeIf(e -> Duration.between(e.getValue().lastAccessedAt, now).compareTo(evictAfterIdle) > 0);
+
+        int refreshed = 0;
+        for (Map.Entry<String, Entry> e : entries.entrySet()) {
+            Entry entry = e.getValue();
+            if (entry.computedAt != null && Duration.between(entry.computedAt, now).compareTo(freshFor) <= 0) {
+                continue;
+            }
+            try {
+                entry.refresh();
+                refreshed++;
+            } catch (RuntimeException ex) {
+                log.warn("Failed to refresh count for {}: {}", e.getKey(), ex.getMessage());
+            }
+        }
+        if (refreshed > 0) {
+            log.debug("Refreshed {} cached count(s), {} cached in total", refreshed, entries.size());
+        }
+    }
+
+    private static class Entry {
+        private final LongSupplier counter;
+        private volatile long value;
+        private volatile Instant computedAt;
+        private volatile Instant lastAccessedAt = Instant.now();
+
+        Entry(LongSupplier counter) {
+            this.counter = counter;
+        }
+
+        synchronized void refresh() {
+            value = counter.getAsLong();
+            computedAt = Instant.now();
+        }
+    }
+
+    /**
+     * A cached total and whether it is older than the freshness window
+     */
+    public static class Estimate {
+        private final long total;
+        private final boolean approximate;
+        private final Instant computedAt;
+
+        public Estimate(long total, boolean approximate, Instant computedAt) {
+            this.total = total;
+            this.approximate = approximate;
+            this.computedAt = computedAt;
+        }
+
+        public long getTotal() { return total; }
+        public boolean isApproximate() { return approximate; }
+        public Instant getComputedAt() { return computedAt; }
+    }
+}
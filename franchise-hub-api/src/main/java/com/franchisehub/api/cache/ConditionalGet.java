@@ -0,0 +1,80 @@
+package com.franchisehub.api.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET for read endpoints: strong ETags, Last-Modified and 304 Not Modified.
+ *
+ * Callers pass a cheap version of the resource, such as (id, updatedAt) read with a
+ * scalar query or the catalog fingerprint. The body supplier is only called when the
+ * client's copy is stale, so a 304 neither loads nor serializes the resource.
+ * Catalog data may be reused by the client for a short time. It is not marked public:
+ * the endpoints sit behind authentication, and a shared cache must not serve an
+ * authenticated response to other users. Personal data is private and revalidated
+ * on every use.
+ */
+@Component
+@Slf4j
+public class ConditionalGet {
+
+    private final CacheControl catalog;
+    private final CacheControl personal = CacheControl.noCache().cachePrivate();
+
+    public ConditionalGet(@Value("${http-cache.catalog-max-age-seconds:60}") long catalogMaxAgeSeconds) {
+        this.catalog = CacheControl.maxAge(Duration.ofSeconds(catalogMaxAgeSeconds)).mustRevalidate();
+    }
+
+    /**
+     * Version of a single row, for use as the ETag source
+     */
+    public static String version(String id, LocalDateTime updatedAt) {
+        return updatedAt != null ? id + "@" + updatedAt : null;
+    }
+
+    /**
+     * Respond with catalog data that is the same for every user
+     */
+    public <T> ResponseEntity<T> catalog(WebRequest request, String version, LocalDateTime lastModified, Supplier<T> body) {
+        return respond(request, version, lastModified, catalog, body);
+    }
+
+    /**
+     * Respond with data that belongs to, or is restricted to, the current user
+     */
+    public <T> ResponseEntity<T> personal(WebRequest request, String version, LocalDateTime lastModified, Supplier<T> body) {
+        return respond(request, version, lastModified, personal, body);
+    }
+
+    private <T> ResponseEntity<T> respond(WebRequest request, String version, LocalDateTime lastModified,
+                                          CacheControl cacheControl, Supplier<T> body) {
+        if (version == null) {
+            // Missing row or no timestamp yet: answer normally and let the service report a 404
+            return ResponseEntity.ok().cacheControl(cacheControl).body(body.get());
+        }
+
+        String etag = "\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+        long lastModifiedMillis = lastModified != null
+                ? lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1;
+
+        // checkNotModified writes ETag and Last-Modified to the response itself
+        if (request.checkNotModified(etag, lastModifiedMillis)) {
+            log.debug("Not modified: {}", request.getDescription(false));
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().cacheControl(cacheControl).body(body.get());
+    }
+}
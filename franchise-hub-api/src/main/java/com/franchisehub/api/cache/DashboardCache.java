@@ -0,0 +1,186 @@
+package com.franchisehub.api.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Stale-while-revalidate cache for dashboard statistics, keyed by (scope, ownerId).
+ *
+ * A value younger than the TTL is served as is. An older one is still served right
+ * away while a refresh runs in the background; only a missing value, or one past the
+ * max-stale limit, makes the caller wait. Concurrent refreshes of the same key collapse
+ * into one computation, and all of them run on the refresh threads, outside any
+ * request-scoped persistence context.
+ */
+@Component
+@Slf4j
+public class DashboardCache {
+
+    private final Map<Key, Entry<?>> entries = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Duration ttl;
+    private final Duration maxStale;
+    private final Duration evictAfterIdle;
+    private final ExecutorService refreshExecutor;
+
+    public DashboardCache(MeterRegistry meterRegistry,
+                          @Value("${dashboard-cache.ttl-ms:30000}") long ttlMs,
+                          @Value("${dashboard-cache.max-stale-ms:600000}") long maxStaleMs,
+                          @Value("${dashboard-cache.evict-after-idle-ms:1800000}") long evictAfterIdleMs,
+                          @Value("${dashboard-cache.refresh-threads:2}") int refreshThreads) {
+        this.meterRegistry = meterRegistry;
+        this.ttl = Duration.ofMillis(ttlMs);
+        this.maxStale = Duration.ofMillis(maxStaleMs);
+        this.evictAfterIdle = Duration.ofMillis(evictAfterIdleMs);
+        this.refreshExecutor = Executors.newFixedThreadPool(refreshThreads, r -> {
+            Thread thread = new Thread(r, "dashboard-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        meterRegistry.gaugeMapSize("dashboard.cache.size", Tags.empty(), entries);
+    }
+
+    /**
+     * Get the cached value for a scope and owner, refreshing it in the background once stale
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Cached<T> get(String scope, String ownerId, Supplier<T> loader) {
+        Entry<T> entry = (Entry<T>) entries.computeIfAbsent(new Key(scope, ownerId), k -> new Entry<>());
+        entry.lastAccessedAt = Instant.now();
+
+        Cached<T> cached = entry.value;
+        if (cached == null || cached.age().compareTo(maxStale) > 0) {
+            count(scope, "miss");
+            return await(refresh(scope, entry, loader));
+        }
+        if (cached.age().compareTo(ttl) > 0) {
+            count(scope, "stale");
+            refresh(scope, entry, loader);
+        } else {
+            count(scope, "hit");
+        }
+        return cached;
+    }
+
+    /**
+     * Drop idle entries, such as those of business owners who stopped opening the dashboard.
+     */
+    @Scheduled(fixedDelayString = "${dashboard-cache.cleanup-interval-ms:300000}")
+    public void evictIdle() {
+        Instant now = Instant.now();
+        entries.values().removeIf(entry -> entry.inFlight.get() == null
+                && Duration.between(entry.lastAccessedAt, now).compareTo(evictAfterIdle) > 0);
+    }
+
+    private <T> CompletableFuture<Cached<T>> refresh(String scope, Entry<T> entry, Supplier<T> loader) {
+        while (true) {
+            CompletableFuture<Cached<T>> running = entry.inFlight.get();
+            if (running != null) {
+                return running;
+            }
+            CompletableFuture<Cached<T>> future = new CompletableFuture<>();
+            if (entry.inFlight.compareAndSet(null, future)) {
+                refreshExecutor.execute(() -> compute(scope, entry, loader, future));
+                return future;
+            }
+        }
+    }
+
+    private <T> void compute(String scope, Entry<T> entry, Supplier<T> loader, CompletableFuture<Cached<T>> future) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Cached<T> cached = new Cached<>(loader.get(), Instant.now());
+            entry.value = cached;
+            long nanos = sample.stop(meterRegistry.timer("dashboard.cache.refresh", "scope", scope, "outcome", "success"));
+            log.debug("Refreshed {} dashboard statistics in {} ms", scope, Duration.ofNanos(nanos).toMillis());
+            future.complete(cached);
+        } catch (RuntimeException ex) {
+            sample.stop(meterRegistry.timer("dashboard.cache.refresh", "scope", scope, "outcome", "failure"));
+            log.warn("Failed to refresh {} dashboard statistics: {}", scope, ex.getMessage());
+            future.completeExceptionally(ex);
+        } finally {
+            entry.inFlight.set(null);
+        }
+    }
+
+    private <T> Cached<T> await(CompletableFuture<Cached<T>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to compute dashboard statistics", e.getCause());
+        }
+    }
+
+    private void count(String scope, String result) {
+        meterRegistry.counter("dashboard.cache.requests", "scope", scope, "result", result).increment();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private record Key(String scope, String ownerId) {
+    }
+
+    private static class Entry<T> {
+        private final AtomicReference<CompletableFuture<Cached<T>>> inFlight = new AtomicReference<>();
+        private volatile Cached<T> value;
+        private volatile Instant lastAccessedAt = Instant.now();
+    }
+
+    /**
+     * A dashboard value and when it was computed
+     */
+    public record Cached<T>(T value, Instant computedAt) {
+
+        public Duration age() {
+            return Duration.between(computedAt, Instant.now());
+        }
+
+        /**
+         * When the oldest of several cached values was computed, for a response built from all of them
+         */
+        public static Instant oldest(Cached<?>... parts) {
+            Instant oldest = Instant.now();
+            for (Cached<?> part : parts) {
+                if (part.computedAt.isBefore(oldest)) {
+                    oldest = part.computedAt;
+                }
+            }
+            return oldest;
+        }
+
+        /**
+         * Respond with the value, telling the client how old it is
+         */
+        public ResponseEntity<T> toResponse() {
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.AGE, String.valueOf(Math.max(0, age().toSeconds())))
+                    .header("X-Stats-Computed-At", computedAt.toString())
+                    .body(value);
+        }
+    }
+}
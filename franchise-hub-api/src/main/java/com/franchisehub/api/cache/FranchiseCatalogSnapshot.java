@@ -0,0 +1,150 @@
+package com.franchisehub.api.cache;
+
+import com.franchisehub.api.dto.FranchiseDto;
+import com.franchisehub.api.service.FranchiseService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Immutable in-memory copy of the partner-facing catalog (cards of the active, non-demo
+ * franchises).
+ *
+ * Franchise writes publish a franchise invalidation on the {@link InvalidationBus}; once
+ * the write commits the version is bumped and a new snapshot is built in the background
+ * and swapped in whole, so readers never see a half-built list. A reader that arrives
+ * before the rebuild finishes waits for it (counted as a miss) rather than being served
+ * data older than a local commit.
+ *
+ * Writes on other nodes arrive through the bus as well when it has a shared transport.
+ * Changes made outside the services are picked up by polling a cheap count/max(updatedAt)
+ * fingerprint, so the catalog is never staler than franchise-catalog.poll-interval-ms
+ * plus one rebuild.
+ */
+@Component
+@Slf4j
+public class FranchiseCatalogSnapshot {
+
+    private final FranchiseService franchiseService;
+    private final Counter hits;
+    private final Counter misses;
+    private final AtomicLong requestedVersion = new AtomicLong(1);
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "franchise-catalog-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Snapshot current;
+
+    public FranchiseCatalogSnapshot(FranchiseService franchiseService, InvalidationBus invalidationBus,
+                                    MeterRegistry meterRegistry) {
+        this.franchiseService = franchiseService;
+        this.hits = meterRegistry.counter("franchise.catalog.requests", "result", "hit");
+        this.misses = meterRegistry.counter("franchise.catalog.requests", "result", "miss");
+        meterRegistry.gauge("franchise.catalog.version", this, s -> s.current != null ? s.current.version() : 0);
+        meterRegistry.gauge("franchise.catalog.size", this, s -> s.current != null ? s.current.franchises().size() : 0);
+        invalidationBus.subscribe(InvalidationBus.FRANCHISE, this::onFranchiseChanged);
+    }
+
+    /**
+     * Get the current catalog, building it first if it is missing or older than a local write
+     */
+    public Snapshot get() {
+        Snapshot snapshot = current;
+        if (snapshot != null && snapshot.version() >= requestedVersion.get()) {
+            hits.increment();
+            return snapshot;
+        }
+        misses.increment();
+        return awaitRebuild();
+    }
+
+    /**
+     * Mark the catalog stale once a franchise write has committed and rebuild it in the background
+     */
+    private void onFranchiseChanged(InvalidationBus.Invalidation invalidation) {
+        long version = requestedVersion.incrementAndGet();
+        log.debug("Franchise {} changed, catalog now at version {}", invalidation.key(), version);
+        rebuildExecutor.execute(this::rebuildQuietly);
+    }
+
+    /**
+     * Pick up writes made by other nodes by comparing the database fingerprint
+     */
+    @Scheduled(fixedDelayString = "${franchise-catalog.poll-interval-ms:15000}")
+    public void pollForRemoteChanges() {
+        Snapshot snapshot = current;
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            if (!snapshot.fingerprint().equals(franchiseService.getCatalogFingerprint())) {
+                log.debug("Franchise catalog changed outside this node, rebuilding");
+                requestedVersion.incrementAndGet();
+                rebuildExecutor.execute(this::rebuildQuietly);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Failed to check franchise catalog fingerprint: {}", ex.getMessage());
+        }
+    }
+
+    // Builds always run on the rebuild thread, outside any request-scoped persistence context
+    private Snapshot awaitRebuild() {
+        try {
+            return rebuildExecutor.submit(this::rebuild).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while building franchise catalog", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to build franchise catalog", e.getCause());
+        }
+    }
+
+    private Snapshot rebuild() {
+        long target = requestedVersion.get();
+        Snapshot snapshot = current;
+        if (snapshot != null && snapshot.version() >= target) {
+            return snapshot;
+        }
+        // Fingerprint first: a write racing with the load then shows up on the next poll
+        String fingerprint = franchiseService.getCatalogFingerprint();
+        List<FranchiseDto.FranchiseCard> franchises = franchiseService.getActiveFranchiseCardsExcludingDemo();
+        Snapshot rebuilt = new Snapshot(target, franchises, fingerprint, Instant.now());
+        current = rebuilt;
+        log.info("Rebuilt franchise catalog version {} with {} franchises", target, franchises.size());
+        return rebuilt;
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException ex) {
+            log.warn("Background franchise catalog rebuild failed: {}", ex.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * One immutable build of the catalog.
+     */
+    public record Snapshot(long version, List<FranchiseDto.FranchiseCard> franchises, String fingerprint, Instant builtAt) {
+    }
+}
@@ -0,0 +1,156 @@
+package com.franchisehub.api.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Cache invalidations shared by every node running the API.
+ *
+ * Writes publish (region, key) pairs; every cache holding that data subscribes to its
+ * region and drops the entry. Invalidations published inside a transaction are collected
+ * and de-duplicated, handed to the transport just before the commit and delivered to the
+ * local subscribers once it has committed, so a rolled-back write invalidates nothing.
+ *
+ * The transport decides how other nodes hear about them: {@link LocalInvalidationTransport}
+ * keeps them in this JVM, {@link JdbcInvalidationTransport} writes them to a change-log
+ * table that every node polls. Remote invalidations are delivered with {@code remote} set,
+ * and the time from publish to delivery is recorded as cache.invalidation.lag.
+ */
+@Component
+@Slf4j
+public class InvalidationBus {
+
+    public static final String FRANCHISE = "franchise";
+    public static final String USER = "user";
+    public static final String UNREAD_NOTIFICATIONS = "unread-notifications";
+
+    // Sent by a transport that may have missed invalidations: drop everything in every region
+    static final String ALL_REGIONS = "*";
+
+    private final Map<String, List<Consumer<Invalidation>>> subscribers = new ConcurrentHashMap<>();
+    private final InvalidationTransport transport;
+    private final MeterRegistry meterRegistry;
+
+    public InvalidationBus(InvalidationTransport transport, MeterRegistry meterRegistry) {
+        this.transport = transport;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Register a listener for the invalidations of a region
+     */
+    public void subscribe(String region, Consumer<Invalidation> listener) {
+        subscribers.computeIfAbsent(region, r -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    /**
+     * Invalidate one key of a region on every node once the current transaction commits
+     */
+    public void publish(String region, String key) {
+        Invalidation invalidation = new Invalidation(region, key, false);
+        meterRegistry.counter("cache.invalidation.published", "region", region).increment();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            transport.send(List.of(invalidation));
+            deliver(invalidation);
+            return;
+        }
+        pendingInvalidations().add(invalidation);
+    }
+
+    /**
+     * Invalidate a whole region on every node once the current transaction commits
+     */
+    public void publishAll(String region) {
+        publish(region, null);
+    }
+
+    /**
+     * Deliver the invalidations other nodes have published since the last poll
+     */
+    @Scheduled(fixedDelayString = "${cache-invalidation.poll-interval-ms:1000}")
+    public void pollRemote() {
+        List<InvalidationTransport.Received> received;
+        try {
+            received = transport.poll();
+        } catch (RuntimeException ex) {
+            meterRegistry.counter("cache.invalidation.poll.failures").increment();
+            log.warn("Failed to poll cache invalidations: {}", ex.getMessage());
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (InvalidationTransport.Received remote : received) {
+            Invalidation invalidation = remote.invalidation();
+            if (ALL_REGIONS.equals(invalidation.region())) {
+                log.info("Cache invalidations may have been missed, invalidating every region");
+                subscribers.keySet().forEach(region -> deliver(new Invalidation(region, null, true)));
+                continue;
+            }
+            deliver(invalidation);
+            meterRegistry.timer("cache.invalidation.lag", "region", invalidation.region())
+                    .record(Duration.ofMillis(Math.max(0, now - remote.publishedAtMillis())));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<Invalidation> pendingInvalidations() {
+        Set<Invalidation> pending = (Set<Invalidation>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        Set<Invalidation> created = new LinkedHashSet<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                // Still inside the transaction, so the change-log rows commit with the write
+                transport.send(List.copyOf(created));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(InvalidationBus.this);
+                if (status == STATUS_COMMITTED) {
+                    created.forEach(InvalidationBus.this::deliver);
+                }
+            }
+        });
+        return created;
+    }
+
+    private void deliver(Invalidation invalidation) {
+        List<Consumer<Invalidation>> listeners = subscribers.getOrDefault(invalidation.region(), List.of());
+        for (Consumer<Invalidation> listener : listeners) {
+            try {
+                listener.accept(invalidation);
+            } catch (RuntimeException ex) {
+                log.warn("Cache invalidation listener for {} failed: {}", invalidation.region(), ex.getMessage());
+            }
+        }
+        meterRegistry.counter("cache.invalidation.delivered",
+                "region", invalidation.region(), "origin", invalidation.remote() ? "remote" : "local").increment();
+    }
+
+    /**
+     * One key of a region, or the whole region when the key is null. Remote invalidations
+     * were published by another node.
+     */
+    public record Invalidation(String region, String key, boolean remote) {
+
+        public boolean wholeRegion() {
+            return key == null;
+        }
+    }
+}
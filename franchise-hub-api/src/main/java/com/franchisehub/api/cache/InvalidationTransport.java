@@ -0,0 +1,27 @@
+package com.franchisehub.api.cache;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * How the {@link InvalidationBus} reaches the other nodes.
+ */
+public interface InvalidationTransport {
+
+    /**
+     * Make invalidations published on this node visible to the others; called inside
+     * the publishing transaction when there is one
+     */
+    void send(Collection<InvalidationBus.Invalidation> invalidations);
+
+    /**
+     * Invalidations published by other nodes since the previous poll, oldest first
+     */
+    List<Received> poll();
+
+    /**
+     * An invalidation from another node and when it was published, by that node's clock
+     */
+    record Received(InvalidationBus.Invalidation invalidation, long publishedAtMillis) {
+    }
+}
@@ -0,0 +1,134 @@
+package com.franchisehub.api.cache;
+
+import com.franchisehub.api.repository.CacheInvalidationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Multi-node transport over the cache_invalidations table, so it needs nothing beyond
+ * the database the nodes already share.
+ *
+ * Publishing appends rows in the writing transaction. Every node polls for rows above
+ * its high-water mark and skips its own. An id can become visible after a higher one
+ * when two transactions commit out of order; such gaps are re-read on later polls until
+ * gap-timeout-ms, after which the id is assumed rolled back. If a node cannot poll for
+ * longer than the retention, rows it never read may already be deleted, so it asks the
+ * bus to invalidate every region once polling works again.
+ *
+ * Publish-to-evict lag is bounded by the poll interval plus one poll while the database
+ * is reachable.
+ */
+@Component
+@ConditionalOnProperty(name = "cache-invalidation.transport", havingValue = "jdbc")
+@Slf4j
+public class JdbcInvalidationTransport implements InvalidationTransport {
+
+    private static final int POLL_BATCH_SIZE = 500;
+    private static final int MAX_TRACKED_GAPS = 1000;
+    private static final int PURGE_CHUNK_SIZE = 1000;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final CacheInvalidationRepository repository;
+    private final Duration gapTimeout;
+    private final Duration retention;
+    private final Map<Long, Instant> gaps = new HashMap<>();
+
+    private long highWaterMark = -1;
+    private Instant lastPolledAt;
+
+    public JdbcInvalidationTransport(CacheInvalidationRepository repository,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${cache-invalidation.jdbc.gap-timeout-ms:10000}") long gapTimeoutMs,
+                                     @Value("${cache-invalidation.jdbc.retention-ms:3600000}") long retentionMs) {
+        this.repository = repository;
+        this.gapTimeout = Duration.ofMillis(gapTimeoutMs);
+        this.retention = Duration.ofMillis(retentionMs);
+        meterRegistry.gauge("cache.invalidation.high.water.mark", this, t -> t.highWaterMark);
+        meterRegistry.gauge("cache.invalidation.gaps", this, t -> t.gaps.size());
+        log.info("Cache invalidations shared through the database as node {}", nodeId);
+    }
+
+    @Override
+    public void send(Collection<InvalidationBus.Invalidation> invalidations) {
+        long now = System.currentTimeMillis();
+        repository.insertAll(invalidations.stream()
+                .map(invalidation -> new CacheInvalidationRepository.Entry(
+                        0, invalidation.region(), invalidation.key(), nodeId, now))
+                .toList());
+    }
+
+    @Override
+    public synchronized List<Received> poll() {
+        Instant now = Instant.now();
+        if (highWaterMark < 0) {
+            // Caches start empty, so only invalidations published from now on matter
+            highWaterMark = repository.findMaxId();
+            lastPolledAt = now;
+            return List.of();
+        }
+
+        List<CacheInvalidationRepository.Entry> entries = new ArrayList<>(repository.findByIds(gaps.keySet()));
+        entries.forEach(entry -> gaps.remove(entry.id()));
+        gaps.values().removeIf(firstMissedAt -> Duration.between(firstMissedAt, now).compareTo(gapTimeout) > 0);
+
+        List<CacheInvalidationRepository.Entry> batch;
+        do {
+            batch = repository.findAfter(highWaterMark, POLL_BATCH_SIZE);
+            for (CacheInvalidationRepository.Entry entry : batch) {
+                for (long id = highWaterMark + 1; id < entry.id() && gaps.size() < MAX_TRACKED_GAPS; id++) {
+                    gaps.put(id, now);
+                }
+                highWaterMark = entry.id();
+            }
+            entries.addAll(batch);
+        } while (batch.size() == POLL_BATCH_SIZE);
+
+        List<Received> received = new ArrayList<>();
+        if (Duration.between(lastPolledAt, now).compareTo(retention) > 0) {
+            received.add(new Received(new InvalidationBus.Invalidation(InvalidationBus.ALL_REGIONS, null, true),
+                    now.toEpochMilli()));
+        }
+        lastPolledAt = now;
+        for (CacheInvalidationRepository.Entry entry : entries) {
+            if (!nodeId.equals(entry.originNode())) {
+                received.add(new Received(new InvalidationBus.Invalidation(entry.region(), entry.key(), true),
+                        entry.publishedAtMillis()));
+            }
+        }
+        return received;
+    }
+
+    /**
+     * Delete change-log rows older than the retention; every node may run this
+     */
+    @Scheduled(fixedDelayString = "${cache-invalidation.jdbc.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        long cutoff = System.currentTimeMillis() - retention.toMillis();
+        try {
+            int deleted;
+            long total = 0;
+            do {
+                deleted = repository.deletePublishedBeforeChunk(cutoff, PURGE_CHUNK_SIZE);
+                total += deleted;
+            } while (deleted == PURGE_CHUNK_SIZE);
+            if (total > 0) {
+                log.debug("Purged {} expired cache invalidations", total);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Failed to purge expired cache invalidations: {}", ex.getMessage());
+        }
+    }
+}
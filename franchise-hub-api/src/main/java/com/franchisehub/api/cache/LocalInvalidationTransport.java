@@ -0,0 +1,25 @@
+package com.franchisehub.api.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Single-node transport: invalidations only reach the subscribers in this JVM.
+ */
+@Component
+@ConditionalOnProperty(name = "cache-invalidation.transport", havingValue = "local", matchIfMissing = true)
+public class LocalInvalidationTransport implements InvalidationTransport {
+
+    @Override
+    public void send(Collection<InvalidationBus.Invalidation> invalidations) {
+        // Nothing to do: the bus delivers to local subscribers itself
+    }
+
+    @Override
+    public List<Received> poll() {
+        return List.of();
+    }
+}
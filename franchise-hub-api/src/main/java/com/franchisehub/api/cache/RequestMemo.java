@@ -0,0 +1,134 @@
+package com.franchisehub.api.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * Entities and authorization decisions remembered for the current HTTP request.
+ *
+ * The @PreAuthorize helpers and the services behind a controller method look up the
+ * same rows; going through this memo reads each (type, id) at most once per request,
+ * including misses. State lives in the request attributes, so nothing is shared between
+ * requests, and calls made outside a request (scheduled jobs, async work) go straight
+ * to the loader. Changes made through the memoized entities are seen by later callers;
+ * bulk updates that bypass them must {@link #evict} the type they touch.
+ */
+@Component
+@Slf4j
+public class RequestMemo {
+
+    private static final String ATTRIBUTE = RequestMemo.class.getName();
+
+    /**
+     * Get an entity by ID, loading it on first use in this request
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> find(Class<T> type, String id, Function<String, Optional<T>> loader) {
+        State state = state();
+        if (state == null || id == null) {
+            return loader.apply(id);
+        }
+        Map<String, Optional<?>> byId = state.entities.computeIfAbsent(type, t -> new HashMap<>());
+        Optional<?> found = byId.get(id);
+        if (found == null) {
+            found = loader.apply(id);
+            byId.put(id, found);
+        }
+        return (Optional<T>) found;
+    }
+
+    /**
+     * Get entities by ID, loading all of the ones not yet seen in this request with a single call
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Map<String, T> findAll(Class<T> type, Collection<String> ids,
+                                      Function<Collection<String>, ? extends Iterable<T>> loader,
+                                      Function<T, String> idOf) {
+        Map<String, T> result = new LinkedHashMap<>();
+        State state = state();
+        if (state == null) {
+            loader.apply(ids).forEach(entity -> result.put(idOf.apply(entity), entity));
+            return result;
+        }
+
+        Map<String, Optional<?>> byId = state.entities.computeIfAbsent(type, t -> new HashMap<>());
+        Set<String> missing = new LinkedHashSet<>();
+        for (String id : ids) {
+            if (id != null && !byId.containsKey(id)) {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            loader.apply(missing).forEach(entity -> byId.put(idOf.apply(entity), Optional.of(entity)));
+            missing.forEach(id -> byId.putIfAbsent(id, Optional.empty()));
+            log.debug("Loaded {} {} rows for the request in one query", missing.size(), type.getSimpleName());
+        }
+
+        for (String id : ids) {
+            Optional<?> found = id != null ? byId.get(id) : null;
+            if (found != null && found.isPresent()) {
+                result.put(id, (T) found.get());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get a yes/no decision by key, evaluating it on first use in this request
+     */
+    public boolean decide(String key, BooleanSupplier check) {
+        State state = state();
+        if (state == null) {
+            return check.getAsBoolean();
+        }
+        Boolean decision = state.decisions.get(key);
+        if (decision == null) {
+            decision = check.getAsBoolean();
+            state.decisions.put(key, decision);
+        }
+        return decision;
+    }
+
+    /**
+     * Forget every entity of a type after a bulk update. Decisions are dropped too,
+     * since any of them may have been based on those entities.
+     */
+    public void evict(Class<?> type) {
+        State state = state();
+        if (state == null) {
+            return;
+        }
+        state.entities.remove(type);
+        state.decisions.clear();
+    }
+
+    private State state() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        State state = (State) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (state == null) {
+            state = new State();
+            attributes.setAttribute(ATTRIBUTE, state, RequestAttributes.SCOPE_REQUEST);
+        }
+        return state;
+    }
+
+    private static final class State {
+        private final Map<Class<?>, Map<String, Optional<?>>> entities = new HashMap<>();
+        private final Map<String, Boolean> decisions = new HashMap<>();
+    }
+}
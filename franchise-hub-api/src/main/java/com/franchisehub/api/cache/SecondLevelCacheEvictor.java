@@ -0,0 +1,63 @@
+package com.franchisehub.api.cache;
+
+import com.franchisehub.api.config.SecondLevelCacheConfig;
+import com.franchisehub.api.model.Franchise;
+import com.franchisehub.api.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Evicts Franchise and User entries from the second-level cache on their invalidations.
+ *
+ * Writes made through Hibernate already update this node's cache; these hooks make sure
+ * that after a service write commits, on this or another node, the next read goes to the
+ * database. Invalidations are delivered after commit so a concurrent read cannot put the
+ * old row back before the new one is visible.
+ */
+@Component
+@Slf4j
+public class SecondLevelCacheEvictor {
+
+    private static final List<String> FRANCHISE_COLLECTION_ROLES = List.of(
+            Franchise.class.getName() + ".images",
+            Franchise.class.getName() + ".availableTerritories",
+            Franchise.class.getName() + ".availableStates",
+            Franchise.class.getName() + ".requirements.background");
+
+    private final Cache cache;
+
+    public SecondLevelCacheEvictor(EntityManagerFactory entityManagerFactory, InvalidationBus invalidationBus) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        invalidationBus.subscribe(InvalidationBus.FRANCHISE, this::evictFranchise);
+        invalidationBus.subscribe(InvalidationBus.USER, this::evictUser);
+    }
+
+    /**
+     * Evict a franchise (or all of them), its collections and the cached franchise queries
+     */
+    private void evictFranchise(InvalidationBus.Invalidation invalidation) {
+        if (invalidation.wholeRegion()) {
+            cache.evictEntityData(Franchise.class);
+            FRANCHISE_COLLECTION_ROLES.forEach(cache::evictCollectionData);
+        } else {
+            cache.evictEntityData(Franchise.class, invalidation.key());
+            FRANCHISE_COLLECTION_ROLES.forEach(role -> cache.evictCollectionData(role, invalidation.key()));
+        }
+        cache.evictQueryRegion(SecondLevelCacheConfig.FRANCHISE_QUERIES_REGION);
+        log.debug("Evicted franchise {} from the second-level cache", invalidation.key());
+    }
+
+    private void evictUser(InvalidationBus.Invalidation invalidation) {
+        if (invalidation.wholeRegion()) {
+            cache.evictEntityData(User.class);
+        } else {
+            cache.evictEntityData(User.class, invalidation.key());
+        }
+        log.debug("Evicted user {} from the second-level cache", invalidation.key());
+    }
+}
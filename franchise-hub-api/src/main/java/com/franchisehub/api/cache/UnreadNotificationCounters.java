@@ -0,0 +1,171 @@
+package com.franchisehub.api.cache;
+
+import com.franchisehub.api.model.Notification;
+import com.franchisehub.api.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory unread notification count per user, so the navbar poll needs no query.
+ *
+ * A user's count is loaded from the database on first access and then kept up to date
+ * by the notification writes, each applied once its transaction commits. Counters are
+ * AtomicLongs in a ConcurrentHashMap, which locks per bin, so updates for different
+ * users do not contend. Only users whose count is loaded are tracked; a change for any
+ * other user is picked up when their count is first read.
+ *
+ * Writes on other nodes reach this node as invalidations on the {@link InvalidationBus},
+ * which drop the affected counters so they are reloaded on the next read. The small
+ * window between loading a count and a concurrent commit can still make a counter
+ * drift; a periodic reconcile recounts every tracked user with grouped queries and
+ * drops users who stopped polling.
+ */
+@Component
+@Slf4j
+public class UnreadNotificationCounters {
+
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    private final Map<String, Entry> counters = new ConcurrentHashMap<>();
+    private final NotificationRepository notificationRepository;
+    private final InvalidationBus invalidationBus;
+    private final Duration evictAfterIdle;
+    private final Counter loads;
+    private final Counter corrections;
+
+    public UnreadNotificationCounters(NotificationRepository notificationRepository,
+                                      InvalidationBus invalidationBus,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${notification.unread-counters.evict-after-idle-ms:1800000}") long evictAfterIdleMs) {
+        this.notificationRepository = notificationRepository;
+        this.invalidationBus = invalidationBus;
+        this.evictAfterIdle = Duration.ofMillis(evictAfterIdleMs);
+        this.loads = meterRegistry.counter("notifications.unread.counters.loads");
+        this.corrections = meterRegistry.counter("notifications.unread.counters.corrections");
+        meterRegistry.gaugeMapSize("notifications.unread.counters.size", Tags.empty(), counters);
+        invalidationBus.subscribe(InvalidationBus.UNREAD_NOTIFICATIONS, this::onRemoteChange);
+    }
+
+    /**
+     * Get a user's unread count, loading it from the database on first access
+     */
+    public long get(String userId) {
+        Entry entry = counters.computeIfAbsent(userId, id -> {
+            loads.increment();
+            return new Entry(notificationRepository.countByUserIdAndStatus(id, Notification.NotificationStatus.UNREAD));
+        });
+        entry.lastReadAt = Instant.now();
+        return entry.unread.get();
+    }
+
+    /**
+     * Add to (or, with a negative delta, subtract from) a user's count once the current transaction commits
+     */
+    public void adjustAfterCommit(String userId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        invalidationBus.publish(InvalidationBus.UNREAD_NOTIFICATIONS, userId);
+        adjustLocallyAfterCommit(userId, delta);
+    }
+
+    /**
+     * Add one unread notification for each listed user once the current transaction commits
+     */
+    public void incrementAfterCommit(List<String> userIds) {
+        // One invalidation for the whole batch: other nodes reload counters on their next read
+        invalidationBus.publishAll(InvalidationBus.UNREAD_NOTIFICATIONS);
+        userIds.forEach(userId -> adjustLocallyAfterCommit(userId, 1));
+    }
+
+    private void adjustLocallyAfterCommit(String userId, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            adjust(userId, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                adjust(userId, delta);
+            }
+        });
+    }
+
+    /**
+     * Recount every tracked user and drop the ones who have not polled for a while
+     */
+    @Scheduled(fixedDelayString = "${notification.unread-counters.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        Instant now = Instant.now();
+        counters.values().removeIf(entry -> Duration.between(entry.lastReadAt, now).compareTo(evictAfterIdle) > 0);
+
+        List<String> userIds = new ArrayList<>(counters.keySet());
+        long corrected = 0;
+        try {
+            for (int from = 0; from < userIds.size(); from += RECONCILE_BATCH_SIZE) {
+                List<String> batch = userIds.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, userIds.size()));
+                Map<String, Long> actual = new HashMap<>();
+                for (Object[] row : notificationRepository.countByUserIdsAndStatus(batch, Notification.NotificationStatus.UNREAD)) {
+                    actual.put((String) row[0], (Long) row[1]);
+                }
+                for (String userId : batch) {
+                    Entry entry = counters.get(userId);
+                    long expected = actual.getOrDefault(userId, 0L);
+                    if (entry != null && entry.unread.getAndSet(expected) != expected) {
+                        corrected++;
+                    }
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Failed to reconcile unread notification counters: {}", ex.getMessage());
+        }
+        if (corrected > 0) {
+            corrections.increment(corrected);
+            log.info("Corrected {} of {} unread notification counters", corrected, userIds.size());
+        }
+    }
+
+    // This node's own changes are applied as deltas; only other nodes' need a reload
+    private void onRemoteChange(InvalidationBus.Invalidation invalidation) {
+        if (!invalidation.remote()) {
+            return;
+        }
+        if (invalidation.wholeRegion()) {
+            counters.clear();
+        } else {
+            counters.remove(invalidation.key());
+        }
+    }
+
+    private void adjust(String userId, long delta) {
+        Entry entry = counters.get(userId);
+        if (entry != null) {
+            entry.unread.accumulateAndGet(delta, (current, d) -> Math.max(0, current + d));
+        }
+    }
+
+    private static class Entry {
+        private final AtomicLong unread;
+        private volatile Instant lastReadAt = Instant.now();
+
+        Entry(long unread) {
+            this.unread = new AtomicLong(unread);
+        }
+    }
+}
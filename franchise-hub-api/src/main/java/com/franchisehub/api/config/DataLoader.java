@@ -297,6 +297,7 @@ public class DataLoader implements CommandLineRunner {
         application.setId("application-1");
         application.setFranchiseId(franchise.getId());
         application.setFranchiseName(franchise.getName());
+        application.setBusinessOwnerId(franchise.getBusinessOwnerId());
         application.setApplicantId(applicant.getId());
         application.setApplicantName(applicant.getFirstName() + " " + applicant.getLastName());
         application.setApplicantEmail(applicant.getEmail());
@@ -369,6 +370,7 @@ public class DataLoader implements CommandLineRunner {
         application.setId("application-2");
         application.setFranchiseId(franchise.getId());
         application.setFranchiseName(franchise.getName());
+        application.setBusinessOwnerId(franchise.getBusinessOwnerId());
         application.setApplicantId(applicant.getId());
         application.setApplicantName(applicant.getFirstName() + " " + applicant.getLastName());
         application.setApplicantEmail(applicant.getEmail());
@@ -438,6 +440,7 @@ public class DataLoader implements CommandLineRunner {
         transaction.setId("transaction-1");
         transaction.setUserId(user.getId());
         transaction.setFranchiseId(franchise.getId());
+        transaction.setBusinessOwnerId(franchise.getBusinessOwnerId());
         transaction.setApplicationId(application.getId());
         transaction.setAmount(new BigDecimal("25000"));
         transaction.setCurrency("INR");
@@ -465,6 +468,7 @@ public class DataLoader implements CommandLineRunner {
         transaction.setId("transaction-2");
         transaction.setUserId(user.getId());
         transaction.setFranchiseId(franchise.getId());
+        transaction.setBusinessOwnerId(franchise.getBusinessOwnerId());
         transaction.setApplicationId(application.getId());
         transaction.setAmount(new BigDecimal("30000"));
         transaction.setCurrency("INR");
@@ -0,0 +1,86 @@
+package com.franchisehub.api.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * In-process Hibernate second-level cache (JCache backed by Caffeine).
+ *
+ * Franchise and User are read far more often than they are written, so their rows and
+ * the franchise element collections are cached, as are the active/featured franchise
+ * queries. Every region is created here with its own size bound and TTL, and Hibernate
+ * is told to fail on any region it does not find, so a new @Cache annotation without a
+ * matching region is caught at startup.
+ *
+ * The cache is local to each node: writes made through Hibernate on this node keep it
+ * coherent, and the TTL bounds how long another node's writes can go unseen.
+ * Per-region hit, miss and put counts are published to actuator by hibernate-micrometer.
+ */
+@Configuration
+@Slf4j
+public class SecondLevelCacheConfig {
+
+    public static final String FRANCHISE_REGION = "franchise";
+    public static final String FRANCHISE_COLLECTIONS_REGION = "franchise-collections";
+    public static final String USER_REGION = "user";
+    public static final String FRANCHISE_QUERIES_REGION = "franchise-queries";
+
+    // Hibernate's own regions: query results without an explicit region, and the time each
+    // table was last written, which must never expire while cached query results exist
+    private static final String DEFAULT_QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${second-level-cache.franchise.max-size:2000}") long franchiseMaxSize,
+            @Value("${second-level-cache.franchise.ttl-seconds:600}") long franchiseTtlSeconds,
+            @Value("${second-level-cache.user.max-size:10000}") long userMaxSize,
+            @Value("${second-level-cache.user.ttl-seconds:300}") long userTtlSeconds,
+            @Value("${second-level-cache.franchise-queries.max-size:200}") long queriesMaxSize,
+            @Value("${second-level-cache.franchise-queries.ttl-seconds:120}") long queriesTtlSeconds) {
+        // A manager per application context: the provider's default one is shared by the whole
+        // JVM, so a second context would find the regions already created and fail to start
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("franchise-hub:second-level-cache:" + UUID.randomUUID()), getClass().getClassLoader());
+        createRegion(cacheManager, FRANCHISE_REGION, franchiseMaxSize, franchiseTtlSeconds);
+        // One entry per collection per franchise: images, territories, states, background requirements
+        createRegion(cacheManager, FRANCHISE_COLLECTIONS_REGION, franchiseMaxSize * 4, franchiseTtlSeconds);
+        createRegion(cacheManager, USER_REGION, userMaxSize, userTtlSeconds);
+        createRegion(cacheManager, FRANCHISE_QUERIES_REGION, queriesMaxSize, queriesTtlSeconds);
+        createRegion(cacheManager, DEFAULT_QUERY_RESULTS_REGION, queriesMaxSize, queriesTtlSeconds);
+        createRegion(cacheManager, UPDATE_TIMESTAMPS_REGION, -1, -1);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static void createRegion(CacheManager cacheManager, String name, long maxSize, long ttlSeconds) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        if (maxSize > 0) {
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+        }
+        if (ttlSeconds > 0) {
+            configuration.setExpireAfterWrite(OptionalLong.of(Duration.ofSeconds(ttlSeconds).toNanos()));
+        }
+        cacheManager.createCache(name, configuration);
+        log.debug("Created second-level cache region {} (max size: {}, ttl: {}s)", name, maxSize, ttlSeconds);
+    }
+}
@@ -1,15 +1,22 @@
 package com.franchisehub.api.controller;
 
+import com.franchisehub.api.cache.DashboardCache;
 import com.franchisehub.api.service.UserService;
 import com.franchisehub.api.service.FranchiseService;
 import com.franchisehub.api.service.ApplicationService;
 import com.franchisehub.api.service.PaymentService;
 import com.franchisehub.api.service.NotificationService;
+import com.franchisehub.api.service.NotificationFanOutService;
+import com.franchisehub.api.service.StatsAggregationService;
 import com.franchisehub.api.dto.AdminDto;
+import com.franchisehub.api.model.Franchise;
+import com.franchisehub.api.model.Notification;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -26,11 +33,17 @@ import java.time.LocalDateTime;
 @PreAuthorize("hasRole('ADMIN')")
 public class AdminController {
 
+    // Dashboard cache owner for platform-wide statistics
+    private static final String PLATFORM = "platform";
+
     private final UserService userService;
     private final FranchiseService franchiseService;
     private final ApplicationService applicationService;
     private final PaymentService paymentService;
     private final NotificationService notificationService;
+    private final StatsAggregationService statsAggregationService;
+    private final NotificationFanOutService notificationFanOutService;
+    private final DashboardCache dashboardCache;
 
     @Operation(summary = "Get dashboard statistics", description = "Get comprehensive dashboard statistics for admin")
     @ApiResponses(value = {
@@ -41,19 +54,10 @@ public class AdminController {
     @GetMapping("/dashboard")
     public ResponseEntity<AdminDto.DashboardStats> getDashboardStats() {
         log.info("Getting admin dashboard statistics");
-        
-        // Collect statistics from all services
-        UserService.UserStats userStats = userService.getUserStats();
-        FranchiseService.FranchiseStats franchiseStats = franchiseService.getFranchiseStats();
-        ApplicationService.ApplicationStats applicationStats = applicationService.getApplicationStats();
-        PaymentService.PaymentStats paymentStats = paymentService.getPaymentStats();
-        NotificationService.NotificationStats notificationStats = notificationService.getNotificationStats();
-        
-        // Create comprehensive dashboard stats
-        AdminDto.DashboardStats dashboardStats = new AdminDto.DashboardStats(
-                userStats, franchiseStats, applicationStats, paymentStats, notificationStats);
-        
-        return ResponseEntity.ok(dashboardStats);
+
+        // All per-table counts come back from a single statement; the Age header says how old they are
+        return dashboardCache.get("admin-dashboard", PLATFORM, statsAggregationService::getDashboardStats)
+                .toResponse();
     }
 
     @Operation(summary = "Get user statistics", description = "Get detailed user statistics")
@@ -178,6 +182,23 @@ public class AdminController {
         return ResponseEntity.ok().build();
     }
 
+    @Operation(summary = "Transfer franchise ownership", description = "Move a franchise, with its applications and transactions, to another business owner")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Franchise transferred successfully"),
+        @ApiResponse(responseCode = "400", description = "New owner does not have the BUSINESS role"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Admin only"),
+        @ApiResponse(responseCode = "404", description = "Franchise or business owner not found")
+    })
+    @PutMapping("/franchises/{id}/owner")
+    public ResponseEntity<Franchise> transferFranchiseOwnership(
+            @Parameter(description = "Franchise ID") @PathVariable String id,
+            @Valid @RequestBody AdminDto.TransferFranchiseOwnershipRequest request) {
+        log.info("Transferring franchise {} to business owner {}", id, request.getBusinessOwnerId());
+        Franchise franchise = franchiseService.transferFranchiseOwnership(id, request.getBusinessOwnerId());
+        return ResponseEntity.ok(franchise);
+    }
+
     @Operation(summary = "Get recent activity", description = "Get recent system activity")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved recent activity"),
@@ -208,25 +229,23 @@ public class AdminController {
     @GetMapping("/overview")
     public ResponseEntity<AdminDto.PlatformOverview> getPlatformOverview() {
         log.info("Getting platform overview for admin");
-        
-        // Collect comprehensive platform data
-        UserService.UserStats userStats = userService.getUserStats();
-        FranchiseService.FranchiseStats franchiseStats = franchiseService.getFranchiseStats();
-        ApplicationService.ApplicationStats applicationStats = applicationService.getApplicationStats();
-        PaymentService.PaymentStats paymentStats = paymentService.getPaymentStats();
-        
+        return dashboardCache.get("admin-overview", PLATFORM, this::buildPlatformOverview).toResponse();
+    }
+
+    private AdminDto.PlatformOverview buildPlatformOverview() {
+        // Collect comprehensive platform data in one round trip
+        AdminDto.DashboardStats stats = statsAggregationService.getDashboardStats();
+
         // Calculate additional metrics
         LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
         long newUsersLast30Days = userService.getUsersCreatedSince(thirtyDaysAgo);
         long newFranchisesLast30Days = franchiseService.getFranchisesCreatedSince(thirtyDaysAgo).size();
         long newApplicationsLast30Days = applicationService.getApplicationsCreatedSince(thirtyDaysAgo).size();
-        
-        AdminDto.PlatformOverview overview = new AdminDto.PlatformOverview(
-                userStats, franchiseStats, applicationStats, paymentStats,
+
+        return new AdminDto.PlatformOverview(
+                stats.getUserStats(), stats.getFranchiseStats(), stats.getApplicationStats(), stats.getPaymentStats(),
                 newUsersLast30Days, newFranchisesLast30Days, newApplicationsLast30Days,
                 LocalDateTime.now());
-        
-        return ResponseEntity.ok(overview);
     }
 
     @Operation(summary = "Export data", description = "Export platform data for backup or analysis")
@@ -285,15 +304,19 @@ public class AdminController {
             @RequestBody AdminDto.SystemNotificationRequest request) {
         log.info("Sending system notification: {}", request.getTitle());
         
-        // Get all active users and send notification to each
-        var activeUsers = userService.getActiveUsers();
-        
-        for (var user : activeUsers) {
-            notificationService.createSystemAlertNotification(
-                    user.getId(), request.getTitle(), request.getMessage(), request.getPriority());
-        }
-        
-        log.info("Sent system notification to {} users", activeUsers.size());
+        Notification template = new Notification();
+        template.setType(Notification.NotificationType.SYSTEM_ALERT);
+        template.setTitle(request.getTitle());
+        template.setMessage(request.getMessage());
+        template.setPriority(request.getPriority());
+        template.setActionText(request.getActionText());
+        template.setActionUrl(request.getActionUrl());
+        template.setExpiresAt(request.getExpiresAt());
+
+        var progress = notificationFanOutService.sendToActiveUsers(template, p ->
+                log.info("System notification progress: {} notifications sent", p.getInserted()));
+
+        log.info("Sent system notification to {} users", progress.getInserted());
         return ResponseEntity.ok().build();
     }
 }
@@ -1,9 +1,12 @@
 package com.franchisehub.api.controller;
 
+import com.franchisehub.api.cache.ConditionalGet;
 import com.franchisehub.api.model.Application;
 import com.franchisehub.api.model.ApplicationDocument;
 import com.franchisehub.api.service.ApplicationService;
 import com.franchisehub.api.dto.ApplicationDto;
+import com.franchisehub.api.dto.CursorDto;
+import com.franchisehub.api.dto.SliceDto;
 import com.franchisehub.api.exception.BadRequestException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,12 +20,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -33,8 +39,9 @@ import java.util.List;
 public class ApplicationController {
 
     private final ApplicationService applicationService;
+    private final ConditionalGet conditionalGet;
 
-    @Operation(summary = "Get all applications", description = "Retrieve all applications with pagination (Admin only)")
+    @Operation(summary = "Get all applications", description = "Retrieve all applications as list rows without personal, business or document details (Admin only)")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved applications"),
         @ApiResponse(responseCode = "401", description = "Unauthorized"),
@@ -42,16 +49,39 @@ public class ApplicationController {
     })
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Page<Application>> getAllApplications(
+    public ResponseEntity<Page<ApplicationDto.ApplicationSummary>> getAllApplicationSummaries(
             @PageableDefault(size = 20, sort = "submittedAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        log.info("Getting all applications with pagination: {}", pageable);
-        Page<Application> applications = applicationService.getAllApplications(pageable);
+        log.info("Getting all application summaries with pagination: {}", pageable);
+        Page<ApplicationDto.ApplicationSummary> applications = applicationService.getAllApplicationSummaries(pageable);
+        return ResponseEntity.ok(applications);
+    }
+
+    @Operation(summary = "Search applications", description = "Search active applications by applicant name, applicant email or franchise name (Admin only). With a full-text search provider, results are ranked by relevance")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved search results"),
+        @ApiResponse(responseCode = "400", description = "Invalid search parameters"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Admin only")
+    })
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Page<ApplicationDto.ApplicationSummary>> searchApplications(
+            @Parameter(description = "Search term") @RequestParam String q,
+            @PageableDefault(size = 20, sort = "submittedAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        log.info("Searching applications with term: {} and pagination: {}", q, pageable);
+
+        if (q == null || q.trim().isEmpty()) {
+            throw new BadRequestException("Search term cannot be empty");
+        }
+
+        Page<ApplicationDto.ApplicationSummary> applications = applicationService.searchActiveApplicationSummaries(q.trim(), pageable);
         return ResponseEntity.ok(applications);
     }
 
     @Operation(summary = "Get application by ID", description = "Retrieve a specific application by its ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved application"),
+        @ApiResponse(responseCode = "304", description = "Application not modified since the given ETag or date"),
         @ApiResponse(responseCode = "404", description = "Application not found"),
         @ApiResponse(responseCode = "401", description = "Unauthorized"),
         @ApiResponse(responseCode = "403", description = "Forbidden")
@@ -59,13 +89,15 @@ public class ApplicationController {
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or @applicationService.isApplicationOwner(#id, authentication.name) or @applicationService.isApplicationBusinessOwner(#id, authentication.name)")
     public ResponseEntity<Application> getApplicationById(
-            @Parameter(description = "Application ID") @PathVariable String id) {
+            @Parameter(description = "Application ID") @PathVariable String id,
+            WebRequest webRequest) {
         log.info("Getting application by ID: {}", id);
-        Application application = applicationService.getApplicationById(id);
-        return ResponseEntity.ok(application);
+        LocalDateTime lastModified = applicationService.getApplicationLastModified(id).orElse(null);
+        return conditionalGet.personal(webRequest, ConditionalGet.version(id, lastModified), lastModified,
+                () -> applicationService.getApplicationById(id));
     }
 
-    @Operation(summary = "Get applications by applicant", description = "Retrieve applications by applicant ID")
+    @Operation(summary = "Get applications by applicant", description = "Retrieve applications by applicant ID as list rows")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved applications"),
         @ApiResponse(responseCode = "401", description = "Unauthorized"),
@@ -73,15 +105,34 @@ public class ApplicationController {
     })
     @GetMapping("/applicant/{applicantId}")
     @PreAuthorize("hasRole('ADMIN') or @userService.isCurrentUser(#applicantId)")
-    public ResponseEntity<Page<Application>> getApplicationsByApplicant(
+    public ResponseEntity<Page<ApplicationDto.ApplicationSummary>> getApplicationSummariesByApplicant(
             @Parameter(description = "Applicant ID") @PathVariable String applicantId,
             @PageableDefault(size = 20, sort = "submittedAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        log.info("Getting applications by applicant: {} with pagination: {}", applicantId, pageable);
-        Page<Application> applications = applicationService.getApplicationsByApplicantId(applicantId, pageable);
+        log.info("Getting application summaries by applicant: {} with pagination: {}", applicantId, pageable);
+        Page<ApplicationDto.ApplicationSummary> applications = applicationService.getApplicationSummariesByApplicantId(applicantId, pageable);
         return ResponseEntity.ok(applications);
     }
 
-    @Operation(summary = "Get applications by franchise", description = "Retrieve applications for a specific franchise")
+    @Operation(summary = "Get applications by applicant (cursor)", description = "Retrieve applications by applicant ID, newest first, using an opaque cursor instead of page numbers")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved applications"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @GetMapping(value = "/applicant/{applicantId}", params = "cursor")
+    @PreAuthorize("hasRole('ADMIN') or @userService.isCurrentUser(#applicantId)")
+    public ResponseEntity<CursorDto.CursorPage<ApplicationDto.ApplicationSummary>> getApplicationSummariesByApplicantByCursor(
+            @Parameter(description = "Applicant ID") @PathVariable String applicantId,
+            @Parameter(description = "Cursor from the previous page, empty for the first page") @RequestParam String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam(required = false) Integer size) {
+        log.info("Getting application summaries by applicant: {} after cursor: {}", applicantId, cursor);
+        CursorDto.CursorPage<ApplicationDto.ApplicationSummary> applications = applicationService.getApplicationSummariesByApplicantId(
+                applicantId, cursor, CursorDto.normalizeSize(size));
+        return ResponseEntity.ok(applications);
+    }
+
+    @Operation(summary = "Get applications by franchise", description = "Retrieve applications for a specific franchise as list rows")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved applications"),
         @ApiResponse(responseCode = "401", description = "Unauthorized"),
@@ -89,38 +140,38 @@ public class ApplicationController {
     })
     @GetMapping("/franchise/{franchiseId}")
     @PreAuthorize("hasRole('ADMIN') or @franchiseService.isFranchiseOwner(#franchiseId, authentication.name)")
-    public ResponseEntity<Page<Application>> getApplicationsByFranchise(
+    public ResponseEntity<Page<ApplicationDto.ApplicationSummary>> getApplicationSummariesByFranchise(
             @Parameter(description = "Franchise ID") @PathVariable String franchiseId,
             @PageableDefault(size = 20, sort = "submittedAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        log.info("Getting applications by franchise: {} with pagination: {}", franchiseId, pageable);
-        Page<Application> applications = applicationService.getApplicationsByFranchiseId(franchiseId, pageable);
+        log.info("Getting application summaries by franchise: {} with pagination: {}", franchiseId, pageable);
+        Page<ApplicationDto.ApplicationSummary> applications = applicationService.getApplicationSummariesByFranchiseId(franchiseId, pageable);
         return ResponseEntity.ok(applications);
     }
 
-    @Operation(summary = "Get applications by status", description = "Retrieve applications by status")
+    @Operation(summary = "Get applications by status", description = "Retrieve applications by status as list rows")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved applications"),
         @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     @GetMapping("/status/{status}")
-    public ResponseEntity<Page<Application>> getApplicationsByStatus(
+    public ResponseEntity<Page<ApplicationDto.ApplicationSummary>> getApplicationSummariesByStatus(
             @Parameter(description = "Application Status") @PathVariable Application.ApplicationStatus status,
             @PageableDefault(size = 20, sort = "submittedAt", direction = Sort.Direction.DESC) Pageable pageable,
             Authentication authentication) {
-        log.info("Getting applications by status: {} with pagination: {}", status, pageable);
-        
+        log.info("Getting application summaries by status: {} with pagination: {}", status, pageable);
+
         // Filter by user role
-        Page<Application> applications;
+        Page<ApplicationDto.ApplicationSummary> applications;
         if (authentication.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"))) {
-            applications = applicationService.getApplicationsByStatus(status, pageable);
+            applications = applicationService.getApplicationSummariesByStatus(status, pageable);
         } else {
-            applications = applicationService.getApplicationsByApplicantIdAndStatus(authentication.getName(), status, pageable);
+            applications = applicationService.getApplicationSummariesByApplicantIdAndStatus(authentication.getName(), status, pageable);
         }
-        
+
         return ResponseEntity.ok(applications);
     }
 
-    @Operation(summary = "Get applications for business owner", description = "Retrieve applications for franchises owned by business owner")
+    @Operation(summary = "Get applications for business owner", description = "Retrieve applications for franchises owned by business owner as list rows")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved applications"),
         @ApiResponse(responseCode = "401", description = "Unauthorized"),
@@ -128,11 +179,59 @@ public class ApplicationController {
     })
     @GetMapping("/business-owner/{businessOwnerId}")
     @PreAuthorize("hasRole('ADMIN') or #businessOwnerId == authentication.name")
-    public ResponseEntity<Page<Application>> getApplicationsForBusinessOwner(
+    public ResponseEntity<Page<ApplicationDto.ApplicationSummary>> getApplicationSummariesForBusinessOwner(
+            @Parameter(description = "Business Owner ID") @PathVariable String businessOwnerId,
+            @PageableDefault(size = 20, sort = "submittedAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        log.info("Getting application summaries for business owner: {} with pagination: {}", businessOwnerId, pageable);
+        Page<ApplicationDto.ApplicationSummary> applications = applicationService.getApplicationSummariesForBusinessOwner(businessOwnerId, pageable);
+        return ResponseEntity.ok(applications);
+    }
+
+    @Operation(summary = "Search applications for business owner", description = "Search the active applications of a business owner's franchises by applicant name, applicant email or franchise name, and filter by status, payment status and submission time (from inclusive, to exclusive). Every parameter is optional; returns list rows")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved applications"),
+        @ApiResponse(responseCode = "400", description = "Invalid search parameters"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @GetMapping("/business-owner/{businessOwnerId}/search")
+    @PreAuthorize("hasRole('ADMIN') or #businessOwnerId == authentication.name")
+    public ResponseEntity<Page<ApplicationDto.ApplicationSummary>> searchApplicationsForBusinessOwner(
+            @Parameter(description = "Business Owner ID") @PathVariable String businessOwnerId,
+            @Parameter(description = "Search term") @RequestParam(required = false) String q,
+            @Parameter(description = "Application status") @RequestParam(required = false) Application.ApplicationStatus status,
+            @Parameter(description = "Payment status") @RequestParam(required = false) Application.PaymentStatus paymentStatus,
+            @Parameter(description = "Submitted at or after (ISO date-time)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime submittedFrom,
+            @Parameter(description = "Submitted before (ISO date-time)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime submittedTo,
+            @PageableDefault(size = 20, sort = "submittedAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        log.info("Searching applications for business owner: {} with term: {}, status: {}, payment status: {}, submitted {} - {} and pagination: {}",
+                businessOwnerId, q, status, paymentStatus, submittedFrom, submittedTo, pageable);
+
+        if (submittedFrom != null && submittedTo != null && !submittedFrom.isBefore(submittedTo)) {
+            throw new BadRequestException("Submitted from must be before submitted to");
+        }
+
+        String searchTerm = q != null && !q.trim().isEmpty() ? q.trim() : null;
+        Page<ApplicationDto.ApplicationSummary> applications = applicationService.searchApplicationSummariesForBusinessOwner(
+                businessOwnerId, searchTerm, status, paymentStatus, submittedFrom, submittedTo, pageable);
+        return ResponseEntity.ok(applications);
+    }
+
+    @Operation(summary = "Get applications for business owner (slice)", description = "Retrieve applications for franchises owned by business owner without a count query; the total is a cached estimate")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved applications"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @GetMapping(value = "/business-owner/{businessOwnerId}", params = "slice=true")
+    @PreAuthorize("hasRole('ADMIN') or #businessOwnerId == authentication.name")
+    public ResponseEntity<SliceDto.SliceResponse<ApplicationDto.ApplicationSummary>> getApplicationSummarySliceForBusinessOwner(
             @Parameter(description = "Business Owner ID") @PathVariable String businessOwnerId,
             @PageableDefault(size = 20, sort = "submittedAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        log.info("Getting applications for business owner: {} with pagination: {}", businessOwnerId, pageable);
-        Page<Application> applications = applicationService.getApplicationsForBusinessOwner(businessOwnerId, pageable);
+        log.info("Getting application summary slice for business owner: {} with pagination: {}", businessOwnerId, pageable);
+        SliceDto.SliceResponse<ApplicationDto.ApplicationSummary> applications = applicationService.getApplicationSummarySliceForBusinessOwner(businessOwnerId, pageable);
         return ResponseEntity.ok(applications);
     }
 
@@ -1,11 +1,14 @@
 package com.franchisehub.api.controller;
 
+import com.franchisehub.api.cache.DashboardCache;
 import com.franchisehub.api.dto.BusinessDto;
+import com.franchisehub.api.dto.PaymentDto;
+import com.franchisehub.api.dto.SliceDto;
 import com.franchisehub.api.model.User;
+import com.franchisehub.api.security.CurrentUser;
 import com.franchisehub.api.service.ApplicationService;
 import com.franchisehub.api.service.FranchiseService;
 import com.franchisehub.api.service.PaymentService;
-import com.franchisehub.api.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,12 +16,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 
 @RestController
 @RequestMapping("/business")
@@ -27,10 +34,10 @@ import java.math.BigDecimal;
 @Tag(name = "Business", description = "Business user operations")
 public class BusinessController {
 
-    private final UserService userService;
     private final FranchiseService franchiseService;
     private final ApplicationService applicationService;
     private final PaymentService paymentService;
+    private final DashboardCache dashboardCache;
 
     @Operation(summary = "Get business dashboard statistics", description = "Get dashboard statistics for business users")
     @ApiResponses(value = {
@@ -40,17 +47,18 @@ public class BusinessController {
     })
     @GetMapping("/dashboard")
     @PreAuthorize("hasRole('BUSINESS')")
-    public ResponseEntity<BusinessDto.DashboardStats> getDashboardStats(Authentication authentication) {
+    public ResponseEntity<BusinessDto.DashboardStats> getDashboardStats(@CurrentUser User currentUser, Authentication authentication) {
         log.info("Getting business dashboard statistics for user: {}", authentication.getName());
         
-        // Get current user
-        User currentUser = userService.getUserByEmail(authentication.getName());
         String businessOwnerId = currentUser.getId();
         
-        // Collect statistics from all services for this business owner
-        FranchiseService.FranchiseStats franchiseStats = franchiseService.getFranchiseStatsByBusinessOwner(businessOwnerId);
-        ApplicationService.ApplicationStats applicationStats = applicationService.getApplicationStatsByBusinessOwner(businessOwnerId);
-        PaymentService.PaymentStats paymentStats = paymentService.getPaymentStatsByBusinessOwner(businessOwnerId);
+        // Collect statistics for this business owner; the /stats/* calls that follow reuse them
+        DashboardCache.Cached<FranchiseService.FranchiseStats> cachedFranchiseStats = cachedFranchiseStats(businessOwnerId);
+        DashboardCache.Cached<ApplicationService.ApplicationStats> cachedApplicationStats = cachedApplicationStats(businessOwnerId);
+        DashboardCache.Cached<PaymentService.PaymentStats> cachedPaymentStats = cachedPaymentStats(businessOwnerId);
+        FranchiseService.FranchiseStats franchiseStats = cachedFranchiseStats.value();
+        ApplicationService.ApplicationStats applicationStats = cachedApplicationStats.value();
+        PaymentService.PaymentStats paymentStats = cachedPaymentStats.value();
         
         // Calculate additional metrics
         BigDecimal totalRevenue = paymentStats.getTotalRevenue();
@@ -72,7 +80,9 @@ public class BusinessController {
                 Math.round(conversionRate * 100.0) / 100.0
         );
         
-        return ResponseEntity.ok(dashboardStats);
+        // The dashboard is as old as its oldest part
+        Instant computedAt = DashboardCache.Cached.oldest(cachedFranchiseStats, cachedApplicationStats, cachedPaymentStats);
+        return new DashboardCache.Cached<>(dashboardStats, computedAt).toResponse();
     }
 
     @Operation(summary = "Get business franchise statistics", description = "Get franchise statistics for business owner")
@@ -83,12 +93,10 @@ public class BusinessController {
     })
     @GetMapping("/stats/franchises")
     @PreAuthorize("hasRole('BUSINESS')")
-    public ResponseEntity<FranchiseService.FranchiseStats> getFranchiseStats(Authentication authentication) {
+    public ResponseEntity<FranchiseService.FranchiseStats> getFranchiseStats(@CurrentUser User currentUser, Authentication authentication) {
         log.info("Getting franchise statistics for business user: {}", authentication.getName());
         
-        User currentUser = userService.getUserByEmail(authentication.getName());
-        FranchiseService.FranchiseStats stats = franchiseService.getFranchiseStatsByBusinessOwner(currentUser.getId());
-        return ResponseEntity.ok(stats);
+        return cachedFranchiseStats(currentUser.getId()).toResponse();
     }
 
     @Operation(summary = "Get business application statistics", description = "Get application statistics for business owner")
@@ -99,12 +107,10 @@ public class BusinessController {
     })
     @GetMapping("/stats/applications")
     @PreAuthorize("hasRole('BUSINESS')")
-    public ResponseEntity<ApplicationService.ApplicationStats> getApplicationStats(Authentication authentication) {
+    public ResponseEntity<ApplicationService.ApplicationStats> getApplicationStats(@CurrentUser User currentUser, Authentication authentication) {
         log.info("Getting application statistics for business user: {}", authentication.getName());
         
-        User currentUser = userService.getUserByEmail(authentication.getName());
-        ApplicationService.ApplicationStats stats = applicationService.getApplicationStatsByBusinessOwner(currentUser.getId());
-        return ResponseEntity.ok(stats);
+        return cachedApplicationStats(currentUser.getId()).toResponse();
     }
 
     @Operation(summary = "Get business payment statistics", description = "Get payment statistics for business owner")
@@ -115,11 +121,42 @@ public class BusinessController {
     })
     @GetMapping("/stats/payments")
     @PreAuthorize("hasRole('BUSINESS')")
-    public ResponseEntity<PaymentService.PaymentStats> getPaymentStats(Authentication authentication) {
+    public ResponseEntity<PaymentService.PaymentStats> getPaymentStats(@CurrentUser User currentUser, Authentication authentication) {
         log.info("Getting payment statistics for business user: {}", authentication.getName());
         
-        User currentUser = userService.getUserByEmail(authentication.getName());
-        PaymentService.PaymentStats stats = paymentService.getPaymentStatsByBusinessOwner(currentUser.getId());
-        return ResponseEntity.ok(stats);
+        return cachedPaymentStats(currentUser.getId()).toResponse();
+    }
+
+    @Operation(summary = "Get business transactions", description = "Get payment transactions for the business owner's franchises; the total is a cached estimate")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved transactions"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Business users only")
+    })
+    @GetMapping("/transactions")
+    @PreAuthorize("hasRole('BUSINESS')")
+    public ResponseEntity<SliceDto.SliceResponse<PaymentDto.TransactionSummary>> getTransactions(
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @CurrentUser User currentUser,
+            Authentication authentication) {
+        log.info("Getting transactions for business user: {} with pagination: {}", authentication.getName(), pageable);
+        
+        SliceDto.SliceResponse<PaymentDto.TransactionSummary> transactions = paymentService.getTransactionSummarySliceForBusinessOwner(currentUser.getId(), pageable);
+        return ResponseEntity.ok(transactions);
+    }
+
+    private DashboardCache.Cached<FranchiseService.FranchiseStats> cachedFranchiseStats(String businessOwnerId) {
+        return dashboardCache.get("business-franchises", businessOwnerId,
+                () -> franchiseService.getFranchiseStatsByBusinessOwner(businessOwnerId));
+    }
+
+    private DashboardCache.Cached<ApplicationService.ApplicationStats> cachedApplicationStats(String businessOwnerId) {
+        return dashboardCache.get("business-applications", businessOwnerId,
+                () -> applicationService.getApplicationStatsByBusinessOwner(businessOwnerId));
+    }
+
+    private DashboardCache.Cached<PaymentService.PaymentStats> cachedPaymentStats(String businessOwnerId) {
+        return dashboardCache.get("business-payments", businessOwnerId,
+                () -> paymentService.getPaymentStatsByBusinessOwner(businessOwnerId));
     }
 }
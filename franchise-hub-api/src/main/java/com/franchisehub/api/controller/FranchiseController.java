@@ -1,9 +1,11 @@
 package com.franchisehub.api.controller;
 
+import com.franchisehub.api.cache.ConditionalGet;
+import com.franchisehub.api.cache.FranchiseCatalogSnapshot;
 import com.franchisehub.api.model.Franchise;
 import com.franchisehub.api.model.User;
+import com.franchisehub.api.security.CurrentUser;
 import com.franchisehub.api.service.FranchiseService;
-import com.franchisehub.api.service.UserService;
 import com.franchisehub.api.dto.FranchiseDto;
 import com.franchisehub.api.exception.BadRequestException;
 import io.swagger.v3.oas.annotations.Operation;
@@ -23,9 +25,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/franchises")
@@ -34,63 +39,75 @@ import java.util.List;
 @Tag(name = "Franchise Management", description = "APIs for managing franchises")
 public class FranchiseController {
 
+    private static final int MAX_FILTER_PAGE_SIZE = 100;
+    private static final Set<String> FILTER_SORT_FIELDS =
+            Set.of("createdAt", "name", "franchiseFee", "minInvestment", "relevance");
+
     private final FranchiseService franchiseService;
-    private final UserService userService;
+    private final FranchiseCatalogSnapshot franchiseCatalogSnapshot;
+    private final ConditionalGet conditionalGet;
 
-    @Operation(summary = "Get all franchises", description = "Retrieve all franchises with pagination and sorting")
+    @Operation(summary = "Get all franchises", description = "Retrieve franchises as list rows without requirements or support details")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved franchises"),
         @ApiResponse(responseCode = "400", description = "Invalid request parameters"),
         @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     @GetMapping
-    public ResponseEntity<Page<Franchise>> getAllFranchises(
+    public ResponseEntity<Page<FranchiseDto.FranchiseSummary>> getAllFranchiseSummaries(
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @CurrentUser User currentUser,
             Authentication authentication) {
-        log.info("Getting franchises with pagination: {} for user: {}", pageable, authentication.getName());
-
-        // Get current user
-        User currentUser = userService.getUserByEmail(authentication.getName());
+        log.info("Getting franchise summaries with pagination: {} for user: {}", pageable, authentication.getName());
 
-        Page<Franchise> franchises;
+        Page<FranchiseDto.FranchiseSummary> franchises;
         if (currentUser.getRole() == User.UserRole.BUSINESS) {
             // Business users see only their own franchises
-            franchises = franchiseService.getFranchisesByBusinessOwnerId(currentUser.getId(), pageable);
+            franchises = franchiseService.getFranchiseSummariesByBusinessOwnerId(currentUser.getId(), pageable);
         } else {
-            // Admin and Partner users see all franchises
-            franchises = franchiseService.getAllFranchises(pageable);
+            franchises = franchiseService.getAllFranchiseSummaries(pageable);
         }
 
         return ResponseEntity.ok(franchises);
     }
 
-    @Operation(summary = "Get active franchises", description = "Retrieve all active franchises (excluding demo franchises for data isolation)")
+    @Operation(summary = "Get active franchises", description = "Retrieve catalog cards of all active franchises (excluding demo franchises for data isolation)")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved active franchises"),
+        @ApiResponse(responseCode = "304", description = "Catalog not modified since the given ETag"),
         @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     @GetMapping("/active")
-    public ResponseEntity<List<Franchise>> getActiveFranchises() {
+    public ResponseEntity<List<FranchiseDto.FranchiseCard>> getActiveFranchises(WebRequest webRequest) {
         log.info("Getting active franchises excluding demo business owner franchises");
-        List<Franchise> franchises = franchiseService.getActiveFranchisesExcludingDemo();
-        return ResponseEntity.ok(franchises);
+        FranchiseCatalogSnapshot.Snapshot catalog = franchiseCatalogSnapshot.get();
+        // The fingerprint is the same on every node, unlike the local snapshot version
+        ResponseEntity<List<FranchiseDto.FranchiseCard>> response = conditionalGet.catalog(webRequest,
+                "catalog:" + catalog.fingerprint(), null, catalog::franchises);
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .header("X-Catalog-Version", String.valueOf(catalog.version()))
+                .body(response.getBody());
     }
 
     @Operation(summary = "Get franchise by ID", description = "Retrieve a specific franchise by its ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved franchise"),
+        @ApiResponse(responseCode = "304", description = "Franchise not modified since the given ETag or date"),
         @ApiResponse(responseCode = "404", description = "Franchise not found"),
         @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     @GetMapping("/{id}")
     public ResponseEntity<Franchise> getFranchiseById(
-            @Parameter(description = "Franchise ID") @PathVariable String id) {
+            @Parameter(description = "Franchise ID") @PathVariable String id,
+            WebRequest webRequest) {
         log.info("Getting franchise by ID: {}", id);
-        Franchise franchise = franchiseService.getFranchiseById(id);
-        return ResponseEntity.ok(franchise);
+        LocalDateTime lastModified = franchiseService.getFranchiseLastModified(id).orElse(null);
+        return conditionalGet.catalog(webRequest, ConditionalGet.version(id, lastModified), lastModified,
+                () -> franchiseService.getFranchiseById(id, FranchiseService.FetchPlan.DETAIL));
     }
 
-    @Operation(summary = "Get franchises by business owner", description = "Retrieve franchises owned by a specific business owner")
+    @Operation(summary = "Get franchises by business owner", description = "Retrieve franchises owned by a specific business owner as list rows")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved franchises"),
         @ApiResponse(responseCode = "401", description = "Unauthorized"),
@@ -98,68 +115,98 @@ public class FranchiseController {
     })
     @GetMapping("/business-owner/{businessOwnerId}")
     @PreAuthorize("hasRole('ADMIN') or #businessOwnerId == authentication.name")
-    public ResponseEntity<Page<Franchise>> getFranchisesByBusinessOwner(
+    public ResponseEntity<Page<FranchiseDto.FranchiseSummary>> getFranchiseSummariesByBusinessOwner(
             @Parameter(description = "Business Owner ID") @PathVariable String businessOwnerId,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        log.info("Getting franchises by business owner: {} with pagination: {}", businessOwnerId, pageable);
-        Page<Franchise> franchises = franchiseService.getFranchisesByBusinessOwnerId(businessOwnerId, pageable);
+        log.info("Getting franchise summaries by business owner: {} with pagination: {}", businessOwnerId, pageable);
+        Page<FranchiseDto.FranchiseSummary> franchises = franchiseService.getFranchiseSummariesByBusinessOwnerId(businessOwnerId, pageable);
         return ResponseEntity.ok(franchises);
     }
 
-    @Operation(summary = "Get franchises by category", description = "Retrieve franchises by category")
+    @Operation(summary = "Get franchises by category", description = "Retrieve franchises by category as list rows")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved franchises"),
         @ApiResponse(responseCode = "400", description = "Invalid category"),
         @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     @GetMapping("/category/{category}")
-    public ResponseEntity<Page<Franchise>> getFranchisesByCategory(
+    public ResponseEntity<Page<FranchiseDto.FranchiseSummary>> getFranchiseSummariesByCategory(
             @Parameter(description = "Franchise Category") @PathVariable Franchise.FranchiseCategory category,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        log.info("Getting franchises by category: {} with pagination: {}", category, pageable);
-        Page<Franchise> franchises = franchiseService.getFranchisesByCategory(category, pageable);
+        log.info("Getting franchise summaries by category: {} with pagination: {}", category, pageable);
+        Page<FranchiseDto.FranchiseSummary> franchises = franchiseService.getFranchiseSummariesByCategory(category, pageable);
         return ResponseEntity.ok(franchises);
     }
 
-    @Operation(summary = "Search franchises", description = "Search franchises by name or description")
+    @Operation(summary = "Search franchises", description = "Search active franchises by name, owner or description, ranked by relevance, and return list rows")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved search results"),
         @ApiResponse(responseCode = "400", description = "Invalid search parameters"),
         @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     @GetMapping("/search")
-    public ResponseEntity<Page<Franchise>> searchFranchises(
+    public ResponseEntity<Page<FranchiseDto.FranchiseSummary>> searchFranchiseSummaries(
             @Parameter(description = "Search term") @RequestParam String q,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        log.info("Searching franchises with term: {} and pagination: {}", q, pageable);
-        
+        log.info("Searching franchise summaries with term: {} and pagination: {}", q, pageable);
+
         if (q == null || q.trim().isEmpty()) {
             throw new BadRequestException("Search term cannot be empty");
         }
-        
-        Page<Franchise> franchises = franchiseService.searchFranchises(q.trim(), pageable);
+
+        Page<FranchiseDto.FranchiseSummary> franchises = franchiseService.searchFranchiseSummaries(q.trim(), pageable);
         return ResponseEntity.ok(franchises);
     }
 
-    @Operation(summary = "Filter franchises by investment", description = "Filter franchises by investment range")
+    @Operation(summary = "Filter franchises with facet counts", description = "Filter active franchises by category, available states, fee and investment range and search text, and return list rows with the result count of every category, state, fee bucket and investment bucket. Each facet is counted with the other filters applied. Sort by createdAt, name, franchiseFee, minInvestment or relevance (with search text). Facets are empty while the index is being built after startup")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved filtered franchises"),
+        @ApiResponse(responseCode = "400", description = "Invalid filter parameters"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @GetMapping("/filter")
+    public ResponseEntity<FranchiseDto.FacetedFilterResponse> filterFranchises(
+            @ModelAttribute FranchiseDto.FranchiseFilterRequest filter) {
+        log.info("Filtering franchises with: {}", filter);
+
+        if (filter.getPage() == null || filter.getPage() < 0
+                || filter.getSize() == null || filter.getSize() < 1 || filter.getSize() > MAX_FILTER_PAGE_SIZE) {
+            throw new BadRequestException("Page must be 0 or more and size between 1 and " + MAX_FILTER_PAGE_SIZE);
+        }
+        if (filter.getMinInvestment() != null && filter.getMaxInvestment() != null
+                && filter.getMinInvestment().compareTo(filter.getMaxInvestment()) > 0) {
+            throw new BadRequestException("Minimum investment cannot be greater than maximum investment");
+        }
+        if (filter.getMinFee() != null && filter.getMaxFee() != null
+                && filter.getMinFee().compareTo(filter.getMaxFee()) > 0) {
+            throw new BadRequestException("Minimum fee cannot be greater than maximum fee");
+        }
+        if (filter.getSortBy() != null && !FILTER_SORT_FIELDS.contains(filter.getSortBy())) {
+            throw new BadRequestException("Cannot sort by " + filter.getSortBy());
+        }
+
+        return ResponseEntity.ok(franchiseService.filterFranchiseSummaries(filter));
+    }
+
+    @Operation(summary = "Filter franchises by investment", description = "Filter franchises by investment range and return list rows")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved filtered franchises"),
         @ApiResponse(responseCode = "400", description = "Invalid investment range"),
         @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     @GetMapping("/filter/investment")
-    public ResponseEntity<Page<Franchise>> filterByInvestment(
+    public ResponseEntity<Page<FranchiseDto.FranchiseSummary>> filterSummariesByInvestment(
             @Parameter(description = "Minimum investment") @RequestParam(required = false) BigDecimal minInvestment,
             @Parameter(description = "Maximum investment") @RequestParam(required = false) BigDecimal maxInvestment,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        log.info("Filtering franchises by investment range: {} - {} with pagination: {}", 
+        log.info("Filtering franchise summaries by investment range: {} - {} with pagination: {}",
                 minInvestment, maxInvestment, pageable);
-        
+
         if (minInvestment != null && maxInvestment != null && minInvestment.compareTo(maxInvestment) > 0) {
             throw new BadRequestException("Minimum investment cannot be greater than maximum investment");
         }
-        
-        Page<Franchise> franchises = franchiseService.filterFranchisesByInvestmentRange(
+
+        Page<FranchiseDto.FranchiseSummary> franchises = franchiseService.filterFranchiseSummariesByInvestmentRange(
                 minInvestment, maxInvestment, pageable);
         return ResponseEntity.ok(franchises);
     }
@@ -175,12 +222,10 @@ public class FranchiseController {
     @PreAuthorize("hasRole('BUSINESS')")
     public ResponseEntity<Franchise> createFranchise(
             @Valid @RequestBody FranchiseDto.CreateFranchiseRequest request,
+            @CurrentUser User currentUser,
             Authentication authentication) {
         log.info("Creating franchise: {} by user: {}", request.getName(), authentication.getName());
 
-        // Get user ID from email
-        User currentUser = userService.getUserByEmail(authentication.getName());
-
         // Convert DTO to entity
         Franchise franchise = mapToFranchise(request);
 
@@ -201,12 +246,10 @@ public class FranchiseController {
     public ResponseEntity<Franchise> updateFranchise(
             @Parameter(description = "Franchise ID") @PathVariable String id,
             @Valid @RequestBody FranchiseDto.UpdateFranchiseRequest request,
+            @CurrentUser User currentUser,
             Authentication authentication) {
         log.info("Updating franchise: {} by user: {}", id, authentication.getName());
 
-        // Get user ID from email
-        User currentUser = userService.getUserByEmail(authentication.getName());
-
         // Convert DTO to entity
         Franchise franchise = mapToFranchise(request);
 
@@ -246,12 +289,10 @@ public class FranchiseController {
     public ResponseEntity<Franchise> toggleFranchiseStatus(
             @Parameter(description = "Franchise ID") @PathVariable String id,
             @Parameter(description = "Is Active") @RequestParam boolean isActive,
+            @CurrentUser User currentUser,
             Authentication authentication) {
         log.info("Toggling franchise status: {} to {} by user: {}", id, isActive, authentication.getName());
 
-        // Get user ID from email
-        User currentUser = userService.getUserByEmail(authentication.getName());
-
         Franchise updatedFranchise = franchiseService.toggleFranchiseStatus(id, isActive, currentUser.getId());
         return ResponseEntity.ok(updatedFranchise);
     }
@@ -267,12 +308,10 @@ public class FranchiseController {
     @PreAuthorize("hasRole('BUSINESS')")
     public ResponseEntity<Void> deleteFranchise(
             @Parameter(description = "Franchise ID") @PathVariable String id,
+            @CurrentUser User currentUser,
             Authentication authentication) {
         log.info("Deleting franchise: {} by user: {}", id, authentication.getName());
 
-        // Get user ID from email
-        User currentUser = userService.getUserByEmail(authentication.getName());
-
         franchiseService.deleteFranchise(id, currentUser.getId());
         return ResponseEntity.noContent().build();
     }
@@ -317,6 +356,7 @@ public class FranchiseController {
     @PreAuthorize("hasRole('BUSINESS') or hasRole('ADMIN')")
     public ResponseEntity<FranchiseDto.PerformanceMetrics> getFranchisePerformanceMetrics(
             @Parameter(description = "Franchise ID") @PathVariable String id,
+            @CurrentUser User currentUser,
             Authentication authentication) {
         log.info("Getting performance metrics for franchise: {} by user: {}", id, authentication.getName());
 
@@ -324,8 +364,6 @@ public class FranchiseController {
 
         // Verify ownership for business users (admins can access all)
         if (!authentication.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"))) {
-            // Get user ID from email for comparison
-            User currentUser = userService.getUserByEmail(authentication.getName());
             if (!franchise.getBusinessOwnerId().equals(currentUser.getId())) {
                 throw new BadRequestException("You can only view performance metrics for your own franchises");
             }
@@ -1,8 +1,13 @@
 package com.franchisehub.api.controller;
 
 import com.franchisehub.api.model.Notification;
+import com.franchisehub.api.model.User;
+import com.franchisehub.api.security.CurrentUser;
 import com.franchisehub.api.service.NotificationService;
+import com.franchisehub.api.service.NotificationFanOutService;
 import com.franchisehub.api.dto.NotificationDto;
+import com.franchisehub.api.dto.CursorDto;
+import com.franchisehub.api.web.StreamingJson;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -20,8 +25,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/notifications")
@@ -31,8 +35,10 @@ import java.util.List;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationFanOutService notificationFanOutService;
+    private final StreamingJson streamingJson;
 
-    @Operation(summary = "Get all notifications", description = "Retrieve all notifications (Admin only)")
+    @Operation(summary = "Get all notifications", description = "Retrieve all notifications as list rows without metadata (Admin only)")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved notifications"),
         @ApiResponse(responseCode = "401", description = "Unauthorized"),
@@ -40,10 +46,10 @@ public class NotificationController {
     })
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Page<Notification>> getAllNotifications(
+    public ResponseEntity<Page<NotificationDto.NotificationSummary>> getAllNotificationSummaries(
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        log.info("Getting all notifications with pagination: {}", pageable);
-        Page<Notification> notifications = notificationService.getAllNotifications(pageable);
+        log.info("Getting all notification summaries with pagination: {}", pageable);
+        Page<NotificationDto.NotificationSummary> notifications = notificationService.getAllNotificationSummaries(pageable);
         return ResponseEntity.ok(notifications);
     }
 
@@ -63,7 +69,7 @@ public class NotificationController {
         return ResponseEntity.ok(notification);
     }
 
-    @Operation(summary = "Get notifications by user", description = "Retrieve notifications for a specific user")
+    @Operation(summary = "Get notifications by user", description = "Retrieve notifications for a specific user as list rows")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved notifications"),
         @ApiResponse(responseCode = "401", description = "Unauthorized"),
@@ -71,25 +77,42 @@ public class NotificationController {
     })
     @GetMapping("/user/{userId}")
     @PreAuthorize("hasRole('ADMIN') or #userId == authentication.name")
-    public ResponseEntity<Page<Notification>> getNotificationsByUser(
+    public ResponseEntity<Page<NotificationDto.NotificationSummary>> getNotificationSummariesByUser(
             @Parameter(description = "User ID") @PathVariable String userId,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        log.info("Getting notifications by user: {} with pagination: {}", userId, pageable);
-        Page<Notification> notifications = notificationService.getNotificationsByUserId(userId, pageable);
+        log.info("Getting notification summaries by user: {} with pagination: {}", userId, pageable);
+        Page<NotificationDto.NotificationSummary> notifications = notificationService.getNotificationSummariesByUserId(userId, pageable);
         return ResponseEntity.ok(notifications);
     }
 
-    @Operation(summary = "Get my notifications", description = "Retrieve notifications for the current user")
+    @Operation(summary = "Get my notifications", description = "Retrieve notifications for the current user as list rows")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved notifications"),
         @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     @GetMapping("/me")
-    public ResponseEntity<Page<Notification>> getMyNotifications(
+    public ResponseEntity<Page<NotificationDto.NotificationSummary>> getMyNotificationSummaries(
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
-            Authentication authentication) {
-        log.info("Getting notifications for user: {} with pagination: {}", authentication.getName(), pageable);
-        Page<Notification> notifications = notificationService.getNotificationsByUserId(authentication.getName(), pageable);
+            @CurrentUser User currentUser, Authentication authentication) {
+        log.info("Getting notification summaries for user: {} with pagination: {}", authentication.getName(), pageable);
+        Page<NotificationDto.NotificationSummary> notifications = notificationService.getNotificationSummariesByUserId(currentUser.getId(), pageable);
+        return ResponseEntity.ok(notifications);
+    }
+
+    @Operation(summary = "Get my notifications (cursor)", description = "Retrieve notifications for the current user, newest first, using an opaque cursor instead of page numbers")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved notifications"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @GetMapping(value = "/me", params = "cursor")
+    public ResponseEntity<CursorDto.CursorPage<Notification>> getMyNotificationsByCursor(
+            @Parameter(description = "Cursor from the previous page, empty for the first page") @RequestParam String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam(required = false) Integer size,
+            @CurrentUser User currentUser, Authentication authentication) {
+        log.info("Getting notifications for user: {} after cursor: {}", authentication.getName(), cursor);
+        CursorDto.CursorPage<Notification> notifications = notificationService.getNotificationsByUserId(
+                currentUser.getId(), cursor, CursorDto.normalizeSize(size));
         return ResponseEntity.ok(notifications);
     }
 
@@ -99,28 +122,29 @@ public class NotificationController {
         @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     @GetMapping("/me/unread")
-    public ResponseEntity<List<Notification>> getUnreadNotifications(Authentication authentication) {
+    public ResponseEntity<StreamingResponseBody> getUnreadNotifications(@CurrentUser User currentUser, Authentication authentication) {
         log.info("Getting unread notifications for user: {}", authentication.getName());
-        List<Notification> notifications = notificationService.getUnreadNotificationsByUserId(authentication.getName());
-        return ResponseEntity.ok(notifications);
+        // Unbounded: written as the rows are read instead of collected into a list
+        String userId = currentUser.getId();
+        return streamingJson.array(() -> notificationService.streamUnreadNotificationSummariesByUserId(userId));
     }
 
-    @Operation(summary = "Get notifications by status", description = "Retrieve notifications by status for the current user")
+    @Operation(summary = "Get notifications by status", description = "Retrieve notifications by status for the current user as list rows")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved notifications"),
         @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     @GetMapping("/me/status/{status}")
-    public ResponseEntity<Page<Notification>> getNotificationsByStatus(
+    public ResponseEntity<Page<NotificationDto.NotificationSummary>> getNotificationSummariesByStatus(
             @Parameter(description = "Notification Status") @PathVariable Notification.NotificationStatus status,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
-            Authentication authentication) {
-        log.info("Getting notifications by status: {} for user: {} with pagination: {}", status, authentication.getName(), pageable);
-        Page<Notification> notifications = notificationService.getNotificationsByUserIdAndStatus(authentication.getName(), status, pageable);
+            @CurrentUser User currentUser, Authentication authentication) {
+        log.info("Getting notification summaries by status: {} for user: {} with pagination: {}", status, authentication.getName(), pageable);
+        Page<NotificationDto.NotificationSummary> notifications = notificationService.getNotificationSummariesByUserIdAndStatus(currentUser.getId(), status, pageable);
         return ResponseEntity.ok(notifications);
     }
 
-    @Operation(summary = "Get notifications by type", description = "Retrieve notifications by type (Admin only)")
+    @Operation(summary = "Get notifications by type", description = "Retrieve notifications by type as list rows (Admin only)")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved notifications"),
         @ApiResponse(responseCode = "401", description = "Unauthorized"),
@@ -128,15 +152,15 @@ public class NotificationController {
     })
     @GetMapping("/type/{type}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Page<Notification>> getNotificationsByType(
+    public ResponseEntity<Page<NotificationDto.NotificationSummary>> getNotificationSummariesByType(
             @Parameter(description = "Notification Type") @PathVariable Notification.NotificationType type,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        log.info("Getting notifications by type: {} with pagination: {}", type, pageable);
-        Page<Notification> notifications = notificationService.getNotificationsByType(type, pageable);
+        log.info("Getting notification summaries by type: {} with pagination: {}", type, pageable);
+        Page<NotificationDto.NotificationSummary> notifications = notificationService.getNotificationSummariesByType(type, pageable);
         return ResponseEntity.ok(notifications);
     }
 
-    @Operation(summary = "Get notifications by priority", description = "Retrieve notifications by priority (Admin only)")
+    @Operation(summary = "Get notifications by priority", description = "Retrieve notifications by priority as list rows (Admin only)")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved notifications"),
         @ApiResponse(responseCode = "401", description = "Unauthorized"),
@@ -144,11 +168,11 @@ public class NotificationController {
     })
     @GetMapping("/priority/{priority}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Page<Notification>> getNotificationsByPriority(
+    public ResponseEntity<Page<NotificationDto.NotificationSummary>> getNotificationSummariesByPriority(
             @Parameter(description = "Notification Priority") @PathVariable Notification.NotificationPriority priority,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        log.info("Getting notifications by priority: {} with pagination: {}", priority, pageable);
-        Page<Notification> notifications = notificationService.getNotificationsByPriority(priority, pageable);
+        log.info("Getting notification summaries by priority: {} with pagination: {}", priority, pageable);
+        Page<NotificationDto.NotificationSummary> notifications = notificationService.getNotificationSummariesByPriority(priority, pageable);
         return ResponseEntity.ok(notifications);
     }
 
@@ -228,6 +252,28 @@ public class NotificationController {
         return ResponseEntity.status(HttpStatus.CREATED).body(notification);
     }
 
+    @Operation(summary = "Send bulk notification", description = "Send the same notification to a list of users in batches (Admin only)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Notifications created successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid notification data"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Admin only")
+    })
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<NotificationDto.BulkNotificationResult> sendBulkNotification(
+            @Valid @RequestBody NotificationDto.BulkNotificationRequest request) {
+        log.info("Sending bulk {} notification to {} users", request.getType(), request.getUserIds().size());
+
+        var progress = notificationFanOutService.sendToUsers(request.getUserIds(),
+                notificationFanOutService.toTemplate(request),
+                p -> log.info("Bulk notification progress: {} of {} recipients processed",
+                        p.getScanned(), request.getUserIds().size()));
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(new NotificationDto.BulkNotificationResult(
+                request.getUserIds().size(), progress.getInserted(), progress.getChunks()));
+    }
+
     @Operation(summary = "Mark notification as read", description = "Mark a notification as read")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Notification marked as read successfully"),
@@ -239,10 +285,10 @@ public class NotificationController {
     @PreAuthorize("@notificationService.isNotificationOwner(#id, authentication.name)")
     public ResponseEntity<Notification> markAsRead(
             @Parameter(description = "Notification ID") @PathVariable String id,
-            Authentication authentication) {
+            @CurrentUser User currentUser, Authentication authentication) {
         log.info("Marking notification as read: {} by user: {}", id, authentication.getName());
         
-        Notification notification = notificationService.markAsRead(id, authentication.getName());
+        Notification notification = notificationService.markAsRead(id, currentUser.getId());
         return ResponseEntity.ok(notification);
     }
 
@@ -252,10 +298,10 @@ public class NotificationController {
         @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     @PostMapping("/me/read-all")
-    public ResponseEntity<Void> markAllAsRead(Authentication authentication) {
+    public ResponseEntity<Void> markAllAsRead(@CurrentUser User currentUser, Authentication authentication) {
         log.info("Marking all notifications as read for user: {}", authentication.getName());
         
-        notificationService.markAllAsReadForUser(authentication.getName());
+        notificationService.markAllAsReadForUser(currentUser.getId());
         return ResponseEntity.ok().build();
     }
 
@@ -270,10 +316,10 @@ public class NotificationController {
     @PreAuthorize("@notificationService.isNotificationOwner(#id, authentication.name)")
     public ResponseEntity<Void> deleteNotification(
             @Parameter(description = "Notification ID") @PathVariable String id,
-            Authentication authentication) {
+            @CurrentUser User currentUser, Authentication authentication) {
         log.info("Deleting notification: {} by user: {}", id, authentication.getName());
         
-        notificationService.deleteNotification(id, authentication.getName());
+        notificationService.deleteNotification(id, currentUser.getId());
         return ResponseEntity.noContent().build();
     }
 
@@ -283,10 +329,10 @@ public class NotificationController {
         @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     @DeleteMapping("/me/read")
-    public ResponseEntity<Void> deleteAllReadNotifications(Authentication authentication) {
+    public ResponseEntity<Void> deleteAllReadNotifications(@CurrentUser User currentUser, Authentication authentication) {
         log.info("Deleting all read notifications for user: {}", authentication.getName());
         
-        notificationService.deleteAllReadNotificationsForUser(authentication.getName());
+        notificationService.deleteAllReadNotificationsForUser(currentUser.getId());
         return ResponseEntity.noContent().build();
     }
 
@@ -296,10 +342,10 @@ public class NotificationController {
         @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     @GetMapping("/me/unread/count")
-    public ResponseEntity<Long> getUnreadNotificationCount(Authentication authentication) {
+    public ResponseEntity<Long> getUnreadNotificationCount(@CurrentUser User currentUser, Authentication authentication) {
         log.info("Getting unread notification count for user: {}", authentication.getName());
         
-        long count = notificationService.getUnreadNotificationCount(authentication.getName());
+        long count = notificationService.getUnreadNotificationCount(currentUser.getId());
         return ResponseEntity.ok(count);
     }
 
@@ -323,9 +369,9 @@ public class NotificationController {
         @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     @GetMapping("/me/stats")
-    public ResponseEntity<NotificationService.NotificationStats> getMyNotificationStats(Authentication authentication) {
+    public ResponseEntity<NotificationService.NotificationStats> getMyNotificationStats(@CurrentUser User currentUser, Authentication authentication) {
         log.info("Getting notification statistics for user: {}", authentication.getName());
-        NotificationService.NotificationStats stats = notificationService.getNotificationStatsByUser(authentication.getName());
+        NotificationService.NotificationStats stats = notificationService.getNotificationStatsByUser(currentUser.getId());
         return ResponseEntity.ok(stats);
     }
 
@@ -1,11 +1,13 @@
 package com.franchisehub.api.controller;
 
+import com.franchisehub.api.cache.ConditionalGet;
 import com.franchisehub.api.model.PaymentTransaction;
 import com.franchisehub.api.model.PaymentRequest;
 import com.franchisehub.api.model.User;
+import com.franchisehub.api.security.CurrentUser;
 import com.franchisehub.api.service.PaymentService;
-import com.franchisehub.api.service.UserService;
 import com.franchisehub.api.dto.PaymentDto;
+import com.franchisehub.api.dto.CursorDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -24,6 +26,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequestMapping("/payments")
@@ -33,37 +39,65 @@ import org.springframework.web.bind.annotation.*;
 public class PaymentController {
 
     private final PaymentService paymentService;
-    private final UserService userService;
+    private final ConditionalGet conditionalGet;
 
     // ==================== PAYMENT TRANSACTIONS ====================
 
-    @Operation(summary = "Get all transactions", description = "Retrieve all payment transactions (Admin only)")
+    @Operation(summary = "Get transactions", description = "Retrieve payment transactions as list rows, for an application or all (Admin only)")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved transactions"),
         @ApiResponse(responseCode = "401", description = "Unauthorized"),
         @ApiResponse(responseCode = "403", description = "Forbidden - Admin only")
     })
     @GetMapping("/transactions")
-    public ResponseEntity<Page<PaymentTransaction>> getTransactions(
+    public ResponseEntity<Page<PaymentDto.TransactionSummary>> getTransactionSummaries(
             @RequestParam(required = false) String applicationId,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             Authentication authentication) {
 
         if (applicationId != null) {
-            log.info("Getting payment transactions for application: {} by user: {}", applicationId, authentication.getName());
-            Page<PaymentTransaction> transactions = paymentService.getTransactionsByApplication(applicationId, authentication.getName(), pageable);
+            log.info("Getting payment transaction summaries for application: {} by user: {}", applicationId, authentication.getName());
+            Page<PaymentDto.TransactionSummary> transactions = paymentService.getTransactionSummariesByApplication(applicationId, authentication.getName(), pageable);
             return ResponseEntity.ok(transactions);
         } else {
             // Admin-only access for all payment transactions
             if (!authentication.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"))) {
                 throw new AccessDeniedException("Access denied");
             }
-            log.info("Getting all payment transactions with pagination: {}", pageable);
-            Page<PaymentTransaction> transactions = paymentService.getAllTransactions(pageable);
+            log.info("Getting all payment transaction summaries with pagination: {}", pageable);
+            Page<PaymentDto.TransactionSummary> transactions = paymentService.getAllTransactionSummaries(pageable);
             return ResponseEntity.ok(transactions);
         }
     }
 
+    @Operation(summary = "Get transactions (cursor)", description = "Retrieve payment transactions, newest first, using an opaque cursor instead of page numbers")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved transactions"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Admin only")
+    })
+    @GetMapping(value = "/transactions", params = "cursor")
+    public ResponseEntity<CursorDto.CursorPage<PaymentDto.TransactionSummary>> getTransactionSummariesByCursor(
+            @RequestParam(required = false) String applicationId,
+            @Parameter(description = "Cursor from the previous page, empty for the first page") @RequestParam String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam(required = false) Integer size,
+            Authentication authentication) {
+        int pageSize = CursorDto.normalizeSize(size);
+
+        if (applicationId != null) {
+            log.info("Getting payment transaction summaries for application: {} by user: {} after cursor: {}", applicationId, authentication.getName(), cursor);
+            return ResponseEntity.ok(paymentService.getTransactionSummariesByApplication(applicationId, authentication.getName(), cursor, pageSize));
+        } else {
+            // Admin-only access for all payment transactions
+            if (!authentication.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"))) {
+                throw new AccessDeniedException("Access denied");
+            }
+            log.info("Getting all payment transaction summaries after cursor: {}", cursor);
+            return ResponseEntity.ok(paymentService.getAllTransactionSummaries(cursor, pageSize));
+        }
+    }
+
     @Operation(summary = "Get transaction by ID", description = "Retrieve a specific payment transaction by its ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved transaction"),
@@ -80,7 +114,7 @@ public class PaymentController {
         return ResponseEntity.ok(transaction);
     }
 
-    @Operation(summary = "Get transactions by user", description = "Retrieve payment transactions for a specific user")
+    @Operation(summary = "Get transactions by user", description = "Retrieve payment transactions for a specific user as list rows")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved transactions"),
         @ApiResponse(responseCode = "401", description = "Unauthorized"),
@@ -88,15 +122,15 @@ public class PaymentController {
     })
     @GetMapping("/transactions/user/{userId}")
     @PreAuthorize("hasRole('ADMIN') or #userId == authentication.name")
-    public ResponseEntity<Page<PaymentTransaction>> getTransactionsByUser(
+    public ResponseEntity<Page<PaymentDto.TransactionSummary>> getTransactionSummariesByUser(
             @Parameter(description = "User ID") @PathVariable String userId,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        log.info("Getting payment transactions by user: {} with pagination: {}", userId, pageable);
-        Page<PaymentTransaction> transactions = paymentService.getTransactionsByUserId(userId, pageable);
+        log.info("Getting payment transaction summaries by user: {} with pagination: {}", userId, pageable);
+        Page<PaymentDto.TransactionSummary> transactions = paymentService.getTransactionSummariesByUserId(userId, pageable);
         return ResponseEntity.ok(transactions);
     }
 
-    @Operation(summary = "Get transactions by franchise", description = "Retrieve payment transactions for a specific franchise")
+    @Operation(summary = "Get transactions by franchise", description = "Retrieve payment transactions for a specific franchise as list rows")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved transactions"),
         @ApiResponse(responseCode = "401", description = "Unauthorized"),
@@ -104,34 +138,34 @@ public class PaymentController {
     })
     @GetMapping("/transactions/franchise/{franchiseId}")
     @PreAuthorize("hasRole('ADMIN') or @franchiseService.isFranchiseOwner(#franchiseId, authentication.name)")
-    public ResponseEntity<Page<PaymentTransaction>> getTransactionsByFranchise(
+    public ResponseEntity<Page<PaymentDto.TransactionSummary>> getTransactionSummariesByFranchise(
             @Parameter(description = "Franchise ID") @PathVariable String franchiseId,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        log.info("Getting payment transactions by franchise: {} with pagination: {}", franchiseId, pageable);
-        Page<PaymentTransaction> transactions = paymentService.getTransactionsByFranchiseId(franchiseId, pageable);
+        log.info("Getting payment transaction summaries by franchise: {} with pagination: {}", franchiseId, pageable);
+        Page<PaymentDto.TransactionSummary> transactions = paymentService.getTransactionSummariesByFranchiseId(franchiseId, pageable);
         return ResponseEntity.ok(transactions);
     }
 
-    @Operation(summary = "Get transactions by status", description = "Retrieve payment transactions by status")
+    @Operation(summary = "Get transactions by status", description = "Retrieve payment transactions by status as list rows")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved transactions"),
         @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     @GetMapping("/transactions/status/{status}")
-    public ResponseEntity<Page<PaymentTransaction>> getTransactionsByStatus(
+    public ResponseEntity<Page<PaymentDto.TransactionSummary>> getTransactionSummariesByStatus(
             @Parameter(description = "Transaction Status") @PathVariable PaymentTransaction.TransactionStatus status,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             Authentication authentication) {
-        log.info("Getting payment transactions by status: {} with pagination: {}", status, pageable);
-        
+        log.info("Getting payment transaction summaries by status: {} with pagination: {}", status, pageable);
+
         // Filter by user role
-        Page<PaymentTransaction> transactions;
+        Page<PaymentDto.TransactionSummary> transactions;
         if (authentication.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"))) {
-            transactions = paymentService.getTransactionsByStatus(status, pageable);
+            transactions = paymentService.getTransactionSummariesByStatus(status, pageable);
         } else {
-            transactions = paymentService.getTransactionsByUserId(authentication.getName(), pageable);
+            transactions = paymentService.getTransactionSummariesByUserId(authentication.getName(), pageable);
         }
-        
+
         return ResponseEntity.ok(transactions);
     }
 
@@ -144,12 +178,10 @@ public class PaymentController {
     @PostMapping("/transactions")
     public ResponseEntity<PaymentTransaction> createTransaction(
             @Valid @RequestBody PaymentDto.CreateTransactionRequest request,
+            @CurrentUser User currentUser,
             Authentication authentication) {
         log.info("Creating payment transaction by user: {}", authentication.getName());
 
-        // Get user ID from email
-        User currentUser = userService.getUserByEmail(authentication.getName());
-
         // Convert DTO to entity
         PaymentTransaction transaction = mapToTransaction(request);
 
@@ -198,29 +230,29 @@ public class PaymentController {
 
     // ==================== PAYMENT REQUESTS ====================
 
-    @Operation(summary = "Get all payment requests", description = "Retrieve all payment requests (Admin only)")
+    @Operation(summary = "Get payment requests", description = "Retrieve payment requests as list rows, for one or more applications or all (Admin only)")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved payment requests"),
         @ApiResponse(responseCode = "401", description = "Unauthorized"),
         @ApiResponse(responseCode = "403", description = "Forbidden - Admin only")
     })
     @GetMapping("/requests")
-    public ResponseEntity<Page<PaymentRequest>> getPaymentRequests(
-            @RequestParam(required = false) String applicationId,
+    public ResponseEntity<Page<PaymentDto.PaymentRequestSummary>> getPaymentRequestSummaries(
+            @Parameter(description = "Application IDs, repeated or comma-separated") @RequestParam(required = false) List<String> applicationId,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             Authentication authentication) {
 
-        if (applicationId != null) {
-            log.info("Getting payment requests for application: {} by user: {}", applicationId, authentication.getName());
-            Page<PaymentRequest> requests = paymentService.getPaymentRequestsByApplication(applicationId, authentication.getName(), pageable);
+        if (applicationId != null && !applicationId.isEmpty()) {
+            log.info("Getting payment request summaries for applications: {} by user: {}", applicationId, authentication.getName());
+            Page<PaymentDto.PaymentRequestSummary> requests = paymentService.getPaymentRequestSummariesByApplications(applicationId, authentication.getName(), pageable);
             return ResponseEntity.ok(requests);
         } else {
             // Admin-only access for all payment requests
             if (!authentication.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"))) {
                 throw new AccessDeniedException("Access denied");
             }
-            log.info("Getting all payment requests with pagination: {}", pageable);
-            Page<PaymentRequest> requests = paymentService.getAllPaymentRequests(pageable);
+            log.info("Getting all payment request summaries with pagination: {}", pageable);
+            Page<PaymentDto.PaymentRequestSummary> requests = paymentService.getAllPaymentRequestSummaries(pageable);
             return ResponseEntity.ok(requests);
         }
     }
@@ -228,6 +260,7 @@ public class PaymentController {
     @Operation(summary = "Get payment request by ID", description = "Retrieve a specific payment request by its ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved payment request"),
+        @ApiResponse(responseCode = "304", description = "Payment request not modified since the given ETag or date"),
         @ApiResponse(responseCode = "404", description = "Payment request not found"),
         @ApiResponse(responseCode = "401", description = "Unauthorized"),
         @ApiResponse(responseCode = "403", description = "Forbidden")
@@ -235,13 +268,15 @@ public class PaymentController {
     @GetMapping("/requests/{id}")
     @PreAuthorize("hasRole('ADMIN') or @paymentService.isPaymentRequestParticipant(#id, authentication.name)")
     public ResponseEntity<PaymentRequest> getPaymentRequestById(
-            @Parameter(description = "Payment Request ID") @PathVariable String id) {
+            @Parameter(description = "Payment Request ID") @PathVariable String id,
+            WebRequest webRequest) {
         log.info("Getting payment request by ID: {}", id);
-        PaymentRequest request = paymentService.getPaymentRequestById(id);
-        return ResponseEntity.ok(request);
+        LocalDateTime lastModified = paymentService.getPaymentRequestLastModified(id).orElse(null);
+        return conditionalGet.personal(webRequest, ConditionalGet.version(id, lastModified), lastModified,
+                () -> paymentService.getPaymentRequestById(id));
     }
 
-    @Operation(summary = "Get payment requests sent to user", description = "Retrieve payment requests sent to a specific user")
+    @Operation(summary = "Get payment requests sent to user", description = "Retrieve payment requests sent to a specific user as list rows")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved payment requests"),
         @ApiResponse(responseCode = "401", description = "Unauthorized"),
@@ -249,15 +284,15 @@ public class PaymentController {
     })
     @GetMapping("/requests/to/{userId}")
     @PreAuthorize("hasRole('ADMIN') or #userId == authentication.name")
-    public ResponseEntity<Page<PaymentRequest>> getPaymentRequestsByRecipient(
+    public ResponseEntity<Page<PaymentDto.PaymentRequestSummary>> getPaymentRequestSummariesByRecipient(
             @Parameter(description = "User ID") @PathVariable String userId,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        log.info("Getting payment requests by recipient: {} with pagination: {}", userId, pageable);
-        Page<PaymentRequest> requests = paymentService.getPaymentRequestsByRecipient(userId, pageable);
+        log.info("Getting payment request summaries by recipient: {} with pagination: {}", userId, pageable);
+        Page<PaymentDto.PaymentRequestSummary> requests = paymentService.getPaymentRequestSummariesByRecipient(userId, pageable);
         return ResponseEntity.ok(requests);
     }
 
-    @Operation(summary = "Get payment requests sent by user", description = "Retrieve payment requests sent by a specific user")
+    @Operation(summary = "Get payment requests sent by user", description = "Retrieve payment requests sent by a specific user as list rows")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved payment requests"),
         @ApiResponse(responseCode = "401", description = "Unauthorized"),
@@ -265,35 +300,34 @@ public class PaymentController {
     })
     @GetMapping("/requests/from/{userId}")
     @PreAuthorize("hasRole('ADMIN') or #userId == authentication.name")
-    public ResponseEntity<Page<PaymentRequest>> getPaymentRequestsBySender(
+    public ResponseEntity<Page<PaymentDto.PaymentRequestSummary>> getPaymentRequestSummariesBySender(
             @Parameter(description = "User ID") @PathVariable String userId,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        log.info("Getting payment requests by sender: {} with pagination: {}", userId, pageable);
-        Page<PaymentRequest> requests = paymentService.getPaymentRequestsBySender(userId, pageable);
+        log.info("Getting payment request summaries by sender: {} with pagination: {}", userId, pageable);
+        Page<PaymentDto.PaymentRequestSummary> requests = paymentService.getPaymentRequestSummariesBySender(userId, pageable);
         return ResponseEntity.ok(requests);
     }
 
-    @Operation(summary = "Get payment requests by status", description = "Retrieve payment requests by status")
+    @Operation(summary = "Get payment requests by status", description = "Retrieve payment requests by status as list rows")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved payment requests"),
         @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     @GetMapping("/requests/status/{status}")
-    public ResponseEntity<Page<PaymentRequest>> getPaymentRequestsByStatus(
+    public ResponseEntity<Page<PaymentDto.PaymentRequestSummary>> getPaymentRequestSummariesByStatus(
             @Parameter(description = "Payment Request Status") @PathVariable PaymentRequest.PaymentRequestStatus status,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             Authentication authentication) {
-        log.info("Getting payment requests by status: {} with pagination: {}", status, pageable);
-        
+        log.info("Getting payment request summaries by status: {} with pagination: {}", status, pageable);
+
         // Filter by user role
-        Page<PaymentRequest> requests;
+        Page<PaymentDto.PaymentRequestSummary> requests;
         if (authentication.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"))) {
-            requests = paymentService.getPaymentRequestsByStatus(status, pageable);
+            requests = paymentService.getPaymentRequestSummariesByStatus(status, pageable);
         } else {
-            // For non-admin users, get requests where they are either sender or recipient
-            requests = paymentService.getPaymentRequestsByRecipient(authentication.getName(), pageable);
+            requests = paymentService.getPaymentRequestSummariesByRecipient(authentication.getName(), pageable);
         }
-        
+
         return ResponseEntity.ok(requests);
     }
 
@@ -306,12 +340,10 @@ public class PaymentController {
     @PostMapping("/requests")
     public ResponseEntity<PaymentRequest> createPaymentRequest(
             @Valid @RequestBody PaymentDto.CreatePaymentRequestRequest request,
+            @CurrentUser User currentUser,
             Authentication authentication) {
         log.info("Creating payment request by user: {}", authentication.getName());
 
-        // Get user ID from email
-        User currentUser = userService.getUserByEmail(authentication.getName());
-
         // Convert DTO to entity
         PaymentRequest paymentRequest = mapToPaymentRequest(request);
 
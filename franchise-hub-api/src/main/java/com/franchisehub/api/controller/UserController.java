@@ -1,9 +1,12 @@
 package com.franchisehub.api.controller;
 
+import com.franchisehub.api.cache.ConditionalGet;
 import com.franchisehub.api.model.User;
+import com.franchisehub.api.security.CurrentUser;
 import com.franchisehub.api.service.UserService;
 import com.franchisehub.api.dto.UserDto;
 import com.franchisehub.api.exception.BadRequestException;
+import com.franchisehub.api.web.StreamingJson;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -20,8 +23,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/users")
@@ -31,6 +36,8 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final ConditionalGet conditionalGet;
+    private final StreamingJson streamingJson;
 
     @Operation(summary = "Get all users", description = "Retrieve all users with pagination (Admin only)")
     @ApiResponses(value = {
@@ -50,6 +57,7 @@ public class UserController {
     @Operation(summary = "Get user by ID", description = "Retrieve a specific user by their ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved user"),
+        @ApiResponse(responseCode = "304", description = "User not modified since the given ETag or date"),
         @ApiResponse(responseCode = "404", description = "User not found"),
         @ApiResponse(responseCode = "401", description = "Unauthorized"),
         @ApiResponse(responseCode = "403", description = "Forbidden")
@@ -57,22 +65,27 @@ public class UserController {
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or #id == authentication.name")
     public ResponseEntity<User> getUserById(
-            @Parameter(description = "User ID") @PathVariable String id) {
+            @Parameter(description = "User ID") @PathVariable String id,
+            WebRequest webRequest) {
         log.info("Getting user by ID: {}", id);
-        User user = userService.getUserById(id);
-        return ResponseEntity.ok(user);
+        LocalDateTime lastModified = userService.getUserLastModified(id).orElse(null);
+        return conditionalGet.personal(webRequest, ConditionalGet.version(id, lastModified), lastModified,
+                () -> userService.getUserById(id));
     }
 
     @Operation(summary = "Get current user profile", description = "Retrieve the current user's profile")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved user profile"),
+        @ApiResponse(responseCode = "304", description = "Profile not modified since the given ETag or date"),
         @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     @GetMapping("/me")
-    public ResponseEntity<User> getCurrentUser(Authentication authentication) {
-        log.info("Getting current user profile: {}", authentication.getName());
-        User user = userService.getUserById(authentication.getName());
-        return ResponseEntity.ok(user);
+    public ResponseEntity<User> getCurrentUser(@CurrentUser User currentUser, WebRequest webRequest) {
+        log.info("Getting current user profile: {}", currentUser.getEmail());
+        // The authentication name is the email; the principal carries the user ID
+        LocalDateTime lastModified = userService.getUserLastModified(currentUser.getId()).orElse(null);
+        return conditionalGet.personal(webRequest, ConditionalGet.version(currentUser.getId(), lastModified), lastModified,
+                () -> userService.getUserById(currentUser.getId()));
     }
 
     @Operation(summary = "Get users by role", description = "Retrieve users by role (Admin only)")
@@ -114,14 +127,14 @@ public class UserController {
     })
     @GetMapping("/active/role/{role}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<User>> getActiveUsersByRole(
+    public ResponseEntity<StreamingResponseBody> getActiveUsersByRole(
             @Parameter(description = "User Role") @PathVariable User.UserRole role) {
         log.info("Getting active users by role: {}", role);
-        List<User> users = userService.getActiveUsersByRole(role);
-        return ResponseEntity.ok(users);
+        // Unbounded: written as the rows are read instead of collected into a list
+        return streamingJson.array(() -> userService.streamActiveUsersByRole(role));
     }
 
-    @Operation(summary = "Search users", description = "Search users by name or email (Admin only)")
+    @Operation(summary = "Search users", description = "Search users by name, email or company (Admin only). Misspelled words still match; results are ranked by similarity")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved search results"),
         @ApiResponse(responseCode = "400", description = "Invalid search parameters"),
@@ -342,10 +355,9 @@ public class UserController {
     })
     @GetMapping("/recent")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<User>> getRecentUsers() {
+    public ResponseEntity<StreamingResponseBody> getRecentUsers() {
         log.info("Getting recent users");
-        List<User> users = userService.getRecentUsers();
-        return ResponseEntity.ok(users);
+        return streamingJson.array(userService::streamRecentUsers);
     }
 
     // Helper methods for DTO mapping
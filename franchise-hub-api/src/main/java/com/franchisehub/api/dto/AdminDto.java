@@ -131,6 +131,14 @@ public class AdminDto {
         private LocalDateTime expiresAt;
     }
 
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TransferFranchiseOwnershipRequest {
+        @NotBlank(message = "Business owner ID is required")
+        private String businessOwnerId;
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -192,14 +192,18 @@ public class ApplicationDto {
     @AllArgsConstructor
     public static class ApplicationSummary {
         private String id;
+        private String franchiseId;
         private String franchiseName;
+        private String applicantId;
         private String applicantName;
         private String applicantEmail;
         private Application.ApplicationStatus status;
         private Application.PaymentStatus paymentStatus;
         private BigDecimal applicationFee;
         private LocalDateTime submittedAt;
+        // Creation time; applications are created on submission, so this is submittedAt
         private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
     }
 
     @Data
@@ -0,0 +1,95 @@
+package com.franchisehub.api.dto;
+
+import com.franchisehub.api.exception.BadRequestException;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+public class CursorDto {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * Position of the last row of a page: the (timestamp, id) seek key of a feed
+     * ordered by timestamp DESC, id DESC. Serialized as an opaque URL-safe token.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Cursor {
+        private LocalDateTime timestamp;
+        private String id;
+
+        public String encode() {
+            String raw = timestamp + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Decode a cursor token; a null or blank token means "first page".
+         */
+        public static Cursor decode(String token) {
+            if (token == null || token.isBlank()) {
+                return null;
+            }
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                if (separator <= 0 || separator == raw.length() - 1) {
+                    throw new BadRequestException("Invalid cursor");
+                }
+                return new Cursor(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new BadRequestException("Invalid cursor", e);
+            }
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CursorPage<T> {
+        private List<T> content;
+        private int size;
+        private boolean hasNext;
+        private String nextCursor;
+
+        /**
+         * Build a page from rows fetched with {@link #fetchLimit(int)}: the extra
+         * row (if any) only signals that another page exists and is dropped.
+         */
+        public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, Cursor> keyOf) {
+            boolean hasNext = rows.size() > size;
+            List<T> content = hasNext ? rows.subList(0, size) : rows;
+            String nextCursor = hasNext ? keyOf.apply(content.get(content.size() - 1)).encode() : null;
+            return new CursorPage<>(content, content.size(), hasNext, nextCursor);
+        }
+    }
+
+    /**
+     * Clamp a requested page size to [1, MAX_SIZE].
+     */
+    public static int normalizeSize(Integer size) {
+        if (size == null || size < 1) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    /**
+     * Limit for a keyset query: one row more than the page so hasNext needs no count query.
+     */
+    public static Pageable fetchLimit(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+}
@@ -9,7 +9,9 @@ import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public class FranchiseDto {
 
@@ -52,6 +54,76 @@ public class FranchiseDto {
         private String updatedAt;
     }
 
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FranchiseSummary {
+        private String id;
+        private String name;
+        private String description;
+        private Franchise.FranchiseCategory category;
+        private Franchise.FranchiseStatus status;
+        private String businessOwnerId;
+        private String businessOwnerName;
+        private String logo;
+        private BigDecimal franchiseFee;
+        private BigDecimal royaltyFee;
+        private BigDecimal minInvestment;
+        private BigDecimal maxInvestment;
+        private Integer totalUnits;
+        private LocalDateTime createdAt;
+    }
+
+    // Partner catalog card: the list row plus the images and territories the card shows
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FranchiseCard {
+        private String id;
+        private String name;
+        private String description;
+        private Franchise.FranchiseCategory category;
+        private Franchise.FranchiseStatus status;
+        private String businessOwnerId;
+        private String businessOwnerName;
+        private String logo;
+        private List<String> images;
+        private BigDecimal franchiseFee;
+        private BigDecimal royaltyFee;
+        private BigDecimal minInvestment;
+        private BigDecimal maxInvestment;
+        private Integer totalUnits;
+        private List<String> availableTerritories;
+        private LocalDateTime createdAt;
+    }
+
+    // Text fields the in-memory search index is built from
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SearchDocument {
+        private String id;
+        private Franchise.FranchiseStatus status;
+        private String name;
+        private String businessOwnerName;
+        private String description;
+    }
+
+    // Scalar fields the in-memory facet index is built from; states are loaded separately
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FacetDocument {
+        private String id;
+        private Franchise.FranchiseStatus status;
+        private String name;
+        private Franchise.FranchiseCategory category;
+        private BigDecimal franchiseFee;
+        private BigDecimal minInvestment;
+        private BigDecimal maxInvestment;
+        private LocalDateTime createdAt;
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -159,6 +231,18 @@ public class FranchiseDto {
         private String sortDirection = "DESC";
     }
 
+    // One page of filtered franchises plus, per facet, the result count of each value
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FacetedFilterResponse {
+        private List<FranchiseSummary> content;
+        private int page;
+        private int size;
+        private long totalElements;
+        private Map<String, Map<String, Long>> facets;
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
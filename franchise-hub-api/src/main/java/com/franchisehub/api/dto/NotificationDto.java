@@ -133,6 +133,8 @@ public class NotificationDto {
         private String title;
         private String message;
         private String actionText;
+        private String actionUrl;
+        private LocalDateTime readAt;
         private LocalDateTime createdAt;
         private Boolean isExpired;
     }
@@ -197,6 +199,15 @@ public class NotificationDto {
         private LocalDateTime expiresAt;
     }
 
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BulkNotificationResult {
+        private int requestedRecipients;
+        private long deliveredNotifications;
+        private int chunks;
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
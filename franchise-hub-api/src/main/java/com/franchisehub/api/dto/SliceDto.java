@@ -0,0 +1,42 @@
+package com.franchisehub.api.dto;
+
+import com.franchisehub.api.cache.ApproximateCountCache;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.time.Instant;
+import java.util.List;
+
+public class SliceDto {
+
+    /**
+     * A page fetched without a count query; the total comes from the count cache
+     * and is flagged as approximate once it is older than the freshness window.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SliceResponse<T> {
+        private List<T> content;
+        private int number;
+        private int size;
+        private boolean hasNext;
+        private long totalElements;
+        private boolean totalApproximate;
+        private Instant totalComputedAt;
+
+        public static <T> SliceResponse<T> of(Slice<T> slice, ApproximateCountCache.Estimate total) {
+            return new SliceResponse<>(
+                    slice.getContent(),
+                    slice.getNumber(),
+                    slice.getSize(),
+                    slice.hasNext(),
+                    total.getTotal(),
+                    total.isApproximate(),
+                    total.getComputedAt()
+            );
+        }
+    }
+}
@@ -116,6 +116,18 @@ public class UserDto {
         private LocalDateTime createdAt;
     }
 
+    // Text fields the in-memory user search index is built from
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SearchDocument {
+        private String id;
+        private String firstName;
+        private String lastName;
+        private String email;
+        private String company;
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -0,0 +1,40 @@
+package com.franchisehub.api.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Adds a column an entity maps to a table that was created before the mapping had it.
+ *
+ * Plain SQL cannot do this for both dialects: neither has ADD COLUMN IF NOT EXISTS, and
+ * whether the column is already there depends on who created the table. On a fresh
+ * database V0_1 creates the tables from the current mapping, so the column exists and is
+ * left alone. On a database that predates Flyway the tables came from Hibernate, so the
+ * column is added before ddl-auto=validate checks the schema. Subclasses are Spring beans,
+ * which Spring Boot hands to Flyway next to the SQL migrations; the version comes from the
+ * class name.
+ */
+@Slf4j
+public abstract class AddColumnMigration extends BaseJavaMigration {
+
+    protected void addColumnIfMissing(Context context, String table, String column, String definition)
+            throws SQLException {
+        Connection connection = context.getConnection();
+        try (ResultSet columns = connection.getMetaData().getColumns(connection.getCatalog(), null, table, column)) {
+            if (columns.next()) {
+                log.debug("Column {}.{} already exists", table, column);
+                return;
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE " + table + " ADD COLUMN " + column + " " + definition);
+        }
+        log.info("Added column {}.{}", table, column);
+    }
+}
@@ -0,0 +1,18 @@
+package com.franchisehub.api.migration;
+
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+/**
+ * Application.businessOwnerId and PaymentTransaction.businessOwnerId, backfilled and
+ * indexed by V3
+ */
+@Component
+public class V2_1__Add_business_owner_columns extends AddColumnMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        addColumnIfMissing(context, "applications", "business_owner_id", "VARCHAR(255)");
+        addColumnIfMissing(context, "payment_transactions", "business_owner_id", "VARCHAR(255)");
+    }
+}
@@ -0,0 +1,16 @@
+package com.franchisehub.api.migration;
+
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+/**
+ * User.tokenVersion, backfilled by V4
+ */
+@Component
+public class V3_1__Add_user_token_version extends AddColumnMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        addColumnIfMissing(context, "users", "token_version", "INTEGER");
+    }
+}
@@ -31,6 +31,9 @@ public class Application {
     @Column(nullable = false)
     private String franchiseName;
 
+    // Copy of the franchise's owner so business-owner queries stay on this table
+    private String businessOwnerId;
+
     @Column(nullable = false)
     private String applicantId;
 
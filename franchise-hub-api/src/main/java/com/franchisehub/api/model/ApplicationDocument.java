@@ -1,5 +1,6 @@
 package com.franchisehub.api.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -20,8 +21,11 @@ import java.time.LocalDateTime;
 public class ApplicationDocument {
 
     @Id
+    @TimeOrderedId
     private String id;
 
+    // Back-reference; documents are serialized inside their application
+    @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "application_id", nullable = false)
     private Application application;
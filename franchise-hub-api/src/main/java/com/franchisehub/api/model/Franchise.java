@@ -5,6 +5,9 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -20,8 +23,12 @@ import java.util.List;
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = false)
 @EntityListeners(AuditingEntityListener.class)
+@NamedEntityGraph(name = Franchise.GRAPH_IMAGES, attributeNodes = @NamedAttributeNode("images"))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "franchise")
 public class Franchise {
 
+    public static final String GRAPH_IMAGES = "Franchise.images";
+
     @Id
     private String id;
 
@@ -48,6 +55,8 @@ public class Franchise {
     private String logo;
 
     @ElementCollection
+    @BatchSize(size = 50)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "franchise-collections")
     @CollectionTable(name = "franchise_images", joinColumns = @JoinColumn(name = "franchise_id"))
     @Column(name = "image_url")
     private List<String> images;
@@ -87,11 +96,15 @@ public class Franchise {
 
     // Location and Territory
     @ElementCollection
+    @BatchSize(size = 50)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "franchise-collections")
     @CollectionTable(name = "franchise_territories", joinColumns = @JoinColumn(name = "franchise_id"))
     @Column(name = "territory")
     private List<String> availableTerritories;
 
     @ElementCollection
+    @BatchSize(size = 50)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "franchise-collections")
     @CollectionTable(name = "franchise_states", joinColumns = @JoinColumn(name = "franchise_id"))
     @Column(name = "state")
     private List<String> availableStates;
@@ -142,6 +155,8 @@ public class Franchise {
         private Integer creditScore;
         
         @ElementCollection
+        @BatchSize(size = 50)
+        @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "franchise-collections")
         @CollectionTable(name = "franchise_background_requirements", joinColumns = @JoinColumn(name = "franchise_id"))
         @Column(name = "background_requirement")
         private List<String> background;
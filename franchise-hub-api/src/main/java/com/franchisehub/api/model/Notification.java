@@ -20,6 +20,7 @@ import java.time.LocalDateTime;
 public class Notification {
 
     @Id
+    @TimeOrderedId
     private String id;
 
     @Column(nullable = false)
@@ -22,7 +22,7 @@ import java.time.LocalDateTime;
 public class PaymentTransaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private String id;
 
     @Column(nullable = false)
@@ -31,6 +31,9 @@ public class PaymentTransaction {
     @Column(nullable = false)
     private String franchiseId;
 
+    // Copy of the franchise's owner so business-owner queries stay on this table
+    private String businessOwnerId;
+
     private String applicationId;
 
     private String paymentRequestId;
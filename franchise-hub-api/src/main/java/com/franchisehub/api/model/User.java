@@ -5,6 +5,8 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -23,6 +25,7 @@ import java.util.List;
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = false)
 @EntityListeners(AuditingEntityListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 public class User implements UserDetails {
 
     @Id
@@ -62,6 +65,9 @@ public class User implements UserDetails {
     @Column(nullable = false)
     private Boolean isActive = true;
 
+    // Embedded in issued JWTs; bumping it revokes every token issued before
+    private Integer tokenVersion = 0;
+
     private LocalDateTime lastLoginAt;
 
     @Embedded
@@ -105,6 +111,13 @@ public class User implements UserDetails {
         return isActive;
     }
 
+    /**
+     * Invalidate every token issued to the user so far; takes effect once the user is saved
+     */
+    public void revokeTokens() {
+        tokenVersion = (tokenVersion != null ? tokenVersion : 0) + 1;
+    }
+
     public enum UserRole {
         BUSINESS, PARTNER, ADMIN
     }
@@ -1,19 +1,44 @@
 package com.franchisehub.api.repository;
 
+import com.franchisehub.api.dto.ApplicationDto;
 import com.franchisehub.api.model.Application;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, String> {
 
+    // List-view projection: only the columns ApplicationDto.ApplicationSummary needs
+    String SUMMARY_SELECT = "SELECT new com.franchisehub.api.dto.ApplicationDto$ApplicationSummary(" +
+           "a.id, a.franchiseId, a.franchiseName, a.applicantId, a.applicantName, a.applicantEmail, " +
+           "a.status, a.paymentStatus, a.applicationFee, a.submittedAt, a.submittedAt, a.updatedAt) FROM Application a ";
+
+    String OWNER_SEARCH_CONDITIONS = "a.businessOwnerId = :businessOwnerId AND a.isActive = true AND " +
+           "(:status IS NULL OR a.status = :status) AND " +
+           "(:paymentStatus IS NULL OR a.paymentStatus = :paymentStatus) AND " +
+           "(:submittedFrom IS NULL OR a.submittedAt >= :submittedFrom) AND " +
+           "(:submittedTo IS NULL OR a.submittedAt < :submittedTo) AND " +
+           "(:search IS NULL OR " +
+           "LOWER(a.applicantName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(a.applicantEmail) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(a.franchiseName) LIKE LOWER(CONCAT('%', :search, '%')))";
+
+    String LIKE_SEARCH_CONDITIONS = "a.isActive = true AND " +
+           "(LOWER(a.applicantName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(a.applicantEmail) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(a.franchiseName) LIKE LOWER(CONCAT('%', :search, '%')))";
+
     List<Application> findByApplicantId(String applicantId);
 
     Page<Application> findByApplicantId(String applicantId, Pageable pageable);
@@ -26,24 +51,20 @@ public interface ApplicationRepository extends JpaRepository<Application, String
 
     Page<Application> findByStatus(Application.ApplicationStatus status, Pageable pageable);
 
-    @Query("SELECT a FROM Application a WHERE a.franchiseId IN " +
-           "(SELECT f.id FROM Franchise f WHERE f.businessOwnerId = :businessOwnerId)")
+    @Query("SELECT a FROM Application a WHERE a.businessOwnerId = :businessOwnerId")
     List<Application> findByBusinessOwnerId(@Param("businessOwnerId") String businessOwnerId);
 
-    @Query("SELECT a FROM Application a WHERE a.franchiseId IN " +
-           "(SELECT f.id FROM Franchise f WHERE f.businessOwnerId = :businessOwnerId)")
+    @Query("SELECT a FROM Application a WHERE a.businessOwnerId = :businessOwnerId")
     Page<Application> findByBusinessOwnerId(@Param("businessOwnerId") String businessOwnerId, Pageable pageable);
 
-    @Query("SELECT a FROM Application a WHERE a.franchiseId IN " +
-           "(SELECT f.id FROM Franchise f WHERE f.businessOwnerId = :businessOwnerId) " +
+    @Query("SELECT a FROM Application a WHERE a.businessOwnerId = :businessOwnerId " +
            "AND a.status = :status")
     List<Application> findByBusinessOwnerIdAndStatus(
         @Param("businessOwnerId") String businessOwnerId, 
         @Param("status") Application.ApplicationStatus status
     );
 
-    @Query("SELECT a FROM Application a WHERE a.franchiseId IN " +
-           "(SELECT f.id FROM Franchise f WHERE f.businessOwnerId = :businessOwnerId) " +
+    @Query("SELECT a FROM Application a WHERE a.businessOwnerId = :businessOwnerId " +
            "AND a.status = :status")
     Page<Application> findByBusinessOwnerIdAndStatus(
         @Param("businessOwnerId") String businessOwnerId, 
@@ -59,12 +80,10 @@ public interface ApplicationRepository extends JpaRepository<Application, String
     @Query("SELECT a FROM Application a WHERE a.isActive = true ORDER BY a.submittedAt DESC")
     Page<Application> findActiveApplications(Pageable pageable);
 
-    @Query("SELECT a FROM Application a WHERE " +
-           "a.isActive = true AND " +
-           "(LOWER(a.applicantName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-           "LOWER(a.applicantEmail) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-           "LOWER(a.franchiseName) LIKE LOWER(CONCAT('%', :search, '%')))")
-    Page<Application> searchActiveApplications(@Param("search") String search, Pageable pageable);
+    // LIKE full-text search provider: ids only, the caller loads the rows
+    @Query(value = "SELECT a.id FROM Application a WHERE " + LIKE_SEARCH_CONDITIONS,
+           countQuery = "SELECT COUNT(a) FROM Application a WHERE " + LIKE_SEARCH_CONDITIONS)
+    Page<String> searchActiveApplicationIds(@Param("search") String search, Pageable pageable);
 
     @Query("SELECT COUNT(a) FROM Application a WHERE a.applicantId = :applicantId AND a.status = :status")
     long countByApplicantIdAndStatus(
@@ -84,14 +103,26 @@ public interface ApplicationRepository extends JpaRepository<Application, String
     @Query("SELECT a.status, COUNT(a) FROM Application a WHERE a.isActive = true GROUP BY a.status")
     List<Object[]> getApplicationCountByStatus();
 
+    // Includes withdrawn (inactive) applications, matching count() / countByStatus
+    @Query("SELECT a.status, COUNT(a) FROM Application a GROUP BY a.status")
+    List<Object[]> getAllApplicationCountByStatus();
+
+    @Query("SELECT a.status, COUNT(a) FROM Application a WHERE a.franchiseId = :franchiseId GROUP BY a.status")
+    List<Object[]> getApplicationCountByStatusForFranchise(@Param("franchiseId") String franchiseId);
+
+    @Query("SELECT a.status, COUNT(a) FROM Application a WHERE a.businessOwnerId = :businessOwnerId GROUP BY a.status")
+    List<Object[]> getApplicationCountByStatusForBusinessOwner(@Param("businessOwnerId") String businessOwnerId);
+
     @Query("SELECT DATE(a.submittedAt), COUNT(a) FROM Application a WHERE a.submittedAt >= :since GROUP BY DATE(a.submittedAt)")
     List<Object[]> getApplicationCountByDate(@Param("since") LocalDateTime since);
 
     // Additional methods needed by ApplicationService
-    @Query("SELECT a FROM Application a WHERE a.franchiseId IN " +
-           "(SELECT f.id FROM Franchise f WHERE f.businessOwnerId = :businessOwnerId)")
+    @Query("SELECT a FROM Application a WHERE a.businessOwnerId = :businessOwnerId")
     Page<Application> findApplicationsForBusinessOwner(@Param("businessOwnerId") String businessOwnerId, Pageable pageable);
 
+    @Query(SUMMARY_SELECT + "WHERE a.businessOwnerId = :businessOwnerId")
+    Slice<ApplicationDto.ApplicationSummary> findSummarySliceForBusinessOwner(@Param("businessOwnerId") String businessOwnerId, Pageable pageable);
+
     @Query("SELECT a FROM Application a WHERE a.applicantId = :applicantId AND a.franchiseId = :franchiseId AND a.isActive = true")
     List<Application> findByApplicantIdAndFranchiseIdAndIsActiveTrue(@Param("applicantId") String applicantId, @Param("franchiseId") String franchiseId);
 
@@ -108,16 +139,80 @@ public interface ApplicationRepository extends JpaRepository<Application, String
     long countApplicationsCreatedSince(@Param("since") LocalDateTime since);
 
     // Count methods for business owner statistics
-    @Query("SELECT COUNT(a) FROM Application a WHERE a.franchiseId IN " +
-           "(SELECT f.id FROM Franchise f WHERE f.businessOwnerId = :businessOwnerId)")
+    @Query("SELECT COUNT(a) FROM Application a WHERE a.businessOwnerId = :businessOwnerId")
     long countApplicationsForBusinessOwner(@Param("businessOwnerId") String businessOwnerId);
 
-    @Query("SELECT COUNT(a) FROM Application a WHERE a.franchiseId IN " +
-           "(SELECT f.id FROM Franchise f WHERE f.businessOwnerId = :businessOwnerId) " +
-           "AND a.status = :status")
-    long countApplicationsForBusinessOwnerByStatus(
+    // Summary projections for list endpoints
+    @Query(value = SUMMARY_SELECT,
+           countQuery = "SELECT COUNT(a) FROM Application a")
+    Page<ApplicationDto.ApplicationSummary> findAllSummaries(Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE a.applicantId = :applicantId",
+           countQuery = "SELECT COUNT(a) FROM Application a WHERE a.applicantId = :applicantId")
+    Page<ApplicationDto.ApplicationSummary> findSummariesByApplicantId(@Param("applicantId") String applicantId, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE a.franchiseId = :franchiseId",
+           countQuery = "SELECT COUNT(a) FROM Application a WHERE a.franchiseId = :franchiseId")
+    Page<ApplicationDto.ApplicationSummary> findSummariesByFranchiseId(@Param("franchiseId") String franchiseId, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE a.status = :status",
+           countQuery = "SELECT COUNT(a) FROM Application a WHERE a.status = :status")
+    Page<ApplicationDto.ApplicationSummary> findSummariesByStatus(@Param("status") Application.ApplicationStatus status, Pageable pageable);
+
+    // Rows for ids ranked by the full-text search; the caller restores the rank order
+    @Query(SUMMARY_SELECT + "WHERE a.id IN :ids")
+    List<ApplicationDto.ApplicationSummary> findSummariesByIdIn(@Param("ids") Collection<String> ids);
+
+    @Query(value = SUMMARY_SELECT + "WHERE a.applicantId = :applicantId AND a.status = :status",
+           countQuery = "SELECT COUNT(a) FROM Application a WHERE a.applicantId = :applicantId AND a.status = :status")
+    Page<ApplicationDto.ApplicationSummary> findSummariesByApplicantIdAndStatus(
+        @Param("applicantId") String applicantId,
+        @Param("status") Application.ApplicationStatus status,
+        Pageable pageable
+    );
+
+    @Query(value = SUMMARY_SELECT + "WHERE a.businessOwnerId = :businessOwnerId",
+           countQuery = "SELECT COUNT(a) FROM Application a WHERE a.businessOwnerId = :businessOwnerId")
+    Page<ApplicationDto.ApplicationSummary> findSummariesForBusinessOwner(@Param("businessOwnerId") String businessOwnerId, Pageable pageable);
+
+    // Owner-scoped search. Starts from businessOwnerId, so the owner's rows are read through the
+    // (business_owner_id, ...) indexes and the substring match only runs over those. Absent filters
+    // are passed as null; MySQL folds the IS NULL branches once the values are inlined.
+    @Query(value = SUMMARY_SELECT + "WHERE " + OWNER_SEARCH_CONDITIONS,
+           countQuery = "SELECT COUNT(a) FROM Application a WHERE " + OWNER_SEARCH_CONDITIONS)
+    Page<ApplicationDto.ApplicationSummary> searchSummariesForBusinessOwner(
         @Param("businessOwnerId") String businessOwnerId,
-        @Param("status") Application.ApplicationStatus status
+        @Param("search") String search,
+        @Param("status") Application.ApplicationStatus status,
+        @Param("paymentStatus") Application.PaymentStatus paymentStatus,
+        @Param("submittedFrom") LocalDateTime submittedFrom,
+        @Param("submittedTo") LocalDateTime submittedTo,
+        Pageable pageable
     );
 
+    // Version probe for conditional GET, without loading the application
+    @Query("SELECT a.updatedAt FROM Application a WHERE a.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") String id);
+
+    // Keyset pagination on (submittedAt, id); callers pass an unsorted limit, no count query is run
+    @Query(SUMMARY_SELECT + "WHERE a.applicantId = :applicantId " +
+           "ORDER BY a.submittedAt DESC, a.id DESC")
+    List<ApplicationDto.ApplicationSummary> findSummaryFeedByApplicantId(@Param("applicantId") String applicantId, Pageable limit);
+
+    @Query(SUMMARY_SELECT + "WHERE a.applicantId = :applicantId AND " +
+           "(a.submittedAt < :submittedAt OR (a.submittedAt = :submittedAt AND a.id < :id)) " +
+           "ORDER BY a.submittedAt DESC, a.id DESC")
+    List<ApplicationDto.ApplicationSummary> findSummaryFeedByApplicantIdBefore(
+        @Param("applicantId") String applicantId,
+        @Param("submittedAt") LocalDateTime submittedAt,
+        @Param("id") String id,
+        Pageable limit
+    );
+
+
+    // Keeps the denormalized owner in step with Franchise.businessOwnerId
+    @Modifying
+    @Query("UPDATE Application a SET a.businessOwnerId = :businessOwnerId WHERE a.franchiseId = :franchiseId")
+    int updateBusinessOwnerIdForFranchise(@Param("franchiseId") String franchiseId,
+                                          @Param("businessOwnerId") String businessOwnerId);
 }
@@ -0,0 +1,112 @@
+package com.franchisehub.api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The cache_invalidations change-log table (see the V5 migration).
+ *
+ * Rows are only ever appended, read in id order from a high-water mark, and deleted
+ * once older than the retention; ids come from the database so every node sees one order.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CacheInvalidationRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO cache_invalidations (region, cache_key, origin_node, published_at) "
+                    + "VALUES (:region, :key, :originNode, :publishedAt)";
+
+    private static final String AFTER_ID_SQL =
+            "SELECT id, region, cache_key, origin_node, published_at FROM cache_invalidations "
+                    + "WHERE id > :afterId ORDER BY id LIMIT :limit";
+
+    private static final String BY_IDS_SQL =
+            "SELECT id, region, cache_key, origin_node, published_at FROM cache_invalidations "
+                    + "WHERE id IN (:ids) ORDER BY id";
+
+    private static final String MAX_ID_SQL =
+            "SELECT COALESCE(MAX(id), 0) FROM cache_invalidations";
+
+    private static final String IDS_PUBLISHED_BEFORE_SQL =
+            "SELECT id FROM cache_invalidations WHERE published_at < :cutoff ORDER BY id LIMIT :limit";
+
+    private static final String DELETE_BY_IDS_SQL =
+            "DELETE FROM cache_invalidations WHERE id IN (:ids)";
+
+    private static final RowMapper<Entry> ENTRY_MAPPER = (rs, rowNum) -> new Entry(
+            rs.getLong("id"),
+            rs.getString("region"),
+            rs.getString("cache_key"),
+            rs.getString("origin_node"),
+            rs.getLong("published_at"));
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Append invalidations published by one node
+     */
+    public void insertAll(List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = entries.stream()
+                .map(entry -> new MapSqlParameterSource("region", entry.region())
+                        .addValue("key", entry.key())
+                        .addValue("originNode", entry.originNode())
+                        .addValue("publishedAt", entry.publishedAtMillis()))
+                .toArray(SqlParameterSource[]::new);
+        namedParameterJdbcTemplate.batchUpdate(INSERT_SQL, batch);
+    }
+
+    /**
+     * Get up to limit entries after the given id, oldest first
+     */
+    public List<Entry> findAfter(long afterId, int limit) {
+        return namedParameterJdbcTemplate.query(AFTER_ID_SQL,
+                new MapSqlParameterSource("afterId", afterId).addValue("limit", limit), ENTRY_MAPPER);
+    }
+
+    /**
+     * Get the entries with the given ids that exist by now
+     */
+    public List<Entry> findByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return namedParameterJdbcTemplate.query(BY_IDS_SQL, new MapSqlParameterSource("ids", ids), ENTRY_MAPPER);
+    }
+
+    /**
+     * Get the highest id written so far, or 0 for an empty table
+     */
+    public long findMaxId() {
+        Long maxId = namedParameterJdbcTemplate.queryForObject(MAX_ID_SQL, new MapSqlParameterSource(), Long.class);
+        return maxId != null ? maxId : 0;
+    }
+
+    /**
+     * Delete up to limit entries published before the cutoff
+     */
+    public int deletePublishedBeforeChunk(long cutoffMillis, int limit) {
+        List<Long> ids = namedParameterJdbcTemplate.queryForList(IDS_PUBLISHED_BEFORE_SQL,
+                new MapSqlParameterSource("cutoff", cutoffMillis).addValue("limit", limit), Long.class);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return namedParameterJdbcTemplate.update(DELETE_BY_IDS_SQL, new MapSqlParameterSource("ids", ids));
+    }
+
+    /**
+     * One change-log row; a null key invalidates the whole region
+     */
+    public record Entry(long id, String region, String key, String originNode, long publishedAtMillis) {
+    }
+}
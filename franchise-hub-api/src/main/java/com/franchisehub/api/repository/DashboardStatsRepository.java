@@ -0,0 +1,62 @@
+package com.franchisehub.api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Admin dashboard counts across all tables in a single statement.
+ *
+ * Each UNION ALL branch is the GROUP BY of one table, so this spans entities and is
+ * plain SQL rather than a Spring Data query. Rows are returned per source with the
+ * same shape as the matching JPQL aggregate in that entity's repository.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DashboardStatsRepository {
+
+    public static final String USERS = "USERS";
+    public static final String FRANCHISES = "FRANCHISES";
+    public static final String APPLICATIONS = "APPLICATIONS";
+    public static final String PAYMENT_TRANSACTIONS = "PAYMENT_TRANSACTIONS";
+    public static final String NOTIFICATIONS = "NOTIFICATIONS";
+
+    private static final String DASHBOARD_COUNTS_SQL =
+            "SELECT 'USERS' AS source, role AS group_key, " +
+            "CASE WHEN is_active THEN 'Y' ELSE 'N' END AS flag, COUNT(*) AS cnt, 0 AS amount " +
+            "FROM users GROUP BY role, is_active " +
+            "UNION ALL " +
+            "SELECT 'FRANCHISES', status, NULL, COUNT(*), 0 FROM franchises GROUP BY status " +
+            "UNION ALL " +
+            "SELECT 'APPLICATIONS', status, NULL, COUNT(*), 0 FROM applications GROUP BY status " +
+            "UNION ALL " +
+            "SELECT 'PAYMENT_TRANSACTIONS', status, NULL, COUNT(*), COALESCE(SUM(amount), 0) " +
+            "FROM payment_transactions GROUP BY status " +
+            "UNION ALL " +
+            "SELECT 'NOTIFICATIONS', status, NULL, COUNT(*), 0 FROM notifications GROUP BY status";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Grouped counts keyed by source table. Users rows are {role, isActive, count},
+     * payment transaction rows {status, count, amount}, all others {status, count}.
+     */
+    public Map<String, List<Object[]>> getDashboardCounts() {
+        Map<String, List<Object[]>> rowsBySource = new HashMap<>();
+        jdbcTemplate.query(DASHBOARD_COUNTS_SQL, rs -> {
+            String source = rs.getString("source");
+            Object[] row = switch (source) {
+                case USERS -> new Object[] { rs.getString("group_key"), "Y".equals(rs.getString("flag")), rs.getLong("cnt") };
+                case PAYMENT_TRANSACTIONS -> new Object[] { rs.getString("group_key"), rs.getLong("cnt"), rs.getBigDecimal("amount") };
+                default -> new Object[] { rs.getString("group_key"), rs.getLong("cnt") };
+            };
+            rowsBySource.computeIfAbsent(source, k -> new ArrayList<>()).add(row);
+        });
+        return rowsBySource;
+    }
+}
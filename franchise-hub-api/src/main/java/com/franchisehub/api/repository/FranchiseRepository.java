@@ -1,20 +1,57 @@
 package com.franchisehub.api.repository;
 
+import com.franchisehub.api.dto.FranchiseDto;
 import com.franchisehub.api.model.Franchise;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface FranchiseRepository extends JpaRepository<Franchise, String> {
 
+    // List-view projection: scalar columns only, none of the element collections
+    String SUMMARY_SELECT = "SELECT new com.franchisehub.api.dto.FranchiseDto$FranchiseSummary(" +
+           "f.id, f.name, f.description, f.category, f.status, f.businessOwnerId, f.businessOwnerName, f.logo, " +
+           "f.franchiseFee, f.royaltyFee, f.initialInvestment.min, f.initialInvestment.max, " +
+           "f.totalUnits, f.createdAt) FROM Franchise f ";
+
+    String SEARCH_DOCUMENT_SELECT = "SELECT new com.franchisehub.api.dto.FranchiseDto$SearchDocument(" +
+           "f.id, f.status, f.name, f.businessOwnerName, f.description) FROM Franchise f ";
+
+    String FACET_DOCUMENT_SELECT = "SELECT new com.franchisehub.api.dto.FranchiseDto$FacetDocument(" +
+           "f.id, f.status, f.name, f.category, f.franchiseFee, f.initialInvestment.min, " +
+           "f.initialInvestment.max, f.createdAt) FROM Franchise f ";
+
+    String FILTER_CONDITIONS = "f.status = 'ACTIVE' AND " +
+           "(:category IS NULL OR f.category = :category) AND " +
+           "(:minInvestment IS NULL OR f.initialInvestment.min >= :minInvestment) AND " +
+           "(:maxInvestment IS NULL OR f.initialInvestment.max <= :maxInvestment) AND " +
+           "(:minFee IS NULL OR f.franchiseFee >= :minFee) AND " +
+           "(:maxFee IS NULL OR f.franchiseFee <= :maxFee) AND " +
+           "(:anyState = false OR EXISTS (SELECT 1 FROM Franchise g JOIN g.availableStates s " +
+           "WHERE g.id = f.id AND UPPER(s) IN :states)) AND " +
+           "(:search IS NULL OR LOWER(f.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(f.description) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(f.businessOwnerName) LIKE LOWER(CONCAT('%', :search, '%')))";
+
+    String LIKE_SEARCH_CONDITIONS = "f.status = 'ACTIVE' AND " +
+           "(LOWER(f.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(f.description) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(f.businessOwnerName) LIKE LOWER(CONCAT('%', :search, '%')))";
+
     List<Franchise> findByBusinessOwnerId(String businessOwnerId);
 
     Page<Franchise> findByBusinessOwnerId(String businessOwnerId, Pageable pageable);
@@ -27,37 +64,28 @@ public interface FranchiseRepository extends JpaRepository<Franchise, String> {
 
     Page<Franchise> findByCategory(Franchise.FranchiseCategory category, Pageable pageable);
 
+    // Cached in the franchise-queries region; any franchise write invalidates the results
     @Query("SELECT f FROM Franchise f WHERE f.status = 'ACTIVE' ORDER BY f.createdAt DESC")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "franchise-queries")
+    })
     List<Franchise> findActiveFranchises();
 
     @Query("SELECT f FROM Franchise f WHERE f.status = 'ACTIVE' ORDER BY f.createdAt DESC")
     Page<Franchise> findActiveFranchises(Pageable pageable);
 
     @Query("SELECT f FROM Franchise f WHERE f.status = 'ACTIVE' ORDER BY f.createdAt DESC LIMIT :limit")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "franchise-queries")
+    })
     List<Franchise> findFeaturedFranchises(@Param("limit") int limit);
 
-    @Query("SELECT f FROM Franchise f WHERE " +
-           "f.status = 'ACTIVE' AND " +
-           "(LOWER(f.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-           "LOWER(f.description) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-           "LOWER(f.businessOwnerName) LIKE LOWER(CONCAT('%', :search, '%')))")
-    Page<Franchise> searchActiveFranchises(@Param("search") String search, Pageable pageable);
-
-    @Query("SELECT f FROM Franchise f WHERE " +
-           "f.status = 'ACTIVE' AND " +
-           "(:category IS NULL OR f.category = :category) AND " +
-           "(:minInvestment IS NULL OR f.initialInvestment.min >= :minInvestment) AND " +
-           "(:maxInvestment IS NULL OR f.initialInvestment.max <= :maxInvestment) AND " +
-           "(:minFee IS NULL OR f.franchiseFee >= :minFee) AND " +
-           "(:maxFee IS NULL OR f.franchiseFee <= :maxFee)")
-    Page<Franchise> findWithFilters(
-        @Param("category") Franchise.FranchiseCategory category,
-        @Param("minInvestment") BigDecimal minInvestment,
-        @Param("maxInvestment") BigDecimal maxInvestment,
-        @Param("minFee") BigDecimal minFee,
-        @Param("maxFee") BigDecimal maxFee,
-        Pageable pageable
-    );
+    // LIKE full-text search provider: ids only, the caller loads the rows it needs
+    @Query(value = "SELECT f.id FROM Franchise f WHERE " + LIKE_SEARCH_CONDITIONS,
+           countQuery = "SELECT COUNT(f) FROM Franchise f WHERE " + LIKE_SEARCH_CONDITIONS)
+    Page<String> searchActiveFranchiseIds(@Param("search") String search, Pageable pageable);
 
     @Query("SELECT COUNT(f) FROM Franchise f WHERE f.businessOwnerId = :businessOwnerId AND f.status = 'ACTIVE'")
     long countActiveFranchisesByOwner(@Param("businessOwnerId") String businessOwnerId);
@@ -71,13 +99,19 @@ public interface FranchiseRepository extends JpaRepository<Franchise, String> {
     @Query("SELECT f.category, COUNT(f) FROM Franchise f WHERE f.status = 'ACTIVE' GROUP BY f.category")
     List<Object[]> getFranchiseCountByCategory();
 
-    // Additional methods needed by FranchiseService
-    @Query("SELECT f FROM Franchise f WHERE " +
-           "f.status = 'ACTIVE' AND " +
-           "(LOWER(f.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(f.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
-    Page<Franchise> searchFranchises(@Param("searchTerm") String searchTerm, Pageable pageable);
+    @Query("SELECT f.status, COUNT(f) FROM Franchise f GROUP BY f.status")
+    List<Object[]> getFranchiseCountByStatus();
+
+    // Cheap change probe for the in-memory catalog: every write bumps updatedAt.
+    // COUNT(*) rather than COUNT(f), so both aggregates come from the updated_at index (V8)
+    @Query("SELECT COUNT(*), MAX(f.updatedAt) FROM Franchise f")
+    List<Object[]> getCatalogFingerprint();
+
+    // Version probe for conditional GET, without loading the franchise
+    @Query("SELECT f.updatedAt FROM Franchise f WHERE f.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") String id);
 
+    // Additional methods needed by FranchiseService
     @Query("SELECT f FROM Franchise f WHERE " +
            "f.status = 'ACTIVE' AND " +
            "(:minInvestment IS NULL OR f.initialInvestment.min >= :minInvestment) AND " +
@@ -94,4 +128,91 @@ public interface FranchiseRepository extends JpaRepository<Franchise, String> {
 
     @Query("SELECT f FROM Franchise f WHERE f.createdAt >= :since ORDER BY f.createdAt DESC")
     List<Franchise> findFranchisesCreatedSince(@Param("since") LocalDateTime since);
+
+    // Summary projections for list endpoints
+    @Query(value = SUMMARY_SELECT,
+           countQuery = "SELECT COUNT(f) FROM Franchise f")
+    Page<FranchiseDto.FranchiseSummary> findAllSummaries(Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE f.businessOwnerId = :businessOwnerId",
+           countQuery = "SELECT COUNT(f) FROM Franchise f WHERE f.businessOwnerId = :businessOwnerId")
+    Page<FranchiseDto.FranchiseSummary> findSummariesByBusinessOwnerId(@Param("businessOwnerId") String businessOwnerId, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE f.category = :category",
+           countQuery = "SELECT COUNT(f) FROM Franchise f WHERE f.category = :category")
+    Page<FranchiseDto.FranchiseSummary> findSummariesByCategory(@Param("category") Franchise.FranchiseCategory category, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE f.id IN :ids")
+    List<FranchiseDto.FranchiseSummary> findSummariesByIdIn(@Param("ids") Collection<String> ids);
+
+    // Search index loading: keyset batches of active franchises, and single rows on writes
+    @Query(SEARCH_DOCUMENT_SELECT + "WHERE f.status = 'ACTIVE' AND f.id > :afterId ORDER BY f.id LIMIT :limit")
+    List<FranchiseDto.SearchDocument> findActiveSearchDocumentsAfter(@Param("afterId") String afterId, @Param("limit") int limit);
+
+    @Query(SEARCH_DOCUMENT_SELECT + "WHERE f.id = :id")
+    Optional<FranchiseDto.SearchDocument> findSearchDocumentById(@Param("id") String id);
+
+    // Facet index loading; states come from their own query since the collection is a bag
+    @Query(FACET_DOCUMENT_SELECT + "WHERE f.status = 'ACTIVE' AND f.id > :afterId ORDER BY f.id LIMIT :limit")
+    List<FranchiseDto.FacetDocument> findActiveFacetDocumentsAfter(@Param("afterId") String afterId, @Param("limit") int limit);
+
+    @Query(FACET_DOCUMENT_SELECT + "WHERE f.id = :id")
+    Optional<FranchiseDto.FacetDocument> findFacetDocumentById(@Param("id") String id);
+
+    @Query("SELECT f.id, s FROM Franchise f JOIN f.availableStates s WHERE f.id IN :ids")
+    List<Object[]> findAvailableStatesByIdIn(@Param("ids") Collection<String> ids);
+
+    // Database fallback for the faceted filter while the facet index is being built.
+    // States match case-insensitively; pass upper-cased states and anyState = false for none.
+    @Query(value = SUMMARY_SELECT + "WHERE " + FILTER_CONDITIONS,
+           countQuery = "SELECT COUNT(f) FROM Franchise f WHERE " + FILTER_CONDITIONS)
+    Page<FranchiseDto.FranchiseSummary> findSummariesWithFilters(
+        @Param("category") Franchise.FranchiseCategory category,
+        @Param("minInvestment") BigDecimal minInvestment,
+        @Param("maxInvestment") BigDecimal maxInvestment,
+        @Param("minFee") BigDecimal minFee,
+        @Param("maxFee") BigDecimal maxFee,
+        @Param("anyState") boolean anyState,
+        @Param("states") Collection<String> states,
+        @Param("search") String search,
+        Pageable pageable
+    );
+
+    @Query(value = SUMMARY_SELECT + "WHERE " +
+           "f.status = 'ACTIVE' AND " +
+           "(:minInvestment IS NULL OR f.initialInvestment.min >= :minInvestment) AND " +
+           "(:maxInvestment IS NULL OR f.initialInvestment.max <= :maxInvestment)",
+           countQuery = "SELECT COUNT(f) FROM Franchise f WHERE " +
+           "f.status = 'ACTIVE' AND " +
+           "(:minInvestment IS NULL OR f.initialInvestment.min >= :minInvestment) AND " +
+           "(:maxInvestment IS NULL OR f.initialInvestment.max <= :maxInvestment)")
+    Page<FranchiseDto.FranchiseSummary> findSummariesByInvestmentRange(
+        @Param("minInvestment") BigDecimal minInvestment,
+        @Param("maxInvestment") BigDecimal maxInvestment,
+        Pageable pageable
+    );
+
+    // Fetch plans. The element collections are bags and Hibernate can join-fetch only one
+    // bag per query, so the root query carries at most the images and each remaining
+    // collection is initialized by its own query over the ids already loaded.
+    @EntityGraph(value = Franchise.GRAPH_IMAGES)
+    @Query("SELECT f FROM Franchise f WHERE f.id = :id")
+    Optional<Franchise> findWithImagesById(@Param("id") String id);
+
+    @EntityGraph(value = Franchise.GRAPH_IMAGES)
+    @Query("SELECT f FROM Franchise f WHERE f.status = 'ACTIVE' AND f.businessOwnerId <> :excludedOwnerId " +
+           "ORDER BY f.createdAt DESC")
+    List<Franchise> findActiveWithImagesExcludingOwner(@Param("excludedOwnerId") String excludedOwnerId);
+
+    @Query("SELECT DISTINCT f FROM Franchise f LEFT JOIN FETCH f.images WHERE f.id IN :ids")
+    List<Franchise> fetchImages(@Param("ids") Collection<String> ids);
+
+    @Query("SELECT DISTINCT f FROM Franchise f LEFT JOIN FETCH f.availableTerritories WHERE f.id IN :ids")
+    List<Franchise> fetchAvailableTerritories(@Param("ids") Collection<String> ids);
+
+    @Query("SELECT DISTINCT f FROM Franchise f LEFT JOIN FETCH f.availableStates WHERE f.id IN :ids")
+    List<Franchise> fetchAvailableStates(@Param("ids") Collection<String> ids);
+
+    @Query("SELECT DISTINCT f FROM Franchise f LEFT JOIN FETCH f.requirements.background WHERE f.id IN :ids")
+    List<Franchise> fetchBackgroundRequirements(@Param("ids") Collection<String> ids);
 }
@@ -0,0 +1,101 @@
+package com.franchisehub.api.repository;
+
+import com.franchisehub.api.model.Notification;
+import com.franchisehub.api.model.TimeOrderedIdGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Plain JDBC access for notification fan-out.
+ *
+ * Recipients are read as bare ids in keyset order and notifications are written
+ * with one batched INSERT per chunk, so no User or Notification entity is loaded
+ * or managed per recipient.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBatchRepository {
+
+    private static final String ACTIVE_USER_IDS_SQL =
+            "SELECT id FROM users WHERE is_active = ? AND id > ? ORDER BY id LIMIT ?";
+
+    private static final String EXISTING_USER_IDS_SQL =
+            "SELECT id FROM users WHERE id IN (:ids)";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notifications (id, user_id, type, title, message, status, application_id, " +
+            "franchise_id, payment_request_id, action_url, action_text, priority, expires_at, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Next page of active user ids after the given id, at most limit rows
+     */
+    public List<String> findActiveUserIdsAfter(String afterId, int limit) {
+        return jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(ACTIVE_USER_IDS_SQL);
+            ps.setFetchSize(limit);
+            ps.setBoolean(1, true);
+            ps.setString(2, afterId);
+            ps.setInt(3, limit);
+            return ps;
+        }, (rs, rowNum) -> rs.getString(1));
+    }
+
+    /**
+     * The subset of the given ids that belong to an existing user
+     */
+    public List<String> findExistingUserIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return namedParameterJdbcTemplate.queryForList(EXISTING_USER_IDS_SQL,
+                new MapSqlParameterSource("ids", ids), String.class);
+    }
+
+    /**
+     * Insert one copy of the template notification per recipient as a single JDBC batch
+     */
+    public int insertForRecipients(List<String> userIds, Notification template, LocalDateTime createdAt) {
+        List<Object[]> rows = new ArrayList<>(userIds.size());
+        Timestamp created = Timestamp.valueOf(createdAt);
+        Timestamp expires = template.getExpiresAt() != null ? Timestamp.valueOf(template.getExpiresAt()) : null;
+        for (String userId : userIds) {
+            rows.add(new Object[] {
+                    TimeOrderedIdGenerator.nextId(),
+                    userId,
+                    template.getType().name(),
+                    template.getTitle(),
+                    template.getMessage(),
+                    Notification.NotificationStatus.UNREAD.name(),
+                    template.getApplicationId(),
+                    template.getFranchiseId(),
+                    template.getPaymentRequestId(),
+                    template.getActionUrl(),
+                    template.getActionText(),
+                    template.getPriority() != null ? template.getPriority().name() : null,
+                    expires,
+                    created
+            });
+        }
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        int inserted = 0;
+        for (int count : counts) {
+            // Drivers may report SUCCESS_NO_INFO (-2) for rewritten batches
+            inserted += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+        }
+        return inserted;
+    }
+}
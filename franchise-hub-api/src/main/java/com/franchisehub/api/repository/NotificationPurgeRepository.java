@@ -0,0 +1,111 @@
+package com.franchisehub.api.repository;
+
+import com.franchisehub.api.model.Notification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Bounded set-based deletes and updates on notifications.
+ *
+ * Every statement first picks at most :limit ids through an index and then
+ * deletes or updates exactly those rows by primary key, so a single call only
+ * ever locks one chunk. The same two-step form works on SQLite and MySQL, which
+ * disagree on DELETE ... LIMIT and LIMIT inside IN subqueries.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationPurgeRepository {
+
+    private static final String EXPIRED_ROWS_SQL =
+            "SELECT id, user_id, status FROM notifications WHERE expires_at IS NOT NULL AND expires_at < :now LIMIT :limit";
+
+    private static final String READ_IDS_BEFORE_SQL =
+            "SELECT id FROM notifications WHERE status = :status AND created_at < :cutoff LIMIT :limit";
+
+    private static final String USER_STATUS_IDS_SQL =
+            "SELECT id FROM notifications WHERE user_id = :userId AND status = :status LIMIT :limit";
+
+    private static final String DELETE_BY_IDS_SQL =
+            "DELETE FROM notifications WHERE id IN (:ids)";
+
+    private static final String MARK_READ_BY_IDS_SQL =
+            "UPDATE notifications SET status = :read, read_at = :readAt WHERE id IN (:ids) AND status = :unread";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Delete up to limit notifications that expired before now, passing the user of
+     * each deleted unread notification to the callback
+     */
+    public int deleteExpiredChunk(LocalDateTime now, int limit, Consumer<String> unreadDeletedForUser) {
+        List<String> ids = new ArrayList<>();
+        List<String> unreadUserIds = new ArrayList<>();
+        namedParameterJdbcTemplate.query(EXPIRED_ROWS_SQL,
+                new MapSqlParameterSource("now", Timestamp.valueOf(now)).addValue("limit", limit),
+                rs -> {
+                    ids.add(rs.getString("id"));
+                    if (Notification.NotificationStatus.UNREAD.name().equals(rs.getString("status"))) {
+                        unreadUserIds.add(rs.getString("user_id"));
+                    }
+                });
+        int deleted = deleteByIds(ids);
+        unreadUserIds.forEach(unreadDeletedForUser);
+        return deleted;
+    }
+
+    /**
+     * Delete up to limit read notifications created before the cutoff
+     */
+    public int deleteReadCreatedBeforeChunk(LocalDateTime cutoff, int limit) {
+        return deleteByIds(namedParameterJdbcTemplate.queryForList(READ_IDS_BEFORE_SQL,
+                new MapSqlParameterSource("status", Notification.NotificationStatus.READ.name())
+                        .addValue("cutoff", Timestamp.valueOf(cutoff))
+                        .addValue("limit", limit),
+                String.class));
+    }
+
+    /**
+     * Delete up to limit read notifications of one user
+     */
+    public int deleteReadForUserChunk(String userId, int limit) {
+        return deleteByIds(findIdsByUserAndStatus(userId, Notification.NotificationStatus.READ, limit));
+    }
+
+    /**
+     * Mark up to limit unread notifications of one user as read
+     */
+    public int markReadForUserChunk(String userId, LocalDateTime readAt, int limit) {
+        List<String> ids = findIdsByUserAndStatus(userId, Notification.NotificationStatus.UNREAD, limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return namedParameterJdbcTemplate.update(MARK_READ_BY_IDS_SQL,
+                new MapSqlParameterSource("ids", ids)
+                        .addValue("read", Notification.NotificationStatus.READ.name())
+                        .addValue("unread", Notification.NotificationStatus.UNREAD.name())
+                        .addValue("readAt", Timestamp.valueOf(readAt)));
+    }
+
+    private List<String> findIdsByUserAndStatus(String userId, Notification.NotificationStatus status, int limit) {
+        return namedParameterJdbcTemplate.queryForList(USER_STATUS_IDS_SQL,
+                new MapSqlParameterSource("userId", userId)
+                        .addValue("status", status.name())
+                        .addValue("limit", limit),
+                String.class);
+    }
+
+    private int deleteByIds(List<String> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return namedParameterJdbcTemplate.update(DELETE_BY_IDS_SQL, new MapSqlParameterSource("ids", ids));
+    }
+}
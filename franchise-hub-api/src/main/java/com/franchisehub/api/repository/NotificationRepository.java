@@ -1,20 +1,31 @@
 package com.franchisehub.api.repository;
 
+import com.franchisehub.api.dto.NotificationDto;
 import com.franchisehub.api.model.Notification;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, String> {
 
+    // List-view projection; isExpired is evaluated against the :now parameter
+    String SUMMARY_SELECT = "SELECT new com.franchisehub.api.dto.NotificationDto$NotificationSummary(" +
+           "n.id, n.type, n.status, n.priority, n.title, n.message, n.actionText, n.actionUrl, n.readAt, n.createdAt, " +
+           "CASE WHEN n.expiresAt IS NOT NULL AND n.expiresAt < :now THEN true ELSE false END) FROM Notification n ";
+
     List<Notification> findByUserId(String userId);
 
     Page<Notification> findByUserId(String userId, Pageable pageable);
@@ -86,7 +97,7 @@ public interface NotificationRepository extends JpaRepository<Notification, Stri
     long countNotificationsCreatedSince(@Param("since") LocalDateTime since);
 
     @Modifying
-    @Query("UPDATE Notification n SET n.status = 'read', n.readAt = :readAt WHERE n.userId = :userId AND n.status = 'UNREAD'")
+    @Query("UPDATE Notification n SET n.status = 'READ', n.readAt = :readAt WHERE n.userId = :userId AND n.status = 'UNREAD'")
     int markAllAsReadByUserId(@Param("userId") String userId, @Param("readAt") LocalDateTime readAt);
 
     @Modifying
@@ -99,6 +110,9 @@ public interface NotificationRepository extends JpaRepository<Notification, Stri
     @Query("SELECT n.status, COUNT(n) FROM Notification n WHERE n.userId = :userId GROUP BY n.status")
     List<Object[]> getNotificationCountByStatusForUser(@Param("userId") String userId);
 
+    @Query("SELECT n.status, COUNT(n) FROM Notification n GROUP BY n.status")
+    List<Object[]> getNotificationCountByStatus();
+
     // Additional methods needed by NotificationService
     long countByStatus(Notification.NotificationStatus status);
 
@@ -121,4 +135,71 @@ public interface NotificationRepository extends JpaRepository<Notification, Stri
     long countByUserId(String userId);
 
     long countByUserIdAndStatus(String userId, Notification.NotificationStatus status);
+
+    // One grouped count for many users; users with no matching rows are absent from the result
+    @Query("SELECT n.userId, COUNT(n) FROM Notification n WHERE n.userId IN :userIds AND n.status = :status GROUP BY n.userId")
+    List<Object[]> countByUserIdsAndStatus(@Param("userIds") Collection<String> userIds,
+                                           @Param("status") Notification.NotificationStatus status);
+
+    // Summary projections for list endpoints
+    @Query(value = SUMMARY_SELECT,
+           countQuery = "SELECT COUNT(n) FROM Notification n")
+    Page<NotificationDto.NotificationSummary> findAllSummaries(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE n.userId = :userId",
+           countQuery = "SELECT COUNT(n) FROM Notification n WHERE n.userId = :userId")
+    Page<NotificationDto.NotificationSummary> findSummariesByUserId(
+        @Param("userId") String userId,
+        @Param("now") LocalDateTime now,
+        Pageable pageable
+    );
+
+    @Query(value = SUMMARY_SELECT + "WHERE n.userId = :userId AND n.status = :status",
+           countQuery = "SELECT COUNT(n) FROM Notification n WHERE n.userId = :userId AND n.status = :status")
+    Page<NotificationDto.NotificationSummary> findSummariesByUserIdAndStatus(
+        @Param("userId") String userId,
+        @Param("status") Notification.NotificationStatus status,
+        @Param("now") LocalDateTime now,
+        Pageable pageable
+    );
+
+    // Streamed variant for the unbounded unread list: fetched 500 rows at a time
+    @Query(SUMMARY_SELECT + "WHERE n.userId = :userId AND n.status = :status ORDER BY n.createdAt DESC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<NotificationDto.NotificationSummary> streamSummariesByUserIdAndStatus(
+        @Param("userId") String userId,
+        @Param("status") Notification.NotificationStatus status,
+        @Param("now") LocalDateTime now
+    );
+
+    @Query(value = SUMMARY_SELECT + "WHERE n.type = :type",
+           countQuery = "SELECT COUNT(n) FROM Notification n WHERE n.type = :type")
+    Page<NotificationDto.NotificationSummary> findSummariesByType(
+        @Param("type") Notification.NotificationType type,
+        @Param("now") LocalDateTime now,
+        Pageable pageable
+    );
+
+    @Query(value = SUMMARY_SELECT + "WHERE n.priority = :priority",
+           countQuery = "SELECT COUNT(n) FROM Notification n WHERE n.priority = :priority")
+    Page<NotificationDto.NotificationSummary> findSummariesByPriority(
+        @Param("priority") Notification.NotificationPriority priority,
+        @Param("now") LocalDateTime now,
+        Pageable pageable
+    );
+
+    // Keyset pagination on (createdAt, id); callers pass an unsorted limit, no count query is run
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findFeedByUserId(@Param("userId") String userId, Pageable limit);
+
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId AND " +
+           "(n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findFeedByUserIdBefore(
+        @Param("userId") String userId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") String id,
+        Pageable limit
+    );
 }
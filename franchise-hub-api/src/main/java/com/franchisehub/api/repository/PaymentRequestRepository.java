@@ -1,5 +1,6 @@
 package com.franchisehub.api.repository;
 
+import com.franchisehub.api.dto.PaymentDto;
 import com.franchisehub.api.model.PaymentRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,11 +10,23 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PaymentRequestRepository extends JpaRepository<PaymentRequest, String> {
 
+    // List-view projection with sender and recipient names joined in
+    String SUMMARY_SELECT = "SELECT new com.franchisehub.api.dto.PaymentDto$PaymentRequestSummary(" +
+           "pr.id, CONCAT(fu.firstName, ' ', fu.lastName), CONCAT(tu.firstName, ' ', tu.lastName), " +
+           "pr.type, pr.status, pr.title, pr.amount, pr.currency, pr.dueDate, pr.createdAt) " +
+           "FROM PaymentRequest pr LEFT JOIN User fu ON fu.id = pr.fromUserId LEFT JOIN User tu ON tu.id = pr.toUserId ";
+
+    // Version probe for conditional GET, without loading the request
+    @Query("SELECT pr.updatedAt FROM PaymentRequest pr WHERE pr.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") String id);
+
     List<PaymentRequest> findByFromUserId(String fromUserId);
 
     Page<PaymentRequest> findByFromUserId(String fromUserId, Pageable pageable);
@@ -90,4 +103,25 @@ public interface PaymentRequestRepository extends JpaRepository<PaymentRequest,
 
     @Query("SELECT pr.type, COUNT(pr) FROM PaymentRequest pr WHERE pr.status = 'PAID' GROUP BY pr.type")
     List<Object[]> getPaidRequestCountByType();
+
+    // Summary projections for list endpoints
+    @Query(value = SUMMARY_SELECT,
+           countQuery = "SELECT COUNT(pr) FROM PaymentRequest pr")
+    Page<PaymentDto.PaymentRequestSummary> findAllSummaries(Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE pr.toUserId = :toUserId",
+           countQuery = "SELECT COUNT(pr) FROM PaymentRequest pr WHERE pr.toUserId = :toUserId")
+    Page<PaymentDto.PaymentRequestSummary> findSummariesByToUserId(@Param("toUserId") String toUserId, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE pr.fromUserId = :fromUserId",
+           countQuery = "SELECT COUNT(pr) FROM PaymentRequest pr WHERE pr.fromUserId = :fromUserId")
+    Page<PaymentDto.PaymentRequestSummary> findSummariesByFromUserId(@Param("fromUserId") String fromUserId, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE pr.applicationId IN :applicationIds",
+           countQuery = "SELECT COUNT(pr) FROM PaymentRequest pr WHERE pr.applicationId IN :applicationIds")
+    Page<PaymentDto.PaymentRequestSummary> findSummariesByApplicationIdIn(@Param("applicationIds") Collection<String> applicationIds, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE pr.status = :status",
+           countQuery = "SELECT COUNT(pr) FROM PaymentRequest pr WHERE pr.status = :status")
+    Page<PaymentDto.PaymentRequestSummary> findSummariesByStatus(@Param("status") PaymentRequest.PaymentRequestStatus status, Pageable pageable);
 }
@@ -1,9 +1,12 @@
 package com.franchisehub.api.repository;
 
+import com.franchisehub.api.dto.PaymentDto;
 import com.franchisehub.api.model.PaymentTransaction;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,6 +19,11 @@ import java.util.Optional;
 @Repository
 public interface PaymentTransactionRepository extends JpaRepository<PaymentTransaction, String> {
 
+    // List-view projection with the franchise name joined in
+    String SUMMARY_SELECT = "SELECT new com.franchisehub.api.dto.PaymentDto$TransactionSummary(" +
+           "pt.id, pt.type, pt.method, pt.status, pt.amount, pt.currency, pt.description, f.name, pt.createdAt) " +
+           "FROM PaymentTransaction pt LEFT JOIN Franchise f ON f.id = pt.franchiseId ";
+
     List<PaymentTransaction> findByUserId(String userId);
 
     Page<PaymentTransaction> findByUserId(String userId, Pageable pageable);
@@ -90,6 +98,13 @@ public interface PaymentTransactionRepository extends JpaRepository<PaymentTrans
     @Query("SELECT pt.status, COUNT(pt) FROM PaymentTransaction pt GROUP BY pt.status")
     List<Object[]> getTransactionCountByStatus();
 
+    @Query("SELECT pt.status, COUNT(pt), COALESCE(SUM(pt.amount), 0) FROM PaymentTransaction pt GROUP BY pt.status")
+    List<Object[]> getTransactionCountAndAmountByStatus();
+
+    @Query("SELECT pt.status, COUNT(pt), COALESCE(SUM(pt.amount), 0) FROM PaymentTransaction pt " +
+           "WHERE pt.businessOwnerId = :businessOwnerId GROUP BY pt.status")
+    List<Object[]> getTransactionCountAndAmountByStatusForBusinessOwner(@Param("businessOwnerId") String businessOwnerId);
+
     @Query("SELECT pt.type, COUNT(pt) FROM PaymentTransaction pt WHERE pt.status = 'SUCCESS' GROUP BY pt.type")
     List<Object[]> getSuccessfulTransactionCountByType();
 
@@ -113,22 +128,68 @@ public interface PaymentTransactionRepository extends JpaRepository<PaymentTrans
     long countTransactionsCreatedSince(@Param("since") LocalDateTime since);
 
     // Methods for business owner statistics
-    @Query("SELECT COUNT(pt) FROM PaymentTransaction pt WHERE pt.franchiseId IN " +
-           "(SELECT f.id FROM Franchise f WHERE f.businessOwnerId = :businessOwnerId)")
-    long countTransactionsForBusinessOwner(@Param("businessOwnerId") String businessOwnerId);
-
-    @Query("SELECT COUNT(pt) FROM PaymentTransaction pt WHERE pt.franchiseId IN " +
-           "(SELECT f.id FROM Franchise f WHERE f.businessOwnerId = :businessOwnerId) AND pt.status = :status")
-    long countTransactionsForBusinessOwnerByStatus(@Param("businessOwnerId") String businessOwnerId,
-                                                   @Param("status") PaymentTransaction.TransactionStatus status);
+    @Query(SUMMARY_SELECT + "WHERE pt.businessOwnerId = :businessOwnerId")
+    Slice<PaymentDto.TransactionSummary> findSummarySliceForBusinessOwner(@Param("businessOwnerId") String businessOwnerId, Pageable pageable);
 
-    @Query("SELECT COALESCE(SUM(pt.amount), 0) FROM PaymentTransaction pt WHERE pt.franchiseId IN " +
-           "(SELECT f.id FROM Franchise f WHERE f.businessOwnerId = :businessOwnerId) AND pt.status = 'SUCCESS'")
-    BigDecimal getTotalRevenueForBusinessOwner(@Param("businessOwnerId") String businessOwnerId);
+    @Query("SELECT COUNT(pt) FROM PaymentTransaction pt WHERE pt.businessOwnerId = :businessOwnerId")
+    long countTransactionsForBusinessOwner(@Param("businessOwnerId") String businessOwnerId);
 
-    @Query("SELECT COALESCE(SUM(pt.amount), 0) FROM PaymentTransaction pt WHERE pt.franchiseId IN " +
-           "(SELECT f.id FROM Franchise f WHERE f.businessOwnerId = :businessOwnerId) AND pt.status = 'SUCCESS' " +
+    @Query("SELECT COALESCE(SUM(pt.amount), 0) FROM PaymentTransaction pt WHERE pt.businessOwnerId = :businessOwnerId AND pt.status = 'SUCCESS' " +
            "AND pt.createdAt >= :since")
     BigDecimal getRevenueForBusinessOwnerSince(@Param("businessOwnerId") String businessOwnerId,
                                                @Param("since") LocalDateTime since);
+
+    // Summary projections for list endpoints
+    @Query(value = SUMMARY_SELECT,
+           countQuery = "SELECT COUNT(pt) FROM PaymentTransaction pt")
+    Page<PaymentDto.TransactionSummary> findAllSummaries(Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE pt.userId = :userId",
+           countQuery = "SELECT COUNT(pt) FROM PaymentTransaction pt WHERE pt.userId = :userId")
+    Page<PaymentDto.TransactionSummary> findSummariesByUserId(@Param("userId") String userId, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE pt.franchiseId = :franchiseId",
+           countQuery = "SELECT COUNT(pt) FROM PaymentTransaction pt WHERE pt.franchiseId = :franchiseId")
+    Page<PaymentDto.TransactionSummary> findSummariesByFranchiseId(@Param("franchiseId") String franchiseId, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE pt.applicationId = :applicationId",
+           countQuery = "SELECT COUNT(pt) FROM PaymentTransaction pt WHERE pt.applicationId = :applicationId")
+    Page<PaymentDto.TransactionSummary> findSummariesByApplicationId(@Param("applicationId") String applicationId, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE pt.status = :status",
+           countQuery = "SELECT COUNT(pt) FROM PaymentTransaction pt WHERE pt.status = :status")
+    Page<PaymentDto.TransactionSummary> findSummariesByStatus(@Param("status") PaymentTransaction.TransactionStatus status, Pageable pageable);
+
+    // Keyset pagination on (createdAt, id); callers pass an unsorted limit, no count query is run
+    @Query(SUMMARY_SELECT + "ORDER BY pt.createdAt DESC, pt.id DESC")
+    List<PaymentDto.TransactionSummary> findSummaryFeed(Pageable limit);
+
+    @Query(SUMMARY_SELECT + "WHERE " +
+           "pt.createdAt < :createdAt OR (pt.createdAt = :createdAt AND pt.id < :id) " +
+           "ORDER BY pt.createdAt DESC, pt.id DESC")
+    List<PaymentDto.TransactionSummary> findSummaryFeedBefore(
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") String id,
+        Pageable limit
+    );
+
+    @Query(SUMMARY_SELECT + "WHERE pt.applicationId = :applicationId " +
+           "ORDER BY pt.createdAt DESC, pt.id DESC")
+    List<PaymentDto.TransactionSummary> findSummaryFeedByApplicationId(@Param("applicationId") String applicationId, Pageable limit);
+
+    @Query(SUMMARY_SELECT + "WHERE pt.applicationId = :applicationId AND " +
+           "(pt.createdAt < :createdAt OR (pt.createdAt = :createdAt AND pt.id < :id)) " +
+           "ORDER BY pt.createdAt DESC, pt.id DESC")
+    List<PaymentDto.TransactionSummary> findSummaryFeedByApplicationIdBefore(
+        @Param("applicationId") String applicationId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") String id,
+        Pageable limit
+    );
+
+    // Keeps the denormalized owner in step with Franchise.businessOwnerId
+    @Modifying
+    @Query("UPDATE PaymentTransaction pt SET pt.businessOwnerId = :businessOwnerId WHERE pt.franchiseId = :franchiseId")
+    int updateBusinessOwnerIdForFranchise(@Param("franchiseId") String franchiseId,
+                                          @Param("businessOwnerId") String businessOwnerId);
 }
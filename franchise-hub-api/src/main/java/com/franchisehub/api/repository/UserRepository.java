@@ -1,24 +1,45 @@
 package com.franchisehub.api.repository;
 
+import com.franchisehub.api.dto.UserDto;
 import com.franchisehub.api.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
 
+    String SEARCH_DOCUMENT_SELECT = "SELECT new com.franchisehub.api.dto.UserDto$SearchDocument(" +
+           "u.id, u.firstName, u.lastName, u.email, u.company) FROM User u ";
+
+    String LIKE_SEARCH_CONDITIONS = "LOWER(u.firstName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(u.lastName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(u.email) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(u.company) LIKE LOWER(CONCAT('%', :search, '%'))";
+
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
 
+    @Query("SELECT COALESCE(u.tokenVersion, 0) FROM User u WHERE u.id = :id AND u.isActive = true")
+    Optional<Integer> findActiveTokenVersionById(@Param("id") String id);
+
+    // Version probe for conditional GET, without loading the user
+    @Query("SELECT u.updatedAt FROM User u WHERE u.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") String id);
+
     List<User> findByRole(User.UserRole role);
 
     Page<User> findByRole(User.UserRole role, Pageable pageable);
@@ -33,16 +54,42 @@ public interface UserRepository extends JpaRepository<User, String> {
     @Query("SELECT u FROM User u WHERE u.lastLoginAt >= :since")
     List<User> findUsersLoggedInSince(@Param("since") LocalDateTime since);
 
-    @Query("SELECT u FROM User u WHERE " +
-           "LOWER(u.firstName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-           "LOWER(u.lastName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-           "LOWER(u.email) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-           "LOWER(u.company) LIKE LOWER(CONCAT('%', :search, '%'))")
-    Page<User> searchUsers(@Param("search") String search, Pageable pageable);
+    // Streamed variants for unbounded JSON responses: rows are fetched 500 at a time, not
+    // snapshotted for dirty checking and kept out of the second-level cache
+    @Query("SELECT u FROM User u WHERE u.role = :role AND u.isActive = true")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "BYPASS")
+    })
+    Stream<User> streamActiveUsersByRole(@Param("role") User.UserRole role);
+
+    @Query("SELECT u FROM User u WHERE u.lastLoginAt >= :since")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "BYPASS")
+    })
+    Stream<User> streamUsersLoggedInSince(@Param("since") LocalDateTime since);
+
+    // LIKE full-text search provider: ids only, the caller loads the rows
+    @Query(value = "SELECT u.id FROM User u WHERE " + LIKE_SEARCH_CONDITIONS,
+           countQuery = "SELECT COUNT(u) FROM User u WHERE " + LIKE_SEARCH_CONDITIONS)
+    Page<String> searchUserIds(@Param("search") String search, Pageable pageable);
+
+    // Search index loading: keyset batches of all users, and single rows on writes
+    @Query(SEARCH_DOCUMENT_SELECT + "WHERE u.id > :afterId ORDER BY u.id LIMIT :limit")
+    List<UserDto.SearchDocument> findSearchDocumentsAfter(@Param("afterId") String afterId, @Param("limit") int limit);
+
+    @Query(SEARCH_DOCUMENT_SELECT + "WHERE u.id = :id")
+    Optional<UserDto.SearchDocument> findSearchDocumentById(@Param("id") String id);
 
     @Query("SELECT COUNT(u) FROM User u WHERE u.role = :role AND u.isActive = true")
     long countActiveUsersByRole(@Param("role") User.UserRole role);
 
+    @Query("SELECT u.role, u.isActive, COUNT(u) FROM User u GROUP BY u.role, u.isActive")
+    List<Object[]> getUserCountByRoleAndActive();
+
     @Query("SELECT COUNT(u) FROM User u WHERE u.createdAt >= :since")
     long countUsersCreatedSince(@Param("since") LocalDateTime since);
 }
@@ -0,0 +1,556 @@
+package com.franchisehub.api.search;
+
+import com.franchisehub.api.cache.InvalidationBus;
+import com.franchisehub.api.dto.FranchiseDto;
+import com.franchisehub.api.model.Franchise;
+import com.franchisehub.api.repository.FranchiseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory facet index over the active franchise catalog, for the filtered browse view.
+ *
+ * Each franchise gets a dense int slot, and every facet value keeps a BitSet of the slots
+ * that have it: one per category, per available state, and per franchise-fee and
+ * initial-investment bucket. A filter is the intersection of the sets it selects. A fee
+ * or investment range takes the buckets it covers whole and checks the values of the
+ * slots in the buckets at its edges. Facet counts are computed with every other filter
+ * applied, so each count is the number of results picking that value would give.
+ *
+ * Kept current like {@link FranchiseSearchIndex}: built in keyset batches once the
+ * application is ready, updated per franchise from invalidations on the
+ * {@link InvalidationBus} on one background thread, and rebuilt periodically. Until the
+ * first build completes, {@link #filter} returns empty and callers fall back to the database.
+ */
+@Component
+@Slf4j
+public class FranchiseFacetIndex {
+
+    public static final String CATEGORY_FACET = "category";
+    public static final String STATE_FACET = "state";
+    public static final String FEE_FACET = "franchiseFee";
+    public static final String INVESTMENT_FACET = "investment";
+
+    // Lower bounds of the buckets; the last bucket is open-ended
+    private static final double[] FEE_BUCKETS = {0, 10_000, 25_000, 50_000, 100_000};
+    // Bucketed on the low end of the initial investment range
+    private static final double[] INVESTMENT_BUCKETS = {0, 50_000, 100_000, 250_000, 500_000, 1_000_000};
+    private static final Franchise.FranchiseCategory[] CATEGORIES = Franchise.FranchiseCategory.values();
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final FranchiseRepository franchiseRepository;
+    private final Timer filterTimer;
+    private final ExecutorService indexExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "franchise-facet-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Index index;
+
+    public FranchiseFacetIndex(FranchiseRepository franchiseRepository,
+                               InvalidationBus invalidationBus,
+                               MeterRegistry meterRegistry) {
+        this.franchiseRepository = franchiseRepository;
+        this.filterTimer = meterRegistry.timer("franchise.facet.index.latency");
+        meterRegistry.gauge("franchise.facet.index.size", this, f -> f.index != null ? f.index.size() : 0);
+        invalidationBus.subscribe(InvalidationBus.FRANCHISE, this::onFranchiseChanged);
+    }
+
+    /**
+     * Filter the active catalog and count every facet value; empty until the index is built.
+     * searchMatches holds the ids matching the search text, best first, or null without one.
+     */
+    public Optional<Result> filter(FranchiseDto.FranchiseFilterRequest request, List<String> searchMatches) {
+        Index current = index;
+        if (current == null) {
+            return Optional.empty();
+        }
+        return Optional.of(filterTimer.record(() -> current.filter(request, searchMatches)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        indexExecutor.execute(this::rebuild);
+    }
+
+    /**
+     * Rebuild from the database to pick up changes made outside the services
+     */
+    @Scheduled(initialDelayString = "${franchise-filter.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${franchise-filter.rebuild-interval-ms:3600000}")
+    public void scheduleRebuild() {
+        indexExecutor.execute(this::rebuild);
+    }
+
+    private void onFranchiseChanged(InvalidationBus.Invalidation invalidation) {
+        if (invalidation.wholeRegion()) {
+            indexExecutor.execute(this::rebuild);
+        } else {
+            indexExecutor.execute(() -> reindex(invalidation.key()));
+        }
+    }
+
+    private void reindex(String franchiseId) {
+        Index current = index;
+        if (current == null) {
+            // No build has completed yet; the next one reads this franchise
+            return;
+        }
+        try {
+            Optional<FranchiseDto.FacetDocument> document = franchiseRepository.findFacetDocumentById(franchiseId);
+            if (document.isPresent() && document.get().getStatus() == Franchise.FranchiseStatus.ACTIVE) {
+                current.put(document.get(), loadStates(List.of(franchiseId)).getOrDefault(franchiseId, List.of()));
+            } else {
+                current.remove(franchiseId);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Failed to re-index facets of franchise {}: {}", franchiseId, ex.getMessage());
+        }
+    }
+
+    private void rebuild() {
+        long started = System.nanoTime();
+        try {
+            Index rebuilt = new Index();
+            String afterId = "";
+            List<FranchiseDto.FacetDocument> batch;
+            do {
+                batch = franchiseRepository.findActiveFacetDocumentsAfter(afterId, LOAD_BATCH_SIZE);
+                if (!batch.isEmpty()) {
+                    Map<String, List<String>> states = loadStates(
+                            batch.stream().map(FranchiseDto.FacetDocument::getId).toList());
+                    batch.forEach(document -> rebuilt.put(document, states.getOrDefault(document.getId(), List.of())));
+                    afterId = batch.get(batch.size() - 1).getId();
+                }
+            } while (batch.size() == LOAD_BATCH_SIZE);
+            index = rebuilt;
+            log.info("Built franchise facet index with {} franchises in {} ms",
+                    rebuilt.size(), (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to build franchise facet index: {}", ex.getMessage());
+        }
+    }
+
+    private Map<String, List<String>> loadStates(List<String> franchiseIds) {
+        Map<String, List<String>> states = new HashMap<>();
+        for (Object[] row : franchiseRepository.findAvailableStatesByIdIn(franchiseIds)) {
+            states.computeIfAbsent((String) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        return states;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        indexExecutor.shutdownNow();
+    }
+
+    /**
+     * One page of matching franchise ids in the requested order, how many matched in total,
+     * and the count of every value of every facet
+     */
+    public record Result(List<String> franchiseIds, long total, Map<String, Map<String, Long>> facets) {
+    }
+
+    /**
+     * Facet bitsets plus the per-slot values that ranges are checked against and results
+     * are sorted by. Slots of removed franchises are cleared from every set and reused.
+     */
+    private static final class Index {
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<String, Integer> slotsByFranchiseId = new HashMap<>();
+        private final Deque<Integer> freeSlots = new ArrayDeque<>();
+        private final BitSet live = new BitSet();
+        private final BitSet[] categoryBits = newBitSets(CATEGORIES.length);
+        // Keyed by the upper-cased state, so filters match regardless of case
+        private final Map<String, BitSet> stateBits = new TreeMap<>();
+        private final Map<String, String> stateLabels = new HashMap<>();
+        private final BitSet[] feeBits = newBitSets(FEE_BUCKETS.length);
+        private final BitSet[] investmentBits = newBitSets(INVESTMENT_BUCKETS.length);
+        private String[] franchiseIds = new String[1024];
+        private String[] sortNames = new String[1024];
+        private String[][] stateKeys = new String[1024][];
+        private long[] createdAt = new long[1024];
+        private double[] fees = new double[1024];
+        private double[] minInvestments = new double[1024];
+        private double[] maxInvestments = new double[1024];
+        private int[] categories = new int[1024];
+        private int slotCount;
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return slotsByFranchiseId.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void put(FranchiseDto.FacetDocument document, List<String> states) {
+            lock.writeLock().lock();
+            try {
+                removeLocked(document.getId());
+                int slot = allocateSlot();
+                franchiseIds[slot] = document.getId();
+                sortNames[slot] = document.getName() != null ? document.getName().toLowerCase(Locale.ROOT) : "";
+                createdAt[slot] = epochSecond(document.getCreatedAt());
+                fees[slot] = valueOf(document.getFranchiseFee());
+                minInvestments[slot] = valueOf(document.getMinInvestment());
+                maxInvestments[slot] = valueOf(document.getMaxInvestment());
+                categories[slot] = document.getCategory() != null ? document.getCategory().ordinal() : -1;
+
+                live.set(slot);
+                if (categories[slot] >= 0) {
+                    categoryBits[categories[slot]].set(slot);
+                }
+                setBucket(feeBits, FEE_BUCKETS, fees[slot], slot);
+                setBucket(investmentBits, INVESTMENT_BUCKETS, minInvestments[slot], slot);
+                List<String> keys = new ArrayList<>();
+                for (String state : states) {
+                    if (state == null || state.isBlank()) {
+                        continue;
+                    }
+                    String key = stateKey(state);
+                    stateBits.computeIfAbsent(key, k -> new BitSet()).set(slot);
+                    stateLabels.putIfAbsent(key, state.trim());
+                    keys.add(key);
+                }
+                stateKeys[slot] = keys.toArray(String[]::new);
+                slotsByFranchiseId.put(document.getId(), slot);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(String franchiseId) {
+            lock.writeLock().lock();
+            try {
+                removeLocked(franchiseId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        Result filter(FranchiseDto.FranchiseFilterRequest request, List<String> searchMatches) {
+            lock.readLock().lock();
+            try {
+                // One set per filter dimension; null when the request does not restrict it
+                BitSet search = searchMatches != null ? slotsOf(searchMatches) : null;
+                BitSet category = request.getCategory() != null ? categoryBits[request.getCategory().ordinal()] : null;
+                BitSet states = statesOf(request.getStates());
+                BitSet fee = range(feeBits, FEE_BUCKETS, fees, request.getMinFee(), request.getMaxFee());
+                BitSet investment = investmentRange(request.getMinInvestment(), request.getMaxInvestment());
+
+                BitSet matched = intersect(live, search, category, states, fee, investment);
+                Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+                facets.put(CATEGORY_FACET, categoryCounts(intersect(live, search, states, fee, investment)));
+                facets.put(STATE_FACET, stateCounts(intersect(live, search, category, fee, investment)));
+                facets.put(FEE_FACET, bucketCounts(feeBits, FEE_BUCKETS,
+                        intersect(live, search, category, states, investment)));
+                facets.put(INVESTMENT_FACET, bucketCounts(investmentBits, INVESTMENT_BUCKETS,
+                        intersect(live, search, category, states, fee)));
+
+                int offset = request.getPage() * request.getSize();
+                List<String> page = "relevance".equals(request.getSortBy()) && searchMatches != null
+                        ? pageInRankOrder(searchMatches, matched, offset, request.getSize())
+                        : pageInSortOrder(matched, sortOrder(request), offset, request.getSize());
+                return new Result(page, matched.cardinality(), facets);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private BitSet slotsOf(List<String> ids) {
+            BitSet slots = new BitSet(slotCount);
+            for (String id : ids) {
+                Integer slot = slotsByFranchiseId.get(id);
+                if (slot != null) {
+                    slots.set(slot);
+                }
+            }
+            return slots;
+        }
+
+        private BitSet statesOf(List<String> states) {
+            if (states == null || states.isEmpty()) {
+                return null;
+            }
+            BitSet union = new BitSet(slotCount);
+            for (String state : states) {
+                BitSet bits = state != null ? stateBits.get(stateKey(state)) : null;
+                if (bits != null) {
+                    union.or(bits);
+                }
+            }
+            return union;
+        }
+
+        private BitSet investmentRange(BigDecimal min, BigDecimal max) {
+            BitSet slots = range(investmentBits, INVESTMENT_BUCKETS, minInvestments, min, null);
+            if (max == null) {
+                return slots;
+            }
+            // The upper limit applies to the high end of the range, which is not bucketed
+            if (slots == null) {
+                slots = (BitSet) live.clone();
+            }
+            double limit = max.doubleValue();
+            for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+                if (!(maxInvestments[slot] <= limit)) {
+                    slots.clear(slot);
+                }
+            }
+            return slots;
+        }
+
+        // Buckets inside [min, max] are taken whole; slots of buckets crossing a limit are checked one by one
+        private BitSet range(BitSet[] buckets, double[] bounds, double[] values, BigDecimal min, BigDecimal max) {
+            if (min == null && max == null) {
+                return null;
+            }
+            double low = min != null ? min.doubleValue() : Double.NEGATIVE_INFINITY;
+            double high = max != null ? max.doubleValue() : Double.POSITIVE_INFINITY;
+            BitSet slots = new BitSet(slotCount);
+            for (int i = 0; i < buckets.length; i++) {
+                // The first bucket also holds anything below its bound
+                double from = i == 0 ? Double.NEGATIVE_INFINITY : bounds[i];
+                double to = i + 1 < bounds.length ? bounds[i + 1] : Double.POSITIVE_INFINITY;
+                if (to <= low || from > high) {
+                    continue;
+                }
+                if (from >= low && to <= high) {
+                    slots.or(buckets[i]);
+                    continue;
+                }
+                BitSet bucket = buckets[i];
+                for (int slot = bucket.nextSetBit(0); slot >= 0; slot = bucket.nextSetBit(slot + 1)) {
+                    if (values[slot] >= low && values[slot] <= high) {
+                        slots.set(slot);
+                    }
+                }
+            }
+            return slots;
+        }
+
+        private Map<String, Long> categoryCounts(BitSet base) {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            BitSet scratch = new BitSet(slotCount);
+            for (Franchise.FranchiseCategory category : CATEGORIES) {
+                counts.put(category.name(), intersectionCount(base, categoryBits[category.ordinal()], scratch));
+            }
+            return counts;
+        }
+
+        private Map<String, Long> stateCounts(BitSet base) {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            BitSet scratch = new BitSet(slotCount);
+            stateBits.forEach((key, bits) -> counts.put(stateLabels.get(key), intersectionCount(base, bits, scratch)));
+            return counts;
+        }
+
+        private Map<String, Long> bucketCounts(BitSet[] buckets, double[] bounds, BitSet base) {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            BitSet scratch = new BitSet(slotCount);
+            for (int i = 0; i < buckets.length; i++) {
+                counts.put(bucketLabel(bounds, i), intersectionCount(base, buckets[i], scratch));
+            }
+            return counts;
+        }
+
+        private List<String> pageInRankOrder(List<String> rankedIds, BitSet matched, int offset, int limit) {
+            List<String> page = new ArrayList<>(limit);
+            int skipped = 0;
+            for (String id : rankedIds) {
+                Integer slot = slotsByFranchiseId.get(id);
+                if (slot == null || !matched.get(slot)) {
+                    continue;
+                }
+                if (skipped++ < offset) {
+                    continue;
+                }
+                page.add(id);
+                if (page.size() == limit) {
+                    break;
+                }
+            }
+            return page;
+        }
+
+        // Keeps only the first offset + limit slots in a bounded heap instead of sorting every match
+        private List<String> pageInSortOrder(BitSet matched, Comparator<Integer> order, int offset, int limit) {
+            int wanted = offset + limit;
+            PriorityQueue<Integer> top = new PriorityQueue<>(Math.max(1, wanted), order.reversed());
+            for (int slot = matched.nextSetBit(0); slot >= 0; slot = matched.nextSetBit(slot + 1)) {
+                if (top.size() < wanted) {
+                    top.add(slot);
+                } else if (wanted > 0 && order.compare(slot, top.peek()) < 0) {
+                    top.poll();
+                    top.add(slot);
+                }
+            }
+            String[] sorted = new String[top.size()];
+            for (int i = sorted.length - 1; i >= 0; i--) {
+                sorted[i] = franchiseIds[top.poll()];
+            }
+            return offset < sorted.length
+                    ? List.copyOf(Arrays.asList(sorted).subList(offset, sorted.length))
+                    : List.of();
+        }
+
+        private Comparator<Integer> sortOrder(FranchiseDto.FranchiseFilterRequest request) {
+            Comparator<Integer> order = switch (request.getSortBy() != null ? request.getSortBy() : "createdAt") {
+                case "name" -> Comparator.comparing(slot -> sortNames[slot]);
+                case "franchiseFee" -> Comparator.comparingDouble(slot -> fees[slot]);
+                case "minInvestment" -> Comparator.comparingDouble(slot -> minInvestments[slot]);
+                default -> Comparator.comparingLong(slot -> createdAt[slot]);
+            };
+            if (!"ASC".equalsIgnoreCase(request.getSortDirection())) {
+                order = order.reversed();
+            }
+            // Ties broken by id so a result keeps its place across pages
+            return order.thenComparing(slot -> franchiseIds[slot]);
+        }
+
+        private void removeLocked(String franchiseId) {
+            Integer slot = slotsByFranchiseId.remove(franchiseId);
+            if (slot == null) {
+                return;
+            }
+            live.clear(slot);
+            if (categories[slot] >= 0) {
+                categoryBits[categories[slot]].clear(slot);
+            }
+            clearBucket(feeBits, FEE_BUCKETS, fees[slot], slot);
+            clearBucket(investmentBits, INVESTMENT_BUCKETS, minInvestments[slot], slot);
+            for (String key : stateKeys[slot]) {
+                BitSet bits = stateBits.get(key);
+                if (bits != null) {
+                    bits.clear(slot);
+                    if (bits.isEmpty()) {
+                        stateBits.remove(key);
+                        stateLabels.remove(key);
+                    }
+                }
+            }
+            franchiseIds[slot] = null;
+            sortNames[slot] = null;
+            stateKeys[slot] = null;
+            freeSlots.push(slot);
+        }
+
+        private int allocateSlot() {
+            if (!freeSlots.isEmpty()) {
+                return freeSlots.pop();
+            }
+            if (slotCount == franchiseIds.length) {
+                int capacity = slotCount * 2;
+                franchiseIds = Arrays.copyOf(franchiseIds, capacity);
+                sortNames = Arrays.copyOf(sortNames, capacity);
+                stateKeys = Arrays.copyOf(stateKeys, capacity);
+                createdAt = Arrays.copyOf(createdAt, capacity);
+                fees = Arrays.copyOf(fees, capacity);
+                minInvestments = Arrays.copyOf(minInvestments, capacity);
+                maxInvestments = Arrays.copyOf(maxInvestments, capacity);
+                categories = Arrays.copyOf(categories, capacity);
+            }
+            return slotCount++;
+        }
+
+        private static BitSet intersect(BitSet base, BitSet... filters) {
+            BitSet result = (BitSet) base.clone();
+            for (BitSet filter : filters) {
+                if (filter != null) {
+                    result.and(filter);
+                }
+            }
+            return result;
+        }
+
+        private static long intersectionCount(BitSet a, BitSet b, BitSet scratch) {
+            scratch.clear();
+            scratch.or(a);
+            scratch.and(b);
+            return scratch.cardinality();
+        }
+
+        // Missing values (NaN) fall in no bucket
+        private static void setBucket(BitSet[] buckets, double[] bounds, double value, int slot) {
+            int bucket = bucketOf(bounds, value);
+            if (bucket >= 0) {
+                buckets[bucket].set(slot);
+            }
+        }
+
+        private static void clearBucket(BitSet[] buckets, double[] bounds, double value, int slot) {
+            int bucket = bucketOf(bounds, value);
+            if (bucket >= 0) {
+                buckets[bucket].clear(slot);
+            }
+        }
+
+        private static int bucketOf(double[] bounds, double value) {
+            if (Double.isNaN(value)) {
+                return -1;
+            }
+            int bucket = 0;
+            while (bucket + 1 < bounds.length && value >= bounds[bucket + 1]) {
+                bucket++;
+            }
+            return bucket;
+        }
+
+        private static String bucketLabel(double[] bounds, int bucket) {
+            long from = (long) bounds[bucket];
+            return bucket + 1 < bounds.length ? from + "-" + (long) bounds[bucket + 1] : from + "+";
+        }
+
+        private static String stateKey(String state) {
+            return state.trim().toUpperCase(Locale.ROOT);
+        }
+
+        private static double valueOf(BigDecimal value) {
+            return value != null ? value.doubleValue() : Double.NaN;
+        }
+
+        private static long epochSecond(LocalDateTime dateTime) {
+            return dateTime != null ? dateTime.toEpochSecond(ZoneOffset.UTC) : Long.MIN_VALUE;
+        }
+
+        private static BitSet[] newBitSets(int count) {
+            BitSet[] sets = new BitSet[count];
+            for (int i = 0; i < count; i++) {
+                sets[i] = new BitSet();
+            }
+            return sets;
+        }
+    }
+}
@@ -0,0 +1,407 @@
+package com.franchisehub.api.search;
+
+import com.franchisehub.api.cache.InvalidationBus;
+import com.franchisehub.api.dto.FranchiseDto;
+import com.franchisehub.api.model.Franchise;
+import com.franchisehub.api.repository.FranchiseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over the names, owner names and descriptions of active franchises.
+ *
+ * Every query word matches the indexed words it is a prefix of, so results narrow as the
+ * user types, and a franchise must match all query words. Matches are ranked with BM25,
+ * with name and owner-name words weighted above description words and a slight discount
+ * for prefix-only matches.
+ *
+ * The index is built in keyset batches once the application is ready and kept current
+ * from franchise invalidations on the {@link InvalidationBus}: each one re-reads that
+ * franchise's text and re-indexes or drops it. Builds and updates run on one background
+ * thread, so they apply in order. A periodic rebuild covers changes made outside the
+ * services. Until the first build completes, {@link #search} returns empty and callers
+ * fall back to the database. With franchise-search.index-enabled=false the index is never
+ * built, and every search goes to the database full-text search.
+ */
+@Component
+@Slf4j
+public class FranchiseSearchIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final float NAME_WEIGHT = 3f;
+    private static final float OWNER_NAME_WEIGHT = 2f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+    private static final float PREFIX_MATCH_FACTOR = 0.8f;
+    // Bounds the work of one- and two-letter prefixes
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final FranchiseRepository franchiseRepository;
+    private final boolean enabled;
+    private final Timer searchTimer;
+    private final ExecutorService indexExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "franchise-search-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Index index;
+
+    public FranchiseSearchIndex(FranchiseRepository franchiseRepository,
+                                InvalidationBus invalidationBus,
+                                MeterRegistry meterRegistry,
+                                @Value("${franchise-search.index-enabled:true}") boolean enabled) {
+        this.franchiseRepository = franchiseRepository;
+        this.enabled = enabled;
+        this.searchTimer = meterRegistry.timer("franchise.search.index.latency");
+        meterRegistry.gauge("franchise.search.index.size", this, s -> s.index != null ? s.index.size() : 0);
+        if (enabled) {
+            invalidationBus.subscribe(InvalidationBus.FRANCHISE, this::onFranchiseChanged);
+        }
+    }
+
+    /**
+     * Find active franchises matching every word of the query, best first; empty until the index is built
+     */
+    public Optional<Hits> search(String query, int offset, int limit) {
+        Index current = index;
+        if (current == null) {
+            return Optional.empty();
+        }
+        List<String> tokens = SearchText.tokens(query);
+        return Optional.of(searchTimer.record(() -> current.search(tokens, offset, limit)));
+    }
+
+    /**
+     * Ids of every active franchise matching the query, best first; empty until the index is built
+     */
+    public Optional<List<String>> matchAll(String query) {
+        Index current = index;
+        if (current == null) {
+            return Optional.empty();
+        }
+        List<String> tokens = SearchText.tokens(query);
+        return Optional.of(searchTimer.record(() -> current.matchAll(tokens)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (enabled) {
+            indexExecutor.execute(this::rebuild);
+        }
+    }
+
+    /**
+     * Rebuild from the database to pick up changes made outside the services
+     */
+    @Scheduled(initialDelayString = "${franchise-search.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${franchise-search.rebuild-interval-ms:3600000}")
+    public void scheduleRebuild() {
+        if (enabled) {
+            indexExecutor.execute(this::rebuild);
+        }
+    }
+
+    private void onFranchiseChanged(InvalidationBus.Invalidation invalidation) {
+        if (invalidation.wholeRegion()) {
+            indexExecutor.execute(this::rebuild);
+        } else {
+            indexExecutor.execute(() -> reindex(invalidation.key()));
+        }
+    }
+
+    private void reindex(String franchiseId) {
+        Index current = index;
+        if (current == null) {
+            // No build has completed yet; the next one reads this franchise
+            return;
+        }
+        try {
+            Optional<FranchiseDto.SearchDocument> document = franchiseRepository.findSearchDocumentById(franchiseId);
+            if (document.isPresent() && document.get().getStatus() == Franchise.FranchiseStatus.ACTIVE) {
+                current.put(document.get());
+            } else {
+                current.remove(franchiseId);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Failed to re-index franchise {}: {}", franchiseId, ex.getMessage());
+        }
+    }
+
+    private void rebuild() {
+        long started = System.nanoTime();
+        try {
+            Index rebuilt = new Index();
+            String afterId = "";
+            List<FranchiseDto.SearchDocument> batch;
+            do {
+                batch = franchiseRepository.findActiveSearchDocumentsAfter(afterId, LOAD_BATCH_SIZE);
+                batch.forEach(rebuilt::put);
+                if (!batch.isEmpty()) {
+                    afterId = batch.get(batch.size() - 1).getId();
+                }
+            } while (batch.size() == LOAD_BATCH_SIZE);
+            index = rebuilt;
+            log.info("Built franchise search index with {} franchises in {} ms",
+                    rebuilt.size(), (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to build franchise search index: {}", ex.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        indexExecutor.shutdownNow();
+    }
+
+    /**
+     * One page of matching franchise ids in rank order, and how many franchises matched in total
+     */
+    public record Hits(List<String> franchiseIds, long total) {
+    }
+
+    /**
+     * Term dictionary, postings and per-document lengths. Documents are dense int slots so
+     * a query can score into plain arrays; slots of removed franchises are reused.
+     */
+    private static final class Index {
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final NavigableMap<String, Postings> terms = new TreeMap<>();
+        private final Map<String, Integer> slotsByFranchiseId = new HashMap<>();
+        private final Deque<Integer> freeSlots = new ArrayDeque<>();
+        private String[] franchiseIds = new String[1024];
+        private String[][] slotTerms = new String[1024][];
+        private float[] lengths = new float[1024];
+        private int slotCount;
+        private double totalLength;
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return slotsByFranchiseId.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void put(FranchiseDto.SearchDocument document) {
+            Map<String, Float> weights = new HashMap<>();
+            addField(weights, document.getName(), NAME_WEIGHT);
+            addField(weights, document.getBusinessOwnerName(), OWNER_NAME_WEIGHT);
+            addField(weights, document.getDescription(), DESCRIPTION_WEIGHT);
+            float length = 0;
+            for (float weight : weights.values()) {
+                length += weight;
+            }
+
+            lock.writeLock().lock();
+            try {
+                removeLocked(document.getId());
+                int slot = allocateSlot();
+                franchiseIds[slot] = document.getId();
+                slotTerms[slot] = weights.keySet().toArray(String[]::new);
+                lengths[slot] = length;
+                totalLength += length;
+                slotsByFranchiseId.put(document.getId(), slot);
+                weights.forEach((term, weight) -> terms.computeIfAbsent(term, t -> new Postings()).add(slot, weight));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(String franchiseId) {
+            lock.writeLock().lock();
+            try {
+                removeLocked(franchiseId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        Hits search(List<String> tokens, int offset, int limit) {
+            lock.readLock().lock();
+            try {
+                if (tokens.isEmpty() || slotsByFranchiseId.isEmpty()) {
+                    return new Hits(List.of(), 0);
+                }
+                float[] scores = new float[slotCount];
+                int[] matched = score(tokens, scores);
+
+                int wanted = offset + limit;
+                PriorityQueue<Integer> top = new PriorityQueue<>(Math.max(1, wanted),
+                        (a, b) -> Float.compare(scores[a], scores[b]));
+                long total = 0;
+                for (int slot = 0; slot < slotCount; slot++) {
+                    if (matched[slot] != tokens.size()) {
+                        continue;
+                    }
+                    total++;
+                    if (top.size() < wanted) {
+                        top.add(slot);
+                    } else if (wanted > 0 && scores[slot] > scores[top.peek()]) {
+                        top.poll();
+                        top.add(slot);
+                    }
+                }
+
+                String[] ranked = new String[top.size()];
+                for (int i = ranked.length - 1; i >= 0; i--) {
+                    ranked[i] = franchiseIds[top.poll()];
+                }
+                List<String> page = offset < ranked.length
+                        ? Arrays.asList(ranked).subList(offset, ranked.length)
+                        : List.of();
+                return new Hits(List.copyOf(page), total);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        List<String> matchAll(List<String> tokens) {
+            lock.readLock().lock();
+            try {
+                if (tokens.isEmpty() || slotsByFranchiseId.isEmpty()) {
+                    return List.of();
+                }
+                float[] scores = new float[slotCount];
+                int[] matched = score(tokens, scores);
+                List<Integer> slots = new ArrayList<>();
+                for (int slot = 0; slot < slotCount; slot++) {
+                    if (matched[slot] == tokens.size()) {
+                        slots.add(slot);
+                    }
+                }
+                slots.sort((a, b) -> Float.compare(scores[b], scores[a]));
+                return slots.stream().map(slot -> franchiseIds[slot]).toList();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        // Adds each slot's BM25 score to scores and returns, per slot, the number of leading
+        // query tokens it matched: a slot only counts token t once it matched tokens 0..t-1,
+        // so the slots at tokens.size() match them all. Caller holds the read lock.
+        private int[] score(List<String> tokens, float[] scores) {
+            int documents = slotsByFranchiseId.size();
+            float averageLength = (float) (totalLength / documents);
+            int[] matched = new int[slotCount];
+            for (int t = 0; t < tokens.size(); t++) {
+                String token = tokens.get(t);
+                int expansions = 0;
+                for (Map.Entry<String, Postings> entry
+                        : terms.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()) {
+                    if (expansions++ == MAX_PREFIX_EXPANSIONS) {
+                        break;
+                    }
+                    float factor = entry.getKey().length() == token.length() ? 1f : PREFIX_MATCH_FACTOR;
+                    Postings postings = entry.getValue();
+                    float idf = (float) Math.log(1 + (documents - postings.size + 0.5) / (postings.size + 0.5));
+                    for (int i = 0; i < postings.size; i++) {
+                        int slot = postings.slots[i];
+                        float tf = postings.weights[i];
+                        float norm = K1 * (1 - B + B * lengths[slot] / averageLength);
+                        scores[slot] += factor * idf * tf * (K1 + 1) / (tf + norm);
+                        if (matched[slot] == t) {
+                            matched[slot] = t + 1;
+                        }
+                    }
+                }
+            }
+            return matched;
+        }
+
+        private void removeLocked(String franchiseId) {
+            Integer slot = slotsByFranchiseId.remove(franchiseId);
+            if (slot == null) {
+                return;
+            }
+            for (String term : slotTerms[slot]) {
+                Postings postings = terms.get(term);
+                if (postings != null && postings.remove(slot) && postings.size == 0) {
+                    terms.remove(term);
+                }
+            }
+            totalLength -= lengths[slot];
+            franchiseIds[slot] = null;
+            slotTerms[slot] = null;
+            lengths[slot] = 0;
+            freeSlots.push(slot);
+        }
+
+        private int allocateSlot() {
+            if (!freeSlots.isEmpty()) {
+                return freeSlots.pop();
+            }
+            if (slotCount == franchiseIds.length) {
+                int capacity = slotCount * 2;
+                franchiseIds = Arrays.copyOf(franchiseIds, capacity);
+                slotTerms = Arrays.copyOf(slotTerms, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+            }
+            return slotCount++;
+        }
+
+        private static void addField(Map<String, Float> weights, String text, float weight) {
+            for (String token : SearchText.tokens(text)) {
+                weights.merge(token, weight, Float::sum);
+            }
+        }
+    }
+
+    /**
+     * Slots containing one term, with the field-weighted frequency of the term in each
+     */
+    private static final class Postings {
+
+        private int[] slots = new int[4];
+        private float[] weights = new float[4];
+        private int size;
+
+        void add(int slot, float weight) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            slots[size] = slot;
+            weights[size] = weight;
+            size++;
+        }
+
+        boolean remove(int slot) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i] == slot) {
+                    size--;
+                    slots[i] = slots[size];
+                    weights[i] = weights[size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
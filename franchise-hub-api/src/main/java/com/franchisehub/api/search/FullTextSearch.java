@@ -0,0 +1,45 @@
+package com.franchisehub.api.search;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Database-side text search over franchises, users and applications.
+ *
+ * Each method returns one page of matching ids and the total; callers load the rows and
+ * put them back in order with {@link #inRankOrder}. {@link LikeFullTextSearch} scans with
+ * LIKE and keeps the sort of the pageable. {@link SqliteFullTextSearch} and
+ * {@link MySqlFullTextSearch} read the dialect's full-text indexes (see the V6 migration)
+ * and rank by relevance instead.
+ */
+public interface FullTextSearch {
+
+    /**
+     * Active franchises matching the query on name, owner name or description
+     */
+    Page<String> searchActiveFranchises(String query, Pageable pageable);
+
+    /**
+     * Users matching the query on first name, last name, email or company
+     */
+    Page<String> searchUsers(String query, Pageable pageable);
+
+    /**
+     * Active applications matching the query on applicant name, applicant email or franchise name
+     */
+    Page<String> searchActiveApplications(String query, Pageable pageable);
+
+    /**
+     * Rows loaded by id come back in table order; put them back in the order of the ids
+     */
+    static <T> List<T> inRankOrder(List<String> rankedIds, List<T> rows, Function<T, String> idOf) {
+        Map<String, T> byId = rows.stream().collect(Collectors.toMap(idOf, Function.identity()));
+        return rankedIds.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+}
@@ -0,0 +1,47 @@
+package com.franchisehub.api.search;
+
+import com.franchisehub.api.repository.ApplicationRepository;
+import com.franchisehub.api.repository.FranchiseRepository;
+import com.franchisehub.api.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Portable search: case-insensitive substring LIKE on every searched column. Needs no
+ * index, so every query scans the table; results follow the sort of the pageable.
+ */
+@Component
+@ConditionalOnProperty(name = "full-text-search.provider", havingValue = "like", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LikeFullTextSearch implements FullTextSearch {
+
+    private final FranchiseRepository franchiseRepository;
+    private final UserRepository userRepository;
+    private final ApplicationRepository applicationRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public Page<String> searchActiveFranchises(String query, Pageable pageable) {
+        return timed("franchise", () -> franchiseRepository.searchActiveFranchiseIds(query, pageable));
+    }
+
+    @Override
+    public Page<String> searchUsers(String query, Pageable pageable) {
+        return timed("user", () -> userRepository.searchUserIds(query, pageable));
+    }
+
+    @Override
+    public Page<String> searchActiveApplications(String query, Pageable pageable) {
+        return timed("application", () -> applicationRepository.searchActiveApplicationIds(query, pageable));
+    }
+
+    private Page<String> timed(String target, Supplier<Page<String>> search) {
+        return meterRegistry.timer("search.full.text.latency", "provider", "like", "target", target).record(search);
+    }
+}
@@ -0,0 +1,93 @@
+package com.franchisehub.api.search;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Search over the InnoDB FULLTEXT indexes of the MySQL profile with MATCH ... AGAINST in
+ * boolean mode.
+ *
+ * Every query word is required and matched as a word prefix, and matches are ranked by
+ * MySQL's relevance score. The column list of each MATCH must be exactly the column list
+ * of its index.
+ */
+@Component
+@ConditionalOnProperty(name = "full-text-search.provider", havingValue = "mysql-fulltext")
+@RequiredArgsConstructor
+public class MySqlFullTextSearch implements FullTextSearch {
+
+    private static final String FRANCHISE_MATCH =
+            "MATCH (f.name, f.business_owner_name, f.description) AGAINST (:query IN BOOLEAN MODE)";
+
+    private static final String USER_MATCH =
+            "MATCH (u.first_name, u.last_name, u.email, u.company) AGAINST (:query IN BOOLEAN MODE)";
+
+    private static final String APPLICATION_MATCH =
+            "MATCH (a.applicant_name, a.applicant_email, a.franchise_name) AGAINST (:query IN BOOLEAN MODE)";
+
+    private static final String FRANCHISES_SQL =
+            "SELECT f.id FROM franchises f WHERE " + FRANCHISE_MATCH + " AND f.status = 'ACTIVE' "
+                    + "ORDER BY " + FRANCHISE_MATCH + " DESC, f.id LIMIT :limit OFFSET :offset";
+
+    private static final String FRANCHISES_COUNT_SQL =
+            "SELECT COUNT(*) FROM franchises f WHERE " + FRANCHISE_MATCH + " AND f.status = 'ACTIVE'";
+
+    private static final String USERS_SQL =
+            "SELECT u.id FROM users u WHERE " + USER_MATCH + " "
+                    + "ORDER BY " + USER_MATCH + " DESC, u.id LIMIT :limit OFFSET :offset";
+
+    private static final String USERS_COUNT_SQL =
+            "SELECT COUNT(*) FROM users u WHERE " + USER_MATCH;
+
+    private static final String APPLICATIONS_SQL =
+            "SELECT a.id FROM applications a WHERE " + APPLICATION_MATCH + " AND a.is_active = TRUE "
+                    + "ORDER BY " + APPLICATION_MATCH + " DESC, a.id LIMIT :limit OFFSET :offset";
+
+    private static final String APPLICATIONS_COUNT_SQL =
+            "SELECT COUNT(*) FROM applications a WHERE " + APPLICATION_MATCH + " AND a.is_active = TRUE";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public Page<String> searchActiveFranchises(String query, Pageable pageable) {
+        return search("franchise", FRANCHISES_SQL, FRANCHISES_COUNT_SQL, query, pageable);
+    }
+
+    @Override
+    public Page<String> searchUsers(String query, Pageable pageable) {
+        return search("user", USERS_SQL, USERS_COUNT_SQL, query, pageable);
+    }
+
+    @Override
+    public Page<String> searchActiveApplications(String query, Pageable pageable) {
+        return search("application", APPLICATIONS_SQL, APPLICATIONS_COUNT_SQL, query, pageable);
+    }
+
+    private Page<String> search(String target, String sql, String countSql, String query, Pageable pageable) {
+        List<String> tokens = SearchText.tokens(query);
+        if (tokens.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        // "+word*": required prefix. A truncated word is kept even when it is shorter than
+        // innodb_ft_min_token_size, and tokens carry no boolean-mode operators.
+        MapSqlParameterSource params = new MapSqlParameterSource("query",
+                tokens.stream().map(token -> "+" + token + "*").collect(Collectors.joining(" ")))
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+        return meterRegistry.timer("search.full.text.latency", "provider", "mysql-fulltext", "target", target)
+                .record(() -> PageableExecutionUtils.getPage(
+                        namedParameterJdbcTemplate.queryForList(sql, params, String.class), pageable,
+                        () -> namedParameterJdbcTemplate.queryForObject(countSql, params, Long.class)));
+    }
+}
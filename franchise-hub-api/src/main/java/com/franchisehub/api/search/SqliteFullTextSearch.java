@@ -0,0 +1,90 @@
+package com.franchisehub.api.search;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Search over the FTS5 tables of the SQLite profile (franchises_fts, users_fts and
+ * applications_fts): external-content indexes over the source tables, joined back by
+ * rowid and kept in step by triggers. SqliteFullTextSearchPlanTest pins the join order.
+ *
+ * Every query word must match, as a word or word prefix, and matches are ranked by FTS5's
+ * bm25 with the same column weights as the in-memory franchise index.
+ */
+@Component
+@ConditionalOnProperty(name = "full-text-search.provider", havingValue = "sqlite-fts5")
+@RequiredArgsConstructor
+public class SqliteFullTextSearch implements FullTextSearch {
+
+    // bm25 takes one weight per indexed column. CROSS JOIN keeps the FTS table as the outer
+    // loop: otherwise SQLite may start from the source table and rerun the MATCH for every row.
+    static final String FRANCHISES_SQL =
+            "SELECT f.id FROM franchises_fts CROSS JOIN franchises f ON f.rowid = franchises_fts.rowid "
+                    + "WHERE franchises_fts MATCH :query AND f.status = 'ACTIVE' "
+                    + "ORDER BY bm25(franchises_fts, 3.0, 2.0, 1.0), f.id LIMIT :limit OFFSET :offset";
+
+    static final String FRANCHISES_COUNT_SQL =
+            "SELECT COUNT(*) FROM franchises_fts CROSS JOIN franchises f ON f.rowid = franchises_fts.rowid "
+                    + "WHERE franchises_fts MATCH :query AND f.status = 'ACTIVE'";
+
+    static final String USERS_SQL =
+            "SELECT u.id FROM users_fts CROSS JOIN users u ON u.rowid = users_fts.rowid "
+                    + "WHERE users_fts MATCH :query "
+                    + "ORDER BY bm25(users_fts, 2.0, 2.0, 2.0, 1.0), u.id LIMIT :limit OFFSET :offset";
+
+    static final String USERS_COUNT_SQL =
+            "SELECT COUNT(*) FROM users_fts WHERE users_fts MATCH :query";
+
+    static final String APPLICATIONS_SQL =
+            "SELECT a.id FROM applications_fts CROSS JOIN applications a ON a.rowid = applications_fts.rowid "
+                    + "WHERE applications_fts MATCH :query AND a.is_active = 1 "
+                    + "ORDER BY bm25(applications_fts, 2.0, 2.0, 1.0), a.id LIMIT :limit OFFSET :offset";
+
+    static final String APPLICATIONS_COUNT_SQL =
+            "SELECT COUNT(*) FROM applications_fts CROSS JOIN applications a ON a.rowid = applications_fts.rowid "
+                    + "WHERE applications_fts MATCH :query AND a.is_active = 1";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public Page<String> searchActiveFranchises(String query, Pageable pageable) {
+        return search("franchise", FRANCHISES_SQL, FRANCHISES_COUNT_SQL, query, pageable);
+    }
+
+    @Override
+    public Page<String> searchUsers(String query, Pageable pageable) {
+        return search("user", USERS_SQL, USERS_COUNT_SQL, query, pageable);
+    }
+
+    @Override
+    public Page<String> searchActiveApplications(String query, Pageable pageable) {
+        return search("application", APPLICATIONS_SQL, APPLICATIONS_COUNT_SQL, query, pageable);
+    }
+
+    private Page<String> search(String target, String sql, String countSql, String query, Pageable pageable) {
+        List<String> tokens = SearchText.tokens(query);
+        if (tokens.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        // Tokens are letters and digits only, so quoting them is all the escaping FTS5 needs
+        MapSqlParameterSource params = new MapSqlParameterSource("query",
+                tokens.stream().map(token -> "\"" + token + "\"*").collect(Collectors.joining(" ")))
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+        return meterRegistry.timer("search.full.text.latency", "provider", "sqlite-fts5", "target", target)
+                .record(() -> PageableExecutionUtils.getPage(
+                        namedParameterJdbcTemplate.queryForList(sql, params, String.class), pageable,
+                        () -> namedParameterJdbcTemplate.queryForObject(countSql, params, Long.class)));
+    }
+}
@@ -0,0 +1,370 @@
+package com.franchisehub.api.search;
+
+import com.franchisehub.api.cache.InvalidationBus;
+import com.franchisehub.api.dto.UserDto;
+import com.franchisehub.api.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory trigram index over the first names, last names, emails and companies of all
+ * users, for typo-tolerant admin search.
+ *
+ * Text is normalized with {@link SearchText}, cut into words, and each word padded as
+ * "  word " before taking its three-character windows, so word starts weigh in the way
+ * they do in pg_trgm. A user matches when it contains at least min-similarity of the
+ * query's trigrams; "jonh smtih" still finds John Smith. Matches rank by that share,
+ * then by how much of the user's own text the query covers, so short exact records beat
+ * long ones that merely contain the words.
+ *
+ * Trigrams held by more than half of all users (a shared mail domain, say) cannot tell
+ * users apart and would mean walking most of the postings. They are left out of the
+ * match whenever the query has rarer ones, which keeps a query in the milliseconds at a
+ * million users.
+ *
+ * The index is built in keyset batches once the application is ready and kept current
+ * from user invalidations on the {@link InvalidationBus}, which registration and every
+ * profile, role and status change publish. Until the first build completes,
+ * {@link #search} returns empty and callers fall back to the database.
+ */
+@Component
+@Slf4j
+public class UserSearchIndex {
+
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final int LOAD_BATCH_SIZE = 5000;
+    private static final double MAX_DOCUMENT_FREQUENCY = 0.5;
+
+    private final UserRepository userRepository;
+    private final double minSimilarity;
+    private final Timer searchTimer;
+    private final ExecutorService indexExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "user-search-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Index index;
+
+    public UserSearchIndex(UserRepository userRepository,
+                           InvalidationBus invalidationBus,
+                           MeterRegistry meterRegistry,
+                           @Value("${user-search.min-similarity:0.3}") double minSimilarity) {
+        this.userRepository = userRepository;
+        this.minSimilarity = minSimilarity;
+        this.searchTimer = meterRegistry.timer("user.search.index.latency");
+        meterRegistry.gauge("user.search.index.size", this, s -> s.index != null ? s.index.size() : 0);
+        invalidationBus.subscribe(InvalidationBus.USER, this::onUserChanged);
+    }
+
+    /**
+     * Find users similar to the query, best first; empty until the index is built
+     */
+    public Optional<Hits> search(String query, int offset, int limit) {
+        Index current = index;
+        if (current == null) {
+            return Optional.empty();
+        }
+        long[] trigrams = trigrams(query);
+        return Optional.of(searchTimer.record(() -> current.search(trigrams, minSimilarity, offset, limit)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        indexExecutor.execute(this::rebuild);
+    }
+
+    /**
+     * Rebuild from the database to pick up changes made outside the services
+     */
+    @Scheduled(initialDelayString = "${user-search.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${user-search.rebuild-interval-ms:3600000}")
+    public void scheduleRebuild() {
+        indexExecutor.execute(this::rebuild);
+    }
+
+    private void onUserChanged(InvalidationBus.Invalidation invalidation) {
+        if (invalidation.wholeRegion()) {
+            indexExecutor.execute(this::rebuild);
+        } else {
+            indexExecutor.execute(() -> reindex(invalidation.key()));
+        }
+    }
+
+    private void reindex(String userId) {
+        Index current = index;
+        if (current == null) {
+            // No build has completed yet; the next one reads this user
+            return;
+        }
+        try {
+            Optional<UserDto.SearchDocument> document = userRepository.findSearchDocumentById(userId);
+            if (document.isPresent()) {
+                current.put(document.get().getId(), trigrams(document.get()));
+            } else {
+                current.remove(userId);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Failed to re-index user {}: {}", userId, ex.getMessage());
+        }
+    }
+
+    private void rebuild() {
+        long started = System.nanoTime();
+        try {
+            Index rebuilt = new Index();
+            String afterId = "";
+            List<UserDto.SearchDocument> batch;
+            do {
+                batch = userRepository.findSearchDocumentsAfter(afterId, LOAD_BATCH_SIZE);
+                batch.forEach(document -> rebuilt.put(document.getId(), trigrams(document)));
+                if (!batch.isEmpty()) {
+                    afterId = batch.get(batch.size() - 1).getId();
+                }
+            } while (batch.size() == LOAD_BATCH_SIZE);
+            index = rebuilt;
+            log.info("Built user search index with {} users in {} ms",
+                    rebuilt.size(), (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to build user search index: {}", ex.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        indexExecutor.shutdownNow();
+    }
+
+    private static long[] trigrams(UserDto.SearchDocument document) {
+        return trigrams(String.join(" ", nullToEmpty(document.getFirstName()), nullToEmpty(document.getLastName()),
+                nullToEmpty(document.getEmail()), nullToEmpty(document.getCompany())));
+    }
+
+    // Distinct trigrams of every word, each packed as three 16-bit chars
+    private static long[] trigrams(String text) {
+        Set<Long> trigrams = new LinkedHashSet<>();
+        for (String word : NON_ALPHANUMERIC.split(SearchText.normalize(text))) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2));
+            }
+        }
+        return trigrams.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    /**
+     * One page of matching user ids in rank order, and how many users matched in total
+     */
+    public record Hits(List<String> userIds, long total) {
+    }
+
+    /**
+     * Trigram postings over dense int slots; slots of removed users are reused
+     */
+    private static final class Index {
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<Long, Postings> postingsByTrigram = new HashMap<>();
+        private final Map<String, Integer> slotsByUserId = new HashMap<>();
+        private final Deque<Integer> freeSlots = new ArrayDeque<>();
+        private String[] userIds = new String[1024];
+        private long[][] slotTrigrams = new long[1024][];
+        private int slotCount;
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return slotsByUserId.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void put(String userId, long[] trigrams) {
+            lock.writeLock().lock();
+            try {
+                removeLocked(userId);
+                int slot = allocateSlot();
+                userIds[slot] = userId;
+                slotTrigrams[slot] = trigrams;
+                slotsByUserId.put(userId, slot);
+                for (long trigram : trigrams) {
+                    postingsByTrigram.computeIfAbsent(trigram, t -> new Postings()).add(slot);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(String userId) {
+            lock.writeLock().lock();
+            try {
+                removeLocked(userId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        Hits search(long[] queryTrigrams, double minSimilarity, int offset, int limit) {
+            lock.readLock().lock();
+            try {
+                List<Postings> selective = new ArrayList<>();
+                List<Postings> all = new ArrayList<>();
+                int maxFrequency = (int) (slotsByUserId.size() * MAX_DOCUMENT_FREQUENCY);
+                for (long trigram : queryTrigrams) {
+                    Postings postings = postingsByTrigram.get(trigram);
+                    if (postings == null) {
+                        // Still counts against the match share: a typo costs the trigrams it breaks
+                        selective.add(Postings.EMPTY);
+                        all.add(Postings.EMPTY);
+                        continue;
+                    }
+                    all.add(postings);
+                    if (postings.size <= maxFrequency) {
+                        selective.add(postings);
+                    }
+                }
+                List<Postings> used = selective.stream().anyMatch(p -> p.size > 0) ? selective : all;
+                if (used.isEmpty() || slotsByUserId.isEmpty()) {
+                    return new Hits(List.of(), 0);
+                }
+
+                int[] shared = new int[slotCount];
+                for (Postings postings : used) {
+                    for (int i = 0; i < postings.size; i++) {
+                        shared[postings.slots[i]]++;
+                    }
+                }
+
+                int required = Math.max(1, (int) Math.ceil(minSimilarity * used.size()));
+                int wanted = offset + limit;
+                PriorityQueue<Integer> top = new PriorityQueue<>(Math.max(1, wanted),
+                        (a, b) -> compare(shared, used.size(), a, b));
+                long total = 0;
+                for (int slot = 0; slot < slotCount; slot++) {
+                    if (shared[slot] < required) {
+                        continue;
+                    }
+                    total++;
+                    if (top.size() < wanted) {
+                        top.add(slot);
+                    } else if (wanted > 0 && compare(shared, used.size(), slot, top.peek()) > 0) {
+                        top.poll();
+                        top.add(slot);
+                    }
+                }
+
+                String[] ranked = new String[top.size()];
+                for (int i = ranked.length - 1; i >= 0; i--) {
+                    ranked[i] = userIds[top.poll()];
+                }
+                List<String> page = offset < ranked.length
+                        ? Arrays.asList(ranked).subList(offset, ranked.length)
+                        : List.of();
+                return new Hits(List.copyOf(page), total);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        // Share of the query found first, then the Jaccard similarity with the user's own trigrams
+        private int compare(int[] shared, int queryTrigrams, int a, int b) {
+            int byShared = Integer.compare(shared[a], shared[b]);
+            if (byShared != 0) {
+                return byShared;
+            }
+            double jaccardA = (double) shared[a] / (queryTrigrams + slotTrigrams[a].length - shared[a]);
+            double jaccardB = (double) shared[b] / (queryTrigrams + slotTrigrams[b].length - shared[b]);
+            int byJaccard = Double.compare(jaccardA, jaccardB);
+            // Earlier ids first on a full tie, so pages stay stable
+            return byJaccard != 0 ? byJaccard : userIds[b].compareTo(userIds[a]);
+        }
+
+        private void removeLocked(String userId) {
+            Integer slot = slotsByUserId.remove(userId);
+            if (slot == null) {
+                return;
+            }
+            for (long trigram : slotTrigrams[slot]) {
+                Postings postings = postingsByTrigram.get(trigram);
+                if (postings != null && postings.remove(slot) && postings.size == 0) {
+                    postingsByTrigram.remove(trigram);
+                }
+            }
+            userIds[slot] = null;
+            slotTrigrams[slot] = null;
+            freeSlots.push(slot);
+        }
+
+        private int allocateSlot() {
+            if (!freeSlots.isEmpty()) {
+                return freeSlots.pop();
+            }
+            if (slotCount == userIds.length) {
+                int capacity = slotCount * 2;
+                userIds = Arrays.copyOf(userIds, capacity);
+                slotTrigrams = Arrays.copyOf(slotTrigrams, capacity);
+            }
+            return slotCount++;
+        }
+    }
+
+    /**
+     * Slots holding one trigram
+     */
+    private static final class Postings {
+
+        private static final Postings EMPTY = new Postings();
+
+        private int[] slots = new int[4];
+        private int size;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        boolean remove(int slot) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i] == slot) {
+                    slots[i] = slots[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
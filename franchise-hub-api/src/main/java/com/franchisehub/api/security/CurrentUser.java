@@ -0,0 +1,24 @@
+package com.franchisehub.api.security;
+
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Injects the authenticated {@link com.franchisehub.api.model.User} into a controller
+ * method. The user is resolved once by {@link JwtAuthenticationFilter} and kept as the
+ * security principal, so no further lookup by email is needed in the request.
+ *
+ * The principal is built from the token claims and carries id, email and role only;
+ * load the user through UserService when profile fields are needed.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@AuthenticationPrincipal
+public @interface CurrentUser {
+}
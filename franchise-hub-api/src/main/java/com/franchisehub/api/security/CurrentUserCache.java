@@ -0,0 +1,78 @@
+package com.franchisehub.api.security;
+
+import com.franchisehub.api.cache.InvalidationBus;
+import com.franchisehub.api.model.User;
+import com.franchisehub.api.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short-lived cache of authenticated users by email, used when a request's JWT is
+ * turned into a principal.
+ *
+ * Each request then works with that one User (see {@link CurrentUser}) instead of
+ * looking it up again. Entries expire after the TTL and are evicted as soon as a user
+ * write commits, on any node, through the user invalidations of the {@link InvalidationBus}.
+ * Cached users are shared between requests and must be treated as read-only.
+ */
+@Component
+@Slf4j
+public class CurrentUserCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final UserRepository userRepository;
+    private final Duration ttl;
+
+    public CurrentUserCache(UserRepository userRepository,
+                            InvalidationBus invalidationBus,
+                            @Value("${security.current-user-cache.ttl-ms:30000}") long ttlMs) {
+        this.userRepository = userRepository;
+        this.ttl = Duration.ofMillis(ttlMs);
+        invalidationBus.subscribe(InvalidationBus.USER, this::evict);
+    }
+
+    /**
+     * Get the user for an authenticated email, loading it if missing or expired
+     */
+    public User get(String email) {
+        Entry entry = entries.get(email);
+        if (entry != null && entry.expiresAt.isAfter(Instant.now())) {
+            return entry.user;
+        }
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+        entries.put(email, new Entry(user, Instant.now().plus(ttl)));
+        return user;
+    }
+
+    /**
+     * Drop the cached user (entries are keyed by email, so look it up by id) so the next request reloads it
+     */
+    private void evict(InvalidationBus.Invalidation invalidation) {
+        if (invalidation.wholeRegion()) {
+            entries.clear();
+        } else if (entries.values().removeIf(entry -> invalidation.key().equals(entry.user.getId()))) {
+            log.debug("Evicted cached principal for user {}", invalidation.key());
+        }
+    }
+
+    /**
+     * Drop expired entries so users who stopped calling the API do not stay cached.
+     */
+    @Scheduled(fixedDelayString = "${security.current-user-cache.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        Instant now = Instant.now();
+        entries.values().removeIf(entry -> !entry.expiresAt.isAfter(now));
+    }
+
+    private record Entry(User user, Instant expiresAt) {
+    }
+}
@@ -1,78 +1,128 @@
 package com.franchisehub.api.security;
 
+import com.franchisehub.api.model.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 @Slf4j
 public class JwtTokenProvider {
 
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_ROLE = "role";
+    private static final String CLAIM_TOKEN_VERSION = "tv";
+    private static final String CLAIM_TYPE = "typ";
+
     private final SecretKey jwtSecret;
+    private final JwtParser parser;
     private final int jwtExpirationInMs;
     private final int refreshTokenExpirationInMs;
+    private final int claimsCacheMaxSize;
+
+    // SHA-256 of a token that already passed signature verification -> its claims
+    private final Map<String, TokenClaims> verifiedClaims = new ConcurrentHashMap<>();
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String jwtSecret,
             @Value("${jwt.expiration}") int jwtExpirationInMs,
-            @Value("${jwt.refresh-expiration}") int refreshTokenExpirationInMs) {
+            @Value("${jwt.refresh-expiration}") int refreshTokenExpirationInMs,
+            @Value("${jwt.claims-cache.max-size:10000}") int claimsCacheMaxSize) {
         this.jwtSecret = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.parser = Jwts.parser().verifyWith(this.jwtSecret).build();
         this.jwtExpirationInMs = jwtExpirationInMs;
         this.refreshTokenExpirationInMs = refreshTokenExpirationInMs;
+        this.claimsCacheMaxSize = claimsCacheMaxSize;
     }
 
     public String generateToken(Authentication authentication) {
-        UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
-        return generateTokenFromUsername(userPrincipal.getUsername());
+        return generateAccessToken((User) authentication.getPrincipal());
     }
 
-    public String generateTokenFromUsername(String username) {
-        Date expiryDate = new Date(System.currentTimeMillis() + jwtExpirationInMs);
+    public String generateAccessToken(User user) {
+        return buildToken(user, TokenClaims.ACCESS, jwtExpirationInMs);
+    }
 
-        return Jwts.builder()
-                .setSubject(username)
-                .setIssuedAt(new Date())
-                .setExpiration(expiryDate)
-                .signWith(jwtSecret, SignatureAlgorithm.HS512)
-                .compact();
+    public String generateRefreshToken(User user) {
+        return buildToken(user, TokenClaims.REFRESH, refreshTokenExpirationInMs);
     }
 
-    public String generateRefreshToken(String username) {
-        Date expiryDate = new Date(System.currentTimeMillis() + refreshTokenExpirationInMs);
+    private String buildToken(User user, String type, int expirationInMs) {
+        Date expiryDate = new Date(System.currentTimeMillis() + expirationInMs);
 
         return Jwts.builder()
-                .setSubject(username)
-                .setIssuedAt(new Date())
-                .setExpiration(expiryDate)
-                .signWith(jwtSecret, SignatureAlgorithm.HS512)
+                .subject(user.getEmail())
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_ROLE, user.getRole().name())
+                .claim(CLAIM_TOKEN_VERSION, user.getTokenVersion() != null ? user.getTokenVersion() : 0)
+                .claim(CLAIM_TYPE, type)
+                .issuedAt(new Date())
+                .expiration(expiryDate)
+                .signWith(jwtSecret, Jwts.SIG.HS512)
                 .compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(jwtSecret)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * Verify a token and return its claims, or null if it is invalid or expired.
+     * A token seen before is answered from the claims cache without another HMAC check.
+     */
+    public TokenClaims parseToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        String digest = digest(token);
+        TokenClaims cached = verifiedClaims.get(digest);
+        if (cached != null) {
+            if (cached.expiresAt().isAfter(Instant.now())) {
+                return cached;
+            }
+            verifiedClaims.remove(digest);
+            log.error("Expired JWT token");
+            return null;
+        }
 
-        return claims.getSubject();
+        TokenClaims claims = verify(token);
+        if (claims != null) {
+            cache(digest, claims);
+        }
+        return claims;
+    }
+
+    public String getUsernameFromToken(String token) {
+        TokenClaims claims = parseToken(token);
+        return claims != null ? claims.email() : null;
     }
 
     public boolean validateToken(String authToken) {
+        return parseToken(authToken) != null;
+    }
+
+    private TokenClaims verify(String token) {
         try {
-            Jwts.parser()
-                .verifyWith(jwtSecret)
-                .build()
-                .parseSignedClaims(authToken);
-            return true;
-        } catch (SecurityException ex) {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            String role = claims.get(CLAIM_ROLE, String.class);
+            Number tokenVersion = claims.get(CLAIM_TOKEN_VERSION, Number.class);
+            return new TokenClaims(
+                    claims.get(CLAIM_USER_ID, String.class),
+                    claims.getSubject(),
+                    role != null ? User.UserRole.valueOf(role) : null,
+                    tokenVersion != null ? tokenVersion.intValue() : 0,
+                    claims.get(CLAIM_TYPE, String.class),
+                    claims.getExpiration().toInstant());
+        } catch (io.jsonwebtoken.security.SecurityException ex) {
             log.error("Invalid JWT signature");
         } catch (MalformedJwtException ex) {
             log.error("Invalid JWT token");
@@ -80,24 +130,32 @@ public class JwtTokenProvider {
             log.error("Expired JWT token");
         } catch (UnsupportedJwtException ex) {
             log.error("Unsupported JWT token");
+        } catch (JwtException ex) {
+            log.error("Invalid JWT claims: {}", ex.getMessage());
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty");
         }
-        return false;
+        return null;
     }
 
-    public Date getExpirationDateFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(jwtSecret)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.getExpiration();
+    private void cache(String digest, TokenClaims claims) {
+        if (verifiedClaims.size() >= claimsCacheMaxSize) {
+            Instant now = Instant.now();
+            verifiedClaims.values().removeIf(c -> !c.expiresAt().isAfter(now));
+            if (verifiedClaims.size() >= claimsCacheMaxSize) {
+                // Still full of live tokens: verify this one again next time rather than grow
+                return;
+            }
+        }
+        verifiedClaims.put(digest, claims);
     }
 
-    public boolean isTokenExpired(String token) {
-        Date expiration = getExpirationDateFromToken(token);
-        return expiration.before(new Date());
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
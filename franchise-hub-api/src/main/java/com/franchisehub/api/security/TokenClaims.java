@@ -0,0 +1,36 @@
+package com.franchisehub.api.security;
+
+import com.franchisehub.api.model.User;
+
+import java.time.Instant;
+
+/**
+ * Verified contents of a JWT. Tokens issued before claims were added carry only
+ * the subject, so userId, role and type may be null for them.
+ */
+public record TokenClaims(String userId, String email, User.UserRole role, int tokenVersion,
+                          String type, Instant expiresAt) {
+
+    public static final String ACCESS = "access";
+    public static final String REFRESH = "refresh";
+
+    /**
+     * Whether the token carries the identity claims needed to authenticate without a user lookup
+     */
+    public boolean hasIdentity() {
+        return userId != null && role != null;
+    }
+
+    /**
+     * Build the request principal from the claims. Only id, email, role and token version are set.
+     */
+    public User toPrincipal() {
+        User user = new User();
+        user.setId(userId);
+        user.setEmail(email);
+        user.setRole(role);
+        user.setIsActive(true);
+        user.setTokenVersion(tokenVersion);
+        return user;
+    }
+}
@@ -0,0 +1,64 @@
+package com.franchisehub.api.security;
+
+import com.franchisehub.api.cache.InvalidationBus;
+import com.franchisehub.api.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Current token version per user, used to reject tokens after a role change,
+ * deactivation, deletion or password change without loading the user per request.
+ *
+ * Versions are read from the database at most once per TTL per user. Services that
+ * bump a version publish a user invalidation on the {@link InvalidationBus}, which is
+ * delivered once their transaction commits: on this node right away, on other nodes
+ * when they next poll, and in any case the new version is read after the TTL.
+ */
+@Component
+public class TokenVersionCache {
+
+    // Stored for users that no longer exist or are inactive, so no token matches
+    private static final int REVOKED = -1;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final UserRepository userRepository;
+    private final Duration ttl;
+
+    public TokenVersionCache(UserRepository userRepository,
+                             InvalidationBus invalidationBus,
+                             @Value("${security.token-version.ttl-ms:60000}") long ttlMs) {
+        this.userRepository = userRepository;
+        this.ttl = Duration.ofMillis(ttlMs);
+        invalidationBus.subscribe(InvalidationBus.USER, this::onUserChanged);
+    }
+
+    /**
+     * Whether a token issued at the given version is still valid for the user
+     */
+    public boolean isCurrent(String userId, int tokenVersion) {
+        Entry entry = entries.get(userId);
+        if (entry == null || !entry.expiresAt.isAfter(Instant.now())) {
+            int version = userRepository.findActiveTokenVersionById(userId).orElse(REVOKED);
+            entry = new Entry(version, Instant.now().plus(ttl));
+            entries.put(userId, entry);
+        }
+        return entry.version != REVOKED && entry.version == tokenVersion;
+    }
+
+    // Invalidations arrive after the commit, so the reload reads the new version
+    private void onUserChanged(InvalidationBus.Invalidation invalidation) {
+        if (invalidation.wholeRegion()) {
+            entries.clear();
+        } else {
+            entries.remove(invalidation.key());
+        }
+    }
+
+    private record Entry(int version, Instant expiresAt) {
+    }
+}
@@ -1,23 +1,34 @@
 package com.franchisehub.api.service;
 
+import com.franchisehub.api.cache.ApproximateCountCache;
+import com.franchisehub.api.cache.RequestMemo;
+import com.franchisehub.api.dto.ApplicationDto;
+import com.franchisehub.api.dto.CursorDto;
+import com.franchisehub.api.dto.SliceDto;
 import com.franchisehub.api.model.Application;
 import com.franchisehub.api.model.ApplicationDocument;
 import com.franchisehub.api.model.Franchise;
+import com.franchisehub.api.model.TimeOrderedIdGenerator;
 import com.franchisehub.api.model.User;
 import com.franchisehub.api.repository.ApplicationRepository;
 import com.franchisehub.api.repository.FranchiseRepository;
 import com.franchisehub.api.repository.UserRepository;
+import com.franchisehub.api.search.FullTextSearch;
 import com.franchisehub.api.exception.ResourceNotFoundException;
 import com.franchisehub.api.exception.BadRequestException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.List;
 import java.util.ArrayList;
@@ -32,24 +43,28 @@ public class ApplicationService {
     private final FranchiseRepository franchiseRepository;
     private final UserRepository userRepository;
     private final UserService userService;
+    private final ApproximateCountCache countCache;
+    private final StatsAggregationService statsAggregationService;
+    private final RequestMemo requestMemo;
+    private final FullTextSearch fullTextSearch;
 
     /**
-     * Get all applications with pagination
+     * Get application by ID
      */
     @Transactional(readOnly = true)
-    public Page<Application> getAllApplications(Pageable pageable) {
-        log.debug("Getting all applications with pagination: {}", pageable);
-        return applicationRepository.findAll(pageable);
+    public Application getApplicationById(String id) {
+        log.debug("Getting application by ID: {}", id);
+        return requestMemo.find(Application.class, id, applicationRepository::findById)
+                .orElseThrow(() -> new ResourceNotFoundException("Application not found with ID: " + id));
     }
 
     /**
-     * Get application by ID
+     * Get when an application was last modified, without loading it
      */
     @Transactional(readOnly = true)
-    public Application getApplicationById(String id) {
-        log.debug("Getting application by ID: {}", id);
-        return applicationRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Application not found with ID: " + id));
+    public Optional<LocalDateTime> getApplicationLastModified(String id) {
+        log.debug("Getting last modified time of application: {}", id);
+        return applicationRepository.findUpdatedAtById(id);
     }
 
     /**
@@ -62,12 +77,16 @@ public class ApplicationService {
     }
 
     /**
-     * Get applications by applicant ID with pagination
+     * Get application summaries by applicant ID, newest first, using keyset pagination
      */
     @Transactional(readOnly = true)
-    public Page<Application> getApplicationsByApplicantId(String applicantId, Pageable pageable) {
-        log.debug("Getting applications by applicant ID: {} with pagination: {}", applicantId, pageable);
-        return applicationRepository.findByApplicantId(applicantId, pageable);
+    public CursorDto.CursorPage<ApplicationDto.ApplicationSummary> getApplicationSummariesByApplicantId(String applicantId, String cursor, int size) {
+        log.debug("Getting application summaries by applicant ID: {} after cursor: {} with size: {}", applicantId, cursor, size);
+        CursorDto.Cursor position = CursorDto.Cursor.decode(cursor);
+        List<ApplicationDto.ApplicationSummary> rows = position == null
+                ? applicationRepository.findSummaryFeedByApplicantId(applicantId, CursorDto.fetchLimit(size))
+                : applicationRepository.findSummaryFeedByApplicantIdBefore(applicantId, position.getTimestamp(), position.getId(), CursorDto.fetchLimit(size));
+        return CursorDto.CursorPage.of(rows, size, a -> new CursorDto.Cursor(a.getSubmittedAt(), a.getId()));
     }
 
     /**
@@ -80,49 +99,129 @@ public class ApplicationService {
     }
 
     /**
-     * Get applications by franchise ID with pagination
+     * Get applications by status
      */
     @Transactional(readOnly = true)
-    public Page<Application> getApplicationsByFranchiseId(String franchiseId, Pageable pageable) {
-        log.debug("Getting applications by franchise ID: {} with pagination: {}", franchiseId, pageable);
-        return applicationRepository.findByFranchiseId(franchiseId, pageable);
+    public List<Application> getApplicationsByStatus(Application.ApplicationStatus status) {
+        log.debug("Getting applications by status: {}", status);
+        return applicationRepository.findByStatus(status);
     }
 
     /**
-     * Get applications by status
+     * Get application summaries for business owner's franchises without a count query;
+     * the total is served from the count cache
+     * @param businessOwnerIdentifier Can be either email or UUID
      */
     @Transactional(readOnly = true)
-    public List<Application> getApplicationsByStatus(Application.ApplicationStatus status) {
-        log.debug("Getting applications by status: {}", status);
-        return applicationRepository.findByStatus(status);
+    public SliceDto.SliceResponse<ApplicationDto.ApplicationSummary> getApplicationSummarySliceForBusinessOwner(String businessOwnerIdentifier, Pageable pageable) {
+        log.debug("Getting application slice for business owner: {} with pagination: {}", businessOwnerIdentifier, pageable);
+
+        String businessOwnerId = businessOwnerIdentifier.contains("@")
+                ? userService.getUserIdentityByEmail(businessOwnerIdentifier).getId()
+                : businessOwnerIdentifier;
+
+        Slice<ApplicationDto.ApplicationSummary> slice = applicationRepository.findSummarySliceForBusinessOwner(businessOwnerId, pageable);
+        ApproximateCountCache.Estimate total = countCache.get(ApproximateCountCache.APPLICATIONS_FOR_BUSINESS_OWNER, businessOwnerId,
+                () -> applicationRepository.countApplicationsForBusinessOwner(businessOwnerId));
+        return SliceDto.SliceResponse.of(slice, total);
     }
 
     /**
-     * Get applications by status with pagination
+     * Get application summaries with pagination
      */
     @Transactional(readOnly = true)
-    public Page<Application> getApplicationsByStatus(Application.ApplicationStatus status, Pageable pageable) {
-        log.debug("Getting applications by status: {} with pagination: {}", status, pageable);
-        return applicationRepository.findByStatus(status, pageable);
+    public Page<ApplicationDto.ApplicationSummary> getAllApplicationSummaries(Pageable pageable) {
+        log.debug("Getting all application summaries with pagination: {}", pageable);
+        return applicationRepository.findAllSummaries(pageable);
     }
 
     /**
-     * Get applications for business owner's franchises
+     * Get application summaries by applicant ID with pagination
+     */
+    @Transactional(readOnly = true)
+    public Page<ApplicationDto.ApplicationSummary> getApplicationSummariesByApplicantId(String applicantId, Pageable pageable) {
+        log.debug("Getting application summaries by applicant ID: {} with pagination: {}", applicantId, pageable);
+        return applicationRepository.findSummariesByApplicantId(applicantId, pageable);
+    }
+
+    /**
+     * Get application summaries by franchise ID with pagination
+     */
+    @Transactional(readOnly = true)
+    public Page<ApplicationDto.ApplicationSummary> getApplicationSummariesByFranchiseId(String franchiseId, Pageable pageable) {
+        log.debug("Getting application summaries by franchise ID: {} with pagination: {}", franchiseId, pageable);
+        return applicationRepository.findSummariesByFranchiseId(franchiseId, pageable);
+    }
+
+    /**
+     * Get application summaries by status with pagination
+     */
+    @Transactional(readOnly = true)
+    public Page<ApplicationDto.ApplicationSummary> getApplicationSummariesByStatus(Application.ApplicationStatus status, Pageable pageable) {
+        log.debug("Getting application summaries by status: {} with pagination: {}", status, pageable);
+        return applicationRepository.findSummariesByStatus(status, pageable);
+    }
+
+    /**
+     * Search active applications by applicant name, applicant email or franchise name
+     */
+    @Transactional(readOnly = true)
+    public Page<ApplicationDto.ApplicationSummary> searchActiveApplicationSummaries(String searchTerm, Pageable pageable) {
+        log.debug("Searching active application summaries with term: {} and pagination: {}", searchTerm, pageable);
+        Page<String> ids = fullTextSearch.searchActiveApplications(searchTerm, pageable);
+        List<ApplicationDto.ApplicationSummary> applications = FullTextSearch.inRankOrder(
+                ids.getContent(), applicationRepository.findSummariesByIdIn(ids.getContent()), ApplicationDto.ApplicationSummary::getId);
+        return new PageImpl<>(applications, pageable, ids.getTotalElements());
+    }
+
+    /**
+     * Get application summaries by applicant ID and status with pagination
+     */
+    @Transactional(readOnly = true)
+    public Page<ApplicationDto.ApplicationSummary> getApplicationSummariesByApplicantIdAndStatus(String applicantId, Application.ApplicationStatus status, Pageable pageable) {
+        log.debug("Getting application summaries by applicant ID: {} and status: {} with pagination: {}", applicantId, status, pageable);
+        return applicationRepository.findSummariesByApplicantIdAndStatus(applicantId, status, pageable);
+    }
+
+    /**
+     * Get application summaries for business owner's franchises
      * @param businessOwnerIdentifier Can be either email or UUID
      */
     @Transactional(readOnly = true)
-    public Page<Application> getApplicationsForBusinessOwner(String businessOwnerIdentifier, Pageable pageable) {
-        log.debug("Getting applications for business owner: {} with pagination: {}", businessOwnerIdentifier, pageable);
+    public Page<ApplicationDto.ApplicationSummary> getApplicationSummariesForBusinessOwner(String businessOwnerIdentifier, Pageable pageable) {
+        log.debug("Getting application summaries for business owner: {} with pagination: {}", businessOwnerIdentifier, pageable);
 
-        // If the identifier looks like an email, resolve it to UUID
-        String businessOwnerId = businessOwnerIdentifier;
-        if (businessOwnerIdentifier.contains("@")) {
-            User user = userService.getUserByEmail(businessOwnerIdentifier);
-            businessOwnerId = user.getId();
-            log.debug("Resolved email {} to UUID {}", businessOwnerIdentifier, businessOwnerId);
-        }
+        String businessOwnerId = businessOwnerIdentifier.contains("@")
+                ? userService.getUserIdentityByEmail(businessOwnerIdentifier).getId()
+                : businessOwnerIdentifier;
 
-        return applicationRepository.findApplicationsForBusinessOwner(businessOwnerId, pageable);
+        return applicationRepository.findSummariesForBusinessOwner(businessOwnerId, pageable);
+    }
+
+    /**
+     * Search the active applications of a business owner's franchises by applicant name,
+     * applicant email or franchise name, narrowed by status, payment status and submission time.
+     * Every filter is optional.
+     * @param businessOwnerIdentifier Can be either email or UUID
+     */
+    @Transactional(readOnly = true)
+    public Page<ApplicationDto.ApplicationSummary> searchApplicationSummariesForBusinessOwner(
+            String businessOwnerIdentifier,
+            String searchTerm,
+            Application.ApplicationStatus status,
+            Application.PaymentStatus paymentStatus,
+            LocalDateTime submittedFrom,
+            LocalDateTime submittedTo,
+            Pageable pageable) {
+        log.debug("Searching application summaries for business owner: {} with term: {}, status: {}, payment status: {}, submitted {} - {} and pagination: {}",
+                businessOwnerIdentifier, searchTerm, status, paymentStatus, submittedFrom, submittedTo, pageable);
+
+        String businessOwnerId = businessOwnerIdentifier.contains("@")
+                ? userService.getUserIdentityByEmail(businessOwnerIdentifier).getId()
+                : businessOwnerIdentifier;
+
+        return applicationRepository.searchSummariesForBusinessOwner(
+                businessOwnerId, searchTerm, status, paymentStatus, submittedFrom, submittedTo, pageable);
     }
 
     /**
@@ -154,12 +253,13 @@ public class ApplicationService {
         }
 
         // Set application details
-        application.setId(java.util.UUID.randomUUID().toString());
+        application.setId(TimeOrderedIdGenerator.nextId());
         application.setApplicantId(applicant.getId()); // Use User's UUID instead of email
         application.setApplicantName(applicant.getFirstName() + " " + applicant.getLastName());
         application.setApplicantEmail(applicant.getEmail());
         application.setFranchiseId(franchiseId);
         application.setFranchiseName(franchise.getName());
+        application.setBusinessOwnerId(franchise.getBusinessOwnerId());
         application.setSubmittedAt(LocalDateTime.now());
         application.setUpdatedAt(LocalDateTime.now());
         application.setIsActive(true);
@@ -193,6 +293,7 @@ public class ApplicationService {
         }
 
         Application savedApplication = applicationRepository.save(application);
+        countCache.invalidate(ApproximateCountCache.APPLICATIONS_FOR_BUSINESS_OWNER, savedApplication.getBusinessOwnerId());
         log.info("Created application with ID: {}", savedApplication.getId());
         return savedApplication;
     }
@@ -365,15 +466,7 @@ public class ApplicationService {
     @Transactional(readOnly = true)
     public ApplicationStats getApplicationStats() {
         log.debug("Getting application statistics");
-        
-        long totalApplications = applicationRepository.count();
-        long submittedApplications = applicationRepository.countByStatus(Application.ApplicationStatus.SUBMITTED);
-        long underReviewApplications = applicationRepository.countByStatus(Application.ApplicationStatus.UNDER_REVIEW);
-        long approvedApplications = applicationRepository.countByStatus(Application.ApplicationStatus.APPROVED);
-        long rejectedApplications = applicationRepository.countByStatus(Application.ApplicationStatus.REJECTED);
-        
-        return new ApplicationStats(totalApplications, submittedApplications, underReviewApplications, 
-                                  approvedApplications, rejectedApplications);
+        return statsAggregationService.getApplicationStats();
     }
 
     /**
@@ -382,15 +475,7 @@ public class ApplicationService {
     @Transactional(readOnly = true)
     public ApplicationStats getApplicationStatsByFranchise(String franchiseId) {
         log.debug("Getting application statistics for franchise: {}", franchiseId);
-
-        long totalApplications = applicationRepository.countByFranchiseId(franchiseId);
-        long submittedApplications = applicationRepository.countByFranchiseIdAndStatus(franchiseId, Application.ApplicationStatus.SUBMITTED);
-        long underReviewApplications = applicationRepository.countByFranchiseIdAndStatus(franchiseId, Application.ApplicationStatus.UNDER_REVIEW);
-        long approvedApplications = applicationRepository.countByFranchiseIdAndStatus(franchiseId, Application.ApplicationStatus.APPROVED);
-        long rejectedApplications = applicationRepository.countByFranchiseIdAndStatus(franchiseId, Application.ApplicationStatus.REJECTED);
-
-        return new ApplicationStats(totalApplications, submittedApplications, underReviewApplications,
-                                  approvedApplications, rejectedApplications);
+        return statsAggregationService.getApplicationStatsByFranchise(franchiseId);
     }
 
     /**
@@ -399,15 +484,7 @@ public class ApplicationService {
     @Transactional(readOnly = true)
     public ApplicationStats getApplicationStatsByBusinessOwner(String businessOwnerId) {
         log.debug("Getting application statistics for business owner: {}", businessOwnerId);
-
-        long totalApplications = applicationRepository.countApplicationsForBusinessOwner(businessOwnerId);
-        long submittedApplications = applicationRepository.countApplicationsForBusinessOwnerByStatus(businessOwnerId, Application.ApplicationStatus.SUBMITTED);
-        long underReviewApplications = applicationRepository.countApplicationsForBusinessOwnerByStatus(businessOwnerId, Application.ApplicationStatus.UNDER_REVIEW);
-        long approvedApplications = applicationRepository.countApplicationsForBusinessOwnerByStatus(businessOwnerId, Application.ApplicationStatus.APPROVED);
-        long rejectedApplications = applicationRepository.countApplicationsForBusinessOwnerByStatus(businessOwnerId, Application.ApplicationStatus.REJECTED);
-
-        return new ApplicationStats(totalApplications, submittedApplications, underReviewApplications,
-                                  approvedApplications, rejectedApplications);
+        return statsAggregationService.getApplicationStatsByBusinessOwner(businessOwnerId);
     }
 
     /**
@@ -429,15 +506,6 @@ public class ApplicationService {
         // Add more validation as needed
     }
 
-    /**
-     * Get applications by applicant ID and status
-     */
-    @Transactional(readOnly = true)
-    public Page<Application> getApplicationsByApplicantIdAndStatus(String applicantId, Application.ApplicationStatus status, Pageable pageable) {
-        log.debug("Getting applications by applicant ID: {} and status: {} with pagination: {}", applicantId, status, pageable);
-        return applicationRepository.findByApplicantIdAndStatus(applicantId, status, pageable);
-    }
-
     /**
      * Approve application
      */
@@ -448,7 +516,7 @@ public class ApplicationService {
         Application application = getApplicationById(id);
 
         // Resolve email to UUID if needed
-        User reviewer = userService.getUserByEmail(reviewerEmail);
+        User reviewer = userService.getUserIdentityByEmail(reviewerEmail);
 
         if (reviewer.getRole() != User.UserRole.ADMIN && reviewer.getRole() != User.UserRole.BUSINESS) {
             throw new BadRequestException("Only admins and business owners can approve applications");
@@ -485,7 +553,7 @@ public class ApplicationService {
         Application application = getApplicationById(id);
 
         // Resolve email to UUID if needed
-        User reviewer = userService.getUserByEmail(reviewerEmail);
+        User reviewer = userService.getUserIdentityByEmail(reviewerEmail);
 
         if (reviewer.getRole() != User.UserRole.ADMIN && reviewer.getRole() != User.UserRole.BUSINESS) {
             throw new BadRequestException("Only admins and business owners can reject applications");
@@ -544,6 +612,8 @@ public class ApplicationService {
             application.setDocuments(new ArrayList<>());
         }
         application.getDocuments().add(document);
+        // Documents are part of the application response, so its version moves with them
+        application.setUpdatedAt(LocalDateTime.now());
 
         applicationRepository.save(application);
         log.info("Uploaded document for application: {}", applicationId);
@@ -565,7 +635,9 @@ public class ApplicationService {
         }
 
         if (application.getDocuments() != null) {
-            application.getDocuments().removeIf(doc -> doc.getId().equals(documentId));
+            if (application.getDocuments().removeIf(doc -> doc.getId().equals(documentId))) {
+                application.setUpdatedAt(LocalDateTime.now());
+            }
             applicationRepository.save(application);
         }
 
@@ -640,7 +712,7 @@ public class ApplicationService {
         // Create new user for real accounts that don't have User records
         log.info("Creating new User record for real account: {}", applicantId);
         User newUser = new User();
-        newUser.setId(java.util.UUID.randomUUID().toString());
+        newUser.setId(TimeOrderedIdGenerator.nextId());
         newUser.setEmail(applicantId);
 
         // Use application data to populate user fields
@@ -677,21 +749,18 @@ public class ApplicationService {
     @Transactional(readOnly = true)
     public boolean isApplicationOwner(String applicationId, String userEmail) {
         log.debug("Checking if user {} is owner of application {}", userEmail, applicationId);
-
-        try {
-            Application application = getApplicationById(applicationId);
-
-            // Resolve email to UUID if needed
-            User user = userService.getUserByEmail(userEmail);
-
-            boolean isOwner = application.getApplicantId().equals(user.getId());
-            log.debug("User {} is owner of application {}: {}", userEmail, applicationId, isOwner);
-            return isOwner;
-        } catch (Exception e) {
-            log.warn("Error checking application ownership for user {} and application {}: {}",
-                    userEmail, applicationId, e.getMessage());
-            return false;
-        }
+        return requestMemo.decide("application-owner:" + applicationId + ":" + userEmail, () -> {
+            try {
+                Application application = getApplicationById(applicationId);
+                boolean isOwner = isApplicant(application, resolveUserId(userEmail));
+                log.debug("User {} is owner of application {}: {}", userEmail, applicationId, isOwner);
+                return isOwner;
+            } catch (Exception e) {
+                log.warn("Error checking application ownership for user {} and application {}: {}",
+                        userEmail, applicationId, e.getMessage());
+                return false;
+            }
+        });
     }
 
     /**
@@ -700,24 +769,65 @@ public class ApplicationService {
     @Transactional(readOnly = true)
     public boolean isApplicationBusinessOwner(String applicationId, String userEmail) {
         log.debug("Checking if user {} is business owner for application {}", userEmail, applicationId);
+        return requestMemo.decide("application-business-owner:" + applicationId + ":" + userEmail, () -> {
+            try {
+                Application application = getApplicationById(applicationId);
+                boolean isBusinessOwner = isBusinessOwner(application, resolveUserId(userEmail));
+                log.debug("User {} is business owner for application {}: {}", userEmail, applicationId, isBusinessOwner);
+                return isBusinessOwner;
+            } catch (Exception e) {
+                log.warn("Error checking business ownership for user {} and application {}: {}",
+                        userEmail, applicationId, e.getMessage());
+                return false;
+            }
+        });
+    }
 
+    /**
+     * Check if the user may view every one of the applications, as applicant or business owner.
+     * All applications not yet loaded in this request are read with a single query.
+     */
+    @Transactional(readOnly = true)
+    public boolean canViewApplications(Collection<String> applicationIds, String userEmail) {
+        log.debug("Checking if user {} can view {} applications", userEmail, applicationIds.size());
         try {
-            Application application = getApplicationById(applicationId);
+            Map<String, Application> applications = requestMemo.findAll(Application.class, applicationIds,
+                    applicationRepository::findAllById, Application::getId);
+            String userId = resolveUserId(userEmail);
+            for (String applicationId : applicationIds) {
+                Application application = applications.get(applicationId);
+                boolean canView = application != null && requestMemo.decide(
+                        "application-viewer:" + applicationId + ":" + userEmail,
+                        () -> isApplicant(application, userId) || isBusinessOwner(application, userId));
+                if (!canView) {
+                    log.debug("User {} cannot view application {}", userEmail, applicationId);
+                    return false;
+                }
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("Error checking application access for user {}: {}", userEmail, e.getMessage());
+            return false;
+        }
+    }
 
-            // Get the franchise for this application
-            Franchise franchise = franchiseRepository.findById(application.getFranchiseId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Franchise not found"));
+    private String resolveUserId(String userEmail) {
+        // The principal is answered from the token claims without a query
+        return userService.getUserIdentityByEmail(userEmail).getId();
+    }
 
-            // Resolve email to UUID if needed
-            User user = userService.getUserByEmail(userEmail);
+    private boolean isApplicant(Application application, String userId) {
+        return application.getApplicantId().equals(userId);
+    }
 
-            boolean isBusinessOwner = franchise.getBusinessOwnerId().equals(user.getId());
-            log.debug("User {} is business owner for application {}: {}", userEmail, applicationId, isBusinessOwner);
-            return isBusinessOwner;
-        } catch (Exception e) {
-            log.warn("Error checking business ownership for user {} and application {}: {}",
-                    userEmail, applicationId, e.getMessage());
-            return false;
+    private boolean isBusinessOwner(Application application, String userId) {
+        // The owner ID is copied onto the application; older rows fall back to the franchise
+        String businessOwnerId = application.getBusinessOwnerId();
+        if (businessOwnerId == null) {
+            businessOwnerId = requestMemo.find(Franchise.class, application.getFranchiseId(), franchiseRepository::findById)
+                    .map(Franchise::getBusinessOwnerId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Franchise not found"));
         }
+        return businessOwnerId.equals(userId);
     }
 }
@@ -1,11 +1,14 @@
 package com.franchisehub.api.service;
 
+import com.franchisehub.api.cache.InvalidationBus;
 import com.franchisehub.api.dto.AuthDto;
+import com.franchisehub.api.model.TimeOrderedIdGenerator;
 import com.franchisehub.api.model.User;
 import com.franchisehub.api.exception.BadRequestException;
 import com.franchisehub.api.exception.ResourceNotFoundException;
 import com.franchisehub.api.repository.UserRepository;
 import com.franchisehub.api.security.JwtTokenProvider;
+import com.franchisehub.api.security.TokenClaims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -17,7 +20,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -28,6 +30,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider tokenProvider;
+    private final InvalidationBus invalidationBus;
 
     @Transactional
     public AuthDto.AuthResponse login(AuthDto.LoginRequest loginRequest) {
@@ -40,9 +43,6 @@ public class AuthService {
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        String accessToken = tokenProvider.generateToken(authentication);
-        String refreshToken = tokenProvider.generateRefreshToken(loginRequest.getEmail());
-
         // Update last login time
         User user = userRepository.findByEmail(loginRequest.getEmail())
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -50,6 +50,9 @@ public class AuthService {
         user.setLastLoginAt(LocalDateTime.now());
         userRepository.save(user);
 
+        String accessToken = tokenProvider.generateAccessToken(user);
+        String refreshToken = tokenProvider.generateRefreshToken(user);
+
         AuthDto.UserDto userDto = mapToUserDto(user);
 
         return new AuthDto.AuthResponse(
@@ -69,7 +72,7 @@ public class AuthService {
 
         // Create new user
         User user = new User();
-        user.setId(UUID.randomUUID().toString());
+        user.setId(TimeOrderedIdGenerator.nextId());
         user.setEmail(registerRequest.getEmail());
         user.setFirstName(registerRequest.getFirstName());
         user.setLastName(registerRequest.getLastName());
@@ -91,6 +94,8 @@ public class AuthService {
         user.setPreferences(preferences);
 
         User savedUser = userRepository.save(user);
+        // Nothing is cached for a new user yet; this adds it to the user search index
+        invalidationBus.publish(InvalidationBus.USER, savedUser.getId());
 
         // Generate tokens
         Authentication authentication = authenticationManager.authenticate(
@@ -101,7 +106,7 @@ public class AuthService {
         );
 
         String accessToken = tokenProvider.generateToken(authentication);
-        String refreshToken = tokenProvider.generateRefreshToken(registerRequest.getEmail());
+        String refreshToken = tokenProvider.generateRefreshToken(savedUser);
 
         AuthDto.UserDto userDto = mapToUserDto(savedUser);
 
@@ -117,13 +122,19 @@ public class AuthService {
     public AuthDto.AuthResponse refreshToken(AuthDto.RefreshTokenRequest refreshTokenRequest) {
         String refreshToken = refreshTokenRequest.getRefreshToken();
 
-        if (tokenProvider.validateToken(refreshToken)) {
-            String email = tokenProvider.getUsernameFromToken(refreshToken);
-            User user = userRepository.findByEmail(email)
+        TokenClaims claims = tokenProvider.parseToken(refreshToken);
+        if (claims != null && !TokenClaims.ACCESS.equals(claims.type())) {
+            User user = userRepository.findByEmail(claims.email())
                     .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-            String newAccessToken = tokenProvider.generateTokenFromUsername(email);
-            String newRefreshToken = tokenProvider.generateRefreshToken(email);
+            // Refresh tokens are revoked together with access tokens; legacy ones count as version 0
+            int tokenVersion = user.getTokenVersion() != null ? user.getTokenVersion() : 0;
+            if (!Boolean.TRUE.equals(user.getIsActive()) || claims.tokenVersion() != tokenVersion) {
+                throw new BadRequestException("Invalid refresh token");
+            }
+
+            String newAccessToken = tokenProvider.generateAccessToken(user);
+            String newRefreshToken = tokenProvider.generateRefreshToken(user);
 
             AuthDto.UserDto userDto = mapToUserDto(user);
 
@@ -149,7 +160,9 @@ public class AuthService {
         }
 
         user.setPassword(passwordEncoder.encode(changePasswordRequest.getNewPassword()));
+        user.revokeTokens();
         userRepository.save(user);
+        invalidationBus.publish(InvalidationBus.USER, user.getId());
     }
 
     private AuthDto.UserDto mapToUserDto(User user) {
@@ -1,10 +1,17 @@
 package com.franchisehub.api.service;
 
 import com.franchisehub.api.dto.FranchiseDto;
+import com.franchisehub.api.cache.ApproximateCountCache;
+import com.franchisehub.api.cache.InvalidationBus;
+import com.franchisehub.api.cache.RequestMemo;
 import com.franchisehub.api.model.Franchise;
+import com.franchisehub.api.model.TimeOrderedIdGenerator;
 import com.franchisehub.api.model.User;
 import com.franchisehub.api.model.Application;
 import com.franchisehub.api.repository.FranchiseRepository;
+import com.franchisehub.api.search.FranchiseFacetIndex;
+import com.franchisehub.api.search.FranchiseSearchIndex;
+import com.franchisehub.api.search.FullTextSearch;
 import com.franchisehub.api.repository.UserRepository;
 import com.franchisehub.api.repository.ApplicationRepository;
 import com.franchisehub.api.repository.PaymentTransactionRepository;
@@ -12,14 +19,27 @@ import com.franchisehub.api.exception.ResourceNotFoundException;
 import com.franchisehub.api.exception.BadRequestException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -27,19 +47,20 @@ import java.util.List;
 @Transactional
 public class FranchiseService {
 
+    private static final String DEMO_BUSINESS_OWNER_ID = "demo-business-user";
+
     private final FranchiseRepository franchiseRepository;
     private final UserRepository userRepository;
     private final ApplicationRepository applicationRepository;
     private final PaymentTransactionRepository paymentRepository;
-
-    /**
-     * Get all franchises with pagination
-     */
-    @Transactional(readOnly = true)
-    public Page<Franchise> getAllFranchises(Pageable pageable) {
-        log.debug("Getting all franchises with pagination: {}", pageable);
-        return franchiseRepository.findAll(pageable);
-    }
+    private final StatsAggregationService statsAggregationService;
+    private final InvalidationBus invalidationBus;
+    private final UserService userService;
+    private final RequestMemo requestMemo;
+    private final ApproximateCountCache countCache;
+    private final FranchiseSearchIndex franchiseSearchIndex;
+    private final FranchiseFacetIndex franchiseFacetIndex;
+    private final FullTextSearch fullTextSearch;
 
     /**
      * Get all active franchises
@@ -47,30 +68,32 @@ public class FranchiseService {
     @Transactional(readOnly = true)
     public List<Franchise> getAllActiveFranchises() {
         log.debug("Getting all active franchises");
-        return franchiseRepository.findByStatus(Franchise.FranchiseStatus.ACTIVE);
+        return applyFetchPlan(franchiseRepository.findByStatus(Franchise.FranchiseStatus.ACTIVE), FetchPlan.DETAIL);
     }
 
     /**
-     * Get all active franchises excluding demo business owner franchises
+     * Get catalog cards for all active franchises excluding demo business owner franchises
      * This ensures data isolation between demo and real user contexts
      */
     @Transactional(readOnly = true)
-    public List<Franchise> getActiveFranchisesExcludingDemo() {
-        log.debug("Getting active franchises excluding demo business owner franchises");
-        List<Franchise> allActiveFranchises = franchiseRepository.findByStatus(Franchise.FranchiseStatus.ACTIVE);
-
-        // Filter out franchises owned by demo business accounts
-        return allActiveFranchises.stream()
-                .filter(franchise -> !isDemoBusinessOwner(franchise.getBusinessOwnerId()))
+    public List<FranchiseDto.FranchiseCard> getActiveFranchiseCardsExcludingDemo() {
+        log.debug("Getting active franchise cards excluding demo business owner franchises");
+        // Demo-owned franchises are filtered in the query; images come with the root row
+        List<Franchise> franchises = franchiseRepository.findActiveWithImagesExcludingOwner(DEMO_BUSINESS_OWNER_ID);
+        return applyFetchPlan(franchises, FetchPlan.CATALOG_CARD).stream()
+                .map(this::mapToFranchiseCard)
                 .toList();
     }
 
     /**
-     * Check if a business owner ID belongs to a demo account
+     * Get a value that changes whenever any franchise is written
      */
-    private boolean isDemoBusinessOwner(String businessOwnerId) {
-        // Demo business owner IDs that should be filtered out from real user contexts
-        return "demo-business-user".equals(businessOwnerId);
+    @Transactional(readOnly = true)
+    public String getCatalogFingerprint() {
+        log.debug("Getting franchise catalog fingerprint");
+        List<Object[]> rows = franchiseRepository.getCatalogFingerprint();
+        Object[] row = rows.isEmpty() ? new Object[] { 0L, null } : rows.get(0);
+        return row[0] + "@" + row[1];
     }
 
     /**
@@ -79,44 +102,68 @@ public class FranchiseService {
     @Transactional(readOnly = true)
     public Franchise getFranchiseById(String id) {
         log.debug("Getting franchise by ID: {}", id);
-        return franchiseRepository.findById(id)
+        return requestMemo.find(Franchise.class, id, franchiseRepository::findById)
                 .orElseThrow(() -> new ResourceNotFoundException("Franchise not found with ID: " + id));
     }
 
     /**
-     * Get franchises by business owner ID
+     * Get franchise by ID with the collections of the given fetch plan initialized
      */
     @Transactional(readOnly = true)
-    public List<Franchise> getFranchisesByBusinessOwnerId(String businessOwnerId) {
-        log.debug("Getting franchises by business owner ID: {}", businessOwnerId);
-        return franchiseRepository.findByBusinessOwnerId(businessOwnerId);
+    public Franchise getFranchiseById(String id, FetchPlan plan) {
+        log.debug("Getting franchise by ID: {} with fetch plan: {}", id, plan);
+        Franchise franchise = franchiseRepository.findWithImagesById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Franchise not found with ID: " + id));
+        applyFetchPlan(List.of(franchise), plan);
+        return franchise;
     }
 
     /**
-     * Get franchises by business owner ID with pagination
+     * Get when a franchise was last modified, without loading it
      */
     @Transactional(readOnly = true)
-    public Page<Franchise> getFranchisesByBusinessOwnerId(String businessOwnerId, Pageable pageable) {
-        log.debug("Getting franchises by business owner ID: {} with pagination: {}", businessOwnerId, pageable);
-        return franchiseRepository.findByBusinessOwnerId(businessOwnerId, pageable);
+    public Optional<LocalDateTime> getFranchiseLastModified(String id) {
+        log.debug("Getting last modified time of franchise: {}", id);
+        return franchiseRepository.findUpdatedAtById(id);
     }
 
     /**
-     * Get franchises by category
+     * Check if the user is the business owner of the franchise
      */
     @Transactional(readOnly = true)
-    public List<Franchise> getFranchisesByCategory(Franchise.FranchiseCategory category) {
-        log.debug("Getting franchises by category: {}", category);
-        return franchiseRepository.findByCategory(category);
+    public boolean isFranchiseOwner(String franchiseId, String userEmail) {
+        log.debug("Checking if user {} is owner of franchise {}", userEmail, franchiseId);
+        return requestMemo.decide("franchise-owner:" + franchiseId + ":" + userEmail, () -> {
+            try {
+                Franchise franchise = getFranchiseById(franchiseId);
+                User user = userService.getUserIdentityByEmail(userEmail);
+                boolean isOwner = franchise.getBusinessOwnerId().equals(user.getId());
+                log.debug("User {} is owner of franchise {}: {}", userEmail, franchiseId, isOwner);
+                return isOwner;
+            } catch (Exception e) {
+                log.warn("Error checking franchise ownership for user {} and franchise {}: {}",
+                        userEmail, franchiseId, e.getMessage());
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Get franchises by business owner ID
+     */
+    @Transactional(readOnly = true)
+    public List<Franchise> getFranchisesByBusinessOwnerId(String businessOwnerId) {
+        log.debug("Getting franchises by business owner ID: {}", businessOwnerId);
+        return applyFetchPlan(franchiseRepository.findByBusinessOwnerId(businessOwnerId), FetchPlan.DETAIL);
     }
 
     /**
-     * Get franchises by category with pagination
+     * Get franchises by category
      */
     @Transactional(readOnly = true)
-    public Page<Franchise> getFranchisesByCategory(Franchise.FranchiseCategory category, Pageable pageable) {
-        log.debug("Getting franchises by category: {} with pagination: {}", category, pageable);
-        return franchiseRepository.findByCategory(category, pageable);
+    public List<Franchise> getFranchisesByCategory(Franchise.FranchiseCategory category) {
+        log.debug("Getting franchises by category: {}", category);
+        return applyFetchPlan(franchiseRepository.findByCategory(category), FetchPlan.DETAIL);
     }
 
     /**
@@ -125,29 +172,88 @@ public class FranchiseService {
     @Transactional(readOnly = true)
     public List<Franchise> getFranchisesByStatus(Franchise.FranchiseStatus status) {
         log.debug("Getting franchises by status: {}", status);
-        return franchiseRepository.findByStatus(status);
+        return applyFetchPlan(franchiseRepository.findByStatus(status), FetchPlan.DETAIL);
+    }
+
+    /**
+     * Get franchise summaries with pagination
+     */
+    @Transactional(readOnly = true)
+    public Page<FranchiseDto.FranchiseSummary> getAllFranchiseSummaries(Pageable pageable) {
+        log.debug("Getting all franchise summaries with pagination: {}", pageable);
+        return franchiseRepository.findAllSummaries(pageable);
     }
 
     /**
-     * Search franchises by name or description
+     * Get franchise summaries by business owner ID with pagination
      */
     @Transactional(readOnly = true)
-    public Page<Franchise> searchFranchises(String searchTerm, Pageable pageable) {
-        log.debug("Searching franchises with term: {} and pagination: {}", searchTerm, pageable);
-        return franchiseRepository.searchFranchises(searchTerm, pageable);
+    public Page<FranchiseDto.FranchiseSummary> getFranchiseSummariesByBusinessOwnerId(String businessOwnerId, Pageable pageable) {
+        log.debug("Getting franchise summaries by business owner ID: {} with pagination: {}", businessOwnerId, pageable);
+        return franchiseRepository.findSummariesByBusinessOwnerId(businessOwnerId, pageable);
     }
 
     /**
-     * Filter franchises by investment range
+     * Get franchise summaries by category with pagination
      */
     @Transactional(readOnly = true)
-    public Page<Franchise> filterFranchisesByInvestmentRange(
-            java.math.BigDecimal minInvestment, 
-            java.math.BigDecimal maxInvestment, 
+    public Page<FranchiseDto.FranchiseSummary> getFranchiseSummariesByCategory(Franchise.FranchiseCategory category, Pageable pageable) {
+        log.debug("Getting franchise summaries by category: {} with pagination: {}", category, pageable);
+        return franchiseRepository.findSummariesByCategory(category, pageable);
+    }
+
+    /**
+     * Search active franchise summaries by name, owner name or description, best match first
+     */
+    @Transactional(readOnly = true)
+    public Page<FranchiseDto.FranchiseSummary> searchFranchiseSummaries(String searchTerm, Pageable pageable) {
+        log.debug("Searching franchise summaries with term: {} and pagination: {}", searchTerm, pageable);
+        Page<String> ids = searchActiveFranchiseIds(searchTerm, pageable);
+        List<FranchiseDto.FranchiseSummary> summaries = ids.isEmpty()
+                ? List.of()
+                : FullTextSearch.inRankOrder(ids.getContent(), franchiseRepository.findSummariesByIdIn(ids.getContent()),
+                        FranchiseDto.FranchiseSummary::getId);
+        return new PageImpl<>(summaries, pageable, ids.getTotalElements());
+    }
+
+    /**
+     * Filter active franchise summaries by category, states, fee and investment range and
+     * search text, with the result count of every facet value
+     */
+    @Transactional(readOnly = true)
+    public FranchiseDto.FacetedFilterResponse filterFranchiseSummaries(FranchiseDto.FranchiseFilterRequest filter) {
+        log.debug("Filtering franchise summaries with: {}", filter);
+        String search = filter.getSearch() != null && !filter.getSearch().isBlank() ? filter.getSearch().trim() : null;
+        List<String> searchMatches = null;
+        if (search != null) {
+            searchMatches = franchiseSearchIndex.matchAll(search).orElse(null);
+            if (searchMatches == null) {
+                return filterFranchiseSummariesInDatabase(filter, search);
+            }
+        }
+        Optional<FranchiseFacetIndex.Result> result = franchiseFacetIndex.filter(filter, searchMatches);
+        if (result.isEmpty()) {
+            return filterFranchiseSummariesInDatabase(filter, search);
+        }
+        List<String> ids = result.get().franchiseIds();
+        List<FranchiseDto.FranchiseSummary> summaries = ids.isEmpty()
+                ? List.of()
+                : FullTextSearch.inRankOrder(ids, franchiseRepository.findSummariesByIdIn(ids), FranchiseDto.FranchiseSummary::getId);
+        return new FranchiseDto.FacetedFilterResponse(summaries, filter.getPage(), filter.getSize(),
+                result.get().total(), result.get().facets());
+    }
+
+    /**
+     * Filter franchise summaries by investment range
+     */
+    @Transactional(readOnly = true)
+    public Page<FranchiseDto.FranchiseSummary> filterFranchiseSummariesByInvestmentRange(
+            java.math.BigDecimal minInvestment,
+            java.math.BigDecimal maxInvestment,
             Pageable pageable) {
-        log.debug("Filtering franchises by investment range: {} - {} with pagination: {}", 
+        log.debug("Filtering franchise summaries by investment range: {} - {} with pagination: {}",
                 minInvestment, maxInvestment, pageable);
-        return franchiseRepository.findByInvestmentRange(minInvestment, maxInvestment, pageable);
+        return franchiseRepository.findSummariesByInvestmentRange(minInvestment, maxInvestment, pageable);
     }
 
     /**
@@ -165,7 +271,7 @@ public class FranchiseService {
         }
 
         // Generate ID
-        franchise.setId(java.util.UUID.randomUUID().toString());
+        franchise.setId(TimeOrderedIdGenerator.nextId());
 
         // Set business owner information
         franchise.setBusinessOwnerId(businessOwnerId);
@@ -181,6 +287,7 @@ public class FranchiseService {
         }
 
         Franchise savedFranchise = franchiseRepository.save(franchise);
+        invalidationBus.publish(InvalidationBus.FRANCHISE, savedFranchise.getId());
         log.info("Created franchise with ID: {}", savedFranchise.getId());
         return savedFranchise;
     }
@@ -223,6 +330,7 @@ public class FranchiseService {
         existingFranchise.setUpdatedAt(LocalDateTime.now());
 
         Franchise savedFranchise = franchiseRepository.save(existingFranchise);
+        invalidationBus.publish(InvalidationBus.FRANCHISE, id);
         log.info("Updated franchise with ID: {}", savedFranchise.getId());
         return savedFranchise;
     }
@@ -238,6 +346,7 @@ public class FranchiseService {
         franchise.setUpdatedAt(LocalDateTime.now());
 
         Franchise savedFranchise = franchiseRepository.save(franchise);
+        invalidationBus.publish(InvalidationBus.FRANCHISE, id);
         log.info("Updated franchise status for ID: {} to {}", id, status);
         return savedFranchise;
     }
@@ -263,10 +372,46 @@ public class FranchiseService {
         franchise.setUpdatedAt(LocalDateTime.now());
 
         Franchise updatedFranchise = franchiseRepository.save(franchise);
+        invalidationBus.publish(InvalidationBus.FRANCHISE, id);
         log.info("Toggled franchise status: {} to {} ({})", id, newStatus, isActive);
         return updatedFranchise;
     }
 
+    /**
+     * Transfer a franchise to another business owner (admin only).
+     * Applications and transactions carry a copy of the owner ID, so they move with it.
+     */
+    public Franchise transferFranchiseOwnership(String id, String newBusinessOwnerId) {
+        log.debug("Transferring franchise: {} to business owner: {}", id, newBusinessOwnerId);
+
+        Franchise franchise = getFranchiseById(id);
+        String previousBusinessOwnerId = franchise.getBusinessOwnerId();
+
+        User newOwner = userRepository.findById(newBusinessOwnerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Business owner not found with ID: " + newBusinessOwnerId));
+
+        if (newOwner.getRole() != User.UserRole.BUSINESS) {
+            throw new BadRequestException("User must have BUSINESS role to own franchises");
+        }
+
+        franchise.setBusinessOwnerId(newBusinessOwnerId);
+        franchise.setBusinessOwnerName(newOwner.getFirstName() + " " + newOwner.getLastName());
+        franchise.setUpdatedAt(LocalDateTime.now());
+        Franchise savedFranchise = franchiseRepository.save(franchise);
+        invalidationBus.publish(InvalidationBus.FRANCHISE, id);
+
+        int applications = applicationRepository.updateBusinessOwnerIdForFranchise(id, newBusinessOwnerId);
+        int transactions = paymentRepository.updateBusinessOwnerIdForFranchise(id, newBusinessOwnerId);
+        requestMemo.evict(Application.class);
+        for (String ownerId : List.of(previousBusinessOwnerId, newBusinessOwnerId)) {
+            countCache.invalidate(ApproximateCountCache.APPLICATIONS_FOR_BUSINESS_OWNER, ownerId);
+            countCache.invalidate(ApproximateCountCache.TRANSACTIONS_FOR_BUSINESS_OWNER, ownerId);
+        }
+        log.info("Transferred franchise {} to business owner {} ({} applications, {} transactions updated)",
+                id, newBusinessOwnerId, applications, transactions);
+        return savedFranchise;
+    }
+
     /**
      * Delete a franchise (soft delete by setting status to INACTIVE)
      */
@@ -285,6 +430,7 @@ public class FranchiseService {
         franchise.setUpdatedAt(LocalDateTime.now());
         
         franchiseRepository.save(franchise);
+        invalidationBus.publish(InvalidationBus.FRANCHISE, id);
         log.info("Soft deleted franchise with ID: {}", id);
     }
 
@@ -294,12 +440,7 @@ public class FranchiseService {
     @Transactional(readOnly = true)
     public FranchiseStats getFranchiseStats() {
         log.debug("Getting franchise statistics");
-        
-        long totalFranchises = franchiseRepository.count();
-        long activeFranchises = franchiseRepository.countByStatus(Franchise.FranchiseStatus.ACTIVE);
-        long pendingFranchises = franchiseRepository.countByStatus(Franchise.FranchiseStatus.PENDING);
-        
-        return new FranchiseStats(totalFranchises, activeFranchises, pendingFranchises);
+        return statsAggregationService.getFranchiseStats();
     }
 
     /**
@@ -322,7 +463,7 @@ public class FranchiseService {
     @Transactional(readOnly = true)
     public List<Franchise> getFranchisesCreatedSince(LocalDateTime since) {
         log.debug("Getting franchises created since: {}", since);
-        return franchiseRepository.findFranchisesCreatedSince(since);
+        return applyFetchPlan(franchiseRepository.findFranchisesCreatedSince(since), FetchPlan.OWNER_DASHBOARD);
     }
 
     /**
@@ -331,7 +472,7 @@ public class FranchiseService {
     @Transactional(readOnly = true)
     public List<Franchise> getRecentFranchises() {
         log.debug("Getting recent franchises");
-        return franchiseRepository.findFranchisesCreatedSince(LocalDateTime.now().minusDays(7));
+        return applyFetchPlan(franchiseRepository.findFranchisesCreatedSince(LocalDateTime.now().minusDays(7)), FetchPlan.DETAIL);
     }
 
     /**
@@ -376,6 +517,126 @@ public class FranchiseService {
         );
     }
 
+    // Copies the collections, so the card does not hold on to the persistence context
+    private FranchiseDto.FranchiseCard mapToFranchiseCard(Franchise franchise) {
+        Franchise.InvestmentRange investment = franchise.getInitialInvestment();
+        return new FranchiseDto.FranchiseCard(
+                franchise.getId(),
+                franchise.getName(),
+                franchise.getDescription(),
+                franchise.getCategory(),
+                franchise.getStatus(),
+                franchise.getBusinessOwnerId(),
+                franchise.getBusinessOwnerName(),
+                franchise.getLogo(),
+                copyOf(franchise.getImages()),
+                franchise.getFranchiseFee(),
+                franchise.getRoyaltyFee(),
+                investment != null ? investment.getMin() : null,
+                investment != null ? investment.getMax() : null,
+                franchise.getTotalUnits(),
+                copyOf(franchise.getAvailableTerritories()),
+                franchise.getCreatedAt());
+    }
+
+    private static List<String> copyOf(List<String> values) {
+        return values != null ? Collections.unmodifiableList(new ArrayList<>(values)) : null;
+    }
+
+    /**
+     * Initialize the plan's collections for all loaded franchises with one query per
+     * collection, so the statement count does not grow with the number of rows.
+     */
+    private List<Franchise> applyFetchPlan(List<Franchise> franchises, FetchPlan plan) {
+        if (franchises.isEmpty() || plan.attributes.isEmpty()) {
+            return franchises;
+        }
+        List<String> ids = franchises.stream().map(Franchise::getId).toList();
+        for (FetchPlan.Attribute attribute : plan.attributes) {
+            // Skip what the root query already fetched through an entity graph
+            if (franchises.stream().allMatch(f -> Hibernate.isInitialized(attribute.of(f)))) {
+                continue;
+            }
+            switch (attribute) {
+                case IMAGES -> franchiseRepository.fetchImages(ids);
+                case TERRITORIES -> franchiseRepository.fetchAvailableTerritories(ids);
+                case STATES -> franchiseRepository.fetchAvailableStates(ids);
+                case BACKGROUND_REQUIREMENTS -> franchiseRepository.fetchBackgroundRequirements(ids);
+            }
+        }
+        log.debug("Applied fetch plan {} to {} franchise(s)", plan, franchises.size());
+        return franchises;
+    }
+
+    // Indexes still being built after startup: query with LIKE and no facet counts instead
+    private FranchiseDto.FacetedFilterResponse filterFranchiseSummariesInDatabase(
+            FranchiseDto.FranchiseFilterRequest filter, String search) {
+        String sortBy = switch (filter.getSortBy() != null ? filter.getSortBy() : "createdAt") {
+            case "name", "franchiseFee" -> filter.getSortBy();
+            case "minInvestment" -> "initialInvestment.min";
+            default -> "createdAt";
+        };
+        Sort.Direction direction = "ASC".equalsIgnoreCase(filter.getSortDirection())
+                ? Sort.Direction.ASC : Sort.Direction.DESC;
+        List<String> states = filter.getStates() == null ? List.of() : filter.getStates().stream()
+                .filter(Objects::nonNull)
+                .map(state -> state.trim().toUpperCase(Locale.ROOT))
+                .toList();
+        Page<FranchiseDto.FranchiseSummary> page = franchiseRepository.findSummariesWithFilters(
+                filter.getCategory(), filter.getMinInvestment(), filter.getMaxInvestment(),
+                filter.getMinFee(), filter.getMaxFee(),
+                !states.isEmpty(), states.isEmpty() ? List.of("") : states, search,
+                PageRequest.of(filter.getPage(), filter.getSize(), Sort.by(direction, sortBy)));
+        return new FranchiseDto.FacetedFilterResponse(page.getContent(), filter.getPage(), filter.getSize(),
+                page.getTotalElements(), Map.of());
+    }
+
+    // The in-memory index when it is built and enabled, otherwise the database full-text search
+    private Page<String> searchActiveFranchiseIds(String searchTerm, Pageable pageable) {
+        Optional<FranchiseSearchIndex.Hits> hits = franchiseSearchIndex.search(
+                searchTerm, (int) pageable.getOffset(), pageable.getPageSize());
+        if (hits.isEmpty()) {
+            return fullTextSearch.searchActiveFranchises(searchTerm, pageable);
+        }
+        return new PageImpl<>(hits.get().franchiseIds(), pageable, hits.get().total());
+    }
+
+    /**
+     * Element collections a use case needs initialized before the franchise leaves
+     * the service. Collections outside the plan stay lazy and fall back to batch fetching.
+     */
+    public enum FetchPlan {
+        // The partner catalog card shows the images and territories only
+        CATALOG_CARD(EnumSet.of(Attribute.IMAGES, Attribute.TERRITORIES)),
+        // Detail views and results that serialize the whole entity
+        DETAIL(EnumSet.allOf(Attribute.class)),
+        // Dashboard figures read scalar columns only
+        OWNER_DASHBOARD(EnumSet.noneOf(Attribute.class));
+
+        private final Set<Attribute> attributes;
+
+        FetchPlan(Set<Attribute> attributes) {
+            this.attributes = attributes;
+        }
+
+        enum Attribute {
+            IMAGES(Franchise::getImages),
+            TERRITORIES(Franchise::getAvailableTerritories),
+            STATES(Franchise::getAvailableStates),
+            BACKGROUND_REQUIREMENTS(f -> f.getRequirements() != null ? f.getRequirements().getBackground() : null);
+
+            private final Function<Franchise, Object> accessor;
+
+            Attribute(Function<Franchise, Object> accessor) {
+                this.accessor = accessor;
+            }
+
+            Object of(Franchise franchise) {
+                return accessor.apply(franchise);
+            }
+        }
+    }
+
     /**
      * Inner class for franchise statistics
      */
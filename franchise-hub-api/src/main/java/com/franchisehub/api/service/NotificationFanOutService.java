@@ -0,0 +1,139 @@
+package com.franchisehub.api.service;
+
+import com.franchisehub.api.cache.UnreadNotificationCounters;
+import com.franchisehub.api.dto.NotificationDto;
+import com.franchisehub.api.model.Notification;
+import com.franchisehub.api.repository.NotificationBatchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Sends one notification to many users.
+ *
+ * Recipient ids are read a chunk at a time and each chunk is inserted as one JDBC
+ * batch in its own transaction, so memory and lock time stay bounded by the chunk
+ * size rather than the number of recipients. A failure stops the run but keeps the
+ * chunks already committed; the returned progress says how far it got.
+ */
+@Service
+@Slf4j
+public class NotificationFanOutService {
+
+    private final NotificationBatchRepository notificationBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final UnreadNotificationCounters unreadCounters;
+    private final int chunkSize;
+
+    public NotificationFanOutService(
+            NotificationBatchRepository notificationBatchRepository,
+            PlatformTransactionManager transactionManager,
+            UnreadNotificationCounters unreadCounters,
+            @Value("${notification.fan-out.chunk-size:1000}") int chunkSize) {
+        this.notificationBatchRepository = notificationBatchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.unreadCounters = unreadCounters;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * Send a notification to every active user
+     */
+    public FanOutProgress sendToActiveUsers(Notification template, Consumer<FanOutProgress> listener) {
+        log.debug("Fanning out {} notification to all active users", template.getType());
+        FanOutProgress progress = new FanOutProgress();
+        LocalDateTime createdAt = LocalDateTime.now();
+        String lastId = "";
+
+        while (true) {
+            List<String> userIds = notificationBatchRepository.findActiveUserIdsAfter(lastId, chunkSize);
+            if (userIds.isEmpty()) {
+                break;
+            }
+            insertChunk(userIds, userIds.size(), template, createdAt, progress, listener);
+            if (userIds.size() < chunkSize) {
+                break;
+            }
+            lastId = userIds.get(userIds.size() - 1);
+        }
+
+        log.info("Fanned out notification '{}' to {} active users in {} chunks",
+                template.getTitle(), progress.getInserted(), progress.getChunks());
+        return progress;
+    }
+
+    /**
+     * Send a notification to the listed users, skipping ids that do not exist
+     */
+    public FanOutProgress sendToUsers(List<String> userIds, Notification template, Consumer<FanOutProgress> listener) {
+        log.debug("Fanning out {} notification to {} listed users", template.getType(), userIds.size());
+        FanOutProgress progress = new FanOutProgress();
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<String> distinctIds = List.copyOf(new LinkedHashSet<>(userIds));
+
+        for (int from = 0; from < distinctIds.size(); from += chunkSize) {
+            List<String> chunk = distinctIds.subList(from, Math.min(from + chunkSize, distinctIds.size()));
+            List<String> recipients = notificationBatchRepository.findExistingUserIds(chunk);
+            insertChunk(recipients, chunk.size(), template, createdAt, progress, listener);
+        }
+
+        log.info("Fanned out notification '{}' to {} of {} listed users in {} chunks",
+                template.getTitle(), progress.getInserted(), userIds.size(), progress.getChunks());
+        return progress;
+    }
+
+    /**
+     * Build the notification template from a bulk request
+     */
+    public Notification toTemplate(NotificationDto.BulkNotificationRequest request) {
+        Notification template = new Notification();
+        template.setType(request.getType());
+        template.setTitle(request.getTitle());
+        template.setMessage(request.getMessage());
+        template.setPriority(request.getPriority() != null
+                ? request.getPriority() : Notification.NotificationPriority.MEDIUM);
+        template.setActionText(request.getActionText());
+        template.setActionUrl(request.getActionUrl());
+        template.setExpiresAt(request.getExpiresAt());
+        return template;
+    }
+
+    private void insertChunk(List<String> recipients, int scanned, Notification template, LocalDateTime createdAt,
+                             FanOutProgress progress, Consumer<FanOutProgress> listener) {
+        Integer inserted = recipients.isEmpty() ? Integer.valueOf(0) : transactionTemplate.execute(status -> {
+            int rows = notificationBatchRepository.insertForRecipients(recipients, template, createdAt);
+            unreadCounters.incrementAfterCommit(recipients);
+            return rows;
+        });
+        progress.chunkCompleted(scanned, inserted != null ? inserted : 0);
+        log.debug("Fan-out chunk {} committed: {} recipients scanned, {} notifications inserted",
+                progress.getChunks(), progress.getScanned(), progress.getInserted());
+        if (listener != null) {
+            listener.accept(progress);
+        }
+    }
+
+    // Progress class
+    public static class FanOutProgress {
+        private long scanned;
+        private long inserted;
+        private int chunks;
+
+        void chunkCompleted(int chunkScanned, int chunkInserted) {
+            scanned += chunkScanned;
+            inserted += chunkInserted;
+            chunks++;
+        }
+
+        public long getScanned() { return scanned; }
+        public long getInserted() { return inserted; }
+        public int getChunks() { return chunks; }
+    }
+}
@@ -0,0 +1,178 @@
+package com.franchisehub.api.service;
+
+import com.franchisehub.api.cache.UnreadNotificationCounters;
+import com.franchisehub.api.repository.NotificationPurgeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Chunked cleanup of the notifications table.
+ *
+ * Each chunk is one bounded DELETE or UPDATE in its own short transaction, with an
+ * optional pause before the next chunk so background cleanup leaves room for user
+ * traffic. Rows and chunks processed and time spent are published per operation as
+ * notifications.purge.rows, notifications.purge.chunks and notifications.purge.duration.
+ */
+@Service
+@Slf4j
+public class NotificationPurgeService {
+
+    public static final String EXPIRED = "expired";
+    public static final String READ_RETENTION = "read-retention";
+    public static final String USER_READ = "user-read";
+    public static final String USER_MARK_READ = "user-mark-read";
+
+    private final NotificationPurgeRepository notificationPurgeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final UnreadNotificationCounters unreadCounters;
+    private final int chunkSize;
+    private final long pauseMs;
+    private final int readRetentionDays;
+    private final AtomicBoolean scheduledRunActive = new AtomicBoolean();
+
+    public NotificationPurgeService(
+            NotificationPurgeRepository notificationPurgeRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            UnreadNotificationCounters unreadCounters,
+            @Value("${notification.purge.chunk-size:500}") int chunkSize,
+            @Value("${notification.purge.pause-ms:50}") long pauseMs,
+            @Value("${notification.purge.read-retention-days:0}") int readRetentionDays) {
+        this.notificationPurgeRepository = notificationPurgeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.unreadCounters = unreadCounters;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.pauseMs = Math.max(0, pauseMs);
+        this.readRetentionDays = readRetentionDays;
+    }
+
+    /**
+     * Scheduled cleanup: expired notifications, then read notifications past retention
+     */
+    @Scheduled(cron = "${notification.purge.cron:0 15 * * * *}")
+    public void runScheduledPurge() {
+        if (!scheduledRunActive.compareAndSet(false, true)) {
+            log.warn("Skipping scheduled notification purge, previous run still active");
+            return;
+        }
+        try {
+            purgeExpired();
+            purgeReadBeyondRetention();
+        } finally {
+            scheduledRunActive.set(false);
+        }
+    }
+
+    /**
+     * Delete notifications whose expiry date has passed
+     */
+    public PurgeResult purgeExpired() {
+        log.debug("Purging expired notifications");
+        LocalDateTime now = LocalDateTime.now();
+        // Each chunk commits on its own, and the unread counters follow it
+        return run(EXPIRED, pauseMs, limit -> notificationPurgeRepository.deleteExpiredChunk(now, limit,
+                userId -> unreadCounters.adjustAfterCommit(userId, -1)));
+    }
+
+    /**
+     * Delete read notifications older than the configured retention, if one is set
+     */
+    public PurgeResult purgeReadBeyondRetention() {
+        if (readRetentionDays <= 0) {
+            return new PurgeResult(READ_RETENTION, 0, 0, 0);
+        }
+        log.debug("Purging read notifications older than {} days", readRetentionDays);
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(readRetentionDays);
+        return run(READ_RETENTION, pauseMs,
+                limit -> notificationPurgeRepository.deleteReadCreatedBeforeChunk(cutoff, limit));
+    }
+
+    /**
+     * Delete all read notifications of a user
+     */
+    public PurgeResult deleteReadForUser(String userId) {
+        log.debug("Deleting read notifications for user: {}", userId);
+        return run(USER_READ, 0, limit -> notificationPurgeRepository.deleteReadForUserChunk(userId, limit));
+    }
+
+    /**
+     * Mark all unread notifications of a user as read
+     */
+    public PurgeResult markAllReadForUser(String userId) {
+        log.debug("Marking all notifications read for user: {}", userId);
+        LocalDateTime readAt = LocalDateTime.now();
+        return run(USER_MARK_READ, 0,
+                limit -> notificationPurgeRepository.markReadForUserChunk(userId, readAt, limit));
+    }
+
+    private PurgeResult run(String operation, long pause, IntUnaryOperator chunk) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Counter rowsCounter = meterRegistry.counter("notifications.purge.rows", "operation", operation);
+        Counter chunksCounter = meterRegistry.counter("notifications.purge.chunks", "operation", operation);
+        long rows = 0;
+        int chunks = 0;
+        long durationNanos;
+
+        try {
+            while (true) {
+                Integer affected = transactionTemplate.execute(status -> chunk.applyAsInt(chunkSize));
+                int count = affected != null ? affected : 0;
+                rows += count;
+                chunks++;
+                rowsCounter.increment(count);
+                chunksCounter.increment();
+                if (count < chunkSize) {
+                    break;
+                }
+                if (pause > 0) {
+                    Thread.sleep(pause);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Notification purge '{}' interrupted after {} rows", operation, rows);
+        } finally {
+            durationNanos = sample.stop(meterRegistry.timer("notifications.purge.duration", "operation", operation));
+        }
+
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        if (rows > 0) {
+            log.info("Notification purge '{}' processed {} rows in {} chunks", operation, rows, chunks);
+        }
+        return new PurgeResult(operation, rows, chunks, durationMs);
+    }
+
+    // Result class
+    public static class PurgeResult {
+        private final String operation;
+        private final long rows;
+        private final int chunks;
+        private final long durationMs;
+
+        public PurgeResult(String operation, long rows, int chunks, long durationMs) {
+            this.operation = operation;
+            this.rows = rows;
+            this.chunks = chunks;
+            this.durationMs = durationMs;
+        }
+
+        public String getOperation() { return operation; }
+        public long getRows() { return rows; }
+        public int getChunks() { return chunks; }
+        public long getDurationMs() { return durationMs; }
+    }
+}
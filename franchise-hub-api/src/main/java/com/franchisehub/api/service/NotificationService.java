@@ -1,5 +1,8 @@
 package com.franchisehub.api.service;
 
+import com.franchisehub.api.cache.UnreadNotificationCounters;
+import com.franchisehub.api.dto.CursorDto;
+import com.franchisehub.api.dto.NotificationDto;
 import com.franchisehub.api.model.Notification;
 import com.franchisehub.api.model.User;
 import com.franchisehub.api.repository.NotificationRepository;
@@ -11,10 +14,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -24,15 +29,9 @@ public class NotificationService {
 
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
-
-    /**
-     * Get all notifications with pagination
-     */
-    @Transactional(readOnly = true)
-    public Page<Notification> getAllNotifications(Pageable pageable) {
-        log.debug("Getting all notifications with pagination: {}", pageable);
-        return notificationRepository.findAll(pageable);
-    }
+    private final StatsAggregationService statsAggregationService;
+    private final NotificationPurgeService notificationPurgeService;
+    private final UnreadNotificationCounters unreadCounters;
 
     /**
      * Get notification by ID
@@ -45,48 +44,70 @@ public class NotificationService {
     }
 
     /**
-     * Get notifications by user ID
+     * Get notifications by user ID, newest first, using keyset pagination
      */
     @Transactional(readOnly = true)
-    public Page<Notification> getNotificationsByUserId(String userId, Pageable pageable) {
-        log.debug("Getting notifications by user ID: {} with pagination: {}", userId, pageable);
-        return notificationRepository.findByUserId(userId, pageable);
+    public CursorDto.CursorPage<Notification> getNotificationsByUserId(String userId, String cursor, int size) {
+        log.debug("Getting notifications by user ID: {} after cursor: {} with size: {}", userId, cursor, size);
+        CursorDto.Cursor position = CursorDto.Cursor.decode(cursor);
+        List<Notification> rows = position == null
+                ? notificationRepository.findFeedByUserId(userId, CursorDto.fetchLimit(size))
+                : notificationRepository.findFeedByUserIdBefore(userId, position.getTimestamp(), position.getId(), CursorDto.fetchLimit(size));
+        return CursorDto.CursorPage.of(rows, size, n -> new CursorDto.Cursor(n.getCreatedAt(), n.getId()));
     }
 
     /**
-     * Get unread notifications by user ID
+     * Get notification summaries with pagination
      */
     @Transactional(readOnly = true)
-    public List<Notification> getUnreadNotificationsByUserId(String userId) {
-        log.debug("Getting unread notifications by user ID: {}", userId);
-        return notificationRepository.findByUserIdAndStatus(userId, Notification.NotificationStatus.UNREAD);
+    public Page<NotificationDto.NotificationSummary> getAllNotificationSummaries(Pageable pageable) {
+        log.debug("Getting all notification summaries with pagination: {}", pageable);
+        return notificationRepository.findAllSummaries(LocalDateTime.now(), pageable);
     }
 
     /**
-     * Get notifications by user ID and status
+     * Get notification summaries by user ID
      */
     @Transactional(readOnly = true)
-    public Page<Notification> getNotificationsByUserIdAndStatus(String userId, Notification.NotificationStatus status, Pageable pageable) {
-        log.debug("Getting notifications by user ID: {} and status: {} with pagination: {}", userId, status, pageable);
-        return notificationRepository.findByUserIdAndStatus(userId, status, pageable);
+    public Page<NotificationDto.NotificationSummary> getNotificationSummariesByUserId(String userId, Pageable pageable) {
+        log.debug("Getting notification summaries by user ID: {} with pagination: {}", userId, pageable);
+        return notificationRepository.findSummariesByUserId(userId, LocalDateTime.now(), pageable);
     }
 
     /**
-     * Get notifications by type
+     * Stream unread notification summaries by user ID; the caller consumes and closes the stream within its transaction
      */
     @Transactional(readOnly = true)
-    public Page<Notification> getNotificationsByType(Notification.NotificationType type, Pageable pageable) {
-        log.debug("Getting notifications by type: {} with pagination: {}", type, pageable);
-        return notificationRepository.findByType(type, pageable);
+    public Stream<NotificationDto.NotificationSummary> streamUnreadNotificationSummariesByUserId(String userId) {
+        log.debug("Streaming unread notification summaries by user ID: {}", userId);
+        return notificationRepository.streamSummariesByUserIdAndStatus(userId, Notification.NotificationStatus.UNREAD, LocalDateTime.now());
     }
 
     /**
-     * Get notifications by priority
+     * Get notification summaries by user ID and status
      */
     @Transactional(readOnly = true)
-    public Page<Notification> getNotificationsByPriority(Notification.NotificationPriority priority, Pageable pageable) {
-        log.debug("Getting notifications by priority: {} with pagination: {}", priority, pageable);
-        return notificationRepository.findByPriority(priority, pageable);
+    public Page<NotificationDto.NotificationSummary> getNotificationSummariesByUserIdAndStatus(String userId, Notification.NotificationStatus status, Pageable pageable) {
+        log.debug("Getting notification summaries by user ID: {} and status: {} with pagination: {}", userId, status, pageable);
+        return notificationRepository.findSummariesByUserIdAndStatus(userId, status, LocalDateTime.now(), pageable);
+    }
+
+    /**
+     * Get notification summaries by type
+     */
+    @Transactional(readOnly = true)
+    public Page<NotificationDto.NotificationSummary> getNotificationSummariesByType(Notification.NotificationType type, Pageable pageable) {
+        log.debug("Getting notification summaries by type: {} with pagination: {}", type, pageable);
+        return notificationRepository.findSummariesByType(type, LocalDateTime.now(), pageable);
+    }
+
+    /**
+     * Get notification summaries by priority
+     */
+    @Transactional(readOnly = true)
+    public Page<NotificationDto.NotificationSummary> getNotificationSummariesByPriority(Notification.NotificationPriority priority, Pageable pageable) {
+        log.debug("Getting notification summaries by priority: {} with pagination: {}", priority, pageable);
+        return notificationRepository.findSummariesByPriority(priority, LocalDateTime.now(), pageable);
     }
 
     /**
@@ -113,6 +134,9 @@ public class NotificationService {
         }
 
         Notification savedNotification = notificationRepository.save(notification);
+        if (savedNotification.getStatus() == Notification.NotificationStatus.UNREAD) {
+            unreadCounters.adjustAfterCommit(savedNotification.getUserId(), 1);
+        }
         log.info("Created notification with ID: {}", savedNotification.getId());
         return savedNotification;
     }
@@ -264,6 +288,7 @@ public class NotificationService {
         notification.setReadAt(LocalDateTime.now());
 
         Notification savedNotification = notificationRepository.save(notification);
+        unreadCounters.adjustAfterCommit(notification.getUserId(), -1);
         log.info("Marked notification as read with ID: {}", id);
         return savedNotification;
     }
@@ -271,6 +296,7 @@ public class NotificationService {
     /**
      * Mark all notifications as read for a user
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void markAllAsReadForUser(String userId) {
         log.debug("Marking all notifications as read for user: {}", userId);
         
@@ -278,16 +304,10 @@ public class NotificationService {
         userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
 
-        List<Notification> unreadNotifications = getUnreadNotificationsByUserId(userId);
-        LocalDateTime now = LocalDateTime.now();
-        
-        for (Notification notification : unreadNotifications) {
-            notification.setStatus(Notification.NotificationStatus.READ);
-            notification.setReadAt(now);
-        }
-
-        notificationRepository.saveAll(unreadNotifications);
-        log.info("Marked {} notifications as read for user: {}", unreadNotifications.size(), userId);
+        // Chunked set-based UPDATE, each chunk in its own short transaction
+        NotificationPurgeService.PurgeResult result = notificationPurgeService.markAllReadForUser(userId);
+        unreadCounters.adjustAfterCommit(userId, -result.getRows());
+        log.info("Marked {} notifications as read for user: {}", result.getRows(), userId);
     }
 
     /**
@@ -304,12 +324,16 @@ public class NotificationService {
         }
 
         notificationRepository.delete(notification);
+        if (notification.getStatus() == Notification.NotificationStatus.UNREAD) {
+            unreadCounters.adjustAfterCommit(notification.getUserId(), -1);
+        }
         log.info("Deleted notification with ID: {}", id);
     }
 
     /**
      * Delete all read notifications for a user
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void deleteAllReadNotificationsForUser(String userId) {
         log.debug("Deleting all read notifications for user: {}", userId);
         
@@ -317,9 +341,8 @@ public class NotificationService {
         userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
 
-        List<Notification> readNotifications = notificationRepository.findByUserIdAndStatus(userId, Notification.NotificationStatus.READ);
-        notificationRepository.deleteAll(readNotifications);
-        log.info("Deleted {} read notifications for user: {}", readNotifications.size(), userId);
+        NotificationPurgeService.PurgeResult result = notificationPurgeService.deleteReadForUser(userId);
+        log.info("Deleted {} read notifications for user: {}", result.getRows(), userId);
     }
 
     /**
@@ -332,26 +355,23 @@ public class NotificationService {
     }
 
     /**
-     * Get unread notification count for user
+     * Get unread notification count for user from the in-memory counters
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public long getUnreadNotificationCount(String userId) {
         log.debug("Getting unread notification count for user: {}", userId);
-        return getNotificationCountByUserAndStatus(userId, Notification.NotificationStatus.UNREAD);
+        return unreadCounters.get(userId);
     }
 
     /**
      * Clean up expired notifications
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void cleanupExpiredNotifications() {
         log.debug("Cleaning up expired notifications");
         
-        LocalDateTime now = LocalDateTime.now();
-        List<Notification> expiredNotifications = notificationRepository.findExpiredNotifications(now);
-        
-        notificationRepository.deleteAll(expiredNotifications);
-        log.info("Cleaned up {} expired notifications", expiredNotifications.size());
+        NotificationPurgeService.PurgeResult result = notificationPurgeService.purgeExpired();
+        log.info("Cleaned up {} expired notifications", result.getRows());
     }
 
     /**
@@ -360,12 +380,7 @@ public class NotificationService {
     @Transactional(readOnly = true)
     public NotificationStats getNotificationStats() {
         log.debug("Getting notification statistics");
-        
-        long totalNotifications = notificationRepository.count();
-        long unreadNotifications = notificationRepository.countByStatus(Notification.NotificationStatus.UNREAD);
-        long readNotifications = notificationRepository.countByStatus(Notification.NotificationStatus.READ);
-        
-        return new NotificationStats(totalNotifications, unreadNotifications, readNotifications);
+        return statsAggregationService.getNotificationStats();
     }
 
     /**
@@ -1,7 +1,12 @@
 package com.franchisehub.api.service;
 
+import com.franchisehub.api.cache.ApproximateCountCache;
+import com.franchisehub.api.dto.CursorDto;
+import com.franchisehub.api.dto.PaymentDto;
+import com.franchisehub.api.dto.SliceDto;
 import com.franchisehub.api.model.PaymentTransaction;
 import com.franchisehub.api.model.PaymentRequest;
+import com.franchisehub.api.model.TimeOrderedIdGenerator;
 import com.franchisehub.api.model.User;
 import com.franchisehub.api.model.Franchise;
 import com.franchisehub.api.model.Application;
@@ -16,11 +21,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -34,16 +43,23 @@ public class PaymentService {
     private final UserRepository userRepository;
     private final FranchiseRepository franchiseRepository;
     private final ApplicationRepository applicationRepository;
+    private final ApproximateCountCache countCache;
+    private final StatsAggregationService statsAggregationService;
+    private final ApplicationService applicationService;
 
     // ==================== PAYMENT TRANSACTIONS ====================
 
     /**
-     * Get all payment transactions with pagination
+     * Get all payment transaction summaries, newest first, using keyset pagination
      */
     @Transactional(readOnly = true)
-    public Page<PaymentTransaction> getAllTransactions(Pageable pageable) {
-        log.debug("Getting all payment transactions with pagination: {}", pageable);
-        return paymentTransactionRepository.findAll(pageable);
+    public CursorDto.CursorPage<PaymentDto.TransactionSummary> getAllTransactionSummaries(String cursor, int size) {
+        log.debug("Getting all payment transaction summaries after cursor: {} with size: {}", cursor, size);
+        CursorDto.Cursor position = CursorDto.Cursor.decode(cursor);
+        List<PaymentDto.TransactionSummary> rows = position == null
+                ? paymentTransactionRepository.findSummaryFeed(CursorDto.fetchLimit(size))
+                : paymentTransactionRepository.findSummaryFeedBefore(position.getTimestamp(), position.getId(), CursorDto.fetchLimit(size));
+        return CursorDto.CursorPage.of(rows, size, t -> new CursorDto.Cursor(t.getCreatedAt(), t.getId()));
     }
 
     /**
@@ -57,30 +73,39 @@ public class PaymentService {
     }
 
     /**
-     * Get transactions by user ID
+     * Get payment transaction summaries with pagination
      */
     @Transactional(readOnly = true)
-    public Page<PaymentTransaction> getTransactionsByUserId(String userId, Pageable pageable) {
-        log.debug("Getting payment transactions by user ID: {} with pagination: {}", userId, pageable);
-        return paymentTransactionRepository.findByUserId(userId, pageable);
+    public Page<PaymentDto.TransactionSummary> getAllTransactionSummaries(Pageable pageable) {
+        log.debug("Getting all payment transaction summaries with pagination: {}", pageable);
+        return paymentTransactionRepository.findAllSummaries(pageable);
     }
 
     /**
-     * Get transactions by franchise ID
+     * Get payment transaction summaries by user ID
      */
     @Transactional(readOnly = true)
-    public Page<PaymentTransaction> getTransactionsByFranchiseId(String franchiseId, Pageable pageable) {
-        log.debug("Getting payment transactions by franchise ID: {} with pagination: {}", franchiseId, pageable);
-        return paymentTransactionRepository.findByFranchiseId(franchiseId, pageable);
+    public Page<PaymentDto.TransactionSummary> getTransactionSummariesByUserId(String userId, Pageable pageable) {
+        log.debug("Getting payment transaction summaries by user ID: {} with pagination: {}", userId, pageable);
+        return paymentTransactionRepository.findSummariesByUserId(userId, pageable);
     }
 
     /**
-     * Get transactions by status
+     * Get payment transaction summaries by franchise ID
      */
     @Transactional(readOnly = true)
-    public Page<PaymentTransaction> getTransactionsByStatus(PaymentTransaction.TransactionStatus status, Pageable pageable) {
-        log.debug("Getting payment transactions by status: {} with pagination: {}", status, pageable);
-        return paymentTransactionRepository.findByStatus(status, pageable);
+    public Page<PaymentDto.TransactionSummary> getTransactionSummariesByFranchiseId(String franchiseId, Pageable pageable) {
+        log.debug("Getting payment transaction summaries by franchise ID: {} with pagination: {}", franchiseId, pageable);
+        return paymentTransactionRepository.findSummariesByFranchiseId(franchiseId, pageable);
+    }
+
+    /**
+     * Get payment transaction summaries by status
+     */
+    @Transactional(readOnly = true)
+    public Page<PaymentDto.TransactionSummary> getTransactionSummariesByStatus(PaymentTransaction.TransactionStatus status, Pageable pageable) {
+        log.debug("Getting payment transaction summaries by status: {} with pagination: {}", status, pageable);
+        return paymentTransactionRepository.findSummariesByStatus(status, pageable);
     }
 
     /**
@@ -99,6 +124,7 @@ public class PaymentService {
 
         // Set transaction details
         transaction.setUserId(userId);
+        transaction.setBusinessOwnerId(franchise.getBusinessOwnerId());
         transaction.setCreatedAt(LocalDateTime.now());
         transaction.setUpdatedAt(LocalDateTime.now());
         
@@ -120,6 +146,7 @@ public class PaymentService {
         transaction.setNetAmount(transaction.getAmount().add(platformFee));
 
         PaymentTransaction savedTransaction = paymentTransactionRepository.save(transaction);
+        countCache.invalidate(ApproximateCountCache.TRANSACTIONS_FOR_BUSINESS_OWNER, savedTransaction.getBusinessOwnerId());
         log.info("Created payment transaction with ID: {}", savedTransaction.getId());
         return savedTransaction;
     }
@@ -256,15 +283,6 @@ public class PaymentService {
 
     // ==================== PAYMENT REQUESTS ====================
 
-    /**
-     * Get all payment requests with pagination
-     */
-    @Transactional(readOnly = true)
-    public Page<PaymentRequest> getAllPaymentRequests(Pageable pageable) {
-        log.debug("Getting all payment requests with pagination: {}", pageable);
-        return paymentRequestRepository.findAll(pageable);
-    }
-
     /**
      * Get payment request by ID
      */
@@ -276,92 +294,95 @@ public class PaymentService {
     }
 
     /**
-     * Get payment requests by application ID (for application owner or business owner)
+     * Get when a payment request was last modified, without loading it
      */
     @Transactional(readOnly = true)
-    public Page<PaymentRequest> getPaymentRequestsByApplication(String applicationId, String userEmail, Pageable pageable) {
-        log.debug("Getting payment requests for application: {} by user: {}", applicationId, userEmail);
-
-        // Validate application exists
-        Application application = applicationRepository.findById(applicationId)
-                .orElseThrow(() -> new ResourceNotFoundException("Application not found with ID: " + applicationId));
-
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + userEmail));
+    public Optional<LocalDateTime> getPaymentRequestLastModified(String id) {
+        log.debug("Getting last modified time of payment request: {}", id);
+        return paymentRequestRepository.findUpdatedAtById(id);
+    }
 
-        // Check if user is the application owner (applicant)
-        boolean isApplicationOwner = application.getApplicantId().equals(user.getId());
-
-        // Check if user is the business owner of the franchise
-        boolean isBusinessOwner = false;
-        if (!isApplicationOwner) {
-            try {
-                Franchise franchise = franchiseRepository.findById(application.getFranchiseId())
-                        .orElseThrow(() -> new ResourceNotFoundException("Franchise not found"));
-                isBusinessOwner = franchise.getBusinessOwnerId().equals(user.getId());
-            } catch (Exception e) {
-                log.warn("Error checking business ownership: {}", e.getMessage());
-            }
-        }
+    /**
+     * Get payment request summaries for one or more applications (for application owner or business owner)
+     */
+    @Transactional(readOnly = true)
+    public Page<PaymentDto.PaymentRequestSummary> getPaymentRequestSummariesByApplications(Collection<String> applicationIds, String userEmail, Pageable pageable) {
+        log.debug("Getting payment request summaries for applications: {} by user: {}", applicationIds, userEmail);
 
-        // Verify user has permission (either application owner or business owner)
-        if (!isApplicationOwner && !isBusinessOwner) {
+        // One query for all the applications; the user must be applicant or business owner on every one
+        if (!applicationService.canViewApplications(applicationIds, userEmail)) {
             throw new BadRequestException("You can only view payment requests for your own applications or applications on your franchises");
         }
+        return paymentRequestRepository.findSummariesByApplicationIdIn(applicationIds, pageable);
+    }
 
-        log.debug("User {} has permission to view payment requests for application {} (isApplicationOwner: {}, isBusinessOwner: {})",
-                userEmail, applicationId, isApplicationOwner, isBusinessOwner);
-
-        return paymentRequestRepository.findByApplicationId(applicationId, pageable);
+    /**
+     * Get payment transaction summaries for an application, newest first, using keyset pagination
+     */
+    @Transactional(readOnly = true)
+    public CursorDto.CursorPage<PaymentDto.TransactionSummary> getTransactionSummariesByApplication(String applicationId, String userEmail, String cursor, int size) {
+        log.debug("Getting payment transaction summaries for application: {} by user: {} after cursor: {}", applicationId, userEmail, cursor);
+        verifyApplicationOwner(applicationId, userEmail);
+        CursorDto.Cursor position = CursorDto.Cursor.decode(cursor);
+        List<PaymentDto.TransactionSummary> rows = position == null
+                ? paymentTransactionRepository.findSummaryFeedByApplicationId(applicationId, CursorDto.fetchLimit(size))
+                : paymentTransactionRepository.findSummaryFeedByApplicationIdBefore(applicationId, position.getTimestamp(), position.getId(), CursorDto.fetchLimit(size));
+        return CursorDto.CursorPage.of(rows, size, t -> new CursorDto.Cursor(t.getCreatedAt(), t.getId()));
     }
 
     /**
-     * Get payment transactions by application ID (for application owner)
+     * Get payment transaction summaries for an application
      */
     @Transactional(readOnly = true)
-    public Page<PaymentTransaction> getTransactionsByApplication(String applicationId, String userEmail, Pageable pageable) {
-        log.debug("Getting payment transactions for application: {} by user: {}", applicationId, userEmail);
+    public Page<PaymentDto.TransactionSummary> getTransactionSummariesByApplication(String applicationId, String userEmail, Pageable pageable) {
+        log.debug("Getting payment transaction summaries for application: {} by user: {}", applicationId, userEmail);
+        verifyApplicationOwner(applicationId, userEmail);
+        return paymentTransactionRepository.findSummariesByApplicationId(applicationId, pageable);
+    }
 
+    private void verifyApplicationOwner(String applicationId, String userEmail) {
         // Validate application exists and user owns it
-        Application application = applicationRepository.findById(applicationId)
-                .orElseThrow(() -> new ResourceNotFoundException("Application not found with ID: " + applicationId));
+        applicationService.getApplicationById(applicationId);
 
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + userEmail));
-
-        // Verify user owns the application
-        if (!application.getApplicantId().equals(user.getId())) {
+        if (!applicationService.isApplicationOwner(applicationId, userEmail)) {
             throw new BadRequestException("You can only view payment transactions for your own applications");
         }
+    }
 
-        return paymentTransactionRepository.findByApplicationId(applicationId, pageable);
+    /**
+     * Get payment request summaries with pagination
+     */
+    @Transactional(readOnly = true)
+    public Page<PaymentDto.PaymentRequestSummary> getAllPaymentRequestSummaries(Pageable pageable) {
+        log.debug("Getting all payment request summaries with pagination: {}", pageable);
+        return paymentRequestRepository.findAllSummaries(pageable);
     }
 
     /**
-     * Get payment requests by recipient (to user)
+     * Get payment request summaries by recipient (to user)
      */
     @Transactional(readOnly = true)
-    public Page<PaymentRequest> getPaymentRequestsByRecipient(String toUserId, Pageable pageable) {
-        log.debug("Getting payment requests by recipient: {} with pagination: {}", toUserId, pageable);
-        return paymentRequestRepository.findByToUserId(toUserId, pageable);
+    public Page<PaymentDto.PaymentRequestSummary> getPaymentRequestSummariesByRecipient(String toUserId, Pageable pageable) {
+        log.debug("Getting payment request summaries by recipient: {} with pagination: {}", toUserId, pageable);
+        return paymentRequestRepository.findSummariesByToUserId(toUserId, pageable);
     }
 
     /**
-     * Get payment requests by sender (from user)
+     * Get payment request summaries by sender (from user)
      */
     @Transactional(readOnly = true)
-    public Page<PaymentRequest> getPaymentRequestsBySender(String fromUserId, Pageable pageable) {
-        log.debug("Getting payment requests by sender: {} with pagination: {}", fromUserId, pageable);
-        return paymentRequestRepository.findByFromUserId(fromUserId, pageable);
+    public Page<PaymentDto.PaymentRequestSummary> getPaymentRequestSummariesBySender(String fromUserId, Pageable pageable) {
+        log.debug("Getting payment request summaries by sender: {} with pagination: {}", fromUserId, pageable);
+        return paymentRequestRepository.findSummariesByFromUserId(fromUserId, pageable);
     }
 
     /**
-     * Get payment requests by status
+     * Get payment request summaries by status
      */
     @Transactional(readOnly = true)
-    public Page<PaymentRequest> getPaymentRequestsByStatus(PaymentRequest.PaymentRequestStatus status, Pageable pageable) {
-        log.debug("Getting payment requests by status: {} with pagination: {}", status, pageable);
-        return paymentRequestRepository.findByStatus(status, pageable);
+    public Page<PaymentDto.PaymentRequestSummary> getPaymentRequestSummariesByStatus(PaymentRequest.PaymentRequestStatus status, Pageable pageable) {
+        log.debug("Getting payment request summaries by status: {} with pagination: {}", status, pageable);
+        return paymentRequestRepository.findSummariesByStatus(status, pageable);
     }
 
     /**
@@ -382,7 +403,7 @@ public class PaymentService {
                 .orElseThrow(() -> new ResourceNotFoundException("Franchise not found with ID: " + paymentRequest.getFranchiseId()));
 
         // Set payment request details
-        paymentRequest.setId(java.util.UUID.randomUUID().toString());
+        paymentRequest.setId(TimeOrderedIdGenerator.nextId());
         paymentRequest.setFromUserId(fromUserId);
         paymentRequest.setCreatedAt(LocalDateTime.now());
         paymentRequest.setUpdatedAt(LocalDateTime.now());
@@ -488,16 +509,20 @@ public class PaymentService {
     @Transactional(readOnly = true)
     public PaymentStats getPaymentStats() {
         log.debug("Getting payment statistics");
+        return statsAggregationService.getPaymentStats();
+    }
 
-        long totalTransactions = paymentTransactionRepository.count();
-        long successfulTransactions = paymentTransactionRepository.countByStatus(PaymentTransaction.TransactionStatus.SUCCESS);
-        long pendingTransactions = paymentTransactionRepository.countByStatus(PaymentTransaction.TransactionStatus.PENDING);
-        long failedTransactions = paymentTransactionRepository.countByStatus(PaymentTransaction.TransactionStatus.FAILED);
-
-        BigDecimal totalAmount = paymentTransactionRepository.sumAmountByStatus(PaymentTransaction.TransactionStatus.SUCCESS);
-        if (totalAmount == null) totalAmount = BigDecimal.ZERO;
-
-        return new PaymentStats(totalTransactions, successfulTransactions, pendingTransactions, failedTransactions, totalAmount);
+    /**
+     * Get transaction summaries for business owner's franchises without a count query;
+     * the total is served from the count cache
+     */
+    @Transactional(readOnly = true)
+    public SliceDto.SliceResponse<PaymentDto.TransactionSummary> getTransactionSummarySliceForBusinessOwner(String businessOwnerId, Pageable pageable) {
+        log.debug("Getting transaction summary slice for business owner: {} with pagination: {}", businessOwnerId, pageable);
+        Slice<PaymentDto.TransactionSummary> slice = paymentTransactionRepository.findSummarySliceForBusinessOwner(businessOwnerId, pageable);
+        ApproximateCountCache.Estimate total = countCache.get(ApproximateCountCache.TRANSACTIONS_FOR_BUSINESS_OWNER, businessOwnerId,
+                () -> paymentTransactionRepository.countTransactionsForBusinessOwner(businessOwnerId));
+        return SliceDto.SliceResponse.of(slice, total);
     }
 
     /**
@@ -506,26 +531,7 @@ public class PaymentService {
     @Transactional(readOnly = true)
     public PaymentStats getPaymentStatsByBusinessOwner(String businessOwnerId) {
         log.debug("Getting payment statistics for business owner: {}", businessOwnerId);
-
-        // Get real payment statistics for this business owner's franchises
-        long totalTransactions = paymentTransactionRepository.countTransactionsForBusinessOwner(businessOwnerId);
-        long successfulTransactions = paymentTransactionRepository.countTransactionsForBusinessOwnerByStatus(
-            businessOwnerId, PaymentTransaction.TransactionStatus.SUCCESS);
-        long pendingTransactions = paymentTransactionRepository.countTransactionsForBusinessOwnerByStatus(
-            businessOwnerId, PaymentTransaction.TransactionStatus.PENDING);
-        long failedTransactions = paymentTransactionRepository.countTransactionsForBusinessOwnerByStatus(
-            businessOwnerId, PaymentTransaction.TransactionStatus.FAILED);
-
-        // Get total revenue from successful transactions
-        BigDecimal totalAmount = paymentTransactionRepository.getTotalRevenueForBusinessOwner(businessOwnerId);
-        if (totalAmount == null) {
-            totalAmount = BigDecimal.ZERO;
-        }
-
-        log.debug("Payment stats for business owner {}: total={}, successful={}, pending={}, failed={}, revenue={}",
-                 businessOwnerId, totalTransactions, successfulTransactions, pendingTransactions, failedTransactions, totalAmount);
-
-        return new PaymentStats(totalTransactions, successfulTransactions, pendingTransactions, failedTransactions, totalAmount);
+        return statsAggregationService.getPaymentStatsByBusinessOwner(businessOwnerId);
     }
 
     /**
@@ -0,0 +1,192 @@
+package com.franchisehub.api.service;
+
+import com.franchisehub.api.dto.AdminDto;
+import com.franchisehub.api.model.Application;
+import com.franchisehub.api.model.Franchise;
+import com.franchisehub.api.model.Notification;
+import com.franchisehub.api.model.PaymentTransaction;
+import com.franchisehub.api.model.User;
+import com.franchisehub.api.repository.ApplicationRepository;
+import com.franchisehub.api.repository.DashboardStatsRepository;
+import com.franchisehub.api.repository.FranchiseRepository;
+import com.franchisehub.api.repository.NotificationRepository;
+import com.franchisehub.api.repository.PaymentTransactionRepository;
+import com.franchisehub.api.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the *Stats objects from one GROUP BY query per table instead of one
+ * COUNT per figure, and the whole admin dashboard from a single statement.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class StatsAggregationService {
+
+    private final UserRepository userRepository;
+    private final FranchiseRepository franchiseRepository;
+    private final ApplicationRepository applicationRepository;
+    private final PaymentTransactionRepository paymentTransactionRepository;
+    private final NotificationRepository notificationRepository;
+    private final DashboardStatsRepository dashboardStatsRepository;
+
+    /**
+     * Get user statistics from a single grouped query
+     */
+    public UserService.UserStats getUserStats() {
+        log.debug("Aggregating user statistics");
+        return toUserStats(userRepository.getUserCountByRoleAndActive());
+    }
+
+    /**
+     * Get franchise statistics from a single grouped query
+     */
+    public FranchiseService.FranchiseStats getFranchiseStats() {
+        log.debug("Aggregating franchise statistics");
+        return toFranchiseStats(franchiseRepository.getFranchiseCountByStatus());
+    }
+
+    /**
+     * Get application statistics from a single grouped query
+     */
+    public ApplicationService.ApplicationStats getApplicationStats() {
+        log.debug("Aggregating application statistics");
+        return toApplicationStats(applicationRepository.getAllApplicationCountByStatus());
+    }
+
+    /**
+     * Get application statistics for one franchise from a single grouped query
+     */
+    public ApplicationService.ApplicationStats getApplicationStatsByFranchise(String franchiseId) {
+        log.debug("Aggregating application statistics for franchise: {}", franchiseId);
+        return toApplicationStats(applicationRepository.getApplicationCountByStatusForFranchise(franchiseId));
+    }
+
+    /**
+     * Get application statistics for one business owner from a single grouped query
+     */
+    public ApplicationService.ApplicationStats getApplicationStatsByBusinessOwner(String businessOwnerId) {
+        log.debug("Aggregating application statistics for business owner: {}", businessOwnerId);
+        return toApplicationStats(applicationRepository.getApplicationCountByStatusForBusinessOwner(businessOwnerId));
+    }
+
+    /**
+     * Get payment statistics from a single grouped query
+     */
+    public PaymentService.PaymentStats getPaymentStats() {
+        log.debug("Aggregating payment statistics");
+        return toPaymentStats(paymentTransactionRepository.getTransactionCountAndAmountByStatus());
+    }
+
+    /**
+     * Get payment statistics for one business owner from a single grouped query
+     */
+    public PaymentService.PaymentStats getPaymentStatsByBusinessOwner(String businessOwnerId) {
+        log.debug("Aggregating payment statistics for business owner: {}", businessOwnerId);
+        return toPaymentStats(paymentTransactionRepository.getTransactionCountAndAmountByStatusForBusinessOwner(businessOwnerId));
+    }
+
+    /**
+     * Get notification statistics from a single grouped query
+     */
+    public NotificationService.NotificationStats getNotificationStats() {
+        log.debug("Aggregating notification statistics");
+        return toNotificationStats(notificationRepository.getNotificationCountByStatus());
+    }
+
+    /**
+     * Get every dashboard statistic in one round trip
+     */
+    public AdminDto.DashboardStats getDashboardStats() {
+        log.debug("Aggregating admin dashboard statistics");
+        Map<String, List<Object[]>> rows = dashboardStatsRepository.getDashboardCounts();
+        return new AdminDto.DashboardStats(
+                toUserStats(rows.getOrDefault(DashboardStatsRepository.USERS, List.of())),
+                toFranchiseStats(rows.getOrDefault(DashboardStatsRepository.FRANCHISES, List.of())),
+                toApplicationStats(rows.getOrDefault(DashboardStatsRepository.APPLICATIONS, List.of())),
+                toPaymentStats(rows.getOrDefault(DashboardStatsRepository.PAYMENT_TRANSACTIONS, List.of())),
+                toNotificationStats(rows.getOrDefault(DashboardStatsRepository.NOTIFICATIONS, List.of())));
+    }
+
+    // Rows are {role, isActive, count}
+    private UserService.UserStats toUserStats(List<Object[]> rows) {
+        long total = 0;
+        long active = 0;
+        Map<String, Long> activeByRole = new HashMap<>();
+        for (Object[] row : rows) {
+            long count = ((Number) row[2]).longValue();
+            total += count;
+            if (Boolean.TRUE.equals(row[1])) {
+                active += count;
+                activeByRole.merge(String.valueOf(row[0]), count, Long::sum);
+            }
+        }
+        return new UserService.UserStats(total, active,
+                activeByRole.getOrDefault(User.UserRole.BUSINESS.name(), 0L),
+                activeByRole.getOrDefault(User.UserRole.PARTNER.name(), 0L),
+                activeByRole.getOrDefault(User.UserRole.ADMIN.name(), 0L));
+    }
+
+    // Rows are {status, count}
+    private FranchiseService.FranchiseStats toFranchiseStats(List<Object[]> rows) {
+        Map<String, Long> byStatus = countsByKey(rows);
+        return new FranchiseService.FranchiseStats(sum(byStatus),
+                byStatus.getOrDefault(Franchise.FranchiseStatus.ACTIVE.name(), 0L),
+                byStatus.getOrDefault(Franchise.FranchiseStatus.PENDING.name(), 0L));
+    }
+
+    // Rows are {status, count}
+    private ApplicationService.ApplicationStats toApplicationStats(List<Object[]> rows) {
+        Map<String, Long> byStatus = countsByKey(rows);
+        return new ApplicationService.ApplicationStats(sum(byStatus),
+                byStatus.getOrDefault(Application.ApplicationStatus.SUBMITTED.name(), 0L),
+                byStatus.getOrDefault(Application.ApplicationStatus.UNDER_REVIEW.name(), 0L),
+                byStatus.getOrDefault(Application.ApplicationStatus.APPROVED.name(), 0L),
+                byStatus.getOrDefault(Application.ApplicationStatus.REJECTED.name(), 0L));
+    }
+
+    // Rows are {status, count, amount}
+    private PaymentService.PaymentStats toPaymentStats(List<Object[]> rows) {
+        Map<String, Long> byStatus = countsByKey(rows);
+        BigDecimal successfulAmount = BigDecimal.ZERO;
+        for (Object[] row : rows) {
+            if (PaymentTransaction.TransactionStatus.SUCCESS.name().equals(String.valueOf(row[0])) && row[2] != null) {
+                successfulAmount = new BigDecimal(row[2].toString());
+            }
+        }
+        return new PaymentService.PaymentStats(sum(byStatus),
+                byStatus.getOrDefault(PaymentTransaction.TransactionStatus.SUCCESS.name(), 0L),
+                byStatus.getOrDefault(PaymentTransaction.TransactionStatus.PENDING.name(), 0L),
+                byStatus.getOrDefault(PaymentTransaction.TransactionStatus.FAILED.name(), 0L),
+                successfulAmount);
+    }
+
+    // Rows are {status, count}
+    private NotificationService.NotificationStats toNotificationStats(List<Object[]> rows) {
+        Map<String, Long> byStatus = countsByKey(rows);
+        return new NotificationService.NotificationStats(sum(byStatus),
+                byStatus.getOrDefault(Notification.NotificationStatus.UNREAD.name(), 0L),
+                byStatus.getOrDefault(Notification.NotificationStatus.READ.name(), 0L));
+    }
+
+    private static Map<String, Long> countsByKey(List<Object[]> rows) {
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.merge(String.valueOf(row[0]), ((Number) row[1]).longValue(), Long::sum);
+        }
+        return counts;
+    }
+
+    private static long sum(Map<String, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -4,9 +4,13 @@ import com.franchisehub.api.model.User;
 import com.franchisehub.api.repository.UserRepository;
 import com.franchisehub.api.exception.ResourceNotFoundException;
 import com.franchisehub.api.exception.BadRequestException;
+import com.franchisehub.api.cache.InvalidationBus;
+import com.franchisehub.api.search.FullTextSearch;
+import com.franchisehub.api.search.UserSearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -16,6 +20,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +31,10 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final StatsAggregationService statsAggregationService;
+    private final InvalidationBus invalidationBus;
+    private final FullTextSearch fullTextSearch;
+    private final UserSearchIndex userSearchIndex;
 
     /**
      * Get all users with pagination
@@ -45,6 +55,15 @@ public class UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + id));
     }
 
+    /**
+     * Get when a user was last modified, without loading it
+     */
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> getUserLastModified(String id) {
+        log.debug("Getting last modified time of user: {}", id);
+        return userRepository.findUpdatedAtById(id);
+    }
+
     /**
      * Get user by email
      */
@@ -55,6 +74,19 @@ public class UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
     }
 
+    /**
+     * Get id, email and role of a user by email. Answered from the request principal
+     * when it is the same user, so authorization checks do not query the database.
+     */
+    @Transactional(readOnly = true)
+    public User getUserIdentityByEmail(String email) {
+        User principal = getAuthenticatedUser();
+        if (principal != null && principal.getEmail().equals(email)) {
+            return principal;
+        }
+        return getUserByEmail(email);
+    }
+
     /**
      * Get users by role
      */
@@ -92,21 +124,27 @@ public class UserService {
     }
 
     /**
-     * Get active users by role
+     * Stream active users by role; the caller consumes and closes the stream within its transaction
      */
     @Transactional(readOnly = true)
-    public List<User> getActiveUsersByRole(User.UserRole role) {
-        log.debug("Getting active users by role: {}", role);
-        return userRepository.findActiveUsersByRole(role);
+    public Stream<User> streamActiveUsersByRole(User.UserRole role) {
+        log.debug("Streaming active users by role: {}", role);
+        return userRepository.streamActiveUsersByRole(role);
     }
 
     /**
-     * Search users
+     * Search users by name, email or company, tolerating typos, best match first
      */
     @Transactional(readOnly = true)
     public Page<User> searchUsers(String searchTerm, Pageable pageable) {
         log.debug("Searching users with term: {} and pagination: {}", searchTerm, pageable);
-        return userRepository.searchUsers(searchTerm, pageable);
+        Page<String> ids = userSearchIndex.search(searchTerm, (int) pageable.getOffset(), pageable.getPageSize())
+                .<Page<String>>map(hits -> new PageImpl<>(hits.userIds(), pageable, hits.total()))
+                // Index still being built after startup: ask the database instead
+                .orElseGet(() -> fullTextSearch.searchUsers(searchTerm, pageable));
+        List<User> users = FullTextSearch.inRankOrder(
+                ids.getContent(), userRepository.findAllById(ids.getContent()), User::getId);
+        return new PageImpl<>(users, pageable, ids.getTotalElements());
     }
 
     /**
@@ -135,6 +173,7 @@ public class UserService {
         existingUser.setUpdatedAt(LocalDateTime.now());
 
         User savedUser = userRepository.save(existingUser);
+        invalidationBus.publish(InvalidationBus.USER, existingUser.getId());
         log.info("Updated user profile with ID: {}", savedUser.getId());
         return savedUser;
     }
@@ -187,8 +226,10 @@ public class UserService {
         // Update password
         user.setPassword(passwordEncoder.encode(newPassword));
         user.setUpdatedAt(LocalDateTime.now());
+        user.revokeTokens();
 
         userRepository.save(user);
+        invalidationBus.publish(InvalidationBus.USER, user.getId());
         log.info("Changed password for user with ID: {}", id);
     }
 
@@ -212,8 +253,10 @@ public class UserService {
 
         user.setRole(newRole);
         user.setUpdatedAt(LocalDateTime.now());
+        user.revokeTokens();
 
         User savedUser = userRepository.save(user);
+        invalidationBus.publish(InvalidationBus.USER, user.getId());
         log.info("Updated user role for ID: {} to {}", id, newRole);
         return savedUser;
     }
@@ -238,8 +281,10 @@ public class UserService {
 
         user.setIsActive(isActive);
         user.setUpdatedAt(LocalDateTime.now());
+        user.revokeTokens();
 
         User savedUser = userRepository.save(user);
+        invalidationBus.publish(InvalidationBus.USER, user.getId());
         log.info("Updated user status for ID: {} to {}", id, isActive ? "active" : "inactive");
         return savedUser;
     }
@@ -265,7 +310,9 @@ public class UserService {
         // Soft delete by deactivating the user
         user.setIsActive(false);
         user.setUpdatedAt(LocalDateTime.now());
+        user.revokeTokens();
         userRepository.save(user);
+        invalidationBus.publish(InvalidationBus.USER, user.getId());
         
         log.info("Soft deleted user with ID: {}", id);
     }
@@ -305,14 +352,7 @@ public class UserService {
     @Transactional(readOnly = true)
     public UserStats getUserStats() {
         log.debug("Getting user statistics");
-        
-        long totalUsers = userRepository.count();
-        long activeUsers = userRepository.findByIsActiveTrue().size();
-        long businessUsers = userRepository.countActiveUsersByRole(User.UserRole.BUSINESS);
-        long partnerUsers = userRepository.countActiveUsersByRole(User.UserRole.PARTNER);
-        long adminUsers = userRepository.countActiveUsersByRole(User.UserRole.ADMIN);
-        
-        return new UserStats(totalUsers, activeUsers, businessUsers, partnerUsers, adminUsers);
+        return statsAggregationService.getUserStats();
     }
 
     /**
@@ -334,6 +374,16 @@ public class UserService {
         return userRepository.findUsersLoggedInSince(thirtyDaysAgo);
     }
 
+    /**
+     * Stream recent users (logged in within the last 30 days); the caller consumes and closes
+     * the stream within its transaction
+     */
+    @Transactional(readOnly = true)
+    public Stream<User> streamRecentUsers() {
+        log.debug("Streaming recent users");
+        return userRepository.streamUsersLoggedInSince(LocalDateTime.now().minusDays(30));
+    }
+
     /**
      * Validate user permissions for resource access
      */
@@ -376,8 +426,9 @@ public class UserService {
         String currentUserEmail = authentication.getName();
 
         try {
-            // Get the current user by email and check if their ID matches
-            User currentUser = getUserByEmail(currentUserEmail);
+            // Use the principal resolved by the JWT filter, falling back to a lookup by email
+            User principal = getAuthenticatedUser();
+            User currentUser = principal != null ? principal : getUserByEmail(currentUserEmail);
             boolean isMatch = currentUser.getId().equals(userId);
 
             log.debug("Checking if user ID {} matches current user {}: {}", userId, currentUserEmail, isMatch);
@@ -388,6 +439,11 @@ public class UserService {
         }
     }
 
+    private User getAuthenticatedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof User user ? user : null;
+    }
+
     /**
      * Inner class for user statistics
      */
@@ -0,0 +1,84 @@
+package com.franchisehub.api.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * JSON array responses written one row at a time while the query is still reading rows.
+ *
+ * The body runs after the controller has returned, on an MVC async thread, inside its own
+ * read-only transaction. Rows come from a repository Stream with a JDBC fetch size; each
+ * one is serialized straight to the response through a single JsonGenerator and, if it is
+ * an entity, then detached, so neither the persistence context nor an output buffer grows
+ * with the result. DTO projections are never managed and need no detaching.
+ * The status is committed with the first bytes: a failure after that is logged and the
+ * client gets truncated JSON instead of an error body.
+ */
+@Component
+@Slf4j
+public class StreamingJson {
+
+    private final ObjectWriter writer;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public StreamingJson(ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        // Same serialization as the regular message converter, without a flush per element
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Respond with every row of the stream as a JSON array
+     */
+    public <T> ResponseEntity<StreamingResponseBody> array(Supplier<Stream<T>> rows) {
+        StreamingResponseBody body = out -> readOnlyTransaction.executeWithoutResult(status -> write(rows, out));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    private <T> void write(Supplier<Stream<T>> rows, OutputStream out) {
+        long written = 0;
+        try (Stream<T> stream = rows.get();
+             JsonGenerator generator = writer.getFactory().createGenerator(out)) {
+            // The servlet container owns the response stream
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            Iterator<T> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                T row = iterator.next();
+                writer.writeValue(generator, row);
+                if (row.getClass().isAnnotationPresent(Entity.class)) {
+                    entityManager.detach(row);
+                }
+                written++;
+            }
+            generator.writeEndArray();
+        } catch (IOException e) {
+            log.warn("Streaming JSON response aborted after {} elements: {}", written, e.getMessage());
+            throw new UncheckedIOException(e);
+        }
+        log.debug("Streamed {} elements", written);
+    }
+}
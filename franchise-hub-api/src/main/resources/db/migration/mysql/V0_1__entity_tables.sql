@@ -0,0 +1,283 @@
+-- =============================================================================
+-- V0_1: entity tables (MySQL 8)
+-- =============================================================================
+--
+-- The tables the JPA mapping expects, so a fresh database is complete before the
+-- EntityManagerFactory starts and ddl-auto only has to validate (or update) it.
+-- IF NOT EXISTS leaves databases that predate Flyway, whose tables Hibernate
+-- created, untouched; they are baselined at version 0 and pick up the columns
+-- added since from the V2_1 and V3_1 Java migrations.
+--
+-- Mapping changes go in a new migration, not here. Keep in sync with
+-- db/migration/sqlite.
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS users (
+    is_active BIT NOT NULL,
+    notification_email BIT,
+    notification_push BIT,
+    notification_sms BIT,
+    token_version INTEGER,
+    created_at DATETIME(6) NOT NULL,
+    last_login_at DATETIME(6),
+    updated_at DATETIME(6),
+    avatar VARCHAR(255),
+    bio TEXT,
+    company VARCHAR(255),
+    email VARCHAR(255) NOT NULL UNIQUE,
+    first_name VARCHAR(255) NOT NULL,
+    id VARCHAR(255) NOT NULL,
+    language VARCHAR(255),
+    last_name VARCHAR(255) NOT NULL,
+    location VARCHAR(255),
+    password VARCHAR(255) NOT NULL,
+    phone VARCHAR(255) NOT NULL,
+    timezone VARCHAR(255),
+    website VARCHAR(255),
+    role ENUM ('BUSINESS','PARTNER','ADMIN') NOT NULL,
+    theme ENUM ('LIGHT','DARK'),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS franchises (
+    average_revenue DECIMAL(5,2),
+    company_owned_units INTEGER,
+    credit_score INTEGER,
+    digital_marketing BIT,
+    franchise_fee DECIMAL(15,2) NOT NULL,
+    franchised_units INTEGER,
+    growth_rate DECIMAL(5,2),
+    initial_training_days INTEGER,
+    liquid_capital_required DECIMAL(15,2) NOT NULL,
+    local_marketing_support BIT,
+    marketing_fee DECIMAL(5,2) NOT NULL,
+    max DECIMAL(15,2),
+    min DECIMAL(15,2),
+    national_advertising BIT,
+    net_worth_required DECIMAL(15,2) NOT NULL,
+    ongoing_support BIT,
+    profit_margin DECIMAL(5,2),
+    royalty_fee DECIMAL(5,2) NOT NULL,
+    satisfaction_score DECIMAL(5,2),
+    total_units INTEGER,
+    year_established INTEGER NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    business_owner_id VARCHAR(255) NOT NULL,
+    business_owner_name VARCHAR(255) NOT NULL,
+    description TEXT,
+    education TEXT,
+    experience TEXT,
+    id VARCHAR(255) NOT NULL,
+    logo VARCHAR(255),
+    marketing_description VARCHAR(255),
+    name VARCHAR(255) NOT NULL,
+    support_description VARCHAR(255),
+    training_location VARCHAR(255),
+    category ENUM ('FOOD_BEVERAGE','RETAIL','SERVICES','HEALTH_FITNESS','EDUCATION','AUTOMOTIVE','REAL_ESTATE','TECHNOLOGY','HOSPITALITY','OTHER') NOT NULL,
+    status ENUM ('ACTIVE','INACTIVE','PENDING','SUSPENDED') NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS franchise_images (
+    franchise_id VARCHAR(255) NOT NULL,
+    image_url VARCHAR(255),
+    FOREIGN KEY (franchise_id) REFERENCES franchises (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS franchise_territories (
+    franchise_id VARCHAR(255) NOT NULL,
+    territory VARCHAR(255),
+    FOREIGN KEY (franchise_id) REFERENCES franchises (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS franchise_states (
+    franchise_id VARCHAR(255) NOT NULL,
+    state VARCHAR(255),
+    FOREIGN KEY (franchise_id) REFERENCES franchises (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS franchise_background_requirements (
+    background_requirement VARCHAR(255),
+    franchise_id VARCHAR(255) NOT NULL,
+    FOREIGN KEY (franchise_id) REFERENCES franchises (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS applications (
+    annual_income DECIMAL(15,2),
+    application_fee DECIMAL(10,2) NOT NULL,
+    credit_score INTEGER,
+    debt_amount DECIMAL(15,2),
+    full_time_commitment BIT,
+    has_debt BIT,
+    has_partners BIT,
+    is_active BIT NOT NULL,
+    liquid_assets DECIMAL(15,2),
+    net_worth DECIMAL(15,2),
+    paid_at DATETIME(6),
+    reviewed_at DATETIME(6),
+    submitted_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    applicant_email VARCHAR(255) NOT NULL,
+    applicant_id VARCHAR(255) NOT NULL,
+    applicant_name VARCHAR(255) NOT NULL,
+    business_owner_id VARCHAR(255),
+    date_of_birth VARCHAR(255),
+    email VARCHAR(255),
+    emergency_contact_name VARCHAR(255),
+    emergency_contact_phone VARCHAR(255),
+    first_name VARCHAR(255),
+    franchise_id VARCHAR(255) NOT NULL,
+    franchise_name VARCHAR(255) NOT NULL,
+    id VARCHAR(255) NOT NULL,
+    investment_source TEXT,
+    last_name VARCHAR(255),
+    motivation TEXT,
+    partner_details TEXT,
+    payment_transaction_id VARCHAR(255),
+    personal_city VARCHAR(255),
+    personal_country VARCHAR(255),
+    personal_state VARCHAR(255),
+    personal_street VARCHAR(255),
+    personal_zip_code VARCHAR(255),
+    phone VARCHAR(255),
+    preferred_city VARCHAR(255),
+    preferred_country VARCHAR(255),
+    preferred_state VARCHAR(255),
+    preferred_street VARCHAR(255),
+    preferred_zip_code VARCHAR(255),
+    questions TEXT,
+    rejection_reason TEXT,
+    review_notes TEXT,
+    reviewed_by VARCHAR(255),
+    ssn VARCHAR(255),
+    timeline_to_open VARCHAR(255),
+    payment_status ENUM ('PENDING','PAID','FAILED','REFUNDED') NOT NULL,
+    status ENUM ('DRAFT','SUBMITTED','UNDER_REVIEW','APPROVED','REJECTED','WITHDRAWN') NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS application_documents (
+    is_required BIT NOT NULL,
+    is_verified BIT NOT NULL,
+    file_size BIGINT,
+    uploaded_at DATETIME(6) NOT NULL,
+    verified_at DATETIME(6),
+    application_id VARCHAR(255) NOT NULL,
+    file_name VARCHAR(255) NOT NULL,
+    file_url VARCHAR(255) NOT NULL,
+    id VARCHAR(255) NOT NULL,
+    mime_type VARCHAR(255),
+    name VARCHAR(255) NOT NULL,
+    notes TEXT,
+    uploaded_by VARCHAR(255) NOT NULL,
+    verified_by VARCHAR(255),
+    type ENUM ('FINANCIAL_STATEMENT','BANK_STATEMENT','TAX_RETURN','CREDIT_REPORT','BUSINESS_PLAN','RESUME','REFERENCE_LETTER','LEGAL_DOCUMENT','IDENTIFICATION','OTHER') NOT NULL,
+    PRIMARY KEY (id),
+    FOREIGN KEY (application_id) REFERENCES applications (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS application_references (
+    years_known INTEGER,
+    contacted_at DATETIME(6),
+    created_at DATETIME(6) NOT NULL,
+    application_id VARCHAR(255) NOT NULL,
+    company VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    feedback TEXT,
+    id VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    notes TEXT,
+    phone VARCHAR(255) NOT NULL,
+    position VARCHAR(255) NOT NULL,
+    relationship VARCHAR(255) NOT NULL,
+    contact_status ENUM ('NOT_CONTACTED','CONTACTED','RESPONDED','NO_RESPONSE'),
+    type ENUM ('PROFESSIONAL','PERSONAL','BUSINESS','FINANCIAL') NOT NULL,
+    PRIMARY KEY (id),
+    FOREIGN KEY (application_id) REFERENCES applications (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS application_preferred_states (
+    application_id VARCHAR(255) NOT NULL,
+    state VARCHAR(255),
+    FOREIGN KEY (application_id) REFERENCES applications (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS notifications (
+    created_at DATETIME(6) NOT NULL,
+    expires_at DATETIME(6),
+    read_at DATETIME(6),
+    action_text VARCHAR(255),
+    action_url VARCHAR(255),
+    application_id VARCHAR(255),
+    franchise_id VARCHAR(255),
+    id VARCHAR(255) NOT NULL,
+    message TEXT NOT NULL,
+    payment_request_id VARCHAR(255),
+    title VARCHAR(255) NOT NULL,
+    user_id VARCHAR(255) NOT NULL,
+    priority ENUM ('LOW','MEDIUM','HIGH','URGENT'),
+    status ENUM ('READ','UNREAD') NOT NULL,
+    type ENUM ('APPLICATION_UPDATE','PAYMENT_REQUEST','PARTNERSHIP_UPDATE','SYSTEM_ALERT','DOCUMENT_REQUIRED','APPROVAL_NOTIFICATION') NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS payment_requests (
+    amount DECIMAL(15,2) NOT NULL,
+    reminders_sent INTEGER,
+    created_at DATETIME(6) NOT NULL,
+    due_date DATETIME(6),
+    last_reminder_sent DATETIME(6),
+    paid_at DATETIME(6),
+    updated_at DATETIME(6),
+    application_id VARCHAR(255),
+    currency VARCHAR(255) NOT NULL,
+    description TEXT,
+    franchise_id VARCHAR(255) NOT NULL,
+    from_user_id VARCHAR(255) NOT NULL,
+    id VARCHAR(255) NOT NULL,
+    notes TEXT,
+    payment_transaction_id VARCHAR(255),
+    title VARCHAR(255) NOT NULL,
+    to_user_id VARCHAR(255) NOT NULL,
+    payment_method ENUM ('UPI','CREDIT_CARD','DEBIT_CARD','NET_BANKING','WALLET','BANK_TRANSFER'),
+    status ENUM ('PENDING','PAID','OVERDUE','CANCELLED','REFUNDED') NOT NULL,
+    type ENUM ('APPLICATION_FEE','FRANCHISE_FEE','ROYALTY_PAYMENT','MARKETING_FEE','SETUP_FEE','TRAINING_FEE','OTHER') NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS payment_transactions (
+    amount DECIMAL(15,2) NOT NULL,
+    net_amount DECIMAL(15,2) NOT NULL,
+    platform_fee DECIMAL(15,2) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    processed_at DATETIME(6),
+    updated_at DATETIME(6),
+    application_id VARCHAR(255),
+    bank_name VARCHAR(255),
+    bank_transaction_id VARCHAR(255),
+    business_owner_id VARCHAR(255),
+    card_last4 VARCHAR(255),
+    card_network VARCHAR(255),
+    card_type VARCHAR(255),
+    currency VARCHAR(255) NOT NULL,
+    description TEXT,
+    failure_reason TEXT,
+    franchise_id VARCHAR(255) NOT NULL,
+    gateway_order_id VARCHAR(255),
+    gateway_payment_id VARCHAR(255),
+    gateway_signature VARCHAR(255),
+    gateway_transaction_id VARCHAR(255),
+    id VARCHAR(255) NOT NULL,
+    payment_request_id VARCHAR(255),
+    upi_id VARCHAR(255),
+    upi_transaction_id VARCHAR(255),
+    user_id VARCHAR(255) NOT NULL,
+    wallet_name VARCHAR(255),
+    wallet_transaction_id VARCHAR(255),
+    method ENUM ('UPI','CREDIT_CARD','DEBIT_CARD','NET_BANKING','WALLET','BANK_TRANSFER') NOT NULL,
+    status ENUM ('PENDING','PROCESSING','SUCCESS','FAILED','CANCELLED','REFUNDED','PARTIALLY_REFUNDED') NOT NULL,
+    type ENUM ('APPLICATION_FEE','FRANCHISE_FEE','ROYALTY_PAYMENT','MARKETING_FEE','REFUND','SETTLEMENT') NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
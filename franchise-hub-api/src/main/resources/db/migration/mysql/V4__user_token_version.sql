@@ -0,0 +1,11 @@
+-- =============================================================================
+-- V4: per-user token version carried in JWTs
+-- =============================================================================
+--
+-- The token_version column is added by the V3.1 Java migration
+-- (com.franchisehub.api.migration), which skips it when V0_1 has already
+-- created it. Existing users start at version 0, which is what tokens issued
+-- without a version claim are treated as.
+-- =============================================================================
+
+UPDATE users SET token_version = 0 WHERE token_version IS NULL;
@@ -0,0 +1,17 @@
+-- =============================================================================
+-- V5: change log for cross-node cache invalidation
+-- =============================================================================
+--
+-- Not an entity: rows are written and polled with plain JDBC by the jdbc
+-- invalidation transport. Nodes read it in id order from a high-water mark and
+-- delete rows older than the retention by published_at (epoch milliseconds).
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS cache_invalidations (
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    region VARCHAR(64) NOT NULL,
+    cache_key VARCHAR(255) NULL,
+    origin_node VARCHAR(36) NOT NULL,
+    published_at BIGINT NOT NULL
+);
+CREATE INDEX idx_cache_invalidations_published ON cache_invalidations (published_at);
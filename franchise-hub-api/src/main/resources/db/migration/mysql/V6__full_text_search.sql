@@ -0,0 +1,16 @@
+-- =============================================================================
+-- V6: FULLTEXT indexes for franchise, user and application search (MySQL)
+-- =============================================================================
+--
+-- Read by MySqlFullTextSearch (full-text-search.provider = mysql-fulltext)
+-- with MATCH ... AGAINST, whose column list must equal the index's. InnoDB
+-- maintains the indexes itself. The first FULLTEXT index on a table rebuilds
+-- it to add the hidden FTS_DOC_ID column, so run this outside peak hours.
+-- Keep in sync with db/migration/sqlite.
+-- =============================================================================
+
+CREATE FULLTEXT INDEX ft_franchises_search ON franchises (name, business_owner_name, description);
+
+CREATE FULLTEXT INDEX ft_users_search ON users (first_name, last_name, email, company);
+
+CREATE FULLTEXT INDEX ft_applications_search ON applications (applicant_name, applicant_email, franchise_name);
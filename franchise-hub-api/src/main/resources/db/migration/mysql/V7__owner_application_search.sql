@@ -0,0 +1,13 @@
+-- =============================================================================
+-- V7: owner-scoped application search
+-- =============================================================================
+--
+-- Business owners search their own applications by applicant or franchise
+-- name, narrowed by status, payment status and submission date. Every query
+-- starts from business_owner_id, so it reads one owner's rows and never the
+-- franchise_id IN (subquery) path. Status and date filters use the V3
+-- (business_owner_id, status, submitted_at) and (business_owner_id,
+-- submitted_at) indexes; this adds the payment-status one.
+-- =============================================================================
+
+CREATE INDEX idx_applications_owner_payment_submitted ON applications (business_owner_id, payment_status, submitted_at);
@@ -0,0 +1,11 @@
+-- =============================================================================
+-- V8: index for the catalog change probe
+-- =============================================================================
+--
+-- FranchiseRepository.getCatalogFingerprint reads COUNT(*) and MAX(updated_at)
+-- over every franchise. Without an index on updated_at that is a full table
+-- scan on each probe; with one it reads the narrower index instead. Found by
+-- the query-plan suite (RepositoryQueryPlanTest).
+-- =============================================================================
+
+CREATE INDEX idx_franchises_updated ON franchises (updated_at);
@@ -0,0 +1,15 @@
+-- =============================================================================
+-- V9: owner search through the owner index
+-- =============================================================================
+--
+-- The owner search filters on business_owner_id and is_active = true. Every
+-- V3/V7 owner index matches only the first of the two, so the planner took
+-- idx_applications_active_submitted instead, which also matches one equality
+-- and covers the ORDER BY submitted_at. That read every active application
+-- in the database. With is_active second, the V7 index matches both
+-- equalities and the search reads one owner's active rows. Found by
+-- RepositoryQueryPlanTest.
+-- =============================================================================
+
+DROP INDEX idx_applications_owner_payment_submitted ON applications;
+CREATE INDEX idx_applications_owner_payment_submitted ON applications (business_owner_id, is_active, payment_status, submitted_at);
@@ -0,0 +1,276 @@
+-- =============================================================================
+-- V0_1: entity tables (SQLite)
+-- =============================================================================
+--
+-- The tables the JPA mapping expects, so a fresh database is complete before the
+-- EntityManagerFactory starts and ddl-auto only has to validate (or update) it.
+-- IF NOT EXISTS leaves databases that predate Flyway, whose tables Hibernate
+-- created, untouched; they are baselined at version 0 and pick up the columns
+-- added since from the V2_1 and V3_1 Java migrations.
+--
+-- Mapping changes go in a new migration, not here. Keep in sync with
+-- db/migration/mysql.
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS users (
+    is_active BOOLEAN NOT NULL,
+    notification_email BOOLEAN,
+    notification_push BOOLEAN,
+    notification_sms BOOLEAN,
+    token_version INTEGER,
+    created_at TIMESTAMP NOT NULL,
+    last_login_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    avatar VARCHAR(255),
+    bio TEXT,
+    company VARCHAR(255),
+    email VARCHAR(255) NOT NULL UNIQUE,
+    first_name VARCHAR(255) NOT NULL,
+    id VARCHAR(255) NOT NULL,
+    language VARCHAR(255),
+    last_name VARCHAR(255) NOT NULL,
+    location VARCHAR(255),
+    password VARCHAR(255) NOT NULL,
+    phone VARCHAR(255) NOT NULL,
+    role VARCHAR(255) NOT NULL CHECK (role IN ('BUSINESS','PARTNER','ADMIN')),
+    theme VARCHAR(255) CHECK (theme IN ('LIGHT','DARK')),
+    timezone VARCHAR(255),
+    website VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS franchises (
+    average_revenue NUMERIC(5,2),
+    company_owned_units INTEGER,
+    credit_score INTEGER,
+    digital_marketing BOOLEAN,
+    franchise_fee NUMERIC(15,2) NOT NULL,
+    franchised_units INTEGER,
+    growth_rate NUMERIC(5,2),
+    initial_training_days INTEGER,
+    liquid_capital_required NUMERIC(15,2) NOT NULL,
+    local_marketing_support BOOLEAN,
+    marketing_fee NUMERIC(5,2) NOT NULL,
+    max NUMERIC(15,2),
+    min NUMERIC(15,2),
+    national_advertising BOOLEAN,
+    net_worth_required NUMERIC(15,2) NOT NULL,
+    ongoing_support BOOLEAN,
+    profit_margin NUMERIC(5,2),
+    royalty_fee NUMERIC(5,2) NOT NULL,
+    satisfaction_score NUMERIC(5,2),
+    total_units INTEGER,
+    year_established INTEGER NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP,
+    business_owner_id VARCHAR(255) NOT NULL,
+    business_owner_name VARCHAR(255) NOT NULL,
+    category VARCHAR(255) NOT NULL CHECK (category IN ('FOOD_BEVERAGE','RETAIL','SERVICES','HEALTH_FITNESS','EDUCATION','AUTOMOTIVE','REAL_ESTATE','TECHNOLOGY','HOSPITALITY','OTHER')),
+    description TEXT,
+    education TEXT,
+    experience TEXT,
+    id VARCHAR(255) NOT NULL,
+    logo VARCHAR(255),
+    marketing_description VARCHAR(255),
+    name VARCHAR(255) NOT NULL,
+    status VARCHAR(255) NOT NULL CHECK (status IN ('ACTIVE','INACTIVE','PENDING','SUSPENDED')),
+    support_description VARCHAR(255),
+    training_location VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS franchise_images (
+    franchise_id VARCHAR(255) NOT NULL,
+    image_url VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS franchise_territories (
+    franchise_id VARCHAR(255) NOT NULL,
+    territory VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS franchise_states (
+    franchise_id VARCHAR(255) NOT NULL,
+    state VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS franchise_background_requirements (
+    background_requirement VARCHAR(255),
+    franchise_id VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS applications (
+    annual_income NUMERIC(15,2),
+    application_fee NUMERIC(10,2) NOT NULL,
+    credit_score INTEGER,
+    debt_amount NUMERIC(15,2),
+    full_time_commitment BOOLEAN,
+    has_debt BOOLEAN,
+    has_partners BOOLEAN,
+    is_active BOOLEAN NOT NULL,
+    liquid_assets NUMERIC(15,2),
+    net_worth NUMERIC(15,2),
+    paid_at TIMESTAMP,
+    reviewed_at TIMESTAMP,
+    submitted_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP,
+    applicant_email VARCHAR(255) NOT NULL,
+    applicant_id VARCHAR(255) NOT NULL,
+    applicant_name VARCHAR(255) NOT NULL,
+    business_owner_id VARCHAR(255),
+    date_of_birth VARCHAR(255),
+    email VARCHAR(255),
+    emergency_contact_name VARCHAR(255),
+    emergency_contact_phone VARCHAR(255),
+    first_name VARCHAR(255),
+    franchise_id VARCHAR(255) NOT NULL,
+    franchise_name VARCHAR(255) NOT NULL,
+    id VARCHAR(255) NOT NULL,
+    investment_source TEXT,
+    last_name VARCHAR(255),
+    motivation TEXT,
+    partner_details TEXT,
+    payment_status VARCHAR(255) NOT NULL CHECK (payment_status IN ('PENDING','PAID','FAILED','REFUNDED')),
+    payment_transaction_id VARCHAR(255),
+    personal_city VARCHAR(255),
+    personal_country VARCHAR(255),
+    personal_state VARCHAR(255),
+    personal_street VARCHAR(255),
+    personal_zip_code VARCHAR(255),
+    phone VARCHAR(255),
+    preferred_city VARCHAR(255),
+    preferred_country VARCHAR(255),
+    preferred_state VARCHAR(255),
+    preferred_street VARCHAR(255),
+    preferred_zip_code VARCHAR(255),
+    questions TEXT,
+    rejection_reason TEXT,
+    review_notes TEXT,
+    reviewed_by VARCHAR(255),
+    ssn VARCHAR(255),
+    status VARCHAR(255) NOT NULL CHECK (status IN ('DRAFT','SUBMITTED','UNDER_REVIEW','APPROVED','REJECTED','WITHDRAWN')),
+    timeline_to_open VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS application_documents (
+    is_required BOOLEAN NOT NULL,
+    is_verified BOOLEAN NOT NULL,
+    file_size BIGINT,
+    uploaded_at TIMESTAMP NOT NULL,
+    verified_at TIMESTAMP,
+    application_id VARCHAR(255) NOT NULL,
+    file_name VARCHAR(255) NOT NULL,
+    file_url VARCHAR(255) NOT NULL,
+    id VARCHAR(255) NOT NULL,
+    mime_type VARCHAR(255),
+    name VARCHAR(255) NOT NULL,
+    notes TEXT,
+    type VARCHAR(255) NOT NULL CHECK (type IN ('FINANCIAL_STATEMENT','BANK_STATEMENT','TAX_RETURN','CREDIT_REPORT','BUSINESS_PLAN','RESUME','REFERENCE_LETTER','LEGAL_DOCUMENT','IDENTIFICATION','OTHER')),
+    uploaded_by VARCHAR(255) NOT NULL,
+    verified_by VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS application_references (
+    years_known INTEGER,
+    contacted_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL,
+    application_id VARCHAR(255) NOT NULL,
+    company VARCHAR(255) NOT NULL,
+    contact_status VARCHAR(255) CHECK (contact_status IN ('NOT_CONTACTED','CONTACTED','RESPONDED','NO_RESPONSE')),
+    email VARCHAR(255) NOT NULL,
+    feedback TEXT,
+    id VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    notes TEXT,
+    phone VARCHAR(255) NOT NULL,
+    position VARCHAR(255) NOT NULL,
+    relationship VARCHAR(255) NOT NULL,
+    type VARCHAR(255) NOT NULL CHECK (type IN ('PROFESSIONAL','PERSONAL','BUSINESS','FINANCIAL')),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS application_preferred_states (
+    application_id VARCHAR(255) NOT NULL,
+    state VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS notifications (
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP,
+    read_at TIMESTAMP,
+    action_text VARCHAR(255),
+    action_url VARCHAR(255),
+    application_id VARCHAR(255),
+    franchise_id VARCHAR(255),
+    id VARCHAR(255) NOT NULL,
+    message TEXT NOT NULL,
+    payment_request_id VARCHAR(255),
+    priority VARCHAR(255) CHECK (priority IN ('LOW','MEDIUM','HIGH','URGENT')),
+    status VARCHAR(255) NOT NULL CHECK (status IN ('READ','UNREAD')),
+    title VARCHAR(255) NOT NULL,
+    type VARCHAR(255) NOT NULL CHECK (type IN ('APPLICATION_UPDATE','PAYMENT_REQUEST','PARTNERSHIP_UPDATE','SYSTEM_ALERT','DOCUMENT_REQUIRED','APPROVAL_NOTIFICATION')),
+    user_id VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS payment_requests (
+    amount NUMERIC(15,2) NOT NULL,
+    reminders_sent INTEGER,
+    created_at TIMESTAMP NOT NULL,
+    due_date TIMESTAMP,
+    last_reminder_sent TIMESTAMP,
+    paid_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    application_id VARCHAR(255),
+    currency VARCHAR(255) NOT NULL,
+    description TEXT,
+    franchise_id VARCHAR(255) NOT NULL,
+    from_user_id VARCHAR(255) NOT NULL,
+    id VARCHAR(255) NOT NULL,
+    notes TEXT,
+    payment_method VARCHAR(255) CHECK (payment_method IN ('UPI','CREDIT_CARD','DEBIT_CARD','NET_BANKING','WALLET','BANK_TRANSFER')),
+    payment_transaction_id VARCHAR(255),
+    status VARCHAR(255) NOT NULL CHECK (status IN ('PENDING','PAID','OVERDUE','CANCELLED','REFUNDED')),
+    title VARCHAR(255) NOT NULL,
+    to_user_id VARCHAR(255) NOT NULL,
+    type VARCHAR(255) NOT NULL CHECK (type IN ('APPLICATION_FEE','FRANCHISE_FEE','ROYALTY_PAYMENT','MARKETING_FEE','SETUP_FEE','TRAINING_FEE','OTHER')),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS payment_transactions (
+    amount NUMERIC(15,2) NOT NULL,
+    net_amount NUMERIC(15,2) NOT NULL,
+    platform_fee NUMERIC(15,2) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    processed_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    application_id VARCHAR(255),
+    bank_name VARCHAR(255),
+    bank_transaction_id VARCHAR(255),
+    business_owner_id VARCHAR(255),
+    card_last4 VARCHAR(255),
+    card_network VARCHAR(255),
+    card_type VARCHAR(255),
+    currency VARCHAR(255) NOT NULL,
+    description TEXT,
+    failure_reason TEXT,
+    franchise_id VARCHAR(255) NOT NULL,
+    gateway_order_id VARCHAR(255),
+    gateway_payment_id VARCHAR(255),
+    gateway_signature VARCHAR(255),
+    gateway_transaction_id VARCHAR(255),
+    id VARCHAR(255) NOT NULL,
+    method VARCHAR(255) NOT NULL CHECK (method IN ('UPI','CREDIT_CARD','DEBIT_CARD','NET_BANKING','WALLET','BANK_TRANSFER')),
+    payment_request_id VARCHAR(255),
+    status VARCHAR(255) NOT NULL CHECK (status IN ('PENDING','PROCESSING','SUCCESS','FAILED','CANCELLED','REFUNDED','PARTIALLY_REFUNDED')),
+    type VARCHAR(255) NOT NULL CHECK (type IN ('APPLICATION_FEE','FRANCHISE_FEE','ROYALTY_PAYMENT','MARKETING_FEE','REFUND','SETTLEMENT')),
+    upi_id VARCHAR(255),
+    upi_transaction_id VARCHAR(255),
+    user_id VARCHAR(255) NOT NULL,
+    wallet_name VARCHAR(255),
+    wallet_transaction_id VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
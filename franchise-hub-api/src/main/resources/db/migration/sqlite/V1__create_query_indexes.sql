@@ -0,0 +1,75 @@
+-- =============================================================================
+-- V1: index set for the repository query predicates (SQLite)
+-- =============================================================================
+--
+-- Tables are created by V0_1; this migration only adds the
+-- secondary indexes matching the WHERE / ORDER BY columns used in the
+-- repository methods. Keep in sync with db/migration/mysql.
+-- =============================================================================
+
+-- users
+-- (findByEmail is already covered by the unique constraint on email)
+CREATE INDEX IF NOT EXISTS idx_users_role_active ON users (role, is_active);
+CREATE INDEX IF NOT EXISTS idx_users_active_created ON users (is_active, created_at);
+CREATE INDEX IF NOT EXISTS idx_users_created ON users (created_at);
+CREATE INDEX IF NOT EXISTS idx_users_last_login ON users (last_login_at);
+
+-- franchises
+CREATE INDEX IF NOT EXISTS idx_franchises_owner_status ON franchises (business_owner_id, status);
+CREATE INDEX IF NOT EXISTS idx_franchises_status_created ON franchises (status, created_at);
+CREATE INDEX IF NOT EXISTS idx_franchises_status_category ON franchises (status, category);
+CREATE INDEX IF NOT EXISTS idx_franchises_category ON franchises (category);
+CREATE INDEX IF NOT EXISTS idx_franchises_created ON franchises (created_at);
+CREATE INDEX IF NOT EXISTS idx_franchise_images_franchise ON franchise_images (franchise_id);
+CREATE INDEX IF NOT EXISTS idx_franchise_territories_franchise ON franchise_territories (franchise_id);
+CREATE INDEX IF NOT EXISTS idx_franchise_states_franchise ON franchise_states (franchise_id);
+CREATE INDEX IF NOT EXISTS idx_franchise_background_franchise ON franchise_background_requirements (franchise_id);
+
+-- applications
+CREATE INDEX IF NOT EXISTS idx_applications_applicant_franchise_active ON applications (applicant_id, franchise_id, is_active);
+CREATE INDEX IF NOT EXISTS idx_applications_applicant_submitted ON applications (applicant_id, submitted_at);
+CREATE INDEX IF NOT EXISTS idx_applications_applicant_status_submitted ON applications (applicant_id, status, submitted_at);
+CREATE INDEX IF NOT EXISTS idx_applications_franchise_status_submitted ON applications (franchise_id, status, submitted_at);
+CREATE INDEX IF NOT EXISTS idx_applications_status_submitted ON applications (status, submitted_at);
+CREATE INDEX IF NOT EXISTS idx_applications_active_submitted ON applications (is_active, submitted_at);
+CREATE INDEX IF NOT EXISTS idx_applications_submitted ON applications (submitted_at);
+CREATE INDEX IF NOT EXISTS idx_applications_payment_status ON applications (payment_status);
+CREATE INDEX IF NOT EXISTS idx_application_documents_application ON application_documents (application_id);
+CREATE INDEX IF NOT EXISTS idx_application_references_application ON application_references (application_id);
+CREATE INDEX IF NOT EXISTS idx_application_preferred_states_application ON application_preferred_states (application_id);
+
+-- payment_transactions
+CREATE INDEX IF NOT EXISTS idx_payment_tx_user_created ON payment_transactions (user_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_payment_tx_user_status ON payment_transactions (user_id, status);
+CREATE INDEX IF NOT EXISTS idx_payment_tx_user_type ON payment_transactions (user_id, type);
+CREATE INDEX IF NOT EXISTS idx_payment_tx_franchise_status_created ON payment_transactions (franchise_id, status, created_at);
+CREATE INDEX IF NOT EXISTS idx_payment_tx_application ON payment_transactions (application_id);
+CREATE INDEX IF NOT EXISTS idx_payment_tx_payment_request ON payment_transactions (payment_request_id);
+CREATE INDEX IF NOT EXISTS idx_payment_tx_status_created ON payment_transactions (status, created_at);
+CREATE INDEX IF NOT EXISTS idx_payment_tx_status_type ON payment_transactions (status, type);
+CREATE INDEX IF NOT EXISTS idx_payment_tx_status_method ON payment_transactions (status, method);
+CREATE INDEX IF NOT EXISTS idx_payment_tx_type ON payment_transactions (type);
+CREATE INDEX IF NOT EXISTS idx_payment_tx_method ON payment_transactions (method);
+CREATE INDEX IF NOT EXISTS idx_payment_tx_created ON payment_transactions (created_at);
+
+-- payment_requests
+CREATE INDEX IF NOT EXISTS idx_payment_requests_to_status ON payment_requests (to_user_id, status);
+CREATE INDEX IF NOT EXISTS idx_payment_requests_from_status ON payment_requests (from_user_id, status);
+CREATE INDEX IF NOT EXISTS idx_payment_requests_franchise_status ON payment_requests (franchise_id, status);
+CREATE INDEX IF NOT EXISTS idx_payment_requests_application ON payment_requests (application_id);
+CREATE INDEX IF NOT EXISTS idx_payment_requests_status_due ON payment_requests (status, due_date);
+CREATE INDEX IF NOT EXISTS idx_payment_requests_type_status ON payment_requests (type, status);
+CREATE INDEX IF NOT EXISTS idx_payment_requests_created ON payment_requests (created_at);
+
+-- notifications
+CREATE INDEX IF NOT EXISTS idx_notifications_user_created ON notifications (user_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_notifications_user_status_created ON notifications (user_id, status, created_at);
+CREATE INDEX IF NOT EXISTS idx_notifications_user_type_created ON notifications (user_id, type, created_at);
+CREATE INDEX IF NOT EXISTS idx_notifications_expires ON notifications (expires_at);
+CREATE INDEX IF NOT EXISTS idx_notifications_created ON notifications (created_at);
+CREATE INDEX IF NOT EXISTS idx_notifications_status ON notifications (status);
+CREATE INDEX IF NOT EXISTS idx_notifications_type ON notifications (type);
+CREATE INDEX IF NOT EXISTS idx_notifications_priority ON notifications (priority);
+CREATE INDEX IF NOT EXISTS idx_notifications_application ON notifications (application_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_notifications_franchise ON notifications (franchise_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_notifications_payment_request ON notifications (payment_request_id, created_at);
@@ -0,0 +1,12 @@
+-- =============================================================================
+-- V2: seek indexes for the cursor (keyset) feeds
+-- =============================================================================
+--
+-- Feeds are ordered by (created_at, id) / (submitted_at, id). The per-user
+-- notification and per-applicant application feeds are served by the V1
+-- (user_id, created_at) / (applicant_id, submitted_at) indexes; the
+-- per-application transaction feed needs created_at next to application_id.
+-- =============================================================================
+
+DROP INDEX IF EXISTS idx_payment_tx_application;
+CREATE INDEX IF NOT EXISTS idx_payment_tx_application_created ON payment_transactions (application_id, created_at);
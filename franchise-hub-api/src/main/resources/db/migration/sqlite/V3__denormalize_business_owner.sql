@@ -0,0 +1,26 @@
+-- =============================================================================
+-- V3: business owner copied onto applications and payment transactions
+-- =============================================================================
+--
+-- The business_owner_id columns are added by the V2.1 Java migration
+-- (com.franchisehub.api.migration), which skips them when V0_1 has
+-- already created them. This migration backfills rows written before the
+-- column existed and replaces the franchise_id IN (subquery) access path of
+-- the business dashboard with single-table range scans.
+-- =============================================================================
+
+UPDATE applications
+SET business_owner_id = (SELECT f.business_owner_id FROM franchises f WHERE f.id = applications.franchise_id)
+WHERE business_owner_id IS NULL;
+
+UPDATE payment_transactions
+SET business_owner_id = (SELECT f.business_owner_id FROM franchises f WHERE f.id = payment_transactions.franchise_id)
+WHERE business_owner_id IS NULL;
+
+-- per-status counts and the owner's list ordered by submission / creation time
+CREATE INDEX IF NOT EXISTS idx_applications_owner_status_submitted ON applications (business_owner_id, status, submitted_at);
+CREATE INDEX IF NOT EXISTS idx_applications_owner_submitted ON applications (business_owner_id, submitted_at);
+
+-- per-status counts, revenue sums (status = 'SUCCESS' AND created_at >= ?) and the transaction list
+CREATE INDEX IF NOT EXISTS idx_payment_tx_owner_status_created ON payment_transactions (business_owner_id, status, created_at);
+CREATE INDEX IF NOT EXISTS idx_payment_tx_owner_created ON payment_transactions (business_owner_id, created_at);
@@ -0,0 +1,18 @@
+-- =============================================================================
+-- V5: change log for cross-node cache invalidation
+-- =============================================================================
+--
+-- Not an entity: rows are written and polled with plain JDBC by the jdbc
+-- invalidation transport. Nodes read it in id order from a high-water mark and
+-- delete rows older than the retention by published_at (epoch milliseconds).
+-- AUTOINCREMENT keeps ids from being reused after the newest rows are deleted.
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS cache_invalidations (
+    id INTEGER PRIMARY KEY AUTOINCREMENT,
+    region VARCHAR(64) NOT NULL,
+    cache_key VARCHAR(255),
+    origin_node VARCHAR(36) NOT NULL,
+    published_at BIGINT NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_cache_invalidations_published ON cache_invalidations (published_at);
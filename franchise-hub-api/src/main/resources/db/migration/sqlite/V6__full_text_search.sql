@@ -0,0 +1,112 @@
+-- =============================================================================
+-- V6: FTS5 full-text indexes for franchise, user and application search (SQLite)
+-- =============================================================================
+--
+-- Read by SqliteFullTextSearch (full-text-search.provider = sqlite-fts5). Each
+-- *_fts table is an external-content index over its source table: it stores
+-- only the index, keyed by the source row's rowid, and is kept in step by
+-- triggers using FTS5's 'delete' command. Hibernate lists every column in its
+-- UPDATE statements, so AFTER UPDATE OF fires on every write to the row; the
+-- WHEN guards skip the reindex unless a searched value actually changed.
+-- The source tables have string primary keys, so their rowids are implicit and
+-- VACUUM may renumber them: after a VACUUM, run
+-- INSERT INTO <table>_fts (<table>_fts) VALUES ('rebuild') for each index.
+-- Keep in sync with db/migration/mysql.
+-- =============================================================================
+
+-- franchises
+CREATE VIRTUAL TABLE IF NOT EXISTS franchises_fts USING fts5(
+    name, business_owner_name, description,
+    content = 'franchises', content_rowid = 'rowid',
+    tokenize = 'unicode61 remove_diacritics 2'
+);
+
+INSERT INTO franchises_fts (franchises_fts) VALUES ('rebuild');
+
+CREATE TRIGGER IF NOT EXISTS franchises_fts_insert AFTER INSERT ON franchises
+BEGIN
+    INSERT INTO franchises_fts (rowid, name, business_owner_name, description)
+    VALUES (new.rowid, new.name, new.business_owner_name, new.description);
+END;
+
+CREATE TRIGGER IF NOT EXISTS franchises_fts_update AFTER UPDATE OF name, business_owner_name, description ON franchises
+WHEN old.name IS NOT new.name
+    OR old.business_owner_name IS NOT new.business_owner_name
+    OR old.description IS NOT new.description
+BEGIN
+    INSERT INTO franchises_fts (franchises_fts, rowid, name, business_owner_name, description)
+    VALUES ('delete', old.rowid, old.name, old.business_owner_name, old.description);
+    INSERT INTO franchises_fts (rowid, name, business_owner_name, description)
+    VALUES (new.rowid, new.name, new.business_owner_name, new.description);
+END;
+
+CREATE TRIGGER IF NOT EXISTS franchises_fts_delete AFTER DELETE ON franchises
+BEGIN
+    INSERT INTO franchises_fts (franchises_fts, rowid, name, business_owner_name, description)
+    VALUES ('delete', old.rowid, old.name, old.business_owner_name, old.description);
+END;
+
+-- users
+CREATE VIRTUAL TABLE IF NOT EXISTS users_fts USING fts5(
+    first_name, last_name, email, company,
+    content = 'users', content_rowid = 'rowid',
+    tokenize = 'unicode61 remove_diacritics 2'
+);
+
+INSERT INTO users_fts (users_fts) VALUES ('rebuild');
+
+CREATE TRIGGER IF NOT EXISTS users_fts_insert AFTER INSERT ON users
+BEGIN
+    INSERT INTO users_fts (rowid, first_name, last_name, email, company)
+    VALUES (new.rowid, new.first_name, new.last_name, new.email, new.company);
+END;
+
+CREATE TRIGGER IF NOT EXISTS users_fts_update AFTER UPDATE OF first_name, last_name, email, company ON users
+WHEN old.first_name IS NOT new.first_name
+    OR old.last_name IS NOT new.last_name
+    OR old.email IS NOT new.email
+    OR old.company IS NOT new.company
+BEGIN
+    INSERT INTO users_fts (users_fts, rowid, first_name, last_name, email, company)
+    VALUES ('delete', old.rowid, old.first_name, old.last_name, old.email, old.company);
+    INSERT INTO users_fts (rowid, first_name, last_name, email, company)
+    VALUES (new.rowid, new.first_name, new.last_name, new.email, new.company);
+END;
+
+CREATE TRIGGER IF NOT EXISTS users_fts_delete AFTER DELETE ON users
+BEGIN
+    INSERT INTO users_fts (users_fts, rowid, first_name, last_name, email, company)
+    VALUES ('delete', old.rowid, old.first_name, old.last_name, old.email, old.company);
+END;
+
+-- applications
+CREATE VIRTUAL TABLE IF NOT EXISTS applications_fts USING fts5(
+    applicant_name, applicant_email, franchise_name,
+    content = 'applications', content_rowid = 'rowid',
+    tokenize = 'unicode61 remove_diacritics 2'
+);
+
+INSERT INTO applications_fts (applications_fts) VALUES ('rebuild');
+
+CREATE TRIGGER IF NOT EXISTS applications_fts_insert AFTER INSERT ON applications
+BEGIN
+    INSERT INTO applications_fts (rowid, applicant_name, applicant_email, franchise_name)
+    VALUES (new.rowid, new.applicant_name, new.applicant_email, new.franchise_name);
+END;
+
+CREATE TRIGGER IF NOT EXISTS applications_fts_update AFTER UPDATE OF applicant_name, applicant_email, franchise_name ON applications
+WHEN old.applicant_name IS NOT new.applicant_name
+    OR old.applicant_email IS NOT new.applicant_email
+    OR old.franchise_name IS NOT new.franchise_name
+BEGIN
+    INSERT INTO applications_fts (applications_fts, rowid, applicant_name, applicant_email, franchise_name)
+    VALUES ('delete', old.rowid, old.applicant_name, old.applicant_email, old.franchise_name);
+    INSERT INTO applications_fts (rowid, applicant_name, applicant_email, franchise_name)
+    VALUES (new.rowid, new.applicant_name, new.applicant_email, new.franchise_name);
+END;
+
+CREATE TRIGGER IF NOT EXISTS applications_fts_delete AFTER DELETE ON applications
+BEGIN
+    INSERT INTO applications_fts (applications_fts, rowid, applicant_name, applicant_email, franchise_name)
+    VALUES ('delete', old.rowid, old.applicant_name, old.applicant_email, old.franchise_name);
+END;
@@ -0,0 +1,143 @@
+package com.franchisehub.api;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+/**
+ * Base for the benchmark harnesses.
+ *
+ * Boots the test profile on a SQLite file of its own with SQL logging off and JDBC
+ * batching on; all benchmarks share that context, so fixtures seed through {@link #seedOnce}.
+ * Benchmarks are tagged {@value #TAG} and left out of the default build:
+ * run them with {@code mvn test -Pbenchmark}. Dataset sizes default to the scale the
+ * optimization was asked to hold at and can be lowered with -Dbenchmark.&lt;name&gt;=&lt;n&gt;.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=500",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@ActiveProfiles("test")
+@Import(StatementCounter.class)
+@Tag(AbstractBenchmark.TAG)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Slf4j
+public abstract class AbstractBenchmark {
+
+    public static final String TAG = "benchmark";
+
+    private static final Path DATABASE = AbstractIntegrationTest.createDatabaseFile();
+    private static final int SEED_CHUNK_SIZE = 5000;
+
+    @Autowired
+    protected StatementCounter statementCounter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        // WAL keeps the seeding of large fixtures from syncing on every commit
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + DATABASE + "?journal_mode=WAL&synchronous=NORMAL");
+    }
+
+    protected static int size(String name, int defaultSize) {
+        return Integer.getInteger("benchmark." + name, defaultSize);
+    }
+
+    /**
+     * Insert {@code total} rows built by {@code row} unless an earlier benchmark in this
+     * context already did; rows are inserted in order, so the last id tells. Returns whether it seeded.
+     */
+    protected <T, ID> boolean seedOnce(JpaRepository<T, ID> repository, int total, IntFunction<ID> id, IntFunction<T> row) {
+        if (repository.existsById(id.apply(total - 1))) {
+            return false;
+        }
+        seed(repository, total, row);
+        return true;
+    }
+
+    /**
+     * Insert {@code total} rows built by {@code row}, one transaction per chunk
+     */
+    protected <T> void seed(JpaRepository<T, ?> repository, int total, IntFunction<T> row) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long started = System.nanoTime();
+        for (int from = 0; from < total; from += SEED_CHUNK_SIZE) {
+            int first = from;
+            int last = Math.min(total, from + SEED_CHUNK_SIZE);
+            transaction.executeWithoutResult(status -> {
+                List<T> chunk = new ArrayList<>(last - first);
+                for (int i = first; i < last; i++) {
+                    chunk.add(row.apply(i));
+                }
+                repository.saveAll(chunk);
+            });
+        }
+        log.info("Seeded {} rows in {} ms", total, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Time {@code iterations} runs of the action after {@code warmup} untimed ones; the
+     * action gets the run number so it can vary its input
+     */
+    protected static Latency measure(int warmup, int iterations, IntConsumer action) {
+        for (int i = 0; i < warmup; i++) {
+            action.accept(i);
+        }
+        long[] nanos = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long started = System.nanoTime();
+            action.accept(warmup + i);
+            nanos[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(nanos);
+        return new Latency(percentile(nanos, 50), percentile(nanos, 95), percentile(nanos, 99), nanos[nanos.length - 1]);
+    }
+
+    protected static void report(String benchmark, String variant, Object result) {
+        log.info("[{}] {}: {}", benchmark, variant, result);
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    /**
+     * Latency percentiles of one measured operation, in nanoseconds
+     */
+    public record Latency(long p50, long p95, long p99, long max) {
+
+        public double p50Millis() {
+            return p50 / 1_000_000.0;
+        }
+
+        public double p95Millis() {
+            return p95 / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("p50 %.2f ms, p95 %.2f ms, p99 %.2f ms, max %.2f ms",
+                    p50 / 1e6, p95 / 1e6, p99 / 1e6, max / 1e6);
+        }
+    }
+}
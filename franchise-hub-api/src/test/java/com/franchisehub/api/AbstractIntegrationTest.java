@@ -0,0 +1,40 @@
+package com.franchisehub.api;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Boots the application against a SQLite file in the temp directory.
+ *
+ * The test profile's in-memory URL gives every pooled connection a database of its own,
+ * so tests that go through more than one connection use a file instead. All subclasses
+ * share the file and therefore one cached application context.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public abstract class AbstractIntegrationTest {
+
+    protected static final Path DATABASE = createDatabaseFile();
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + DATABASE);
+    }
+
+    public static Path createDatabaseFile() {
+        try {
+            Path file = Files.createTempFile("franchise-hub-test", ".db");
+            file.toFile().deleteOnExit();
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
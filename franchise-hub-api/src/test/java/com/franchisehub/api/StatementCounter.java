@@ -0,0 +1,67 @@
+package com.franchisehub.api;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+
+/**
+ * Counts the statements executed through the application's DataSource, whether they come
+ * from Hibernate or from a JdbcTemplate, so a benchmark can report database round trips.
+ *
+ * Only executions on the thread that called {@link #count} are counted, which keeps
+ * scheduled jobs and index builders out of the figure.
+ */
+public class StatementCounter implements BeanPostProcessor {
+
+    private static final ThreadLocal<long[]> EXECUTIONS = new ThreadLocal<>();
+
+    /**
+     * Run the action and return how many statements it executed on this thread
+     */
+    public long count(Runnable action) {
+        long[] executions = {0};
+        EXECUTIONS.set(executions);
+        try {
+            action.run();
+            return executions[0];
+        } finally {
+            EXECUTIONS.remove();
+        }
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource && !Proxy.isProxyClass(bean.getClass())) {
+            return wrap(bean);
+        }
+        return bean;
+    }
+
+    // Proxies every interface of the target, so pool-specific ones (Closeable, MXBeans) still work
+    private static Object wrap(Object target) {
+        return Proxy.newProxyInstance(StatementCounter.class.getClassLoader(),
+                ClassUtils.getAllInterfaces(target), (proxy, method, args) -> {
+                    if (target instanceof Statement && method.getName().startsWith("execute")) {
+                        long[] executions = EXECUTIONS.get();
+                        if (executions != null) {
+                            executions[0]++;
+                        }
+                    }
+                    Object result;
+                    try {
+                        result = method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    boolean opened = method.getName().startsWith("get") || method.getName().startsWith("prepare")
+                            || method.getName().startsWith("create");
+                    return opened && (result instanceof Connection || result instanceof Statement)
+                            ? wrap(result) : result;
+                });
+    }
+}
@@ -0,0 +1,197 @@
+package com.franchisehub.api;
+
+import com.franchisehub.api.model.Application;
+import com.franchisehub.api.model.Franchise;
+import com.franchisehub.api.model.Notification;
+import com.franchisehub.api.model.PaymentRequest;
+import com.franchisehub.api.model.PaymentTransaction;
+import com.franchisehub.api.model.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entities with every non-null column filled in, for tests that seed their own rows.
+ */
+public final class TestData {
+
+    private static final String[] NAME_WORDS = {
+            "Pizza", "Burger", "Coffee", "Tea", "Bakery", "Biryani", "Dosa", "Noodle", "Juice", "Gelato",
+            "Fitness", "Yoga", "Salon", "Spa", "Laundry", "Tutor", "Robotics", "Pharmacy", "Optical", "Pet"};
+    private static final String[] BRAND_WORDS = {
+            "Royal", "Urban", "Golden", "Fresh", "Spice", "Green", "Happy", "Metro", "Sunrise", "Classic",
+            "Prime", "Lotus", "Silver", "Coastal", "Heritage", "Nimbus", "Saffron", "Velvet", "Zest", "Harbor"};
+    private static final String[] DESCRIPTION_WORDS = {
+            "express", "kitchen", "studio", "lounge", "outlet", "kiosk", "hub", "corner", "cafe", "store",
+            "delivery", "takeaway", "premium", "budget", "family", "organic", "vegan", "artisan", "gourmet", "craft",
+            "training", "support", "marketing", "supply", "proven", "model", "returns", "mall", "highway", "campus"};
+
+    private TestData() {
+    }
+
+    /**
+     * An active franchise with two entries in each element collection
+     */
+    public static Franchise franchise(String id, String businessOwnerId) {
+        Franchise franchise = new Franchise();
+        franchise.setId(id);
+        franchise.setName("Franchise " + id);
+        franchise.setDescription("Test franchise " + id);
+        franchise.setCategory(Franchise.FranchiseCategory.FOOD_BEVERAGE);
+        franchise.setStatus(Franchise.FranchiseStatus.ACTIVE);
+        franchise.setBusinessOwnerId(businessOwnerId);
+        franchise.setBusinessOwnerName("Owner " + businessOwnerId);
+        franchise.setFranchiseFee(new BigDecimal("500000"));
+        franchise.setRoyaltyFee(new BigDecimal("6.0"));
+        franchise.setMarketingFee(new BigDecimal("2.0"));
+        franchise.setInitialInvestment(new Franchise.InvestmentRange(new BigDecimal("1000000"), new BigDecimal("2000000")));
+        franchise.setLiquidCapitalRequired(new BigDecimal("800000"));
+        franchise.setNetWorthRequired(new BigDecimal("2000000"));
+        franchise.setYearEstablished(2012);
+        franchise.setTotalUnits(10);
+
+        Franchise.FranchiseRequirements requirements = new Franchise.FranchiseRequirements();
+        requirements.setBackground(new ArrayList<>(List.of("Retail", "Hospitality")));
+        franchise.setRequirements(requirements);
+
+        franchise.setImages(new ArrayList<>(List.of("https://example.com/" + id + "-1.png",
+                "https://example.com/" + id + "-2.png")));
+        franchise.setAvailableTerritories(new ArrayList<>(List.of("Mumbai", "Pune")));
+        franchise.setAvailableStates(new ArrayList<>(List.of("Maharashtra", "Karnataka")));
+        franchise.setCreatedAt(LocalDateTime.now());
+        franchise.setUpdatedAt(LocalDateTime.now());
+        return franchise;
+    }
+
+    public static List<Franchise> franchises(String idPrefix, String businessOwnerId, int count) {
+        List<Franchise> franchises = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            franchises.add(franchise(idPrefix + "-" + i, businessOwnerId));
+        }
+        return franchises;
+    }
+
+    /**
+     * An active franchise whose name, owner name and description are drawn from small
+     * vocabularies by {@code n}, so text searches match a realistic share of the catalog
+     */
+    public static Franchise searchableFranchise(String id, int n) {
+        Franchise franchise = franchise(id, "owner-" + (n % 500));
+        String brand = BRAND_WORDS[n % BRAND_WORDS.length];
+        String kind = NAME_WORDS[(n / BRAND_WORDS.length) % NAME_WORDS.length];
+        franchise.setName(brand + " " + kind + " " + n);
+        franchise.setBusinessOwnerName(BRAND_WORDS[(n / 7) % BRAND_WORDS.length] + " Ventures " + (n % 500));
+        StringBuilder description = new StringBuilder(kind).append(" franchise");
+        for (int i = 0; i < 8; i++) {
+            description.append(' ').append(DESCRIPTION_WORDS[(n * 31 + i * 7 + n / (i + 1)) % DESCRIPTION_WORDS.length]);
+        }
+        franchise.setDescription(description.toString());
+        return franchise;
+    }
+
+    public static User user(String id, User.UserRole role) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(id + "@example.com");
+        user.setFirstName("First " + id);
+        user.setLastName("Last " + id);
+        user.setRole(role);
+        user.setPhone("9999999999");
+        user.setCompany("Company " + id);
+        user.setPassword("not-a-hash");
+        user.setIsActive(true);
+        user.setLastLoginAt(LocalDateTime.now());
+        user.setCreatedAt(LocalDateTime.now());
+        user.setUpdatedAt(LocalDateTime.now());
+        return user;
+    }
+
+    /**
+     * A submitted application; the status and payment status cycle with {@code n}
+     */
+    public static Application application(String id, Franchise franchise, User applicant, int n) {
+        Application.ApplicationStatus[] statuses = Application.ApplicationStatus.values();
+        Application.PaymentStatus[] paymentStatuses = Application.PaymentStatus.values();
+        Application application = new Application();
+        application.setId(id);
+        application.setFranchiseId(franchise.getId());
+        application.setFranchiseName(franchise.getName());
+        application.setBusinessOwnerId(franchise.getBusinessOwnerId());
+        application.setApplicantId(applicant.getId());
+        application.setApplicantName(applicant.getFirstName() + " " + applicant.getLastName());
+        application.setApplicantEmail(applicant.getEmail());
+        application.setStatus(statuses[n % statuses.length]);
+        application.setPaymentStatus(paymentStatuses[n % paymentStatuses.length]);
+        application.setApplicationFee(new BigDecimal("25000"));
+        application.setIsActive(true);
+        application.setSubmittedAt(LocalDateTime.now().minusMinutes(n));
+        application.setUpdatedAt(LocalDateTime.now().minusMinutes(n));
+        return application;
+    }
+
+    /**
+     * A transaction for an application; the status cycles with {@code n}. The id is generated.
+     */
+    public static PaymentTransaction transaction(Application application, int n) {
+        PaymentTransaction.TransactionStatus[] statuses = PaymentTransaction.TransactionStatus.values();
+        PaymentTransaction transaction = new PaymentTransaction();
+        transaction.setUserId(application.getApplicantId());
+        transaction.setFranchiseId(application.getFranchiseId());
+        transaction.setBusinessOwnerId(application.getBusinessOwnerId());
+        transaction.setApplicationId(application.getId());
+        transaction.setType(PaymentTransaction.TransactionType.APPLICATION_FEE);
+        transaction.setAmount(new BigDecimal("25000"));
+        transaction.setPlatformFee(new BigDecimal("500"));
+        transaction.setNetAmount(new BigDecimal("24500"));
+        transaction.setMethod(PaymentTransaction.PaymentMethod.UPI);
+        transaction.setStatus(statuses[n % statuses.length]);
+        transaction.setCurrency("INR");
+        transaction.setCreatedAt(LocalDateTime.now().minusMinutes(n));
+        transaction.setUpdatedAt(LocalDateTime.now().minusMinutes(n));
+        return transaction;
+    }
+
+    /**
+     * A request from the franchise owner to the applicant; the status cycles with {@code n}
+     */
+    public static PaymentRequest paymentRequest(String id, Application application, int n) {
+        PaymentRequest.PaymentRequestStatus[] statuses = PaymentRequest.PaymentRequestStatus.values();
+        PaymentRequest request = new PaymentRequest();
+        request.setId(id);
+        request.setFromUserId(application.getBusinessOwnerId());
+        request.setToUserId(application.getApplicantId());
+        request.setFranchiseId(application.getFranchiseId());
+        request.setApplicationId(application.getId());
+        request.setAmount(new BigDecimal("100000"));
+        request.setCurrency("INR");
+        request.setType(PaymentRequest.PaymentRequestType.FRANCHISE_FEE);
+        request.setStatus(statuses[n % statuses.length]);
+        request.setTitle("Franchise fee " + id);
+        request.setDueDate(LocalDateTime.now().plusDays(n % 30));
+        request.setCreatedAt(LocalDateTime.now().minusMinutes(n));
+        request.setUpdatedAt(LocalDateTime.now().minusMinutes(n));
+        return request;
+    }
+
+    /**
+     * A notification about an application; type, status and priority cycle with {@code n}.
+     * The id is generated.
+     */
+    public static Notification notification(String userId, Application application, int n) {
+        Notification.NotificationType[] types = Notification.NotificationType.values();
+        Notification.NotificationPriority[] priorities = Notification.NotificationPriority.values();
+        Notification notification = new Notification();
+        notification.setUserId(userId);
+        notification.setType(types[n % types.length]);
+        notification.setTitle("Notification " + n);
+        notification.setMessage("Update on application " + application.getId());
+        notification.setStatus(n % 2 == 0 ? Notification.NotificationStatus.UNREAD : Notification.NotificationStatus.READ);
+        notification.setPriority(priorities[n % priorities.length]);
+        notification.setApplicationId(application.getId());
+        notification.setFranchiseId(application.getFranchiseId());
+        notification.setCreatedAt(LocalDateTime.now().minusMinutes(n));
+        return notification;
+    }
+}
@@ -0,0 +1,120 @@
+package com.franchisehub.api.cache;
+
+import com.franchisehub.api.FranchiseHubApiApplication;
+import com.franchisehub.api.TestData;
+import com.franchisehub.api.model.Franchise;
+import com.franchisehub.api.model.User;
+import com.franchisehub.api.repository.UserRepository;
+import com.franchisehub.api.security.CurrentUserCache;
+import com.franchisehub.api.service.FranchiseService;
+import com.franchisehub.api.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two nodes, each an application context with its own caches, sharing one SQLite
+ * database: a write on one node must evict the entry the other node cached.
+ */
+class JdbcInvalidationTransportTest {
+
+    private static final long POLL_INTERVAL_MS = 200;
+    // Publish-to-evict lag is bounded by the poll interval plus one poll; the rest is slack for slow builds
+    private static final Duration EVICTION_BOUND = Duration.ofMillis(2 * POLL_INTERVAL_MS + 2000);
+    private static final String FRANCHISE_ID = "franchise-1";
+    private static final String ADMIN_ID = "invalidation-admin";
+    private static final String USER_ID = "invalidation-user";
+
+    private static ConfigurableApplicationContext writer;
+    private static ConfigurableApplicationContext reader;
+
+    @BeforeAll
+    static void startNodes() throws Exception {
+        Path database = Files.createTempFile("franchise-hub-invalidation", ".db");
+        database.toFile().deleteOnExit();
+        writer = startNode(database);
+        reader = startNode(database);
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (reader != null) {
+            reader.close();
+        }
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    @Test
+    void writeOnOneNodeEvictsTheOtherNodesSecondLevelCache() {
+        Cache readerCache = reader.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getCache();
+        reader.getBean(FranchiseService.class).getFranchiseById(FRANCHISE_ID);
+        assertThat(readerCache.containsEntity(Franchise.class, FRANCHISE_ID)).isTrue();
+        // The first poll only records the high-water mark; make sure it happened before publishing
+        reader.getBean(InvalidationBus.class).pollRemote();
+
+        writer.getBean(FranchiseService.class).updateFranchiseStatus(FRANCHISE_ID, Franchise.FranchiseStatus.INACTIVE);
+
+        assertThat(awaitWithin(EVICTION_BOUND, () -> !readerCache.containsEntity(Franchise.class, FRANCHISE_ID)))
+                .as("evicted on the reader within %s", EVICTION_BOUND)
+                .isTrue();
+        assertThat(reader.getBean(FranchiseService.class).getFranchiseById(FRANCHISE_ID).getStatus())
+                .isEqualTo(Franchise.FranchiseStatus.INACTIVE);
+    }
+
+    @Test
+    void userWriteOnOneNodeEvictsTheOtherNodesCurrentUser() {
+        UserRepository users = writer.getBean(UserRepository.class);
+        users.save(TestData.user(ADMIN_ID, User.UserRole.ADMIN));
+        User user = users.save(TestData.user(USER_ID, User.UserRole.PARTNER));
+        CurrentUserCache readerUsers = reader.getBean(CurrentUserCache.class);
+        assertThat(readerUsers.get(user.getEmail()).getRole()).isEqualTo(User.UserRole.PARTNER);
+        reader.getBean(InvalidationBus.class).pollRemote();
+
+        writer.getBean(UserService.class).updateUserRole(USER_ID, User.UserRole.BUSINESS, ADMIN_ID);
+
+        // Well inside the cache TTL, so only the remote invalidation can make the reader reload
+        assertThat(awaitWithin(EVICTION_BOUND, () -> readerUsers.get(user.getEmail()).getRole() == User.UserRole.BUSINESS))
+                .as("evicted on the reader within %s", EVICTION_BOUND)
+                .isTrue();
+    }
+
+    private static ConfigurableApplicationContext startNode(Path database) {
+        // Command-line arguments, so they override the test profile
+        return new SpringApplicationBuilder(FranchiseHubApiApplication.class)
+                .profiles("test")
+                .run("--spring.datasource.url=jdbc:sqlite:" + database,
+                        "--server.port=0",
+                        "--cache-invalidation.transport=jdbc",
+                        "--cache-invalidation.poll-interval-ms=" + POLL_INTERVAL_MS);
+    }
+
+    private static boolean awaitWithin(Duration bound, BooleanSupplier condition) {
+        long deadline = System.nanoTime() + bound.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,91 @@
+package com.franchisehub.api.controller;
+
+import com.franchisehub.api.AbstractIntegrationTest;
+import com.franchisehub.api.TestData;
+import com.franchisehub.api.model.Application;
+import com.franchisehub.api.model.ApplicationDocument;
+import com.franchisehub.api.model.Franchise;
+import com.franchisehub.api.model.User;
+import com.franchisehub.api.repository.ApplicationRepository;
+import com.franchisehub.api.repository.FranchiseRepository;
+import com.franchisehub.api.repository.UserRepository;
+import com.franchisehub.api.security.JwtTokenProvider;
+import com.franchisehub.api.service.ApplicationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The ETag of an application must change with everything its response shows,
+ * documents included.
+ */
+@AutoConfigureMockMvc
+class ApplicationConditionalGetTest extends AbstractIntegrationTest {
+
+    private static final String APPLICANT_ID = "etag-applicant";
+    private static final String APPLICATION_ID = "etag-application";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FranchiseRepository franchiseRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    private User applicant;
+
+    @BeforeEach
+    void setUp() {
+        applicant = userRepository.save(TestData.user(APPLICANT_ID, User.UserRole.PARTNER));
+        Franchise franchise = franchiseRepository.save(TestData.franchise("etag-franchise", "etag-owner"));
+        applicationRepository.save(TestData.application(APPLICATION_ID, franchise, applicant, 0));
+    }
+
+    @Test
+    void uploadingADocumentChangesTheETag() throws Exception {
+        String etag = getApplication(null).getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+        assertThat(getApplication(etag).getStatus()).isEqualTo(304);
+
+        applicationService.uploadDocument(APPLICATION_ID, document(), APPLICANT_ID);
+
+        assertThat(getApplication(etag).getStatus()).isEqualTo(200);
+    }
+
+    private org.springframework.mock.web.MockHttpServletResponse getApplication(String ifNoneMatch) throws Exception {
+        var request = get("/applications/{id}", APPLICATION_ID)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenProvider.generateAccessToken(applicant));
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return mockMvc.perform(request).andReturn().getResponse();
+    }
+
+    private static ApplicationDocument document() {
+        ApplicationDocument document = new ApplicationDocument();
+        document.setName("Bank statement");
+        document.setType(ApplicationDocument.DocumentType.BANK_STATEMENT);
+        document.setFileName("statement.pdf");
+        document.setFileUrl("https://example.com/statement.pdf");
+        document.setFileSize(1024L);
+        return document;
+    }
+}
@@ -0,0 +1,81 @@
+package com.franchisehub.api.controller;
+
+import com.franchisehub.api.AbstractIntegrationTest;
+import com.franchisehub.api.TestData;
+import com.franchisehub.api.model.User;
+import com.franchisehub.api.repository.UserRepository;
+import com.franchisehub.api.service.UserService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Tokens issued before identity claims were added carry only the subject; they count as
+ * token version 0 and must stop working once the user's tokens are revoked.
+ */
+@AutoConfigureMockMvc
+class LegacyTokenRevocationTest extends AbstractIntegrationTest {
+
+    private static final String USER_ID = "legacy-token-user";
+    private static final String PASSWORD = "old-password";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Value("${jwt.secret}")
+    private String jwtSecret;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = TestData.user(USER_ID, User.UserRole.PARTNER);
+        user.setPassword(passwordEncoder.encode(PASSWORD));
+        user = userRepository.save(user);
+    }
+
+    @Test
+    void legacyTokenIsRejectedAfterRevocation() throws Exception {
+        String token = legacyToken(user.getEmail());
+        assertThat(getProfile(token)).isEqualTo(200);
+
+        userService.changePassword(USER_ID, PASSWORD, "new-password", USER_ID);
+
+        assertThat(getProfile(token)).isEqualTo(401);
+    }
+
+    private String legacyToken(String email) {
+        return Jwts.builder()
+                .subject(email)
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(jwtSecret.getBytes()), Jwts.SIG.HS512)
+                .compact();
+    }
+
+    private int getProfile(String token) throws Exception {
+        return mockMvc.perform(get("/users/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andReturn().getResponse().getStatus();
+    }
+}
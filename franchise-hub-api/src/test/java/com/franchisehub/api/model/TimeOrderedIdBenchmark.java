@@ -0,0 +1,115 @@
+package com.franchisehub.api.model;
+
+import com.franchisehub.api.AbstractBenchmark;
+import com.franchisehub.api.AbstractIntegrationTest;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Insert throughput into a table keyed by a 36-character string id, with random
+ * UUIDs against {@link TimeOrderedIdGenerator} ids.
+ *
+ * Random keys land on random pages of the primary key index, so throughput drops once
+ * the index outgrows the page cache; time-ordered keys append at the right-hand edge.
+ * The table mirrors the notifications table: string primary key plus a secondary index.
+ *
+ * Uses plain JDBC on a SQLite file of its own. Point it at MySQL with
+ * -Dbenchmark.jdbc-url, -Dbenchmark.jdbc-user and -Dbenchmark.jdbc-password.
+ */
+@Tag(AbstractBenchmark.TAG)
+@Slf4j
+class TimeOrderedIdBenchmark {
+
+    private static final String BENCHMARK = "primary-key-inserts";
+    private static final int BATCH_SIZE = 10_000;
+    private static final int WINDOWS = 10;
+
+    private final int rows = Integer.getInteger("benchmark.id-rows", 10_000_000);
+
+    @Test
+    void timeOrderedIdsKeepInsertThroughput() throws SQLException {
+        double[] random = insert("random", () -> UUID.randomUUID().toString());
+        double[] timeOrdered = insert("time_ordered", TimeOrderedIdGenerator::nextId);
+
+        log.info("[{}] random UUID rows/s per {} rows: {}", BENCHMARK, rows / WINDOWS, format(random));
+        log.info("[{}] time-ordered rows/s per {} rows: {}", BENCHMARK, rows / WINDOWS, format(timeOrdered));
+
+        assertThat(timeOrdered[WINDOWS - 1]).isGreaterThan(random[WINDOWS - 1]);
+    }
+
+    // Inserts the rows in batches, one commit each, and returns the rows per second of each tenth
+    private double[] insert(String variant, Supplier<String> ids) throws SQLException {
+        String table = "id_benchmark_" + variant;
+        double[] throughput = new double[WINDOWS];
+        int window = Math.max(1, rows / WINDOWS);
+
+        try (Connection connection = connect()) {
+            try (Statement ddl = connection.createStatement()) {
+                ddl.execute("DROP TABLE IF EXISTS " + table);
+                ddl.execute("CREATE TABLE " + table + " (id VARCHAR(36) NOT NULL PRIMARY KEY, "
+                        + "user_id VARCHAR(36) NOT NULL, created_at TIMESTAMP NOT NULL, message VARCHAR(255))");
+                ddl.execute("CREATE INDEX idx_" + table + "_user ON " + table + " (user_id, created_at)");
+            }
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO " + table + " (id, user_id, created_at, message) VALUES (?, ?, ?, ?)")) {
+                long windowStarted = System.nanoTime();
+                for (int i = 0; i < rows; i++) {
+                    insert.setString(1, ids.get());
+                    insert.setString(2, "user-" + (i % 10_000));
+                    insert.setTimestamp(3, new Timestamp(System.currentTimeMillis()));
+                    insert.setString(4, "Benchmark notification " + i);
+                    insert.addBatch();
+                    if ((i + 1) % BATCH_SIZE == 0 || i + 1 == rows) {
+                        insert.executeBatch();
+                        connection.commit();
+                    }
+                    if ((i + 1) % window == 0 && (i + 1) / window <= WINDOWS) {
+                        long now = System.nanoTime();
+                        throughput[(i + 1) / window - 1] = window * 1e9 / (now - windowStarted);
+                        windowStarted = now;
+                    }
+                }
+            }
+
+            connection.setAutoCommit(true);
+            try (Statement ddl = connection.createStatement()) {
+                ddl.execute("DROP TABLE " + table);
+            }
+        }
+        return throughput;
+    }
+
+    private static Connection connect() throws SQLException {
+        String url = System.getProperty("benchmark.jdbc-url");
+        if (url == null) {
+            return DriverManager.getConnection("jdbc:sqlite:" + AbstractIntegrationTest.createDatabaseFile()
+                    + "?journal_mode=WAL&synchronous=NORMAL");
+        }
+        return DriverManager.getConnection(url, System.getProperty("benchmark.jdbc-user"),
+                System.getProperty("benchmark.jdbc-password"));
+    }
+
+    private static String format(double[] throughput) {
+        List<String> windows = new ArrayList<>(throughput.length);
+        for (double rowsPerSecond : throughput) {
+            windows.add(String.format("%.0f", rowsPerSecond));
+        }
+        return String.join(", ", windows);
+    }
+}
@@ -0,0 +1,418 @@
+package com.franchisehub.api.repository;
+
+import com.franchisehub.api.TestData;
+import com.franchisehub.api.model.Application;
+import com.franchisehub.api.model.Franchise;
+import com.franchisehub.api.model.Notification;
+import com.franchisehub.api.model.PaymentRequest;
+import com.franchisehub.api.model.PaymentTransaction;
+import com.franchisehub.api.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Query-plan regression suite for the JPA repositories.
+ *
+ * Every method declared on a repository is called against a generated dataset, with
+ * arguments picked from its parameter types and names. The SQL Hibernate prepares for it,
+ * count queries included, is captured and run through EXPLAIN QUERY PLAN; a plan step that
+ * scans a table without an index fails the method. Queries that cannot be served by a
+ * b-tree index are listed in {@link #ALLOWED_SCANS} with the reason.
+ *
+ * Queries tuned behind a benchmark are also pinned to the index they were tuned for,
+ * since the benchmarks themselves only run with -Pbenchmark.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.franchisehub.api.repository.RepositoryQueryPlanTest$RecordingStatementInspector")
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RepositoryQueryPlanTest {
+
+    private static final List<Class<? extends JpaRepository<?, ?>>> REPOSITORIES = List.of(
+            UserRepository.class,
+            FranchiseRepository.class,
+            ApplicationRepository.class,
+            PaymentTransactionRepository.class,
+            PaymentRequestRepository.class,
+            NotificationRepository.class);
+
+    private static final Map<String, String> ALLOWED_SCANS = Map.of(
+            // LIKE full-text provider: a substring match over every user, used only when the
+            // database full-text index is switched off
+            "UserRepository.searchUserIds", "substring LIKE over all users");
+
+    // "SCAN users" or "SCAN users AS u1_0"; "SCAN users USING INDEX ..." reads an index instead
+    private static final Pattern FULL_SCAN = Pattern.compile("^SCAN [^\\s(]\\S*( AS \\S+)?$");
+    // "SEARCH a1_0 USING INDEX idx_applications_owner_submitted (business_owner_id=?)" and wider keys
+    private static final Pattern OWNER_INDEX_SEARCH = Pattern.compile("^SEARCH \\S+ USING INDEX idx_applications_owner_\\w+ \\(business_owner_id=\\?");
+
+    private static final String OWNER_ID = "plan-owner";
+    private static final String PARTNER_PREFIX = "plan-partner";
+    private static final int PARTNERS = 50;
+    private static final int APPLICATIONS = 1000;
+
+    private static final Path DATABASE = createDatabaseFile();
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Franchise franchise;
+    private User partner;
+    private Application application;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + DATABASE);
+    }
+
+    @BeforeAll
+    void seed(@Autowired UserRepository userRepository,
+              @Autowired FranchiseRepository franchiseRepository,
+              @Autowired ApplicationRepository applicationRepository,
+              @Autowired PaymentTransactionRepository paymentTransactionRepository,
+              @Autowired PaymentRequestRepository paymentRequestRepository,
+              @Autowired NotificationRepository notificationRepository) {
+        userRepository.save(TestData.user(OWNER_ID, User.UserRole.BUSINESS));
+        List<User> partners = new ArrayList<>();
+        for (int i = 0; i < PARTNERS; i++) {
+            partners.add(TestData.user(PARTNER_PREFIX + "-" + i, User.UserRole.PARTNER));
+        }
+        userRepository.saveAll(partners);
+        List<Franchise> franchises = franchiseRepository.saveAll(TestData.franchises("plan-franchise", OWNER_ID, 5));
+
+        List<Application> applications = new ArrayList<>();
+        for (int i = 0; i < APPLICATIONS; i++) {
+            applications.add(TestData.application("plan-application-" + i,
+                    franchises.get(i % franchises.size()), partners.get(i % PARTNERS), i));
+        }
+        applicationRepository.saveAll(applications);
+
+        List<PaymentTransaction> transactions = new ArrayList<>();
+        for (int i = 0; i < APPLICATIONS; i++) {
+            transactions.add(TestData.transaction(applications.get(i), i));
+        }
+        paymentTransactionRepository.saveAll(transactions);
+        List<PaymentRequest> requests = new ArrayList<>();
+        for (int i = 0; i < APPLICATIONS; i += 5) {
+            requests.add(TestData.paymentRequest("plan-request-" + i, applications.get(i), i));
+        }
+        paymentRequestRepository.saveAll(requests);
+        List<Notification> notifications = new ArrayList<>();
+        for (int i = 0; i < APPLICATIONS * 2; i++) {
+            Application about = applications.get(i % APPLICATIONS);
+            notifications.add(TestData.notification(about.getApplicantId(), about, i));
+        }
+        notificationRepository.saveAll(notifications);
+
+        franchise = franchises.get(0);
+        partner = partners.get(0);
+        application = applications.get(0);
+    }
+
+    @TestFactory
+    Stream<DynamicTest> noRepositoryMethodScansATable() {
+        return REPOSITORIES.stream().flatMap(repository -> Arrays.stream(repository.getDeclaredMethods())
+                .filter(method -> !method.isDefault() && !method.isSynthetic() && !Modifier.isStatic(method.getModifiers()))
+                .sorted(Comparator.comparing(Method::getName).thenComparing(Method::getParameterCount))
+                .map(method -> DynamicTest.dynamicTest(
+                        repository.getSimpleName() + "." + method.getName() + signature(method),
+                        () -> assertNoFullScan(repository, method))));
+    }
+
+    @Test
+    void ownerSearchReadsOnlyTheOwnersApplications(@Autowired ApplicationRepository applicationRepository) throws SQLException {
+        Pageable page = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "submittedAt"));
+        List<String> statements = capture(() -> applicationRepository.searchSummariesForBusinessOwner(
+                OWNER_ID, "franchise", null, Application.PaymentStatus.PAID, null, null, page));
+        assertThat(statements).as("page and count query").hasSize(2);
+
+        List<String> steps = new ArrayList<>();
+        for (String sql : statements) {
+            steps.addAll(queryPlan(sql));
+        }
+        // Every step starts from business_owner_id; the count reads the V7 index on (owner, active)
+        assertThat(steps).allMatch(step -> OWNER_INDEX_SEARCH.matcher(step).find(), "searches an owner index");
+        assertThat(steps).anyMatch(step -> step.contains(
+                "USING INDEX idx_applications_owner_payment_submitted (business_owner_id=? AND is_active=?)"));
+    }
+
+    private void assertNoFullScan(Class<?> repository, Method method) throws SQLException {
+        String name = repository.getSimpleName() + "." + method.getName();
+        List<String> statements = captureStatements(repository, method);
+        assertThat(statements).as("statements prepared by %s", name).isNotEmpty();
+
+        List<String> scans = new ArrayList<>();
+        for (String sql : statements) {
+            for (String step : queryPlan(sql)) {
+                if (FULL_SCAN.matcher(step).matches()) {
+                    scans.add(step + " in: " + sql);
+                }
+            }
+        }
+        if (!scans.isEmpty() && !ALLOWED_SCANS.containsKey(name)) {
+            fail("%s scans a table without an index:%n%s", name, String.join(System.lineSeparator(), scans));
+        }
+    }
+
+    private List<String> captureStatements(Class<?> repository, Method method) {
+        Object bean = applicationContext.getBean(repository);
+        Object[] args = arguments(repository, method);
+        return capture(() -> {
+            try {
+                Object result = method.invoke(bean, args);
+                if (result instanceof Stream<?> rows) {
+                    try (rows) {
+                        rows.count();
+                    }
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            } catch (InvocationTargetException e) {
+                throw new IllegalStateException(method.getName() + " failed", e.getCause());
+            }
+        });
+    }
+
+    // Runs the query in a transaction that is rolled back, so @Modifying queries change nothing
+    private List<String> capture(Runnable query) {
+        // Cacheable queries and entity loads could be answered without any SQL
+        entityManagerFactory.getCache().evictAll();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        RecordingStatementInspector.start();
+        try {
+            transaction.executeWithoutResult(status -> {
+                status.setRollbackOnly();
+                query.run();
+            });
+            return RecordingStatementInspector.captured();
+        } finally {
+            RecordingStatementInspector.stop();
+        }
+    }
+
+    private List<String> queryPlan(String sql) throws SQLException {
+        List<String> steps = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN QUERY PLAN " + sql)) {
+            // The plan is chosen when the statement is prepared; the bound values do not matter
+            int parameters = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                statement.setNull(i, Types.NULL);
+            }
+            try (ResultSet plan = statement.executeQuery()) {
+                while (plan.next()) {
+                    steps.add(plan.getString("detail"));
+                }
+            }
+        }
+        return steps;
+    }
+
+    private Object[] arguments(Class<?> repository, Method method) {
+        Parameter[] parameters = method.getParameters();
+        Object[] args = new Object[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            args[i] = argument(repository, parameters[i]);
+        }
+        return args;
+    }
+
+    private Object argument(Class<?> repository, Parameter parameter) {
+        Param param = parameter.getAnnotation(Param.class);
+        String name = (param != null ? param.value() : parameter.getName()).toLowerCase(Locale.ROOT);
+        Class<?> type = parameter.getType();
+
+        if (type == String.class) {
+            return stringArgument(name);
+        }
+        if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        }
+        if (type == LocalDateTime.class) {
+            return name.contains("end") || name.contains("to") ? LocalDateTime.now().plusDays(1) : LocalDateTime.now().minusDays(30);
+        }
+        if (type == Instant.class) {
+            return Instant.now().minusSeconds(3600);
+        }
+        if (type == BigDecimal.class) {
+            return name.startsWith("max") ? new BigDecimal("10000000") : new BigDecimal("1000");
+        }
+        if (type == int.class || type == Integer.class) {
+            return 20;
+        }
+        if (type == long.class || type == Long.class) {
+            return 20L;
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return true;
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return collectionArgument(name, parameter);
+        }
+        if (Pageable.class.isAssignableFrom(type)) {
+            // Keyset feeds take an unsorted limit; pages use the controllers' default sort
+            return name.equals("limit")
+                    ? PageRequest.of(0, 20)
+                    : PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, defaultSortProperty(repository)));
+        }
+        throw new IllegalArgumentException("No test argument for " + type.getName() + " " + name);
+    }
+
+    private String stringArgument(String name) {
+        if (name.contains("franchise")) {
+            return franchise.getId();
+        }
+        if (name.contains("paymentrequest")) {
+            return "plan-request-0";
+        }
+        if (name.contains("application")) {
+            return application.getId();
+        }
+        if (name.contains("owner") || name.startsWith("from")) {
+            return OWNER_ID;
+        }
+        if (name.contains("user") || name.contains("applicant")) {
+            return partner.getId();
+        }
+        if (name.equals("email")) {
+            return partner.getEmail();
+        }
+        if (name.equals("search")) {
+            return "franchise";
+        }
+        return application.getId();
+    }
+
+    private Object collectionArgument(String name, Parameter parameter) {
+        Class<?> element = ResolvableType.forMethodParameter(MethodParameter.forParameter(parameter)).getGeneric(0).resolve(Object.class);
+        Collection<Object> values = Set.class.isAssignableFrom(parameter.getType()) ? new LinkedHashSet<>() : new ArrayList<>();
+        if (element.isEnum()) {
+            values.add(element.getEnumConstants()[0]);
+        } else if (name.equals("states")) {
+            values.add("MAHARASHTRA");
+        } else if (name.contains("user")) {
+            values.add(partner.getId());
+            values.add(OWNER_ID);
+        } else if (name.contains("notification")) {
+            values.add("plan-notification");
+        } else {
+            values.add(franchise.getId());
+            values.add(application.getId());
+        }
+        return values;
+    }
+
+    private static String defaultSortProperty(Class<?> repository) {
+        Class<?> entity = ResolvableType.forClass(repository).as(JpaRepository.class).getGeneric(0).resolve();
+        return entity == Application.class ? "submittedAt" : "createdAt";
+    }
+
+    private static String signature(Method method) {
+        return Arrays.stream(method.getParameterTypes())
+                .map(Class::getSimpleName)
+                .reduce((a, b) -> a + ", " + b)
+                .map(params -> "(" + params + ")")
+                .orElse("()");
+    }
+
+    private static Path createDatabaseFile() {
+        try {
+            Path file = Files.createTempFile("franchise-hub-query-plan", ".db");
+            file.toFile().deleteOnExit();
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Records the SQL Hibernate prepares on the test thread while a capture is running;
+     * statements from scheduled jobs and index builders on other threads are ignored
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+        static void start() {
+            CAPTURED.set(new ArrayList<>());
+        }
+
+        static List<String> captured() {
+            return List.copyOf(CAPTURED.get());
+        }
+
+        static void stop() {
+            CAPTURED.remove();
+        }
+
+        @Override
+        public String inspect(String sql) {
+            List<String> captured = CAPTURED.get();
+            if (captured != null && !sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("insert")) {
+                captured.add(sql);
+            }
+            return sql;
+        }
+    }
+}
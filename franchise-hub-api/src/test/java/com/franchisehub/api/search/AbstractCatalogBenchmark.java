@@ -0,0 +1,43 @@
+package com.franchisehub.api.search;
+
+import com.franchisehub.api.AbstractBenchmark;
+import com.franchisehub.api.TestData;
+import com.franchisehub.api.repository.FranchiseRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * Franchise search benchmarks over one shared catalog of searchable franchises, measured
+ * against the LIKE scan the search used to run on every request. The FTS5 table is filled
+ * by its insert trigger as the catalog is seeded.
+ */
+abstract class AbstractCatalogBenchmark extends AbstractBenchmark {
+
+    private static final String PREFIX = "search-franchise-";
+    private static final List<String> QUERIES = List.of(
+            "pizza", "royal", "gourmet", "vegan kitchen", "spi", "harbor coffee", "family takeaway", "robotics");
+
+    protected static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    protected final int franchises = size("search.franchises", 100_000);
+
+    @Autowired
+    protected FranchiseRepository franchiseRepository;
+
+    @BeforeAll
+    void seedCatalog() {
+        seedOnce(franchiseRepository, franchises, i -> PREFIX + i, i -> TestData.searchableFranchise(PREFIX + i, i));
+    }
+
+    protected static String query(int run) {
+        return QUERIES.get(run % QUERIES.size());
+    }
+
+    protected void likeScan(int run) {
+        franchiseRepository.searchActiveFranchiseIds(query(run), FIRST_PAGE);
+    }
+}
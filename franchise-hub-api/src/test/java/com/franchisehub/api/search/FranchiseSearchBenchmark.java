@@ -0,0 +1,47 @@
+package com.franchisehub.api.search;
+
+import com.franchisehub.api.cache.InvalidationBus;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The in-memory BM25 franchise index.
+ */
+class FranchiseSearchBenchmark extends AbstractCatalogBenchmark {
+
+    private static final String BENCHMARK = "franchise-search";
+    private static final long INDEX_BUILD_TIMEOUT_MS = 120_000;
+
+    @Autowired
+    private FranchiseSearchIndex franchiseSearchIndex;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @BeforeAll
+    void buildIndex() throws InterruptedException {
+        // Seeding bypasses the services, so rebuild; the new index replaces the old one whole,
+        // so once it finds the last seeded franchise (by the number in its name) it has them all
+        invalidationBus.publishAll(InvalidationBus.FRANCHISE);
+        String lastSeeded = String.valueOf(franchises - 1);
+        long deadline = System.currentTimeMillis() + INDEX_BUILD_TIMEOUT_MS;
+        while (franchiseSearchIndex.search(lastSeeded, 0, 1).map(FranchiseSearchIndex.Hits::total).orElse(0L) == 0) {
+            assertThat(System.currentTimeMillis()).as("index build").isLessThan(deadline);
+            Thread.sleep(100);
+        }
+    }
+
+    @Test
+    void indexSearchLatency() {
+        Latency index = measure(50, 500, i -> franchiseSearchIndex.search(query(i), 0, FIRST_PAGE.getPageSize()));
+        Latency like = measure(5, 50, this::likeScan);
+        report(BENCHMARK, "BM25 index, " + franchises + " franchises", index);
+        report(BENCHMARK, "LIKE scan, " + franchises + " franchises", like);
+
+        assertThat(index.p50Millis()).isLessThan(10);
+        assertThat(index.p50()).isLessThan(like.p50());
+    }
+}
@@ -0,0 +1,47 @@
+package com.franchisehub.api.search;
+
+import com.franchisehub.api.AbstractIntegrationTest;
+import com.franchisehub.api.FranchiseHubApiApplication;
+import com.franchisehub.api.TestData;
+import com.franchisehub.api.repository.FranchiseRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Restarts the application on the SQLite file of a previous run: schema inspection at
+ * startup must get past the FTS5 tables the first run created, and the index must still
+ * answer for rows written before the restart.
+ */
+class FullTextSchemaRestartTest {
+
+    private static final String FRANCHISE_ID = "restart-franchise";
+
+    @Test
+    void restartsOnAnExistingDatabase() {
+        Path database = AbstractIntegrationTest.createDatabaseFile();
+
+        try (ConfigurableApplicationContext first = start(database)) {
+            first.getBean(FranchiseRepository.class).save(TestData.searchableFranchise(FRANCHISE_ID, 3));
+        }
+
+        try (ConfigurableApplicationContext second = start(database)) {
+            assertThat(second.getBean(FullTextSearch.class).searchActiveFranchises("3", PageRequest.of(0, 20)))
+                    .contains(FRANCHISE_ID);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(Path database) {
+        // Command-line arguments, so they override the test profile
+        return new SpringApplicationBuilder(FranchiseHubApiApplication.class)
+                .profiles("test")
+                .run("--spring.datasource.url=jdbc:sqlite:" + database,
+                        "--spring.jpa.hibernate.ddl-auto=update",
+                        "--server.port=0");
+    }
+}
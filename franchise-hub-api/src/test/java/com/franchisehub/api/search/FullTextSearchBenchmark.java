@@ -0,0 +1,29 @@
+package com.franchisehub.api.search;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The FTS5 index behind database-side franchise search in the SQLite profile.
+ */
+class FullTextSearchBenchmark extends AbstractCatalogBenchmark {
+
+    private static final String BENCHMARK = "full-text-search";
+
+    @Autowired
+    private FullTextSearch fullTextSearch;
+
+    @Test
+    void fullTextIndexAgainstLikeScan() {
+        assertThat(fullTextSearch).isInstanceOf(SqliteFullTextSearch.class);
+
+        Latency fts5 = measure(10, 200, i -> fullTextSearch.searchActiveFranchises(query(i), FIRST_PAGE));
+        Latency like = measure(5, 50, this::likeScan);
+        report(BENCHMARK, "FTS5, " + franchises + " franchises", fts5);
+        report(BENCHMARK, "LIKE scan, " + franchises + " franchises", like);
+
+        assertThat(fts5.p50()).isLessThan(like.p50());
+    }
+}
@@ -0,0 +1,57 @@
+package com.franchisehub.api.search;
+
+import com.franchisehub.api.AbstractIntegrationTest;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Each full-text query must be driven by its FTS5 MATCH, run once, and join the source rows
+ * back by rowid. Started from the source table instead, SQLite reruns the MATCH for every
+ * row, which FullTextSearchBenchmark measured at seconds per search.
+ */
+class SqliteFullTextSearchPlanTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    static Stream<String> queries() {
+        return Stream.of(
+                SqliteFullTextSearch.FRANCHISES_SQL, SqliteFullTextSearch.FRANCHISES_COUNT_SQL,
+                SqliteFullTextSearch.USERS_SQL, SqliteFullTextSearch.USERS_COUNT_SQL,
+                SqliteFullTextSearch.APPLICATIONS_SQL, SqliteFullTextSearch.APPLICATIONS_COUNT_SQL);
+    }
+
+    @ParameterizedTest
+    @MethodSource("queries")
+    void matchDrivesTheQuery(String sql) {
+        List<String> steps = queryPlan(sql);
+
+        assertThat(steps.get(0)).matches("SCAN \\w+_fts VIRTUAL TABLE INDEX 0:M\\d+");
+        assertThat(steps.subList(1, steps.size()))
+                .allMatch(step -> step.matches("SEARCH \\w+ USING INTEGER PRIMARY KEY \\(rowid=\\?\\)")
+                        || step.equals("USE TEMP B-TREE FOR ORDER BY"), "joins back by rowid");
+    }
+
+    private List<String> queryPlan(String sql) {
+        List<String> steps = new ArrayList<>();
+        jdbcTemplate.query("EXPLAIN QUERY PLAN " + sql.replaceAll(":\\w+", "?"), statement -> {
+            // The plan is chosen when the statement is prepared; the bound values do not matter
+            int parameters = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                statement.setNull(i, Types.NULL);
+            }
+        }, row -> {
+            steps.add(row.getString("detail"));
+        });
+        return steps;
+    }
+}
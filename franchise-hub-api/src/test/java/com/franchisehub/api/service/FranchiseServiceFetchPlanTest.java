@@ -0,0 +1,88 @@
+package com.franchisehub.api.service;
+
+import com.franchisehub.api.AbstractIntegrationTest;
+import com.franchisehub.api.TestData;
+import com.franchisehub.api.repository.FranchiseRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The statements a fetch plan issues must not grow with the number of franchises.
+ */
+class FranchiseServiceFetchPlanTest extends AbstractIntegrationTest {
+
+    private static final String OWNER_ID = "fetch-plan-owner";
+
+    @Autowired
+    private FranchiseService franchiseService;
+
+    @Autowired
+    private FranchiseRepository franchiseRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        franchiseRepository.deleteAll(franchiseRepository.findByBusinessOwnerId(OWNER_ID));
+    }
+
+    @Test
+    void catalogCardsRunTheSameStatementsForAnyNumberOfFranchises() {
+        franchiseRepository.saveAll(TestData.franchises("card-a", OWNER_ID, 2));
+        long few = statementsFor(() -> assertThat(franchiseService.getActiveFranchiseCardsExcludingDemo())
+                .hasSizeGreaterThanOrEqualTo(2)
+                .allSatisfy(card -> assertThat(card.getAvailableTerritories()).isNotEmpty()));
+
+        // More rows than the @BatchSize, so lazy batch loading would show up as extra statements
+        franchiseRepository.saveAll(TestData.franchises("card-b", OWNER_ID, 120));
+        long many = statementsFor(() -> assertThat(franchiseService.getActiveFranchiseCardsExcludingDemo())
+                .hasSizeGreaterThanOrEqualTo(122));
+
+        assertThat(many).isEqualTo(few);
+        // The root query fetches the images, one more query the territories
+        assertThat(many).isEqualTo(2);
+    }
+
+    @Test
+    void detailListsRunTheSameStatementsForAnyNumberOfFranchises() {
+        franchiseRepository.saveAll(TestData.franchises("recent-a", OWNER_ID, 2));
+        long few = statementsFor(() -> franchiseService.getRecentFranchises());
+
+        franchiseRepository.saveAll(TestData.franchises("recent-b", OWNER_ID, 120));
+        long many = statementsFor(() -> assertThat(franchiseService.getRecentFranchises())
+                .hasSizeGreaterThanOrEqualTo(122)
+                .allSatisfy(franchise -> {
+                    assertThat(franchise.getImages()).isNotEmpty();
+                    assertThat(franchise.getAvailableTerritories()).isNotEmpty();
+                    assertThat(franchise.getAvailableStates()).isNotEmpty();
+                    assertThat(franchise.getRequirements().getBackground()).isNotEmpty();
+                }));
+
+        assertThat(many).isEqualTo(few);
+        // The root query, then one query per element collection
+        assertThat(many).isEqualTo(5);
+    }
+
+    // Starts from an empty second-level cache, so every collection has to come from the database
+    private long statementsFor(Runnable action) {
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,128 @@
+package com.franchisehub.api.service;
+
+import com.franchisehub.api.AbstractBenchmark;
+import com.franchisehub.api.TestData;
+import com.franchisehub.api.model.Application;
+import com.franchisehub.api.model.Franchise;
+import com.franchisehub.api.model.User;
+import com.franchisehub.api.repository.ApplicationRepository;
+import com.franchisehub.api.repository.FranchiseRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Owner-scoped application search at 1M applications, on the denormalized business_owner_id
+ * and through franchise_id IN (SELECT ...). The index it reads is pinned by RepositoryQueryPlanTest.
+ */
+class OwnerApplicationSearchBenchmark extends AbstractBenchmark {
+
+    private static final String BENCHMARK = "owner-application-search";
+    private static final String PREFIX = "owner-search";
+    private static final int FRANCHISES_PER_OWNER = 2;
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "submittedAt"));
+    private static final List<String> TERMS = List.of("first", "example.com", "franchise", "applicant-42");
+
+    // The search as it would have run without the denormalized owner column
+    private static final String SUBQUERY_CONDITIONS =
+            "a.franchiseId IN (SELECT f.id FROM Franchise f WHERE f.businessOwnerId = :businessOwnerId) AND "
+                    + "(:status IS NULL OR a.status = :status) AND "
+                    + "(:submittedFrom IS NULL OR a.submittedAt >= :submittedFrom) AND "
+                    + ApplicationRepository.LIKE_SEARCH_CONDITIONS;
+
+    private final int owners = size("owner-search.owners", 2_000);
+    private final int applicants = size("owner-search.applicants", 50_000);
+    private final int applications = size("owner-search.applications", 1_000_000);
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private FranchiseRepository franchiseRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    void seedApplications() {
+        seedOnce(franchiseRepository, owners * FRANCHISES_PER_OWNER, OwnerApplicationSearchBenchmark::franchiseId, this::franchise);
+        seedOnce(applicationRepository, applications, i -> PREFIX + "-application-" + i,
+                i -> TestData.application(PREFIX + "-application-" + i, franchise(i % (owners * FRANCHISES_PER_OWNER)),
+                        TestData.user(PREFIX + "-applicant-" + (i % applicants), User.UserRole.PARTNER), i));
+    }
+
+    @Test
+    void ownerSearchLatency() {
+        Latency indexed = measure(20, 200, i -> applicationRepository.searchSummariesForBusinessOwner(
+                owner(i), term(i), status(i), null, since(i), null, FIRST_PAGE));
+        Latency subquery = measure(5, 50, this::searchThroughFranchises);
+        report(BENCHMARK, "business_owner_id, " + applications + " applications", indexed);
+        report(BENCHMARK, "IN (SELECT franchise ids), " + applications + " applications", subquery);
+
+        assertThat(indexed.p95Millis()).isLessThan(100);
+        assertThat(indexed.p50()).isLessThan(subquery.p50());
+    }
+
+    // One page and its count, as the paged endpoint runs them
+    private void searchThroughFranchises(int run) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.executeWithoutResult(status -> {
+            entityManager.createQuery("SELECT a.id FROM Application a WHERE " + SUBQUERY_CONDITIONS
+                            + " ORDER BY a.submittedAt DESC", String.class)
+                    .setParameter("businessOwnerId", owner(run))
+                    .setParameter("status", status(run))
+                    .setParameter("submittedFrom", since(run))
+                    .setParameter("search", term(run))
+                    .setMaxResults(FIRST_PAGE.getPageSize())
+                    .getResultList();
+            entityManager.createQuery("SELECT COUNT(a) FROM Application a WHERE " + SUBQUERY_CONDITIONS, Long.class)
+                    .setParameter("businessOwnerId", owner(run))
+                    .setParameter("status", status(run))
+                    .setParameter("submittedFrom", since(run))
+                    .setParameter("search", term(run))
+                    .getSingleResult();
+        });
+    }
+
+    private Franchise franchise(int n) {
+        return TestData.franchise(franchiseId(n), PREFIX + "-owner-" + (n % owners));
+    }
+
+    private static String franchiseId(int n) {
+        return PREFIX + "-franchise-" + n;
+    }
+
+    private String owner(int run) {
+        return PREFIX + "-owner-" + (run * 37 % owners);
+    }
+
+    private static String term(int run) {
+        return TERMS.get(run % TERMS.size());
+    }
+
+    // Every other run filters on a status as well
+    private static Application.ApplicationStatus status(int run) {
+        Application.ApplicationStatus[] statuses = Application.ApplicationStatus.values();
+        return run % 2 == 0 ? null : statuses[run % statuses.length];
+    }
+
+    // Every third run limits the search to the last week
+    private static LocalDateTime since(int run) {
+        return run % 3 == 0 ? LocalDateTime.now().minusDays(7) : null;
+    }
+}
@@ -0,0 +1,65 @@
+package com.franchisehub.api.service;
+
+import com.franchisehub.api.AbstractIntegrationTest;
+import com.franchisehub.api.TestData;
+import com.franchisehub.api.model.Application;
+import com.franchisehub.api.model.Franchise;
+import com.franchisehub.api.model.User;
+import com.franchisehub.api.repository.FranchiseRepository;
+import com.franchisehub.api.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Slice totals come from the count cache; writes that change them must drop the cached value.
+ */
+class SliceTotalInvalidationTest extends AbstractIntegrationTest {
+
+    private static final String OWNER_ID = "slice-owner";
+    private static final String NEW_OWNER_ID = "slice-new-owner";
+    private static final String APPLICANT_ID = "slice-applicant";
+    private static final String FRANCHISE_ID = "slice-franchise";
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private FranchiseService franchiseService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FranchiseRepository franchiseRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(TestData.user(OWNER_ID, User.UserRole.BUSINESS));
+        userRepository.save(TestData.user(NEW_OWNER_ID, User.UserRole.BUSINESS));
+        userRepository.save(TestData.user(APPLICANT_ID, User.UserRole.PARTNER));
+        Franchise franchise = franchiseRepository.save(TestData.franchise(FRANCHISE_ID, OWNER_ID));
+        assertThat(franchise.getBusinessOwnerId()).isEqualTo(OWNER_ID);
+    }
+
+    @Test
+    void creatingAndTransferringApplicationsRecountsTheTotals() {
+        assertThat(total(OWNER_ID)).isZero();
+        assertThat(total(NEW_OWNER_ID)).isZero();
+
+        applicationService.createApplication(new Application(), APPLICANT_ID, FRANCHISE_ID);
+        assertThat(total(OWNER_ID)).isEqualTo(1);
+
+        franchiseService.transferFranchiseOwnership(FRANCHISE_ID, NEW_OWNER_ID);
+        assertThat(total(OWNER_ID)).isZero();
+        assertThat(total(NEW_OWNER_ID)).isEqualTo(1);
+    }
+
+    private long total(String businessOwnerId) {
+        return applicationService.getApplicationSummarySliceForBusinessOwner(businessOwnerId, PageRequest.of(0, 10))
+                .getTotalElements();
+    }
+}
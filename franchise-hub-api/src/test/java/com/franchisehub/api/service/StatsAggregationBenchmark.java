@@ -0,0 +1,147 @@
+package com.franchisehub.api.service;
+
+import com.franchisehub.api.AbstractBenchmark;
+import com.franchisehub.api.TestData;
+import com.franchisehub.api.dto.AdminDto;
+import com.franchisehub.api.model.Application;
+import com.franchisehub.api.model.Franchise;
+import com.franchisehub.api.model.Notification;
+import com.franchisehub.api.model.PaymentTransaction;
+import com.franchisehub.api.model.User;
+import com.franchisehub.api.repository.ApplicationRepository;
+import com.franchisehub.api.repository.FranchiseRepository;
+import com.franchisehub.api.repository.NotificationRepository;
+import com.franchisehub.api.repository.PaymentTransactionRepository;
+import com.franchisehub.api.repository.UserRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Admin dashboard statistics: one COUNT per figure, as the services used to compute them,
+ * against one GROUP BY per table and the single UNION ALL statement.
+ */
+class StatsAggregationBenchmark extends AbstractBenchmark {
+
+    private static final String BENCHMARK = "dashboard-stats";
+    private static final String PREFIX = "stats";
+    private static final int FRANCHISES = 20;
+
+    private final int users = size("stats.users", 10_000);
+    private final int applications = size("stats.applications", 100_000);
+
+    @Autowired
+    private StatsAggregationService statsAggregationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FranchiseRepository franchiseRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private PaymentTransactionRepository paymentTransactionRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    void seedDashboard() {
+        List<Franchise> franchises = TestData.franchises(PREFIX + "-franchise", PREFIX + "-owner", FRANCHISES);
+        seedOnce(franchiseRepository, FRANCHISES, i -> franchises.get(i).getId(), franchises::get);
+        seedOnce(userRepository, users, i -> PREFIX + "-user-" + i, i -> TestData.user(PREFIX + "-user-" + i,
+                i % 10 == 0 ? User.UserRole.BUSINESS : User.UserRole.PARTNER));
+        // Transactions and notifications get generated ids; they are seeded together with the applications
+        if (seedOnce(applicationRepository, applications, i -> PREFIX + "-application-" + i, i -> application(franchises, i))) {
+            seed(paymentTransactionRepository, applications, i -> TestData.transaction(application(franchises, i), i));
+            seed(notificationRepository, applications * 2, i -> TestData.notification(
+                    PREFIX + "-user-" + (i % users), application(franchises, i % applications), i));
+        }
+    }
+
+    @Test
+    void dashboardStatsRoundTrips() {
+        long perFigure = statementCounter.count(this::perFigureDashboard);
+        long perTable = statementCounter.count(this::perTableDashboard);
+        long singleStatement = statementCounter.count(statsAggregationService::getDashboardStats);
+        report(BENCHMARK, "round trips", String.format("per figure %d, per table %d, single statement %d",
+                perFigure, perTable, singleStatement));
+
+        report(BENCHMARK, "per figure", measure(5, 30, i -> perFigureDashboard()));
+        report(BENCHMARK, "per table", measure(5, 30, i -> perTableDashboard()));
+        report(BENCHMARK, "single statement", measure(5, 30, i -> statsAggregationService.getDashboardStats()));
+
+        assertThat(perFigure).isEqualTo(21);
+        assertThat(perTable).isEqualTo(5);
+        assertThat(singleStatement).isEqualTo(1);
+        assertThat(statsAggregationService.getDashboardStats())
+                .usingRecursiveComparison()
+                .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .isEqualTo(perFigureDashboard());
+    }
+
+    // Rebuilds the application the seeded transaction or notification refers to, without reading it back
+    private Application application(List<Franchise> franchises, int i) {
+        return TestData.application(PREFIX + "-application-" + i, franchises.get(i % franchises.size()),
+                TestData.user(PREFIX + "-user-" + (i % users), User.UserRole.PARTNER), i);
+    }
+
+    // The statistics as the services computed them before StatsAggregationService: one query per figure
+    private AdminDto.DashboardStats perFigureDashboard() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return transaction.execute(status -> new AdminDto.DashboardStats(
+                new UserService.UserStats(
+                        userRepository.count(),
+                        userRepository.findByIsActiveTrue().size(),
+                        userRepository.countActiveUsersByRole(User.UserRole.BUSINESS),
+                        userRepository.countActiveUsersByRole(User.UserRole.PARTNER),
+                        userRepository.countActiveUsersByRole(User.UserRole.ADMIN)),
+                new FranchiseService.FranchiseStats(
+                        franchiseRepository.count(),
+                        franchiseRepository.countByStatus(Franchise.FranchiseStatus.ACTIVE),
+                        franchiseRepository.countByStatus(Franchise.FranchiseStatus.PENDING)),
+                new ApplicationService.ApplicationStats(
+                        applicationRepository.count(),
+                        applicationRepository.countByStatus(Application.ApplicationStatus.SUBMITTED),
+                        applicationRepository.countByStatus(Application.ApplicationStatus.UNDER_REVIEW),
+                        applicationRepository.countByStatus(Application.ApplicationStatus.APPROVED),
+                        applicationRepository.countByStatus(Application.ApplicationStatus.REJECTED)),
+                new PaymentService.PaymentStats(
+                        paymentTransactionRepository.count(),
+                        paymentTransactionRepository.countByStatus(PaymentTransaction.TransactionStatus.SUCCESS),
+                        paymentTransactionRepository.countByStatus(PaymentTransaction.TransactionStatus.PENDING),
+                        paymentTransactionRepository.countByStatus(PaymentTransaction.TransactionStatus.FAILED),
+                        zeroIfNull(paymentTransactionRepository.sumAmountByStatus(PaymentTransaction.TransactionStatus.SUCCESS))),
+                new NotificationService.NotificationStats(
+                        notificationRepository.count(),
+                        notificationRepository.countByStatus(Notification.NotificationStatus.UNREAD),
+                        notificationRepository.countByStatus(Notification.NotificationStatus.READ))));
+    }
+
+    private AdminDto.DashboardStats perTableDashboard() {
+        return new AdminDto.DashboardStats(
+                statsAggregationService.getUserStats(),
+                statsAggregationService.getFranchiseStats(),
+                statsAggregationService.getApplicationStats(),
+                statsAggregationService.getPaymentStats(),
+                statsAggregationService.getNotificationStats());
+    }
+
+    private static BigDecimal zeroIfNull(BigDecimal amount) {
+        return amount != null ? amount : BigDecimal.ZERO;
+    }
+}
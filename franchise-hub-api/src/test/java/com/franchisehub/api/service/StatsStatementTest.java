@@ -0,0 +1,49 @@
+package com.franchisehub.api.service;
+
+import com.franchisehub.api.AbstractIntegrationTest;
+import com.franchisehub.api.StatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statistics come from grouped queries, not one COUNT per figure: the admin dashboard from a
+ * single statement, franchise and business-owner figures from one query each. The round trips
+ * StatsAggregationBenchmark compares are pinned here, since benchmarks only run with -Pbenchmark.
+ */
+@Import(StatementCounter.class)
+class StatsStatementTest extends AbstractIntegrationTest {
+
+    private static final String OWNER_ID = "stats-owner";
+
+    @Autowired
+    private StatsAggregationService statsAggregationService;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Test
+    void dashboardStatsRunOneStatement() {
+        assertThat(statementCounter.count(statsAggregationService::getDashboardStats)).isEqualTo(1);
+    }
+
+    @Test
+    void franchiseApplicationStatsRunOneStatement() {
+        assertThat(statementCounter.count(() -> statsAggregationService.getApplicationStatsByFranchise("stats-franchise")))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void businessOwnerApplicationStatsRunOneStatement() {
+        assertThat(statementCounter.count(() -> statsAggregationService.getApplicationStatsByBusinessOwner(OWNER_ID)))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void businessOwnerPaymentStatsRunOneStatement() {
+        assertThat(statementCounter.count(() -> statsAggregationService.getPaymentStatsByBusinessOwner(OWNER_ID)))
+                .isEqualTo(1);
+    }
+}
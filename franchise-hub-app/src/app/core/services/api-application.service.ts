@@ -52,7 +52,8 @@ export interface ApiApplication {
   status: string;
   paymentStatus: string;
   applicationFee: number;
-  personalInfo: {
+  // Detail fields: list endpoints return summary rows without them
+  personalInfo?: {
     firstName: string;
     lastName: string;
     email: string;
@@ -69,7 +70,7 @@ export interface ApiApplication {
     emergencyContactName?: string;
     emergencyContactPhone?: string;
   };
-  financialInfo: {
+  financialInfo?: {
     annualIncome: number;
     netWorth: number;
     liquidAssets: number;
@@ -78,7 +79,7 @@ export interface ApiApplication {
     debtAmount?: number;
     investmentSource: string;
   };
-  businessInfo: {
+  businessInfo?: {
     hasPartners: boolean;
     partnerDetails?: string;
     fullTimeCommitment: boolean;
@@ -102,7 +103,7 @@ export interface ApiApplication {
   rejectionReason?: string;
   paidAt?: string;
   paymentTransactionId?: string;
-  isActive: boolean;
+  isActive?: boolean;
 }
 
 @Injectable({
@@ -238,6 +239,12 @@ export class ApiApplicationService {
   private mapApiApplicationToApplication(apiApplication: ApiApplication): Application {
     console.log('🔄 Mapping API application:', apiApplication.id, apiApplication);
     try {
+      const personalInfo = apiApplication.personalInfo || {} as NonNullable<ApiApplication['personalInfo']>;
+      const financialInfo = apiApplication.financialInfo || {} as NonNullable<ApiApplication['financialInfo']>;
+      const businessInfo = apiApplication.businessInfo || {} as NonNullable<ApiApplication['businessInfo']>;
+      const preferredLocation: NonNullable<ApiApplication['businessInfo']>['preferredLocation'] = businessInfo.preferredLocation || {};
+      // Summary rows only carry the full name
+      const nameParts = (apiApplication.applicantName || '').trim().split(/\s+/);
       const mapped = {
       id: apiApplication.id,
       partnerId: apiApplication.applicantId,
@@ -252,39 +259,39 @@ export class ApiApplicationService {
       applicationFee: apiApplication.applicationFee || 0,
       paymentStatus: this.mapPaymentStatus(apiApplication.paymentStatus),
       personalInfo: {
-        firstName: apiApplication.personalInfo.firstName,
-        lastName: apiApplication.personalInfo.lastName,
-        email: apiApplication.personalInfo.email,
-        phone: apiApplication.personalInfo.phone,
-        address: apiApplication.personalInfo.address?.street || '',
-        city: apiApplication.personalInfo.address?.city || '',
-        state: apiApplication.personalInfo.address?.state || '',
-        zipCode: apiApplication.personalInfo.address?.zipCode || '',
-        dateOfBirth: apiApplication.personalInfo.dateOfBirth ? new Date(apiApplication.personalInfo.dateOfBirth) : new Date()
+        firstName: personalInfo.firstName || nameParts[0] || '',
+        lastName: personalInfo.lastName || nameParts.slice(1).join(' '),
+        email: personalInfo.email || apiApplication.applicantEmail,
+        phone: personalInfo.phone || '',
+        address: personalInfo.address?.street || '',
+        city: personalInfo.address?.city || '',
+        state: personalInfo.address?.state || '',
+        zipCode: personalInfo.address?.zipCode || '',
+        dateOfBirth: personalInfo.dateOfBirth ? new Date(personalInfo.dateOfBirth) : new Date()
       },
       financialInfo: {
-        netWorth: apiApplication.financialInfo.netWorth,
-        liquidCapital: apiApplication.financialInfo.liquidAssets,
-        creditScore: apiApplication.financialInfo.creditScore || 0,
-        annualIncome: apiApplication.financialInfo.annualIncome,
-        investmentCapacity: apiApplication.financialInfo.netWorth, // Use netWorth as investment capacity
+        netWorth: financialInfo.netWorth || 0,
+        liquidCapital: financialInfo.liquidAssets || 0,
+        creditScore: financialInfo.creditScore || 0,
+        annualIncome: financialInfo.annualIncome || 0,
+        investmentCapacity: financialInfo.netWorth || 0, // Use netWorth as investment capacity
         hasBusinessExperience: false, // Default value
         businessExperienceDetails: undefined,
         yearsOfExperience: undefined
       },
       businessInfo: {
         preferredLocation: {
-          address: apiApplication.businessInfo.preferredLocation.street || '',
-          city: apiApplication.businessInfo.preferredLocation.city || '',
-          state: apiApplication.businessInfo.preferredLocation.state || '',
-          zipCode: apiApplication.businessInfo.preferredLocation.zipCode || '',
-          country: apiApplication.businessInfo.preferredLocation.country || 'India'
+          address: preferredLocation.street || '',
+          city: preferredLocation.city || '',
+          state: preferredLocation.state || '',
+          zipCode: preferredLocation.zipCode || '',
+          country: preferredLocation.country || 'India'
         },
-        preferredStates: apiApplication.businessInfo.preferredStates || [],
-        timelineToOpen: apiApplication.businessInfo.timelineToOpen || '',
-        fullTimeCommitment: apiApplication.businessInfo.fullTimeCommitment || false,
-        hasPartners: apiApplication.businessInfo.hasPartners || false,
-        partnerDetails: apiApplication.businessInfo.partnerDetails || ''
+        preferredStates: businessInfo.preferredStates || [],
+        timelineToOpen: businessInfo.timelineToOpen || '',
+        fullTimeCommitment: businessInfo.fullTimeCommitment || false,
+        hasPartners: businessInfo.hasPartners || false,
+        partnerDetails: businessInfo.partnerDetails || ''
       },
       submittedAt: new Date(apiApplication.submittedAt),
       updatedAt: apiApplication.updatedAt ? new Date(apiApplication.updatedAt) : new Date(),
@@ -294,7 +301,7 @@ export class ApiApplicationService {
       rejectionReason: apiApplication.rejectionReason,
       paidAt: apiApplication.paidAt ? new Date(apiApplication.paidAt) : undefined,
       paymentTransactionId: apiApplication.paymentTransactionId,
-      isActive: apiApplication.isActive,
+      isActive: apiApplication.isActive ?? true,
         motivation: apiApplication.motivation || '',
         questions: apiApplication.questions || '',
         references: [],
@@ -42,36 +42,40 @@ export interface ApiPagedResponse<T> {
   empty: boolean;
 }
 
+// List endpoints return summary rows and /active returns catalog cards: the investment
+// range comes flat as minInvestment/maxInvestment there, and the detail fields are absent
 export interface ApiFranchise {
   id: string;
   name: string;
-  description: string;
+  description?: string;
   category: string;
   status: string;
   businessOwnerId: string;
   businessOwnerName: string;
   logo?: string;
-  images: string[];
+  images?: string[];
   franchiseFee: number;
   royaltyFee: number;
-  marketingFee: number;
-  liquidCapitalRequired: number;
-  netWorthRequired: number;
+  marketingFee?: number;
+  liquidCapitalRequired?: number;
+  netWorthRequired?: number;
   // Backend returns these as top-level fields, not nested
-  yearEstablished: number;
+  yearEstablished?: number;
   totalUnits: number;
-  franchisedUnits: number;
-  companyOwnedUnits: number;
-  initialInvestment: {
+  franchisedUnits?: number;
+  companyOwnedUnits?: number;
+  initialInvestment?: {
     min: number;
     max: number;
   };
+  minInvestment?: number;
+  maxInvestment?: number;
   // Timestamps
   createdAt: string;
-  updatedAt: string;
+  updatedAt?: string;
   // Collections
-  availableTerritories: string[];
-  availableStates: string[];
+  availableTerritories?: string[];
+  availableStates?: string[];
   // Embedded objects (may be null/undefined)
   requirements?: any;
   marketingSupport?: any;
@@ -186,21 +190,21 @@ export class ApiFranchiseService {
     return {
       id: apiFranchise.id,
       name: apiFranchise.name,
-      description: apiFranchise.description,
+      description: apiFranchise.description || '',
       category: apiFranchise.category as FranchiseCategory,
       status: apiFranchise.status as FranchiseStatus,
       businessOwnerId: apiFranchise.businessOwnerId,
       businessOwnerName: apiFranchise.businessOwnerName,
       logo: apiFranchise.logo,
-      images: apiFranchise.images,
+      images: apiFranchise.images || [],
       franchiseFee: apiFranchise.franchiseFee,
       royaltyFee: apiFranchise.royaltyFee,
-      marketingFee: apiFranchise.marketingFee,
+      marketingFee: apiFranchise.marketingFee || 0,
       liquidCapitalRequired: apiFranchise.liquidCapitalRequired || 100000,
       netWorthRequired: apiFranchise.netWorthRequired || 250000,
       initialInvestment: {
-        min: apiFranchise.initialInvestment?.min || 50000,
-        max: apiFranchise.initialInvestment?.max || 200000
+        min: apiFranchise.initialInvestment?.min || apiFranchise.minInvestment || 50000,
+        max: apiFranchise.initialInvestment?.max || apiFranchise.maxInvestment || 200000
       },
       // Use top-level fields from backend response (not nested under operationalInfo)
       yearEstablished: apiFranchise.yearEstablished || 2020,
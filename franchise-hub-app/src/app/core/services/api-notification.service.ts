@@ -9,9 +9,10 @@ import {
   NotificationStatus 
 } from '../models/application.model';
 
+// List endpoints return summary rows: no userId or data, but status, actionUrl and actionText
 export interface ApiNotification {
   id: string;
-  userId: string;
+  userId?: string;
   type: string;
   title: string;
   message: string;
@@ -22,7 +23,10 @@ export interface ApiNotification {
     actionUrl?: string;
     actionText?: string;
   };
-  read: boolean;
+  actionUrl?: string;
+  actionText?: string;
+  status?: string;
+  read?: boolean;
   readAt?: string;
   createdAt: string;
   expiresAt?: string;
@@ -163,16 +167,16 @@ export class ApiNotificationService {
   private mapApiNotificationToNotification(apiNotification: ApiNotification): Notification {
     return {
       id: apiNotification.id,
-      userId: apiNotification.userId,
+      userId: apiNotification.userId || '',
       type: this.mapApiTypeToNotificationType(apiNotification.type),
       title: apiNotification.title,
       message: apiNotification.message,
       applicationId: apiNotification.data?.applicationId,
       franchiseId: apiNotification.data?.franchiseId,
       paymentRequestId: apiNotification.data?.paymentRequestId,
-      actionUrl: apiNotification.data?.actionUrl,
-      actionText: apiNotification.data?.actionText,
-      status: apiNotification.read ? NotificationStatus.READ : NotificationStatus.UNREAD,
+      actionUrl: apiNotification.data?.actionUrl ?? apiNotification.actionUrl,
+      actionText: apiNotification.data?.actionText ?? apiNotification.actionText,
+      status: apiNotification.read || apiNotification.status === 'READ' ? NotificationStatus.READ : NotificationStatus.UNREAD,
       readAt: apiNotification.readAt ? new Date(apiNotification.readAt) : undefined,
       createdAt: new Date(apiNotification.createdAt),
       expiresAt: apiNotification.expiresAt ? new Date(apiNotification.expiresAt) : undefined
@@ -10,11 +10,14 @@ import {
   PaymentStatus 
 } from '../models/application.model';
 
+// List endpoints return summary rows: only id, type, method, status, amount, currency,
+// description, franchiseName and createdAt are present there
 export interface ApiPaymentTransaction {
   id: string;
   applicationId?: string;
-  franchiseId: string;
-  userId: string;
+  franchiseId?: string;
+  franchiseName?: string;
+  userId?: string;
   amount: number;
   currency: string;
   method: string;
@@ -34,19 +37,23 @@ export interface ApiPaymentTransaction {
   upiId?: string;
   walletName?: string;
   walletTransactionId?: string;
-  platformFee: number;
-  netAmount: number;
+  platformFee?: number;
+  netAmount?: number;
   failureReason?: string;
   createdAt: string;
   processedAt?: string;
   updatedAt?: string;
 }
 
+// List endpoints return summary rows: the user ids and franchise are replaced by
+// fromUserName and toUserName there
 export interface ApiPaymentRequest {
   id: string;
-  fromUserId: string;
-  toUserId: string;
-  franchiseId: string;
+  fromUserId?: string;
+  fromUserName?: string;
+  toUserId?: string;
+  toUserName?: string;
+  franchiseId?: string;
   applicationId?: string;
   title: string;
   description?: string;
@@ -209,13 +216,13 @@ export class ApiPaymentService {
     return {
       id: apiTransaction.id,
       applicationId: apiTransaction.applicationId || '',
-      partnerId: apiTransaction.userId,
+      partnerId: apiTransaction.userId || '',
       partnerName: '', // Will need to be populated from user data
-      franchiseId: apiTransaction.franchiseId,
-      franchiseName: '', // Will need to be populated from franchise data
+      franchiseId: apiTransaction.franchiseId || '',
+      franchiseName: apiTransaction.franchiseName || '',
       amount: apiTransaction.amount,
-      platformFee: apiTransaction.platformFee,
-      netAmount: apiTransaction.netAmount,
+      platformFee: apiTransaction.platformFee || 0,
+      netAmount: apiTransaction.netAmount ?? apiTransaction.amount,
       currency: apiTransaction.currency,
       status: apiTransaction.status as PaymentStatus,
       paymentMethod: apiTransaction.method,
@@ -250,12 +257,12 @@ export class ApiPaymentService {
     return {
       id: apiRequest.id,
       applicationId: apiRequest.applicationId || '',
-      franchiseId: apiRequest.franchiseId,
+      franchiseId: apiRequest.franchiseId || '',
       franchiseName: '', // Will need to be populated from franchise data
-      businessOwnerId: apiRequest.fromUserId,
-      businessOwnerName: '', // Will need to be populated from user data
-      partnerId: apiRequest.toUserId,
-      partnerName: '', // Will need to be populated from user data
+      businessOwnerId: apiRequest.fromUserId || '',
+      businessOwnerName: apiRequest.fromUserName || '',
+      partnerId: apiRequest.toUserId || '',
+      partnerName: apiRequest.toUserName || '',
       partnerEmail: '', // Will need to be populated from user data
       amount: apiRequest.amount,
       currency: apiRequest.currency,
@@ -267,7 +274,7 @@ export class ApiPaymentService {
       paidAt: apiRequest.paidAt ? new Date(apiRequest.paidAt) : undefined,
       createdAt: new Date(apiRequest.createdAt),
       updatedAt: apiRequest.updatedAt ? new Date(apiRequest.updatedAt) : new Date(),
-      createdBy: apiRequest.fromUserId
+      createdBy: apiRequest.fromUserId || ''
     };
   }
 
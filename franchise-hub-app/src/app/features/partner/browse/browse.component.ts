@@ -516,6 +516,17 @@ export class BrowseComponent implements OnInit {
   viewDetails(franchise: Franchise) {
     console.log('🔍 Opening franchise details dialog for:', franchise.name);
 
+    // The catalog only carries card fields; load the full franchise for the dialog
+    this.franchiseService.getFranchiseById(franchise.id).subscribe({
+      next: (fullFranchise) => this.openDetailsDialog(fullFranchise || franchise),
+      error: (error) => {
+        console.error('Error fetching franchise details:', error);
+        this.openDetailsDialog(franchise);
+      }
+    });
+  }
+
+  private openDetailsDialog(franchise: Franchise) {
     const dialogRef = this.dialog.open(FranchiseDetailsDialogComponent, {
       width: '800px',
       maxWidth: '90vw',